@@ -32,6 +32,7 @@ import jmetal.core.util.JMetalLogger;
 import jmetal.core.util.archive.BoundedArchive;
 import jmetal.core.util.archive.impl.CrowdingDistanceArchive;
 import jmetal.core.util.comparator.RankingAndCrowdingDistanceComparator;
+import jmetal.core.util.evaluationcache.GapEvaluationCache;
 import jmetal.core.util.evaluator.impl.SequentialSolutionListEvaluator;
 import jmetal.problem.multiobjective.dtlz.DTLZ1;
 
@@ -40,6 +41,7 @@ import org.xml.sax.SAXException;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.TransformerException;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.List;
 
 public class GAPRunner extends AbstractAlgorithmRunner {
@@ -111,7 +113,8 @@ public class GAPRunner extends AbstractAlgorithmRunner {
         }
 
         public static void main(String[] args) throws IOException, ParserConfigurationException, SAXException, TransformerException {
-                AbstractDoubleProblem problem = new GapProblem(6, 2);
+                GapProblem problem = new GapProblem(6, 2);
+                problem.evaluationCache(new GapEvaluationCache(10000, Paths.get("gap-evaluations.cache")));
                 //AbstractDoubleProblem problem = new DTLZ1(6, 2); //3 2
 
                 // PARAMETERS for NSGAII
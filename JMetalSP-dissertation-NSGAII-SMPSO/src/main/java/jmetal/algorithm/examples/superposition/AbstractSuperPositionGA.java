@@ -6,61 +6,84 @@ import jmetal.core.algorithm.impl.GeneticAlgorithmWrapper;
 
 import java.util.List;
 
-public abstract class AbstractSuperPositionGA<S, R> extends AbstractEvolutionaryAlgorithm<S, R> implements Runnable
+public abstract class AbstractSuperPositionGA<S, R> extends AbstractEvolutionaryAlgorithm<S, R> implements SuperPositionParticipant<S>
 {
     protected GeneticAlgorithmWrapper<S> algorithmWrapper;
-    public volatile boolean isWaiting; //folosit pt a executa algoritmii in paralel
+    protected GenerationBarrier generationBarrier; //folosit pt a executa algoritmii in paralel
+    protected IAction migration; //folosit in modelul cu insule, executat in firul algoritmului dupa fiecare generatie
     public IAction onNewGeneration; //obiect de tipul IAction care reprezinta o actiune ce va fi executata la fiecare noua generatie
 
     public AbstractSuperPositionGA(GeneticAlgorithmWrapper<S> wrapper)
     {
         algorithmWrapper = wrapper;
 
-        isWaiting = false;
-
         setProblem(algorithmWrapper.getProblem());
     }
 
     @Override
     public void run()
     {
-        List<S> offspringPopulation;
-        List<S> matingPopulation;
+        try {
+            List<S> offspringPopulation;
+            List<S> matingPopulation;
 
-        population = createInitialPopulation();
-        population = evaluatePopulation(population);
-        initProgress();
+            population = createInitialPopulation();
+            population = evaluatePopulation(population);
+            initProgress();
 
-        if (isStoppingConditionReached()) {
-            onNewGeneration.invoke();
-            
-            isWaiting = true;
+            if (isStoppingConditionReached()) {
+                onNewGeneration.invoke();
 
-            while (isWaiting)
-            {
-                Thread.onSpinWait();
+                awaitGenerationBarrier();
             }
-        }
 
-        while (!isStoppingConditionReached()) {
-            matingPopulation = selection(population);
-            offspringPopulation = reproduction(matingPopulation);
-            offspringPopulation = evaluatePopulation(offspringPopulation);
-            population = replacement(population, offspringPopulation);
+            while (!isStoppingConditionReached()) {
+                matingPopulation = selection(population);
+                offspringPopulation = reproduction(matingPopulation);
+                offspringPopulation = evaluatePopulation(offspringPopulation);
+                population = replacement(population, offspringPopulation);
 
-            onNewGeneration.invoke();
+                onNewGeneration.invoke();
 
-            updateProgress();
+                updateProgress();
 
-            isWaiting = true;
+                migrate();
 
-            while (isWaiting)
-            {
-                Thread.onSpinWait();
+                awaitGenerationBarrier();
+            }
+        } finally {
+            if (generationBarrier != null) {
+                generationBarrier.leave();
             }
         }
     }
 
+    @Override
+    public void setGenerationBarrier(GenerationBarrier barrier)
+    {
+        generationBarrier = barrier;
+    }
+
+    protected void awaitGenerationBarrier()
+    {
+        if (generationBarrier != null) {
+            generationBarrier.arriveAndAwait();
+        }
+    }
+
+    @Override
+    public void setMigration(IAction migration)
+    {
+        this.migration = migration;
+    }
+
+    protected void migrate()
+    {
+        if (migration != null) {
+            migration.invoke();
+        }
+    }
+
     @Override
     protected List<S> createInitialPopulation()
     {
@@ -113,6 +136,25 @@ public abstract class AbstractSuperPositionGA<S, R> extends AbstractEvolutionary
         return algorithmWrapper.getMaxPopulationSize() ;
     }
 
+    @Override
+    public List<S> getSolutions()
+    {
+        return getPopulation();
+    }
+
+    @Override
+    public void setSolutions(List<S> solutions)
+    {
+        setPopulation(solutions);
+    }
+
+    @Override
+    public int getMaxSolutions()
+    {
+        return getMaxPopulationSize();
+    }
+
+    @Override
     public void forceStoppingCondition() //folosita pt a forta conditia de oprire a algoritmului, modificand nr de iteratii
     {
         try {
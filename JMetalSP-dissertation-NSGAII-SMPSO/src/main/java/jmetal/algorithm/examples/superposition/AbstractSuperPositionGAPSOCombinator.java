@@ -1,13 +1,13 @@
 package jmetal.algorithm.examples.superposition;
 
 import jmetal.algorithm.examples.superposition.events.IAction;
+import jmetal.algorithm.examples.superposition.merge.RankingMergePolicy;
 import jmetal.algorithm.multiobjective.smpso.SMPSO;
 import jmetal.core.solution.Solution;
 import jmetal.core.solution.doublesolution.DoubleSolution;
 import jmetal.core.util.ranking.Ranking;
-import jmetal.core.util.ranking.impl.FastNonDominatedSortRanking;
+import jmetal.core.util.ranking.RankingFactory;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public abstract class AbstractSuperPositionGAPSOCombinator<S extends Solution<?>>  implements Runnable//am adaugat partea cu extends
@@ -16,6 +16,7 @@ public abstract class AbstractSuperPositionGAPSOCombinator<S extends Solution<?>
     protected AbstractSuperPositionPSO<S, List<S>> algorithm2;
     protected boolean bothAlgorithmsFinished;
     protected List<S> resultPopulation;
+    protected GenerationBarrier generationBarrier;
     public IAction onNewGenerationDone; //am adaugat asta
     public IAction onSuperPositionDone; //am adaugat asta
 
@@ -26,6 +27,10 @@ public abstract class AbstractSuperPositionGAPSOCombinator<S extends Solution<?>
         algorithm2 = alg2;
 
         bothAlgorithmsFinished = false;
+
+        generationBarrier = new GenerationBarrier(2, this::onAllAlgorithmsWaiting);
+        algorithm1.setGenerationBarrier(generationBarrier);
+        algorithm2.setGenerationBarrier(generationBarrier);
     }
 
     protected abstract List<S> ApplySuperPosition();
@@ -40,60 +45,61 @@ public abstract class AbstractSuperPositionGAPSOCombinator<S extends Solution<?>
         return resultPopulation;
     }
 
-    //de aici am adaugat eu
+    //bucla principala a combinatorului: algoritmii sunt parcati pe bariera de generatie, iar ultimul
+    // care ajunge executa onAllAlgorithmsWaiting() inainte ca toti sa fie eliberati
+    @Override
     public void run()
     {
-        while(!bothAlgorithmsFinished)
+        try {
+            generationBarrier.awaitTermination();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Verifică dacă unul dintre algoritmi a atins condiția de oprire. Forțează condiția de oprire pentru
+    // celalalt algoritm și termina bariera
+    protected void onAllAlgorithmsWaiting()
+    {
+        if(algorithm1.isStoppingConditionReached())
         {
-            if(algorithm1.isWaiting && algorithm2.isWaiting)
+            if(!algorithm2.isStoppingConditionReached())
             {
-                if(algorithm1.isStoppingConditionReached())
-                {
-                    if(!algorithm2.isStoppingConditionReached())
-                    {
-                        algorithm2.forceStoppingCondition();
-                    }
-
-                    bothAlgorithmsFinished = true;
-
-                    algorithm1.isWaiting = false;
-                    algorithm2.isWaiting = false;
-
-                    resultPopulation = ApplySuperPosition();
+                algorithm2.forceStoppingCondition();
+            }
 
-                    onNewGenerationDone.invoke();
+            bothAlgorithmsFinished = true;
+            generationBarrier.finish();
 
-                    onSuperPositionDone.invoke();
-                }
-                else if(algorithm2.isStoppingConditionReached())
-                {
-                    algorithm1.forceStoppingCondition();
+            resultPopulation = ApplySuperPosition();
 
-                    bothAlgorithmsFinished = true;
+            onNewGenerationDone.invoke();
 
-                    algorithm1.isWaiting = false;
-                    algorithm2.isWaiting = false;
+            onSuperPositionDone.invoke();
+        }
+        else if(algorithm2.isStoppingConditionReached())
+        {
+            algorithm1.forceStoppingCondition();
 
-                    resultPopulation = ApplySuperPosition();
+            bothAlgorithmsFinished = true;
+            generationBarrier.finish();
 
-                    onSuperPositionDone.invoke();
-                }
-                else
-                {
-                    resultPopulation = ApplySuperPosition();
+            resultPopulation = ApplySuperPosition();
 
-                    onNewGenerationDone.invoke();
+            onSuperPositionDone.invoke();
+        }
+        else
+        {
+            resultPopulation = ApplySuperPosition();
 
-                    algorithm1.isWaiting = false;
-                    algorithm2.isWaiting = false;
-                }
-            }
+            onNewGenerationDone.invoke();
         }
     }
+
     // 2. RANKING AND TAKING THE BEST FRONT - we make this step to take the best 100 individuals from the combined population
     protected Ranking<S> computeRanking(List<S> solutionList)
     {
-        Ranking<S> ranking = new FastNonDominatedSortRanking<>();
+        Ranking<S> ranking = RankingFactory.create();
         ranking.compute(solutionList) ;
 
         return ranking ;
@@ -102,28 +108,7 @@ public abstract class AbstractSuperPositionGAPSOCombinator<S extends Solution<?>
     // 3. GENERATE NEW POPULATION - here we set the 100 best as the new generation
     protected List<S> take(Ranking<S> fronts, int populationCount)
     {
-        List<S> population = new ArrayList<>();
-
-        int noOfSelectedIndividuals = 0;
-        int noOfFronts = fronts.getNumberOfSubFronts();
-
-        for (int frontIndex = 0; frontIndex <= noOfFronts - 1; frontIndex++)
-        {
-            List<S> currentFront = fronts.getSubFront(frontIndex);
-
-            int currentFrontSize = currentFront.size();
-
-            int currentIndividualIndex = 0;
-
-            while (noOfSelectedIndividuals < populationCount && currentIndividualIndex < currentFrontSize)
-            {
-                population.add(currentFront.get(currentIndividualIndex));
-                noOfSelectedIndividuals++;
-                currentIndividualIndex++;
-            }
-        }
-
-        return population;
+        return RankingMergePolicy.take(fronts, populationCount);
     }
 
     protected void setPSOAttribute(List<S> population) {
@@ -8,55 +8,87 @@ import jmetal.core.algorithm.impl.ParticleSwarmWrapper;
 
 import java.util.List;
 
-public abstract class AbstractSuperPositionPSO<S, R> implements Algorithm<R>
+public abstract class AbstractSuperPositionPSO<S, R> implements Algorithm<R>, SuperPositionParticipant<S>
 {
     protected ParticleSwarmWrapper<S> algorithmWrapper;
 
-    public volatile boolean isWaiting;
+    protected GenerationBarrier generationBarrier;
+
+    protected IAction migration;
+
+    protected int swarmSize; //dimensiunea roiului initial, folosita la super-pozitie
 
     public IAction onNewGeneration;
 
     public AbstractSuperPositionPSO(ParticleSwarmWrapper<S> wrapper)
     {
         algorithmWrapper = wrapper;
-
-        isWaiting = false;
     }
 
     @Override
     public void run()
     {
-        createInitialSwarm();
-        evaluateSwarm();
-        initializeVelocity();
-        initializeParticlesMemory() ;
-        initializeLeader() ;
-
-        initProgress();
-
-        while (!isStoppingConditionReached()) {
-            updateVelocity();
-            updatePosition();
-            perturbation();
+        try {
+            createInitialSwarm();
             evaluateSwarm();
-            updateLeaders();
-            updateParticlesMemory();
+            initializeVelocity();
+            initializeParticlesMemory() ;
+            initializeLeader() ;
+
+            initProgress();
 
-            onNewGeneration.invoke();
+            while (!isStoppingConditionReached()) {
+                updateVelocity();
+                updatePosition();
+                perturbation();
+                evaluateSwarm();
+                updateLeaders();
+                updateParticlesMemory();
 
-            updateProgress();
+                onNewGeneration.invoke();
 
-            isWaiting = true;
+                updateProgress();
 
-            while (isWaiting)
-            {
-                Thread.onSpinWait();
+                migrate();
+
+                awaitGenerationBarrier();
+            }
+        } finally {
+            if (generationBarrier != null) {
+                generationBarrier.leave();
             }
         }
     }
 
+    @Override
+    public void setGenerationBarrier(GenerationBarrier barrier)
+    {
+        generationBarrier = barrier;
+    }
+
+    protected void awaitGenerationBarrier()
+    {
+        if (generationBarrier != null) {
+            generationBarrier.arriveAndAwait();
+        }
+    }
+
+    @Override
+    public void setMigration(IAction migration)
+    {
+        this.migration = migration;
+    }
+
+    protected void migrate()
+    {
+        if (migration != null) {
+            migration.invoke();
+        }
+    }
+
     public void createInitialSwarm() {
         List<S> initialSwarm = algorithmWrapper.createInitialSwarm();
+        swarmSize = initialSwarm.size();
         algorithmWrapper.setSwarm(initialSwarm);
     }
 
@@ -116,6 +148,7 @@ public abstract class AbstractSuperPositionPSO<S, R> implements Algorithm<R>
         algorithmWrapper.updateProgress();
     }
 
+    @Override
     public boolean isStoppingConditionReached()
     {
         return algorithmWrapper.isStoppingConditionReached();
@@ -131,6 +164,25 @@ public abstract class AbstractSuperPositionPSO<S, R> implements Algorithm<R>
         algorithmWrapper.setSwarm(newSwarm);
     }
 
+    @Override
+    public List<S> getSolutions()
+    {
+        return getSwarm();
+    }
+
+    @Override
+    public void setSolutions(List<S> solutions)
+    {
+        setSwarm(solutions);
+    }
+
+    @Override
+    public int getMaxSolutions()
+    {
+        return swarmSize;
+    }
+
+    @Override
     public void forceStoppingCondition() //folosita pt a forta conditia de oprire a algoritmului, modificand nr de iteratii
     {
         try {
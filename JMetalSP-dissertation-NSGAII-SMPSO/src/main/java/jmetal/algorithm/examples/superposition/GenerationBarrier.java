@@ -0,0 +1,108 @@
+package jmetal.algorithm.examples.superposition;
+
+import jmetal.algorithm.examples.superposition.events.IAction;
+import jmetal.core.util.JMetalLogger;
+import jmetal.core.util.errorchecking.JMetalException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Phaser;
+import java.util.logging.Level;
+
+/**
+ * Generation barrier shared by the algorithms of a super-position. Every algorithm calls
+ * {@link #arriveAndAwait()} after computing a generation; the thread is parked until all the
+ * algorithms have arrived, and the last one to arrive runs the barrier action (the super-position
+ * step) before all of them are released. An algorithm whose run ends calls {@link #leave()} so
+ * that the others are never blocked waiting for it.
+ */
+public class GenerationBarrier
+{
+    private final Phaser phaser;
+    private final CountDownLatch terminated;
+    private volatile boolean finished;
+    private volatile RuntimeException failure;
+
+    public GenerationBarrier(int numberOfAlgorithms, IAction onAllAlgorithmsArrived)
+    {
+        finished = false;
+        terminated = new CountDownLatch(1);
+        phaser = new Phaser(numberOfAlgorithms)
+        {
+            @Override
+            protected boolean onAdvance(int phase, int registeredParties)
+            {
+                if (!finished && registeredParties > 0)
+                {
+                    try {
+                        onAllAlgorithmsArrived.invoke();
+                    } catch (RuntimeException e) {
+                        JMetalLogger.logger.log(Level.SEVERE, "The super-position step failed", e);
+                        failure = e;
+                        finished = true;
+                    }
+                }
+
+                if (finished || registeredParties == 0)
+                {
+                    terminated.countDown();
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Parks the calling algorithm until every algorithm has arrived and the barrier action is done
+     */
+    public void arriveAndAwait()
+    {
+        phaser.arriveAndAwaitAdvance();
+
+        if (failure != null)
+        {
+            throw new JMetalException("The super-position step failed", failure);
+        }
+    }
+
+    /**
+     * Called by an algorithm when its run ends. A normal run ends after the super-position has
+     * finished; if an algorithm leaves earlier (e.g. because it failed) the barrier is terminated so
+     * that the remaining algorithms are released instead of waiting for it forever.
+     */
+    public void leave()
+    {
+        if (!finished)
+        {
+            JMetalLogger.logger.warning("An algorithm left the super-position before it finished");
+            finished = true;
+        }
+
+        phaser.forceTermination();
+        terminated.countDown();
+    }
+
+    /**
+     * Marks the super-position as finished; once the current barrier action returns, the barrier is
+     * terminated and any further arrival returns immediately
+     */
+    public void finish()
+    {
+        finished = true;
+    }
+
+    public boolean isFinished()
+    {
+        return finished;
+    }
+
+    /**
+     * Blocks until the barrier is terminated, either because the super-position has finished or
+     * because all the algorithms have left
+     */
+    public void awaitTermination() throws InterruptedException
+    {
+        terminated.await();
+    }
+}
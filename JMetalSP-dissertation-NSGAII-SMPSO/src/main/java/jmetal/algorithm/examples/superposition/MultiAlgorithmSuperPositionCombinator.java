@@ -0,0 +1,204 @@
+package jmetal.algorithm.examples.superposition;
+
+import jmetal.algorithm.examples.superposition.events.IAction;
+import jmetal.algorithm.examples.superposition.merge.RankingMergePolicy;
+import jmetal.algorithm.examples.superposition.merge.SuperPositionMergePolicy;
+import jmetal.core.solution.Solution;
+import jmetal.core.util.errorchecking.Check;
+import jmetal.core.util.pseudorandom.JMetalRandom;
+import jmetal.core.util.pseudorandom.PseudoRandomGenerator;
+import jmetal.core.util.pseudorandom.impl.SplittableRandomGenerator;
+import jmetal.core.util.pseudorandom.impl.ThreadLocalRandomGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Super-position of an arbitrary number of genetic algorithms and particle swarm optimizers (e.g.
+ * NSGA-II, NSGA-III, SPEA2 and SMPSO together). Each participant runs on its own executor and all
+ * of them are synchronized on a {@link GenerationBarrier}; every {@code mergeInterval} generations
+ * their populations are merged with a {@link SuperPositionMergePolicy} and the result is given back
+ * to every participant. When any participant reaches its stopping condition the others are forced
+ * to stop and a final merge is done.
+ *
+ * <p>If a seed is given with {@link #setSeed(long)}, each participant draws its random numbers from
+ * its own stream split from that seed (see {@link SplittableRandomGenerator}), so the participants
+ * do not share a generator and the super-position gives the same result in every execution.
+ */
+public class MultiAlgorithmSuperPositionCombinator<S extends Solution<?>> implements Runnable
+{
+    protected final List<SuperPositionParticipant<S>> participants;
+    protected final SuperPositionMergePolicy<S> mergePolicy;
+    protected final int mergeInterval;
+    protected final GenerationBarrier generationBarrier;
+    protected int generation;
+    protected List<S> resultPopulation;
+    protected Long seed;
+    public IAction onNewGenerationDone;
+    public IAction onSuperPositionDone;
+
+    public MultiAlgorithmSuperPositionCombinator(List<SuperPositionParticipant<S>> participants)
+    {
+        this(participants, 1, new RankingMergePolicy<>());
+    }
+
+    public MultiAlgorithmSuperPositionCombinator(List<SuperPositionParticipant<S>> participants,
+                                                 int mergeInterval,
+                                                 SuperPositionMergePolicy<S> mergePolicy)
+    {
+        Check.notNull(participants);
+        Check.notNull(mergePolicy);
+        Check.that(participants.size() >= 2, "At least two algorithms are required: " + participants.size());
+        Check.that(mergeInterval >= 1, "The merge interval must be at least one: " + mergeInterval);
+
+        this.participants = new ArrayList<>(participants);
+        this.mergeInterval = mergeInterval;
+        this.mergePolicy = mergePolicy;
+        this.generation = 0;
+        this.seed = null;
+        this.onNewGenerationDone = () -> {};
+        this.onSuperPositionDone = () -> {};
+
+        generationBarrier = new GenerationBarrier(participants.size(), this::onAllAlgorithmsWaiting);
+        for (SuperPositionParticipant<S> participant : participants)
+        {
+            participant.setGenerationBarrier(generationBarrier);
+        }
+    }
+
+    public List<S> getResult()
+    {
+        return resultPopulation;
+    }
+
+    public List<SuperPositionParticipant<S>> getParticipants()
+    {
+        return participants;
+    }
+
+    /**
+     * Makes every participant use its own random stream derived from the seed. A {@link
+     * ThreadLocalRandomGenerator} is installed in {@link JMetalRandom} while the super-position runs,
+     * and the previous generator is restored when it ends
+     */
+    public MultiAlgorithmSuperPositionCombinator<S> setSeed(long seed)
+    {
+        this.seed = seed;
+
+        return this;
+    }
+
+    /**
+     * Starts every participant on its own executor and blocks until the super-position is done
+     */
+    @Override
+    public void run()
+    {
+        List<PseudoRandomGenerator> streams = null;
+        ThreadLocalRandomGenerator randomGenerator = null;
+        PseudoRandomGenerator previousGenerator = JMetalRandom.getInstance().getRandomGenerator();
+        if (seed != null)
+        {
+            streams = new SplittableRandomGenerator(seed).split(participants.size());
+            randomGenerator = ThreadLocalRandomGenerator.installInJMetalRandom();
+        }
+
+        List<ExecutorService> executors = new ArrayList<>();
+        try {
+            for (int i = 0; i < participants.size(); i++)
+            {
+                SuperPositionParticipant<S> participant = participants.get(i);
+                ExecutorService executor = Executors.newSingleThreadExecutor(
+                        runnable -> new Thread(runnable, "SuperPosition-" + participant.name()));
+                if (streams == null)
+                {
+                    executor.execute(participant);
+                }
+                else
+                {
+                    PseudoRandomGenerator stream = streams.get(i);
+                    ThreadLocalRandomGenerator threadLocalGenerator = randomGenerator;
+                    executor.execute(() -> {
+                        threadLocalGenerator.setCurrentGenerator(stream);
+                        participant.run();
+                    });
+                }
+                executors.add(executor);
+            }
+
+            generationBarrier.awaitTermination();
+            // the participants may still be leaving the barrier
+            for (ExecutorService executor : executors)
+            {
+                executor.shutdown();
+                executor.awaitTermination(1, TimeUnit.MINUTES);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executors.forEach(ExecutorService::shutdown);
+            JMetalRandom.getInstance().setRandomGenerator(previousGenerator);
+        }
+    }
+
+    protected void onAllAlgorithmsWaiting()
+    {
+        generation++;
+
+        boolean stoppingConditionReached = false;
+        for (SuperPositionParticipant<S> participant : participants)
+        {
+            stoppingConditionReached |= participant.isStoppingConditionReached();
+        }
+
+        if (stoppingConditionReached)
+        {
+            for (SuperPositionParticipant<S> participant : participants)
+            {
+                if (!participant.isStoppingConditionReached())
+                {
+                    participant.forceStoppingCondition();
+                }
+            }
+
+            generationBarrier.finish();
+
+            resultPopulation = applySuperPosition();
+
+            onNewGenerationDone.invoke();
+
+            onSuperPositionDone.invoke();
+        }
+        else if (generation % mergeInterval == 0)
+        {
+            resultPopulation = applySuperPosition();
+
+            onNewGenerationDone.invoke();
+        }
+    }
+
+    protected List<S> applySuperPosition()
+    {
+        List<List<S>> populations = new ArrayList<>(participants.size());
+        int populationSize = 0;
+        for (SuperPositionParticipant<S> participant : participants)
+        {
+            populations.add(participant.getSolutions());
+            populationSize = Math.max(populationSize, participant.getMaxSolutions());
+        }
+
+        List<S> newPopulation = mergePolicy.merge(populations, populationSize);
+
+        // each algorithm receives its own copy, cut to its population size
+        for (SuperPositionParticipant<S> participant : participants)
+        {
+            int size = Math.min(participant.getMaxSolutions(), newPopulation.size());
+            participant.setSolutions(new ArrayList<>(newPopulation.subList(0, size)));
+        }
+
+        return newPopulation;
+    }
+}
@@ -0,0 +1,36 @@
+package jmetal.algorithm.examples.superposition;
+
+import jmetal.algorithm.examples.superposition.events.IAction;
+
+import java.util.List;
+
+/**
+ * Common view of the algorithms taking part in a super-position ({@link AbstractSuperPositionGA}
+ * and {@link AbstractSuperPositionPSO}), used by {@link MultiAlgorithmSuperPositionCombinator} to
+ * combine any number of them.
+ */
+public interface SuperPositionParticipant<S> extends Runnable
+{
+    String name();
+
+    /**
+     * Population of a genetic algorithm or swarm of a particle swarm optimizer
+     */
+    List<S> getSolutions();
+
+    void setSolutions(List<S> solutions);
+
+    int getMaxSolutions();
+
+    boolean isStoppingConditionReached();
+
+    void forceStoppingCondition();
+
+    void setGenerationBarrier(GenerationBarrier barrier);
+
+    /**
+     * Action invoked on the algorithm's own thread at the end of every generation (used by the
+     * island model to exchange individuals without stopping the algorithm)
+     */
+    void setMigration(IAction migration);
+}
@@ -0,0 +1,436 @@
+package jmetal.algorithm.examples.superposition.async;
+
+import jmetal.component.catalogue.common.termination.Termination;
+import jmetal.component.catalogue.ea.replacement.Replacement;
+import jmetal.component.catalogue.ea.replacement.impl.RankingAndDensityEstimatorReplacement;
+import jmetal.core.operator.crossover.CrossoverOperator;
+import jmetal.core.operator.mutation.MutationOperator;
+import jmetal.core.operator.selection.SelectionOperator;
+import jmetal.core.operator.selection.impl.BinaryTournamentSelection;
+import jmetal.core.problem.doubleproblem.DoubleProblem;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.util.bounds.Bounds;
+import jmetal.core.util.archive.BoundedArchive;
+import jmetal.core.util.archive.impl.CrowdingDistanceArchive;
+import jmetal.core.util.archive.impl.NonDominatedSolutionIndexedArchive;
+import jmetal.core.util.comparator.RankingAndCrowdingDistanceComparator;
+import jmetal.core.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator;
+import jmetal.core.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import jmetal.core.util.errorchecking.Check;
+import jmetal.core.util.observable.Observable;
+import jmetal.core.util.observable.impl.DefaultObservable;
+import jmetal.core.util.pseudorandom.JMetalRandom;
+import jmetal.core.util.ranking.RankingFactory;
+import jmetal.parallel.asynchronous.multithreaded.Master;
+import jmetal.parallel.asynchronous.multithreaded.Worker;
+import jmetal.parallel.asynchronous.task.ParallelTask;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Steady-state asynchronous super-position of NSGA-II and SMPSO built on the master-worker engine
+ * of {@link Master}. There are no generations: the GA offspring and the particle moves are tasks
+ * submitted to the same pool of workers, and every evaluated solution is merged as soon as it
+ * arrives, so no worker waits for the slowest evaluation of a generation:
+ * <ul>
+ *   <li>the shared population is updated with the ranking and crowding distance replacement of
+ *   the asynchronous NSGA-II, and it is used to select the parents of the GA offspring;</li>
+ *   <li>the leaders archive of the PSO receives the solutions of both algorithms, so the particles
+ *   are guided by the GA offspring too;</li>
+ *   <li>each particle has at most one pending move; a new task is a particle move with probability
+ *   {@code particleMoveProbability} if there are idle particles, and a GA offspring otherwise.</li>
+ * </ul>
+ * The initial population is also the initial swarm. The movement of the particles follows SMPSO
+ * with its default parameters. The workers only live during {@link #run()}: when the stopping
+ * condition is met, the pending tasks are discarded and the workers are stopped.
+ */
+public class AsynchronousSuperPositionNSGAIISMPSO
+        extends Master<ParallelTask<DoubleSolution>, List<DoubleSolution>>
+{
+    public static final double DEFAULT_PARTICLE_MOVE_PROBABILITY = 0.5;
+
+    private static final double C_MIN = 1.5;
+    private static final double C_MAX = 2.5;
+    private static final double WEIGHT = 0.1;
+    private static final double CHANGE_VELOCITY = -1.0;
+
+    private final DoubleProblem problem;
+    private final int populationSize;
+    private final CrossoverOperator<DoubleSolution> crossover;
+    private final MutationOperator<DoubleSolution> mutation;
+    private final SelectionOperator<List<DoubleSolution>, DoubleSolution> selection;
+    private final Replacement<DoubleSolution> replacement;
+    private final Termination termination;
+    private final double particleMoveProbability;
+    private final JMetalRandom randomGenerator;
+
+    private List<DoubleSolution> population = new ArrayList<>();
+    private final BoundedArchive<DoubleSolution> leaders;
+    private final Comparator<DoubleSolution> dominanceComparator;
+    private boolean leadersHaveChanged;
+
+    private final DoubleSolution[] particles;
+    private final DoubleSolution[] personalBest;
+    private final double[][] speed;
+    private final double[] deltaMax;
+    private final Deque<Integer> idleParticles = new ArrayDeque<>();
+    private final Map<Long, Integer> movingParticles = new HashMap<>();
+    private final List<Worker<ParallelTask<DoubleSolution>>> workers = new ArrayList<>();
+
+    private long nextTaskIdentifier = 0;
+    private int evaluations = 0;
+    private int particleMoves = 0;
+    private int offspring = 0;
+    private long initTime;
+
+    private final Map<String, Object> attributes = new HashMap<>();
+    private final Observable<Map<String, Object>> observable = new DefaultObservable<>("Observable");
+
+    public AsynchronousSuperPositionNSGAIISMPSO(int numberOfCores,
+                                               DoubleProblem problem,
+                                               int populationSize,
+                                               CrossoverOperator<DoubleSolution> crossover,
+                                               MutationOperator<DoubleSolution> mutation,
+                                               Termination termination)
+    {
+        this(numberOfCores, problem, populationSize, crossover, mutation, termination,
+                DEFAULT_PARTICLE_MOVE_PROBABILITY);
+    }
+
+    public AsynchronousSuperPositionNSGAIISMPSO(int numberOfCores,
+                                               DoubleProblem problem,
+                                               int populationSize,
+                                               CrossoverOperator<DoubleSolution> crossover,
+                                               MutationOperator<DoubleSolution> mutation,
+                                               Termination termination,
+                                               double particleMoveProbability)
+    {
+        super(numberOfCores);
+        Check.notNull(problem);
+        Check.notNull(crossover);
+        Check.notNull(mutation);
+        Check.notNull(termination);
+        Check.that(numberOfCores > 0, "The number of cores must be positive: " + numberOfCores);
+        Check.that(populationSize > 2, "The population size must be higher than two: " + populationSize);
+        Check.probabilityIsValid(particleMoveProbability);
+
+        this.problem = problem;
+        this.populationSize = populationSize;
+        this.crossover = crossover;
+        this.mutation = mutation;
+        this.termination = termination;
+        this.particleMoveProbability = particleMoveProbability;
+        this.randomGenerator = JMetalRandom.getInstance();
+
+        this.selection = new BinaryTournamentSelection<>(new RankingAndCrowdingDistanceComparator<>());
+        this.replacement = new RankingAndDensityEstimatorReplacement<>(
+                RankingFactory.create(),
+                new CrowdingDistanceDensityEstimator<>(),
+                Replacement.RemovalPolicy.ONE_SHOT);
+
+        this.leaders = new CrowdingDistanceArchive<>(populationSize, new NonDominatedSolutionIndexedArchive<>());
+        this.dominanceComparator = new DominanceWithConstraintsComparator<>();
+
+        particles = new DoubleSolution[populationSize];
+        personalBest = new DoubleSolution[populationSize];
+        speed = new double[populationSize][problem.numberOfVariables()];
+        deltaMax = new double[problem.numberOfVariables()];
+        for (int i = 0; i < problem.numberOfVariables(); i++)
+        {
+            Bounds<Double> bounds = problem.variableBounds().get(i);
+            deltaMax[i] = (bounds.getUpperBound() - bounds.getLowerBound()) / 2.0;
+        }
+    }
+
+    // the workers keep the identifier of the task, which tells whether it is a particle move
+    private void startWorkers()
+    {
+        for (int i = 0; i < numberOfCores; i++)
+        {
+            Worker<ParallelTask<DoubleSolution>> worker = new Worker<>(
+                    task -> {
+                        problem.evaluate(task.getContents());
+                        return task;
+                    },
+                    pendingTaskQueue,
+                    completedTaskQueue);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    // the pending tasks are discarded and the workers are awaited, so no solution is evaluated
+    // once the algorithm has finished
+    private void stopWorkers()
+    {
+        pendingTaskQueue.clear();
+        workers.forEach(Worker::finish);
+        try
+        {
+            for (Worker<ParallelTask<DoubleSolution>> worker : workers)
+            {
+                worker.join();
+            }
+        }
+        catch (InterruptedException exception)
+        {
+            Thread.currentThread().interrupt();
+        }
+        workers.clear();
+        completedTaskQueue.clear();
+    }
+
+    @Override
+    public List<ParallelTask<DoubleSolution>> createInitialTasks()
+    {
+        List<ParallelTask<DoubleSolution>> initialTasks = new ArrayList<>(populationSize);
+        for (int i = 0; i < populationSize; i++)
+        {
+            particles[i] = problem.createSolution();
+            initialTasks.add(createParticleTask(i, particles[i]));
+        }
+
+        return initialTasks;
+    }
+
+    // all the initial tasks are submitted at once and removed from the list, otherwise the main loop
+    // of the master would submit them again
+    @Override
+    public void submitInitialTasks(List<ParallelTask<DoubleSolution>> initialTasks)
+    {
+        super.submitInitialTasks(initialTasks);
+        initialTasks.clear();
+    }
+
+    @Override
+    public ParallelTask<DoubleSolution> createNewTask()
+    {
+        if (!idleParticles.isEmpty() && randomGenerator.nextDouble() < particleMoveProbability)
+        {
+            return createParticleMove(idleParticles.poll());
+        }
+
+        return createOffspring();
+    }
+
+    @Override
+    public void processComputedTask(ParallelTask<DoubleSolution> task)
+    {
+        evaluations++;
+        DoubleSolution solution = task.getContents();
+
+        Integer particle = movingParticles.remove(task.getIdentifier());
+        if (particle != null)
+        {
+            particles[particle] = solution;
+            if (personalBest[particle] == null || dominanceComparator.compare(solution, personalBest[particle]) != 1)
+            {
+                personalBest[particle] = (DoubleSolution) solution.copy();
+            }
+            idleParticles.add(particle);
+        }
+
+        // super-position: both algorithms see every evaluated solution
+        if (leaders.add((DoubleSolution) solution.copy()))
+        {
+            leadersHaveChanged = true;
+        }
+
+        if (population.size() < populationSize)
+        {
+            population.add(solution);
+        }
+        else
+        {
+            List<DoubleSolution> offspringPopulation = new ArrayList<>(1);
+            offspringPopulation.add(solution);
+
+            population = replacement.replace(population, offspringPopulation);
+            Check.that(population.size() == populationSize, "The population size is incorrect");
+        }
+    }
+
+    @Override
+    public boolean stoppingConditionIsNotMet()
+    {
+        return !termination.isMet(attributes);
+    }
+
+    @Override
+    public void initProgress()
+    {
+        attributes.put("EVALUATIONS", evaluations);
+        attributes.put("POPULATION", population);
+        attributes.put("COMPUTING_TIME", System.currentTimeMillis() - initTime);
+
+        observable.setChanged();
+        observable.notifyObservers(attributes);
+    }
+
+    @Override
+    public void updateProgress()
+    {
+        initProgress();
+    }
+
+    @Override
+    public void run()
+    {
+        initTime = System.currentTimeMillis();
+        startWorkers();
+        try
+        {
+            super.run();
+        }
+        finally
+        {
+            stopWorkers();
+        }
+    }
+
+    /**
+     * @return The shared population
+     */
+    @Override
+    public List<DoubleSolution> getResult()
+    {
+        return population;
+    }
+
+    public List<DoubleSolution> getLeaders()
+    {
+        return leaders.solutions();
+    }
+
+    public int getEvaluations()
+    {
+        return evaluations;
+    }
+
+    /**
+     * @return Number of particle moves created, not including the initial swarm
+     */
+    public int getParticleMoves()
+    {
+        return particleMoves;
+    }
+
+    /**
+     * @return Number of GA offspring created
+     */
+    public int getOffspring()
+    {
+        return offspring;
+    }
+
+    public Observable<Map<String, Object>> getObservable()
+    {
+        return observable;
+    }
+
+    private ParallelTask<DoubleSolution> createParticleTask(int particle, DoubleSolution position)
+    {
+        long identifier = nextTaskIdentifier++;
+        movingParticles.put(identifier, particle);
+
+        return ParallelTask.create(identifier, position);
+    }
+
+    private ParallelTask<DoubleSolution> createOffspring()
+    {
+        offspring++;
+        if (population.size() <= 2)
+        {
+            return ParallelTask.create(nextTaskIdentifier++, problem.createSolution());
+        }
+
+        List<DoubleSolution> parents = new ArrayList<>(2);
+        parents.add(selection.execute(population));
+        parents.add(selection.execute(population));
+
+        DoubleSolution child = crossover.execute(parents).get(0);
+        mutation.execute(child);
+        child.attributes().clear();
+
+        return ParallelTask.create(nextTaskIdentifier++, child);
+    }
+
+    // SMPSO: velocity with constriction coefficient and speed limits, position inside the bounds
+    // and polynomial mutation in one of every six moves
+    private ParallelTask<DoubleSolution> createParticleMove(int particle)
+    {
+        DoubleSolution position = (DoubleSolution) particles[particle].copy();
+        position.attributes().clear();
+        DoubleSolution bestParticle = personalBest[particle];
+        DoubleSolution bestGlobal = selectGlobalBest();
+
+        double r1 = randomGenerator.nextDouble();
+        double r2 = randomGenerator.nextDouble();
+        double c1 = randomGenerator.nextDouble(C_MIN, C_MAX);
+        double c2 = randomGenerator.nextDouble(C_MIN, C_MAX);
+        double constriction = constrictionCoefficient(c1, c2);
+
+        for (int j = 0; j < position.variables().size(); j++)
+        {
+            double velocity = constriction * (WEIGHT * speed[particle][j]
+                    + c1 * r1 * (bestParticle.variableValue(j) - position.variableValue(j))
+                    + c2 * r2 * (bestGlobal.variableValue(j) - position.variableValue(j)));
+            speed[particle][j] = Math.max(-deltaMax[j], Math.min(deltaMax[j], velocity));
+
+            Bounds<Double> bounds = problem.variableBounds().get(j);
+            double value = position.variableValue(j) + speed[particle][j];
+            if (value < bounds.getLowerBound())
+            {
+                value = bounds.getLowerBound();
+                speed[particle][j] *= CHANGE_VELOCITY;
+            }
+            else if (value > bounds.getUpperBound())
+            {
+                value = bounds.getUpperBound();
+                speed[particle][j] *= CHANGE_VELOCITY;
+            }
+            position.variableValue(j, value);
+        }
+
+        if (particleMoves % 6 == 0)
+        {
+            mutation.execute(position);
+        }
+        particleMoves++;
+
+        return createParticleTask(particle, position);
+    }
+
+    private DoubleSolution selectGlobalBest()
+    {
+        if (leadersHaveChanged)
+        {
+            leaders.computeDensityEstimator();
+            leadersHaveChanged = false;
+        }
+
+        List<DoubleSolution> leaderList = leaders.solutions();
+        DoubleSolution one = leaderList.get(randomGenerator.nextInt(0, leaderList.size() - 1));
+        DoubleSolution two = leaderList.get(randomGenerator.nextInt(0, leaderList.size() - 1));
+
+        return leaders.comparator().compare(one, two) < 1 ? one : two;
+    }
+
+    private double constrictionCoefficient(double c1, double c2)
+    {
+        double rho = c1 + c2;
+        if (rho <= 4)
+        {
+            return 1.0;
+        }
+
+        return 2 / (2 - rho - Math.sqrt(Math.pow(rho, 2.0) - 4.0 * rho));
+    }
+}
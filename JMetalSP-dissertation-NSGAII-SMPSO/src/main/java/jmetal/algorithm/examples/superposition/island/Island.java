@@ -0,0 +1,123 @@
+package jmetal.algorithm.examples.superposition.island;
+
+import jmetal.algorithm.examples.superposition.SuperPositionParticipant;
+import jmetal.algorithm.examples.superposition.merge.RankingMergePolicy;
+import jmetal.algorithm.examples.superposition.merge.SuperPositionMergePolicy;
+import jmetal.core.solution.Solution;
+import jmetal.core.util.ranking.Ranking;
+import jmetal.core.util.ranking.RankingFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An algorithm of the island model. The migration runs on the algorithm's own thread: every
+ * {@code migrationInterval} generations the best {@code migrationSize} individuals (taken front by
+ * front) are copied to the {@link MigrationChannel}, and copies of the migrants received from the
+ * other islands are merged into the population with the {@link SuperPositionMergePolicy}, so no
+ * individual is shared by two islands.
+ */
+public class Island<S extends Solution<?>>
+{
+    private final int index;
+    private final SuperPositionParticipant<S> participant;
+    private final MigrationChannel<S> channel;
+    private final int migrationInterval;
+    private final int migrationSize;
+    private final SuperPositionMergePolicy<S> mergePolicy;
+    private int generation;
+    private int immigrants;
+
+    public Island(int index,
+                  SuperPositionParticipant<S> participant,
+                  MigrationChannel<S> channel,
+                  int migrationInterval,
+                  int migrationSize,
+                  SuperPositionMergePolicy<S> mergePolicy)
+    {
+        this.index = index;
+        this.participant = participant;
+        this.channel = channel;
+        this.migrationInterval = migrationInterval;
+        this.migrationSize = migrationSize;
+        this.mergePolicy = mergePolicy;
+        this.generation = 0;
+        this.immigrants = 0;
+
+        participant.setMigration(this::migrate);
+    }
+
+    public int index()
+    {
+        return index;
+    }
+
+    public SuperPositionParticipant<S> participant()
+    {
+        return participant;
+    }
+
+    public int generations()
+    {
+        return generation;
+    }
+
+    /**
+     * @return Number of individuals received from the other islands
+     */
+    public int immigrants()
+    {
+        return immigrants;
+    }
+
+    protected void migrate()
+    {
+        generation++;
+        if (generation % migrationInterval != 0)
+        {
+            return;
+        }
+
+        List<S> population = participant.getSolutions();
+
+        channel.send(index, emigrants(population));
+
+        List<S> migrants = immigrants(channel.receive(index));
+        if (!migrants.isEmpty())
+        {
+            immigrants += migrants.size();
+            List<S> newPopulation = mergePolicy.merge(List.of(population, migrants), participant.getMaxSolutions());
+            participant.setSolutions(new ArrayList<>(newPopulation));
+        }
+    }
+
+    // the migrants are copies, as the algorithms (e.g. PSO) can modify their individuals in place
+    @SuppressWarnings("unchecked")
+    protected List<S> emigrants(List<S> population)
+    {
+        Ranking<S> ranking = RankingFactory.create();
+        ranking.compute(population);
+
+        List<S> emigrants = new ArrayList<>(migrationSize);
+        for (S solution : RankingMergePolicy.take(ranking, migrationSize))
+        {
+            emigrants.add((S) solution.copy());
+        }
+
+        return emigrants;
+    }
+
+    // the same migrants are received by every destination of the source island, so each
+    // destination merges its own copies
+    @SuppressWarnings("unchecked")
+    protected List<S> immigrants(List<S> migrants)
+    {
+        List<S> immigrants = new ArrayList<>(migrants.size());
+        for (S solution : migrants)
+        {
+            immigrants.add((S) solution.copy());
+        }
+
+        return immigrants;
+    }
+}
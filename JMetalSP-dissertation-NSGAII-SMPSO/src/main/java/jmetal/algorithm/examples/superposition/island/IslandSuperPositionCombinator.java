@@ -0,0 +1,160 @@
+package jmetal.algorithm.examples.superposition.island;
+
+import jmetal.algorithm.examples.superposition.SuperPositionParticipant;
+import jmetal.algorithm.examples.superposition.events.IAction;
+import jmetal.algorithm.examples.superposition.merge.RankingMergePolicy;
+import jmetal.algorithm.examples.superposition.merge.SuperPositionMergePolicy;
+import jmetal.core.solution.Solution;
+import jmetal.core.util.errorchecking.Check;
+import jmetal.core.util.errorchecking.JMetalException;
+import jmetal.core.util.pseudorandom.JMetalRandom;
+import jmetal.core.util.pseudorandom.PseudoRandomGenerator;
+import jmetal.core.util.pseudorandom.impl.SplittableRandomGenerator;
+import jmetal.core.util.pseudorandom.impl.ThreadLocalRandomGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Asynchronous (island model) super-position. Unlike the lock-step combinators, the algorithms are
+ * never stopped to be merged: each one runs freely on its own executor until its own stopping
+ * condition, and periodically exchanges its best individuals with its neighbours through a
+ * lock-free {@link MigrationChannel}, so a slow algorithm never delays the others. When all the
+ * algorithms are done, their populations are merged into the result.
+ *
+ * <p>If a seed is given with {@link #setSeed(long)}, each island draws its random numbers from its
+ * own stream split from that seed (see {@link SplittableRandomGenerator}) instead of sharing a
+ * generator. The sequence of numbers of every island is then always the same, although the result
+ * still depends on when the migrants arrive.
+ */
+public class IslandSuperPositionCombinator<S extends Solution<?>> implements Runnable
+{
+    protected final List<Island<S>> islands;
+    protected final MigrationChannel<S> channel;
+    protected final SuperPositionMergePolicy<S> mergePolicy;
+    protected List<S> resultPopulation;
+    protected Long seed;
+    public IAction onSuperPositionDone;
+
+    public IslandSuperPositionCombinator(List<SuperPositionParticipant<S>> participants,
+                                         int migrationInterval,
+                                         int migrationSize)
+    {
+        this(participants, migrationInterval, migrationSize, MigrationTopology.RING, new RankingMergePolicy<>());
+    }
+
+    public IslandSuperPositionCombinator(List<SuperPositionParticipant<S>> participants,
+                                         int migrationInterval,
+                                         int migrationSize,
+                                         MigrationTopology topology,
+                                         SuperPositionMergePolicy<S> mergePolicy)
+    {
+        Check.notNull(participants);
+        Check.notNull(mergePolicy);
+        Check.that(migrationInterval >= 1, "The migration interval must be at least one: " + migrationInterval);
+        Check.that(migrationSize >= 1, "The migration size must be at least one: " + migrationSize);
+
+        this.channel = new MigrationChannel<>(participants.size(), topology);
+        this.mergePolicy = mergePolicy;
+        this.seed = null;
+        this.onSuperPositionDone = () -> {};
+
+        islands = new ArrayList<>(participants.size());
+        for (int i = 0; i < participants.size(); i++)
+        {
+            islands.add(new Island<>(i, participants.get(i), channel, migrationInterval, migrationSize, mergePolicy));
+        }
+    }
+
+    public List<S> getResult()
+    {
+        return resultPopulation;
+    }
+
+    public List<Island<S>> getIslands()
+    {
+        return islands;
+    }
+
+    public MigrationChannel<S> getChannel()
+    {
+        return channel;
+    }
+
+    /**
+     * Makes every island use its own random stream derived from the seed. A {@link
+     * ThreadLocalRandomGenerator} is installed in {@link JMetalRandom} while the super-position runs,
+     * and the previous generator is restored when it ends
+     */
+    public IslandSuperPositionCombinator<S> setSeed(long seed)
+    {
+        this.seed = seed;
+
+        return this;
+    }
+
+    @Override
+    public void run()
+    {
+        List<PseudoRandomGenerator> streams = null;
+        ThreadLocalRandomGenerator randomGenerator = null;
+        PseudoRandomGenerator previousGenerator = JMetalRandom.getInstance().getRandomGenerator();
+        if (seed != null)
+        {
+            streams = new SplittableRandomGenerator(seed).split(islands.size());
+            randomGenerator = ThreadLocalRandomGenerator.installInJMetalRandom();
+        }
+
+        List<ExecutorService> executors = new ArrayList<>();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (Island<S> island : islands)
+            {
+                ExecutorService executor = Executors.newSingleThreadExecutor(
+                        runnable -> new Thread(runnable, "Island-" + island.index() + "-" + island.participant().name()));
+                executors.add(executor);
+                if (streams == null)
+                {
+                    futures.add(executor.submit(island.participant()));
+                }
+                else
+                {
+                    PseudoRandomGenerator stream = streams.get(island.index());
+                    ThreadLocalRandomGenerator threadLocalGenerator = randomGenerator;
+                    futures.add(executor.submit(() -> {
+                        threadLocalGenerator.setCurrentGenerator(stream);
+                        island.participant().run();
+                    }));
+                }
+            }
+
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JMetalException("Island super-position interrupted", e);
+        } catch (ExecutionException e) {
+            throw new JMetalException("Error running an island: " + e.getCause(), e);
+        } finally {
+            executors.forEach(ExecutorService::shutdownNow);
+            JMetalRandom.getInstance().setRandomGenerator(previousGenerator);
+        }
+
+        List<List<S>> populations = new ArrayList<>(islands.size());
+        int populationSize = 0;
+        for (Island<S> island : islands)
+        {
+            populations.add(island.participant().getSolutions());
+            populationSize = Math.max(populationSize, island.participant().getMaxSolutions());
+        }
+        resultPopulation = mergePolicy.merge(populations, populationSize);
+
+        onSuperPositionDone.invoke();
+    }
+}
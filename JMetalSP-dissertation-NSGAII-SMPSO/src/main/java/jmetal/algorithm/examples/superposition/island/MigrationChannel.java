@@ -0,0 +1,101 @@
+package jmetal.algorithm.examples.superposition.island;
+
+import jmetal.core.util.errorchecking.Check;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free channel used by the islands to exchange individuals. There is a slot for each pair
+ * (source, destination) given by the {@link MigrationTopology}; sending replaces the content of
+ * the slot with the newest migrants and receiving empties the slots of the destination island, so
+ * a slow island only gets the latest migrants of each neighbour and the memory used is bounded.
+ * Neither operation ever blocks.
+ */
+public class MigrationChannel<S>
+{
+    private final int numberOfIslands;
+    private final MigrationTopology topology;
+    private final AtomicReferenceArray<List<S>> slots;
+    private final AtomicLong sentMigrations;
+    private final AtomicLong receivedMigrations;
+
+    public MigrationChannel(int numberOfIslands, MigrationTopology topology)
+    {
+        Check.that(numberOfIslands >= 2, "At least two islands are required: " + numberOfIslands);
+        Check.notNull(topology);
+
+        this.numberOfIslands = numberOfIslands;
+        this.topology = topology;
+        this.slots = new AtomicReferenceArray<>(numberOfIslands * numberOfIslands);
+        this.sentMigrations = new AtomicLong();
+        this.receivedMigrations = new AtomicLong();
+    }
+
+    public int numberOfIslands()
+    {
+        return numberOfIslands;
+    }
+
+    /**
+     * Publishes the migrants of an island to its destinations. The list must not be modified
+     * afterwards, as it is shared by all the destinations, and so are its elements: a destination
+     * that modifies the migrants must copy them.
+     */
+    public void send(int sourceIsland, List<S> migrants)
+    {
+        checkIsland(sourceIsland);
+        List<S> message = Collections.unmodifiableList(migrants);
+        for (int destination : topology.destinations(sourceIsland, numberOfIslands))
+        {
+            checkIsland(destination);
+            slots.set(slot(sourceIsland, destination), message);
+        }
+        sentMigrations.incrementAndGet();
+    }
+
+    /**
+     * Collects the migrants sent to an island since its previous call
+     *
+     * @return The migrants, or an empty list if no island has sent anything
+     */
+    public List<S> receive(int destinationIsland)
+    {
+        checkIsland(destinationIsland);
+        List<S> migrants = new ArrayList<>();
+        for (int source = 0; source < numberOfIslands; source++)
+        {
+            List<S> message = slots.getAndSet(slot(source, destinationIsland), null);
+            if (message != null)
+            {
+                migrants.addAll(message);
+                receivedMigrations.incrementAndGet();
+            }
+        }
+
+        return migrants;
+    }
+
+    public long sentMigrations()
+    {
+        return sentMigrations.get();
+    }
+
+    public long receivedMigrations()
+    {
+        return receivedMigrations.get();
+    }
+
+    private int slot(int source, int destination)
+    {
+        return source * numberOfIslands + destination;
+    }
+
+    private void checkIsland(int island)
+    {
+        Check.valueIsInRange(island, 0, numberOfIslands - 1);
+    }
+}
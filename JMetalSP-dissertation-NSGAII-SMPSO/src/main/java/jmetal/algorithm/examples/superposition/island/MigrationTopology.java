@@ -0,0 +1,23 @@
+package jmetal.algorithm.examples.superposition.island;
+
+import java.util.stream.IntStream;
+
+/**
+ * Defines to which islands the migrants of a given island are sent.
+ */
+@FunctionalInterface
+public interface MigrationTopology
+{
+    /**
+     * Each island sends its migrants to the next one, the last one to the first
+     */
+    MigrationTopology RING = (island, numberOfIslands) -> new int[]{(island + 1) % numberOfIslands};
+
+    /**
+     * Each island sends its migrants to all the other islands
+     */
+    MigrationTopology FULLY_CONNECTED = (island, numberOfIslands) ->
+            IntStream.range(0, numberOfIslands).filter(i -> i != island).toArray();
+
+    int[] destinations(int island, int numberOfIslands);
+}
@@ -0,0 +1,69 @@
+package jmetal.algorithm.examples.superposition.merge;
+
+import jmetal.core.solution.Solution;
+import jmetal.core.util.ranking.Ranking;
+import jmetal.core.util.ranking.RankingFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Default merge policy: the populations are combined, ranked with non-dominated sorting, and the
+ * best {@code populationSize} solutions are taken front by front.
+ */
+public class RankingMergePolicy<S extends Solution<?>> implements SuperPositionMergePolicy<S>
+{
+    @Override
+    public List<S> merge(List<List<S>> populations, int populationSize)
+    {
+        // 1. COMBINE POPULATIONS
+        List<S> combinedPopulation = new ArrayList<>();
+        for (List<S> population : populations)
+        {
+            combinedPopulation.addAll(population);
+        }
+
+        // 2. RANKING AND TAKING THE BEST FRONT
+        Ranking<S> fronts = computeRanking(combinedPopulation);
+
+        // 3. GENERATE NEW POPULATION
+        return take(fronts, populationSize);
+    }
+
+    protected Ranking<S> computeRanking(List<S> solutionList)
+    {
+        Ranking<S> ranking = RankingFactory.create();
+        ranking.compute(solutionList);
+
+        return ranking;
+    }
+
+    /**
+     * Takes the first {@code populationCount} solutions of the ranking, front by front
+     */
+    public static <S> List<S> take(Ranking<S> fronts, int populationCount)
+    {
+        List<S> population = new ArrayList<>();
+
+        int noOfSelectedIndividuals = 0;
+        int noOfFronts = fronts.getNumberOfSubFronts();
+
+        for (int frontIndex = 0; frontIndex <= noOfFronts - 1; frontIndex++)
+        {
+            List<S> currentFront = fronts.getSubFront(frontIndex);
+
+            int currentFrontSize = currentFront.size();
+
+            int currentIndividualIndex = 0;
+
+            while (noOfSelectedIndividuals < populationCount && currentIndividualIndex < currentFrontSize)
+            {
+                population.add(currentFront.get(currentIndividualIndex));
+                noOfSelectedIndividuals++;
+                currentIndividualIndex++;
+            }
+        }
+
+        return population;
+    }
+}
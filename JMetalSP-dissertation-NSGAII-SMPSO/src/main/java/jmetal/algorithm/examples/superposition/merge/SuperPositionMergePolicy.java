@@ -0,0 +1,17 @@
+package jmetal.algorithm.examples.superposition.merge;
+
+import java.util.List;
+
+/**
+ * Strategy used to merge the populations of the algorithms of a super-position into the new
+ * population that is handed back to all of them.
+ */
+public interface SuperPositionMergePolicy<S>
+{
+    /**
+     * @param populations Current population (or swarm) of each algorithm
+     * @param populationSize Number of solutions to return
+     * @return The merged population, ordered from best to worst
+     */
+    List<S> merge(List<List<S>> populations, int populationSize);
+}
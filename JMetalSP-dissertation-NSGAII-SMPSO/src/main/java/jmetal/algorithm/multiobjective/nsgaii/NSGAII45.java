@@ -13,7 +13,7 @@ import jmetal.core.solution.Solution;
 import jmetal.core.util.SolutionListUtils;
 import jmetal.core.util.evaluator.SolutionListEvaluator;
 import jmetal.core.util.ranking.Ranking;
-import jmetal.core.util.ranking.impl.FastNonDominatedSortRanking;
+import jmetal.core.util.ranking.RankingFactory;
 
 /**
  * Implementation of NSGA-II following the scheme used in jMetal4.5 and former versions, i.e,
@@ -87,7 +87,7 @@ public class NSGAII45<S extends Solution<?>> implements Algorithm<List<S>> {
       jointPopulation.addAll(population);
       jointPopulation.addAll(offspringPopulation);
 
-      Ranking<S> ranking = new FastNonDominatedSortRanking<>();
+      Ranking<S> ranking = RankingFactory.create();
       ranking.compute(jointPopulation);
 
       RankingAndCrowdingSelection<S> rankingAndCrowdingSelection;
@@ -120,7 +120,7 @@ public class NSGAII45<S extends Solution<?>> implements Algorithm<List<S>> {
   }
 
   protected Ranking<S> computeRanking(List<S> solutionList) {
-    Ranking<S> ranking = new FastNonDominatedSortRanking<>();
+    Ranking<S> ranking = RankingFactory.create();
     ranking.compute(solutionList);
 
     return ranking;
@@ -19,7 +19,7 @@ import jmetal.core.util.measure.impl.CountingMeasure;
 import jmetal.core.util.measure.impl.DurationMeasure;
 import jmetal.core.util.measure.impl.SimpleMeasureManager;
 import jmetal.core.util.ranking.Ranking;
-import jmetal.core.util.ranking.impl.FastNonDominatedSortRanking;
+import jmetal.core.util.ranking.RankingFactory;
 
 /**
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
@@ -107,7 +107,7 @@ public class NSGAIIMeasures<S extends Solution<?>> extends NSGAII<S> implements
       List<S> offspringPopulation) {
     List<S> pop = super.replacement(population, offspringPopulation) ;
 
-    Ranking<S> ranking = new FastNonDominatedSortRanking<>(dominanceComparator);
+    Ranking<S> ranking = RankingFactory.create(dominanceComparator);
     ranking.compute(population);
 
     numberOfNonDominatedSolutionsInPopulation.set(ranking.getSubFront(0).size());
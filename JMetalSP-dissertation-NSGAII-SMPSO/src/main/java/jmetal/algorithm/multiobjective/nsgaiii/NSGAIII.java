@@ -11,7 +11,7 @@ import jmetal.core.util.JMetalLogger;
 import jmetal.core.util.SolutionListUtils;
 import jmetal.core.util.evaluator.SolutionListEvaluator;
 import jmetal.core.util.ranking.Ranking;
-import jmetal.core.util.ranking.impl.FastNonDominatedSortRanking;
+import jmetal.core.util.ranking.RankingFactory;
 
 /**
  * Created by ajnebro on 30/10/14.
@@ -156,7 +156,7 @@ public class NSGAIII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
   }
 
   protected Ranking<S> computeRanking(List<S> solutionList) {
-    Ranking<S> ranking = new FastNonDominatedSortRanking<>() ;
+    Ranking<S> ranking = RankingFactory.create() ;
     ranking.compute(solutionList) ;
 
     return ranking ;
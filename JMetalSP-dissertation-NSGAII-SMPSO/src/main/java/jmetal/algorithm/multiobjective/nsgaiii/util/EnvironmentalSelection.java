@@ -1,11 +1,13 @@
 package jmetal.algorithm.multiobjective.nsgaiii.util;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.TreeMap;
 import jmetal.core.operator.selection.SelectionOperator;
 import jmetal.core.solution.Solution;
 import jmetal.core.util.errorchecking.JMetalException;
+import jmetal.core.util.linearalgebra.DenseMatrix;
 import jmetal.core.util.pseudorandom.JMetalRandom;
 import jmetal.core.util.solutionattribute.SolutionAttribute;
 
@@ -96,29 +98,20 @@ public class EnvironmentalSelection<S extends Solution<?>>
   }
 
   public List<Double> guassianElimination(List<List<Double>> A, List<Double> b) {
-    List<Double> x = new ArrayList<>();
-
-    int N = A.size();
-    for (int i = 0; i < N; i += 1) {
-      A.get(i).add(b.get(i));
-    }
-
-    for (int base = 0; base < N - 1; base += 1) {
-      for (int target = base + 1; target < N; target += 1) {
-        double ratio = A.get(target).get(base) / A.get(base).get(base);
-        for (int term = 0; term < A.get(base).size(); term += 1) {
-          A.get(target).set(term, A.get(target).get(term) - A.get(base).get(term) * ratio);
-        }
+    DenseMatrix matrix = new DenseMatrix(A.size(), A.size());
+    for (int i = 0; i < A.size(); i++) {
+      for (int j = 0; j < A.size(); j++) {
+        matrix.set(i, j, A.get(i).get(j));
       }
     }
+    double[] rightHandSide = new double[b.size()];
+    for (int i = 0; i < b.size(); i++) {
+      rightHandSide[i] = b.get(i);
+    }
 
-    for (int i = 0; i < N; i++) x.add(0.0);
-
-    for (int i = N - 1; i >= 0; i -= 1) {
-      for (int known = i + 1; known < N; known += 1) {
-        A.get(i).set(N, A.get(i).get(N) - A.get(i).get(known) * x.get(known));
-      }
-      x.set(i, A.get(i).get(N) / A.get(i).get(i));
+    List<Double> x = new ArrayList<>();
+    for (double value : matrix.solve(rightHandSide)) {
+      x.add(value);
     }
     return x;
   }
@@ -144,20 +137,19 @@ public class EnvironmentalSelection<S extends Solution<?>>
       }
     } else {
       // Find the equation of the hyperplane
-      List<Double> b = new ArrayList<>(); // (pop[0].objs().size(), 1.0);
-      for (int i = 0; i < numberOfObjectives; i++) b.add(1.0);
-
-      List<List<Double>> A = new ArrayList<>();
-      for (S s : extreme_points) {
-        List<Double> aux = new ArrayList<>();
-        for (int i = 0; i < numberOfObjectives; i++) aux.add(s.objectives()[i]);
-        A.add(aux);
+      double[] b = new double[numberOfObjectives];
+      Arrays.fill(b, 1.0);
+
+      DenseMatrix A = new DenseMatrix(extreme_points.size(), numberOfObjectives);
+      for (int i = 0; i < extreme_points.size(); i++) {
+        System.arraycopy(extreme_points.get(i).objectives(), 0, A.data(), i * numberOfObjectives,
+            numberOfObjectives);
       }
-      List<Double> x = guassianElimination(A, b);
+      double[] x = A.solve(b);
 
       // Find intercepts
       for (int f = 0; f < numberOfObjectives; f += 1) {
-        intercepts.add(1.0 / x.get(f));
+        intercepts.add(1.0 / x[f]);
       }
     }
     return intercepts;
@@ -171,7 +171,7 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
     DoubleSolution bestGlobal;
 
     for (int i = 0; i < swarm.size(); i++) {
-      DoubleSolution particle = (DoubleSolution) swarm.get(i).copy();
+      DoubleSolution particle = swarm.get(i);
 
       // ADDED TO SOLVE THE SUPERPOSITION-ISSUE
       // IT SHOULD BE MOVED OUTSIDE OF THIS CLASS, THO.
@@ -179,7 +179,7 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
       swarm.get(i).attributes().put(localBest.getAttributeIdentifier(), swarm.get(i).copy());
       // --------------
 
-      DoubleSolution bestParticle = (DoubleSolution) localBest.getAttribute(swarm.get(i)).copy();
+      DoubleSolution bestParticle = localBest.getAttribute(swarm.get(i));
 
       bestGlobal = selectGlobalBest();
 
@@ -193,8 +193,8 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
       for (int var = 0; var < particle.variables().size(); var++) {
         speed[i][var] = velocityConstriction(constrictionCoefficient(c1, c2) * (
                         inertiaWeight(iterations, maxIterations, wmax, wmin) * speed[i][var] +
-                                c1 * r1 * (bestParticle.variables().get(var) - particle.variables().get(var)) +
-                                c2 * r2 * (bestGlobal.variables().get(var) - particle.variables().get(var))),
+                                c1 * r1 * (bestParticle.variableValue(var) - particle.variableValue(var)) +
+                                c2 * r2 * (bestGlobal.variableValue(var) - particle.variableValue(var))),
                 deltaMax, deltaMin, var);
       }
     }
@@ -205,17 +205,17 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
     for (int i = 0; i < swarmSize; i++) {
       DoubleSolution particle = swarm.get(i);
       for (int j = 0; j < particle.variables().size(); j++) {
-        particle.variables().set(j, particle.variables().get(j) + speed[i][j]);
+        particle.variableValue(j, particle.variableValue(j) + speed[i][j]);
 
         Bounds<Double> bounds = problem.variableBounds().get(j) ;
-        Double lowerBound = bounds.getLowerBound() ;
-        Double upperBound = bounds.getUpperBound() ;
-        if (particle.variables().get(j) < lowerBound) {
-          particle.variables().set(j, lowerBound);
+        double lowerBound = bounds.getLowerBound() ;
+        double upperBound = bounds.getUpperBound() ;
+        if (particle.variableValue(j) < lowerBound) {
+          particle.variableValue(j, lowerBound);
           speed[i][j] = speed[i][j] * changeVelocity1;
         }
-        if (particle.variables().get(j) > upperBound) {
-          particle.variables().set(j, upperBound);
+        if (particle.variableValue(j) > upperBound) {
+          particle.variableValue(j, upperBound);
           speed[i][j] = speed[i][j] * changeVelocity2;
         }
       }
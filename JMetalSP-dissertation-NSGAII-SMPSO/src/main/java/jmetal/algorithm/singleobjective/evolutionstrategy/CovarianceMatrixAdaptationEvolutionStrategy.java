@@ -12,6 +12,8 @@ import jmetal.core.solution.doublesolution.DoubleSolution;
 import jmetal.core.util.JMetalLogger;
 import jmetal.core.util.bounds.Bounds;
 import jmetal.core.util.comparator.ObjectiveComparator;
+import jmetal.core.util.linearalgebra.DenseMatrix;
+import jmetal.core.util.linearalgebra.SymmetricEigendecomposition;
 
 /**
  * Class implementing the CMA-ES algorithm
@@ -77,13 +79,13 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
    */
 
   // coordinate system
-  private double[][] b;
+  private DenseMatrix b;
 
   // diagonal D defines the scaling
   private double[] diagD;
 
   // c^1/2
-  private double[][] invSqrtC;
+  private DenseMatrix invSqrtC;
 
   // track update of b and c
   private int eigenEval;
@@ -291,27 +293,21 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
     pathsSigma = new double[numberOfVariables];
 
     // b defines the coordinate system
-    b = new double[numberOfVariables][numberOfVariables];
+    b = DenseMatrix.identity(numberOfVariables);
     // covariance matrix C
     c = new double[numberOfVariables][numberOfVariables];
 
     // C^-1/2
-    invSqrtC = new double[numberOfVariables][numberOfVariables];
+    invSqrtC = DenseMatrix.identity(numberOfVariables);
 
     for (int i = 0; i < numberOfVariables; i++) {
       pathsC[i] = 0;
       pathsSigma[i] = 0;
       diagD[i] = 1;
-      for (int j = 0; j < numberOfVariables; j++) {
-        b[i][j] = 0;
-        invSqrtC[i][j] = 0;
-      }
       for (int j = 0; j < i; j++) {
         c[i][j] = 0;
       }
-      b[i][i] = 1;
       c[i][i] = diagD[i] * diagD[i];
-      invSqrtC[i][i] = 1;
     }
 
     // track update of b and D
@@ -334,14 +330,17 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
     Collections.sort(getPopulation(), comparator);
     storeBest();
 
+    // variables of the mu best solutions, transposed (row i holds the variable i of each one)
+    DenseMatrix selectedVariables = selectedVariables();
+
     // calculate new distribution mean and BDz~N(0,C)
-    updateDistributionMean();
+    updateDistributionMean(selectedVariables);
 
     // Cumulation: Update evolution paths
     int hsig = updateEvolutionPaths(oldDistributionMean);
 
     // Adapt covariance matrix C
-    adaptCovarianceMatrix(oldDistributionMean, hsig);
+    adaptCovarianceMatrix(selectedVariables, oldDistributionMean, hsig);
 
     // Adapt step size sigma
     double psxps = CMAESUtils.norm(pathsSigma);
@@ -352,15 +351,30 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
 
   }
 
-  private void updateDistributionMean() {
+  private DenseMatrix selectedVariables() {
+
+    int numberOfVariables = getProblem().numberOfVariables();
+
+    DenseMatrix selectedVariables = new DenseMatrix(numberOfVariables, mu);
+    for (int k = 0; k < mu; k++) {
+      List<Double> variables = getPopulation().get(k).variables();
+      for (int i = 0; i < numberOfVariables; i++) {
+        selectedVariables.set(i, k, variables.get(i));
+      }
+    }
+
+    return selectedVariables;
+  }
+
+  private void updateDistributionMean(DenseMatrix selectedVariables) {
 
     int numberOfVariables = getProblem().numberOfVariables();
+    double[] values = selectedVariables.data();
 
     for (int i = 0; i < numberOfVariables; i++) {
       distributionMean[i] = 0.;
       for (int iNk = 0; iNk < mu; iNk++) {
-        double variableValue = (double) getPopulation().get(iNk).variables().get(i);
-        distributionMean[i] += weights[iNk] * variableValue;
+        distributionMean[i] += weights[iNk] * values[i * mu + iNk];
       }
     }
 
@@ -374,7 +388,7 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
     for (int i = 0; i < numberOfVariables; i++) {
       artmp[i] = 0;
       for (int j = 0; j < numberOfVariables; j++) {
-        artmp[i] += invSqrtC[i][j] * (distributionMean[j] - oldDistributionMean[j]) / sigma;
+        artmp[i] += invSqrtC.get(i, j) * (distributionMean[j] - oldDistributionMean[j]) / sigma;
       }
     }
     // cumulation for sigma (pathsSigma)
@@ -404,10 +418,19 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
 
   }
 
-  private void adaptCovarianceMatrix(double[] oldDistributionMean, int hsig) {
+  private void adaptCovarianceMatrix(DenseMatrix selectedVariables, double[] oldDistributionMean,
+      int hsig) {
 
     int numberOfVariables = getProblem().numberOfVariables();
 
+    // differences between the selected solutions and the old mean
+    double[] steps = selectedVariables.data().clone();
+    for (int i = 0; i < numberOfVariables; i++) {
+      for (int k = 0; k < mu; k++) {
+        steps[i * mu + k] -= oldDistributionMean[i];
+      }
+    }
+
     for (int i = 0; i < numberOfVariables; i++) {
       for (int j = 0; j <= i; j++) {
         c[i][j] = (1 - c1 - cmu) * c[i][j]
@@ -419,12 +442,10 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
            * additional rank mu
            * update
            */
-          double valueI = getPopulation().get(k).variables().get(i);
-          double valueJ = getPopulation().get(k).variables().get(j);
           c[i][j] += cmu
                 * weights[k]
-                * (valueI - oldDistributionMean[i])
-                * (valueJ - oldDistributionMean[j]) /sigma
+                * steps[i * mu + k]
+                * steps[j * mu + k] /sigma
                 / sigma;
         }
       }
@@ -442,34 +463,26 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
       // enforce symmetry
       for (int i = 0; i < numberOfVariables; i++) {
         for (int j = 0; j <= i; j++) {
-          b[i][j] = b[j][i] = c[i][j];
+          b.set(i, j, c[i][j]);
+          b.set(j, i, c[i][j]);
         }
       }
 
       // eigen decomposition, b==normalized eigenvectors
-      double[] offdiag = new double[numberOfVariables];
-      CMAESUtils.tred2(numberOfVariables, b, diagD, offdiag);
-      CMAESUtils.tql2(numberOfVariables, diagD, offdiag, b);
+      SymmetricEigendecomposition.decompose(b, diagD);
 
       checkEigenCorrectness();
 
-      double[][] artmp2 = new double[numberOfVariables][numberOfVariables];
+      DenseMatrix artmp2 = new DenseMatrix(numberOfVariables, numberOfVariables);
       for (int i = 0; i < numberOfVariables; i++) {
         if (diagD[i] > 0) {
           diagD[i] = Math.sqrt(diagD[i]);
         }
         for (int j = 0; j < numberOfVariables; j++) {
-          artmp2[i][j] = b[i][j] * (1 / diagD[j]);
-        }
-      }
-      for (int i = 0; i < numberOfVariables; i++) {
-        for (int j = 0; j < numberOfVariables; j++) {
-          invSqrtC[i][j] = 0.0;
-          for (int k = 0; k < numberOfVariables; k++) {
-            invSqrtC[i][j] += artmp2[i][k] * b[j][k];
-          }
+          artmp2.set(i, j, b.get(i, j) * (1 / diagD[j]));
         }
       }
+      invSqrtC = artmp2.multiplyTransposed(b);
 
     }
 
@@ -500,19 +513,14 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
 
     int numberOfVariables = getProblem().numberOfVariables();
     double[] artmp = new double[numberOfVariables];
-    double sum;
 
     for (int i = 0; i < numberOfVariables; i++) {
       //TODO: Check the correctness of this random (http://en.wikipedia.org/wiki/CMA-ES)
       artmp[i] = diagD[i] * rand.nextGaussian();
     }
+    double[] sum = b.multiply(artmp);
     for (int i = 0; i < numberOfVariables; i++) {
-      sum = 0.0;
-      for (int j = 0; j < numberOfVariables; j++) {
-        sum += b[i][j] * artmp[j];
-      }
-
-      double value = distributionMean[i] + sigma * sum;
+      double value = distributionMean[i] + sigma * sum[i];
       Bounds<Double> bounds = ((DoubleProblem)getProblem()).variableBounds().get(i) ;
       value = bounds.restrict(value);
 
@@ -0,0 +1,143 @@
+package jmetal.algorithm.tests.superposition;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import jmetal.algorithm.examples.superposition.GenerationBarrier;
+import jmetal.core.util.errorchecking.JMetalException;
+import org.junit.Test;
+
+public class GenerationBarrierTest {
+  private static final long TIMEOUT_IN_SECONDS = 10;
+
+  private static List<Thread> startAlgorithms(int numberOfAlgorithms, Runnable algorithm) {
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < numberOfAlgorithms; i++) {
+      Thread thread = new Thread(algorithm);
+      thread.start();
+      threads.add(thread);
+    }
+
+    return threads;
+  }
+
+  private static void join(List<Thread> threads) throws InterruptedException {
+    for (Thread thread : threads) {
+      thread.join(TimeUnit.SECONDS.toMillis(TIMEOUT_IN_SECONDS));
+      assertFalse(thread.isAlive());
+    }
+  }
+
+  @Test
+  public void shouldTheAlgorithmsWaitUntilTheLastOneArrives() throws InterruptedException {
+    AtomicInteger actions = new AtomicInteger();
+    GenerationBarrier barrier = new GenerationBarrier(3, actions::incrementAndGet);
+    CountDownLatch released = new CountDownLatch(2);
+
+    List<Thread> threads =
+        startAlgorithms(
+            2,
+            () -> {
+              barrier.arriveAndAwait();
+              released.countDown();
+            });
+
+    assertFalse(released.await(200, TimeUnit.MILLISECONDS));
+    assertEquals(0, actions.get());
+
+    barrier.arriveAndAwait();
+
+    assertTrue(released.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+    assertEquals(1, actions.get());
+    join(threads);
+  }
+
+  @Test
+  public void shouldTheActionRunOncePerGeneration() throws InterruptedException {
+    int numberOfAlgorithms = 4;
+    int numberOfGenerations = 50;
+    AtomicInteger arrivals = new AtomicInteger();
+    List<Integer> arrivalsPerAction = new CopyOnWriteArrayList<>();
+    GenerationBarrier barrier =
+        new GenerationBarrier(numberOfAlgorithms, () -> arrivalsPerAction.add(arrivals.get()));
+
+    List<Thread> threads =
+        startAlgorithms(
+            numberOfAlgorithms,
+            () -> {
+              for (int generation = 0; generation < numberOfGenerations; generation++) {
+                arrivals.incrementAndGet();
+                barrier.arriveAndAwait();
+              }
+            });
+    join(threads);
+
+    assertEquals(numberOfGenerations, arrivalsPerAction.size());
+    for (int generation = 0; generation < numberOfGenerations; generation++) {
+      assertEquals(
+          (generation + 1) * numberOfAlgorithms, arrivalsPerAction.get(generation).intValue());
+    }
+  }
+
+  @Test
+  public void shouldLeaveReleaseTheRemainingAlgorithms() throws InterruptedException {
+    AtomicInteger actions = new AtomicInteger();
+    GenerationBarrier barrier = new GenerationBarrier(3, actions::incrementAndGet);
+    CountDownLatch released = new CountDownLatch(2);
+
+    List<Thread> threads =
+        startAlgorithms(
+            2,
+            () -> {
+              barrier.arriveAndAwait();
+              released.countDown();
+            });
+    assertFalse(released.await(200, TimeUnit.MILLISECONDS));
+
+    barrier.leave();
+
+    assertTrue(released.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+    assertTrue(barrier.isFinished());
+    assertEquals(0, actions.get());
+    barrier.awaitTermination();
+    join(threads);
+  }
+
+  @Test
+  public void shouldAFailureOfTheActionBeRaisedByArriveAndAwait() throws InterruptedException {
+    RuntimeException failure = new IllegalStateException("failure");
+    GenerationBarrier barrier =
+        new GenerationBarrier(
+            2,
+            () -> {
+              throw failure;
+            });
+    List<Throwable> exceptions = new CopyOnWriteArrayList<>();
+
+    List<Thread> threads =
+        startAlgorithms(
+            2,
+            () -> {
+              try {
+                barrier.arriveAndAwait();
+              } catch (JMetalException e) {
+                exceptions.add(e);
+              }
+            });
+    join(threads);
+
+    assertEquals(2, exceptions.size());
+    for (Throwable exception : exceptions) {
+      assertSame(failure, exception.getCause());
+    }
+    assertTrue(barrier.isFinished());
+  }
+}
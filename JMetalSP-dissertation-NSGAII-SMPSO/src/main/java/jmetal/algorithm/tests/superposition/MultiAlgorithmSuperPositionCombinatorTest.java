@@ -0,0 +1,255 @@
+package jmetal.algorithm.tests.superposition;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import jmetal.algorithm.examples.superposition.GenerationBarrier;
+import jmetal.algorithm.examples.superposition.MultiAlgorithmSuperPositionCombinator;
+import jmetal.algorithm.examples.superposition.SuperPositionParticipant;
+import jmetal.algorithm.examples.superposition.events.IAction;
+import jmetal.algorithm.examples.superposition.merge.RankingMergePolicy;
+import jmetal.algorithm.examples.superposition.merge.SuperPositionMergePolicy;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.solution.doublesolution.impl.DefaultDoubleSolution;
+import jmetal.core.util.errorchecking.exception.InvalidConditionException;
+import jmetal.core.util.pseudorandom.JMetalRandom;
+import jmetal.core.util.pseudorandom.PseudoRandomGenerator;
+import jmetal.core.util.pseudorandom.impl.JavaRandomGenerator;
+import org.junit.Test;
+
+public class MultiAlgorithmSuperPositionCombinatorTest {
+
+  /**
+   * Participant whose generations create a population of random solutions. It stops after a
+   * number of generations and records the populations given back by the combinator
+   */
+  private static class FakeParticipant implements SuperPositionParticipant<DoubleSolution> {
+    private final String name;
+    private final int maxSolutions;
+    private final int maxGenerations;
+    private final Random random;
+    private final List<Integer> receivedPopulationSizes = new CopyOnWriteArrayList<>();
+    private volatile List<DoubleSolution> solutions = new ArrayList<>();
+    private volatile int generations = 0;
+    private GenerationBarrier generationBarrier;
+
+    FakeParticipant(String name, int maxSolutions, int maxGenerations, long seed) {
+      this.name = name;
+      this.maxSolutions = maxSolutions;
+      this.maxGenerations = maxGenerations;
+      this.random = new Random(seed);
+    }
+
+    @Override
+    public void run() {
+      try {
+        do {
+          List<DoubleSolution> population = new ArrayList<>();
+          for (int i = 0; i < maxSolutions; i++) {
+            population.add(createSolution(random.nextDouble(), random.nextDouble()));
+          }
+          solutions = population;
+          generations++;
+
+          generationBarrier.arriveAndAwait();
+        } while (!isStoppingConditionReached());
+      } finally {
+        generationBarrier.leave();
+      }
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+
+    @Override
+    public List<DoubleSolution> getSolutions() {
+      return solutions;
+    }
+
+    @Override
+    public void setSolutions(List<DoubleSolution> solutions) {
+      receivedPopulationSizes.add(solutions.size());
+      this.solutions = solutions;
+    }
+
+    @Override
+    public int getMaxSolutions() {
+      return maxSolutions;
+    }
+
+    @Override
+    public boolean isStoppingConditionReached() {
+      return generations >= maxGenerations;
+    }
+
+    @Override
+    public void forceStoppingCondition() {
+      generations = maxGenerations;
+    }
+
+    @Override
+    public void setGenerationBarrier(GenerationBarrier barrier) {
+      generationBarrier = barrier;
+    }
+
+    @Override
+    public void setMigration(IAction migration) {
+      // The participant does not migrate solutions
+    }
+  }
+
+  /**
+   * Policy that delegates on a {@link RankingMergePolicy} and records the arguments of each merge
+   */
+  private static class RecordingMergePolicy implements SuperPositionMergePolicy<DoubleSolution> {
+    private final List<Integer> numberOfPopulations = new CopyOnWriteArrayList<>();
+    private final List<Integer> populationSizes = new CopyOnWriteArrayList<>();
+    private volatile List<DoubleSolution> lastMerge;
+
+    @Override
+    public List<DoubleSolution> merge(List<List<DoubleSolution>> populations, int populationSize) {
+      numberOfPopulations.add(populations.size());
+      populationSizes.add(populationSize);
+      lastMerge = new RankingMergePolicy<DoubleSolution>().merge(populations, populationSize);
+
+      return lastMerge;
+    }
+  }
+
+  private static DoubleSolution createSolution(double objective1, double objective2) {
+    DoubleSolution solution = new DefaultDoubleSolution(List.of(), 2, 0);
+    solution.objectives()[0] = objective1;
+    solution.objectives()[1] = objective2;
+
+    return solution;
+  }
+
+  private static List<SuperPositionParticipant<DoubleSolution>> participants(
+      int maxGenerations, int... populationSizes) {
+    List<SuperPositionParticipant<DoubleSolution>> participants = new ArrayList<>();
+    for (int i = 0; i < populationSizes.length; i++) {
+      participants.add(new FakeParticipant("P" + i, populationSizes[i], maxGenerations, i));
+    }
+
+    return participants;
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldConstructorRaiseAnExceptionIfThereIsOnlyOneParticipant() {
+    new MultiAlgorithmSuperPositionCombinator<>(participants(1, 10));
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheMergeIntervalIsNotPositive() {
+    new MultiAlgorithmSuperPositionCombinator<>(
+        participants(1, 10, 10), 0, new RankingMergePolicy<>());
+  }
+
+  @Test
+  public void shouldMergeThePopulationsOfAllTheParticipantsEveryMergeIntervalGenerations() {
+    RecordingMergePolicy mergePolicy = new RecordingMergePolicy();
+    MultiAlgorithmSuperPositionCombinator<DoubleSolution> combinator =
+        new MultiAlgorithmSuperPositionCombinator<>(participants(8, 10, 20, 30, 40), 3, mergePolicy);
+    AtomicInteger newGenerations = new AtomicInteger();
+    AtomicInteger superPositionsDone = new AtomicInteger();
+    combinator.onNewGenerationDone = newGenerations::incrementAndGet;
+    combinator.onSuperPositionDone = superPositionsDone::incrementAndGet;
+
+    combinator.run();
+
+    // Merges after generations 3 and 6, and the final one after generation 8
+    assertEquals(List.of(4, 4, 4), mergePolicy.numberOfPopulations);
+    assertEquals(List.of(40, 40, 40), mergePolicy.populationSizes);
+    assertEquals(3, newGenerations.get());
+    assertEquals(1, superPositionsDone.get());
+    for (SuperPositionParticipant<DoubleSolution> participant : combinator.getParticipants()) {
+      assertEquals(8, ((FakeParticipant) participant).generations);
+    }
+  }
+
+  @Test
+  public void shouldEachParticipantReceiveTheMergedPopulationCutToItsSize() {
+    MultiAlgorithmSuperPositionCombinator<DoubleSolution> combinator =
+        new MultiAlgorithmSuperPositionCombinator<>(participants(4, 10, 20, 30));
+
+    combinator.run();
+
+    List<DoubleSolution> result = combinator.getResult();
+    assertEquals(30, result.size());
+    for (SuperPositionParticipant<DoubleSolution> participant : combinator.getParticipants()) {
+      FakeParticipant fakeParticipant = (FakeParticipant) participant;
+      // The merge interval is one, so the population is given back after every generation
+      assertEquals(4, fakeParticipant.receivedPopulationSizes.size());
+      for (int size : fakeParticipant.receivedPopulationSizes) {
+        assertEquals(participant.getMaxSolutions(), size);
+      }
+      List<DoubleSolution> solutions = participant.getSolutions();
+      for (int i = 0; i < solutions.size(); i++) {
+        assertSame(result.get(i), solutions.get(i));
+      }
+    }
+  }
+
+  @Test
+  public void shouldThePopulationBeMergedWithTheGivenPolicy() {
+    DoubleSolution solution = createSolution(0.0, 0.0);
+    AtomicInteger merges = new AtomicInteger();
+    SuperPositionMergePolicy<DoubleSolution> mergePolicy =
+        (populations, populationSize) -> {
+          merges.incrementAndGet();
+          return List.of(solution);
+        };
+    MultiAlgorithmSuperPositionCombinator<DoubleSolution> combinator =
+        new MultiAlgorithmSuperPositionCombinator<>(participants(6, 5, 5, 5), 2, mergePolicy);
+
+    combinator.run();
+
+    assertEquals(3, merges.get());
+    assertEquals(List.of(solution), combinator.getResult());
+    for (SuperPositionParticipant<DoubleSolution> participant : combinator.getParticipants()) {
+      assertEquals(List.of(solution), participant.getSolutions());
+    }
+  }
+
+  @Test
+  public void shouldTheRandomGeneratorBeRestoredAfterARunWithASeed() {
+    JMetalRandom random = JMetalRandom.getInstance();
+    PseudoRandomGenerator previousGenerator = random.getRandomGenerator();
+    PseudoRandomGenerator generator = new JavaRandomGenerator(1);
+    random.setRandomGenerator(generator);
+    try {
+      new MultiAlgorithmSuperPositionCombinator<>(participants(3, 10, 10)).setSeed(1).run();
+
+      assertSame(generator, random.getRandomGenerator());
+    } finally {
+      random.setRandomGenerator(previousGenerator);
+    }
+  }
+
+  @Test
+  public void shouldAllTheParticipantsStopWhenOneOfThemReachesItsStoppingCondition() {
+    List<SuperPositionParticipant<DoubleSolution>> participants = new ArrayList<>();
+    participants.add(new FakeParticipant("P0", 10, 100, 0));
+    participants.add(new FakeParticipant("P1", 10, 5, 1));
+    participants.add(new FakeParticipant("P2", 10, 100, 2));
+    MultiAlgorithmSuperPositionCombinator<DoubleSolution> combinator =
+        new MultiAlgorithmSuperPositionCombinator<>(participants);
+
+    combinator.run();
+
+    // The last merge is done after the fifth generation, when the second participant stops
+    for (SuperPositionParticipant<DoubleSolution> participant : participants) {
+      assertTrue(participant.isStoppingConditionReached());
+      assertEquals(5, ((FakeParticipant) participant).receivedPopulationSizes.size());
+    }
+    assertEquals(10, combinator.getResult().size());
+  }
+}
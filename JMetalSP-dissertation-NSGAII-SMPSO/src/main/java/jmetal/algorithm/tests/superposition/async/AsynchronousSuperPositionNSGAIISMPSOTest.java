@@ -0,0 +1,123 @@
+package jmetal.algorithm.tests.superposition.async;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import jmetal.algorithm.examples.superposition.async.AsynchronousSuperPositionNSGAIISMPSO;
+import jmetal.component.catalogue.common.termination.impl.TerminationByEvaluations;
+import jmetal.core.operator.crossover.impl.SBXCrossover;
+import jmetal.core.operator.mutation.impl.PolynomialMutation;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+import jmetal.core.util.errorchecking.exception.InvalidProbabilityValueException;
+import jmetal.problem.multiobjective.zdt.ZDT1;
+import org.junit.Test;
+
+public class AsynchronousSuperPositionNSGAIISMPSOTest {
+
+  /**
+   * ZDT1 with a blocking evaluation that records the maximum number of concurrent evaluations
+   */
+  @SuppressWarnings("serial")
+  private static class SlowZDT1 extends ZDT1 {
+    private final AtomicInteger runningEvaluations = new AtomicInteger(0);
+    private final AtomicInteger maximumRunningEvaluations = new AtomicInteger(0);
+    private final AtomicInteger evaluations = new AtomicInteger(0);
+
+    SlowZDT1() {
+      super(10);
+    }
+
+    @Override
+    public DoubleSolution evaluate(DoubleSolution solution) {
+      evaluations.incrementAndGet();
+      maximumRunningEvaluations.accumulateAndGet(runningEvaluations.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(1);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        runningEvaluations.decrementAndGet();
+      }
+
+      return super.evaluate(solution);
+    }
+  }
+
+  @Test(expected = InvalidProbabilityValueException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheProbabilityIsNotValid() {
+    createAlgorithm(new ZDT1(10), 100, 1.5);
+  }
+
+  @Test
+  public void shouldRunUntilTheStoppingConditionMixingOffspringAndParticleMoves() {
+    AsynchronousSuperPositionNSGAIISMPSO algorithm = createAlgorithm(new ZDT1(10), 2000, 0.5);
+    algorithm.run();
+
+    assertTrue(algorithm.getEvaluations() >= 2000);
+    assertEquals(20, algorithm.getResult().size());
+    assertTrue(algorithm.getParticleMoves() > 0);
+    assertTrue(algorithm.getOffspring() > 0);
+
+    List<DoubleSolution> leaders = algorithm.getLeaders();
+    assertFalse(leaders.isEmpty());
+    assertTrue(leaders.size() <= 20);
+    DefaultDominanceComparator<DoubleSolution> comparator = new DefaultDominanceComparator<>();
+    for (DoubleSolution leader : leaders) {
+      for (DoubleSolution other : leaders) {
+        assertEquals(0, comparator.compare(leader, other));
+      }
+    }
+  }
+
+  @Test
+  public void shouldAllTheWorkersBeBusy() {
+    SlowZDT1 problem = new SlowZDT1();
+    AsynchronousSuperPositionNSGAIISMPSO algorithm = createAlgorithm(problem, 400, 0.5);
+    algorithm.run();
+
+    // The exact maximum depends on the scheduling of the threads, but it cannot exceed the
+    // number of workers and more than one worker has to be evaluating at the same time
+    int maximumRunningEvaluations = problem.maximumRunningEvaluations.get();
+    assertTrue(maximumRunningEvaluations <= 4);
+    assertTrue(maximumRunningEvaluations > 1);
+  }
+
+  @Test
+  public void shouldNoSolutionBeEvaluatedAfterTheAlgorithmHasFinished() throws InterruptedException {
+    SlowZDT1 problem = new SlowZDT1();
+    // The initial swarm has 20 particles, so there are pending tasks when the algorithm finishes
+    AsynchronousSuperPositionNSGAIISMPSO algorithm = createAlgorithm(problem, 10, 0.5);
+    algorithm.run();
+
+    int evaluations = problem.evaluations.get();
+    Thread.sleep(100);
+
+    assertEquals(evaluations, problem.evaluations.get());
+    assertTrue(evaluations < 20);
+  }
+
+  @Test
+  public void shouldNoParticleBeMovedIfTheProbabilityIsZero() {
+    AsynchronousSuperPositionNSGAIISMPSO algorithm = createAlgorithm(new ZDT1(10), 500, 0.0);
+    algorithm.run();
+
+    assertEquals(0, algorithm.getParticleMoves());
+    assertEquals(20, algorithm.getResult().size());
+  }
+
+  private AsynchronousSuperPositionNSGAIISMPSO createAlgorithm(ZDT1 problem, int evaluations,
+      double particleMoveProbability) {
+    return new AsynchronousSuperPositionNSGAIISMPSO(
+        4,
+        problem,
+        20,
+        new SBXCrossover(0.9, 20.0),
+        new PolynomialMutation(1.0 / problem.numberOfVariables(), 20.0),
+        new TerminationByEvaluations(evaluations),
+        particleMoveProbability);
+  }
+}
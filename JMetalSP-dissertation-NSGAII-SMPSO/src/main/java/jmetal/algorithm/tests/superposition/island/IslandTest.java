@@ -0,0 +1,123 @@
+package jmetal.algorithm.tests.superposition.island;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import jmetal.algorithm.examples.superposition.GenerationBarrier;
+import jmetal.algorithm.examples.superposition.SuperPositionParticipant;
+import jmetal.algorithm.examples.superposition.events.IAction;
+import jmetal.algorithm.examples.superposition.island.Island;
+import jmetal.algorithm.examples.superposition.island.MigrationChannel;
+import jmetal.algorithm.examples.superposition.island.MigrationTopology;
+import jmetal.algorithm.examples.superposition.merge.RankingMergePolicy;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.junit.Test;
+
+public class IslandTest {
+
+  /** Participant whose migration is invoked by the test */
+  private static class FakeParticipant implements SuperPositionParticipant<DoubleSolution> {
+    private List<DoubleSolution> solutions;
+    private IAction migration;
+
+    FakeParticipant(List<DoubleSolution> solutions) {
+      this.solutions = solutions;
+    }
+
+    @Override
+    public void run() {
+      migration.invoke();
+    }
+
+    @Override
+    public String name() {
+      return "Fake";
+    }
+
+    @Override
+    public List<DoubleSolution> getSolutions() {
+      return solutions;
+    }
+
+    @Override
+    public void setSolutions(List<DoubleSolution> solutions) {
+      this.solutions = solutions;
+    }
+
+    @Override
+    public int getMaxSolutions() {
+      return 4;
+    }
+
+    @Override
+    public boolean isStoppingConditionReached() {
+      return false;
+    }
+
+    @Override
+    public void forceStoppingCondition() {
+    }
+
+    @Override
+    public void setGenerationBarrier(GenerationBarrier barrier) {
+    }
+
+    @Override
+    public void setMigration(IAction migration) {
+      this.migration = migration;
+    }
+  }
+
+  private static DoubleSolution createSolution(double... objectives) {
+    DoubleSolution solution = new DefaultDoubleSolution(List.of(), objectives.length, 0);
+    System.arraycopy(objectives, 0, solution.objectives(), 0, objectives.length);
+
+    return solution;
+  }
+
+  private static List<DoubleSolution> population(double offset) {
+    List<DoubleSolution> population = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      population.add(createSolution(offset + i, offset + 3 - i));
+    }
+
+    return population;
+  }
+
+  @Test
+  public void shouldTheIslandsReceivingTheSameMigrantsNotShareAnyIndividual() {
+    MigrationChannel<DoubleSolution> channel =
+        new MigrationChannel<>(3, MigrationTopology.FULLY_CONNECTED);
+    List<FakeParticipant> participants =
+        List.of(
+            new FakeParticipant(population(0.0)),
+            new FakeParticipant(population(10.0)),
+            new FakeParticipant(population(10.0)));
+    for (int i = 0; i < participants.size(); i++) {
+      new Island<>(i, participants.get(i), channel, 1, 2, new RankingMergePolicy<>());
+    }
+
+    participants.get(0).run();
+    participants.get(1).run();
+    participants.get(2).run();
+
+    Set<DoubleSolution> individuals = Collections.newSetFromMap(new IdentityHashMap<>());
+    int numberOfIndividuals = 0;
+    for (FakeParticipant participant : participants) {
+      individuals.addAll(participant.getSolutions());
+      numberOfIndividuals += participant.getSolutions().size();
+    }
+    assertEquals(numberOfIndividuals, individuals.size());
+    // The migrants of the first island dominate the populations of the other ones
+    for (FakeParticipant participant : participants.subList(1, 3)) {
+      assertTrue(participant.getSolutions().stream()
+          .anyMatch(solution -> solution.objectives()[0] == 0.0));
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package jmetal.algorithm.tests.superposition.island;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import jmetal.algorithm.examples.superposition.island.MigrationChannel;
+import jmetal.algorithm.examples.superposition.island.MigrationTopology;
+import jmetal.core.util.errorchecking.exception.InvalidConditionException;
+import org.junit.Test;
+
+public class MigrationChannelTest {
+
+  @Test
+  public void shouldRingTopologySendToTheNextIsland() {
+    assertArrayEquals(new int[]{1}, MigrationTopology.RING.destinations(0, 3));
+    assertArrayEquals(new int[]{0}, MigrationTopology.RING.destinations(2, 3));
+  }
+
+  @Test
+  public void shouldFullyConnectedTopologySendToAllTheOtherIslands() {
+    assertArrayEquals(new int[]{0, 2}, MigrationTopology.FULLY_CONNECTED.destinations(1, 3));
+  }
+
+  @Test
+  public void shouldReceiveReturnAnEmptyListIfNothingWasSent() {
+    MigrationChannel<Integer> channel = new MigrationChannel<>(2, MigrationTopology.RING);
+
+    assertTrue(channel.receive(0).isEmpty());
+  }
+
+  @Test
+  public void shouldReceiveTheMigrantsOnlyOnce() {
+    MigrationChannel<Integer> channel = new MigrationChannel<>(3, MigrationTopology.RING);
+
+    channel.send(0, List.of(1, 2));
+
+    assertTrue(channel.receive(2).isEmpty());
+    assertEquals(List.of(1, 2), channel.receive(1));
+    assertTrue(channel.receive(1).isEmpty());
+  }
+
+  @Test
+  public void shouldKeepOnlyTheLatestMigrantsOfEachSource() {
+    MigrationChannel<Integer> channel = new MigrationChannel<>(3, MigrationTopology.FULLY_CONNECTED);
+
+    channel.send(0, List.of(1));
+    channel.send(0, List.of(2));
+    channel.send(1, List.of(3));
+
+    assertEquals(List.of(2, 3), channel.receive(2));
+    assertEquals(2, channel.receivedMigrations());
+    assertEquals(3, channel.sentMigrations());
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldConstructorFailWithASingleIsland() {
+    new MigrationChannel<Integer>(1, MigrationTopology.RING);
+  }
+
+  @Test
+  public void shouldNoMigrantBeReceivedTwiceWithConcurrentSendersAndReceivers() throws InterruptedException {
+    int islands = 4;
+    int messages = 10000;
+    MigrationChannel<Integer> channel = new MigrationChannel<>(islands, MigrationTopology.RING);
+    AtomicInteger received = new AtomicInteger();
+    CountDownLatch done = new CountDownLatch(islands);
+
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < islands; i++) {
+      int island = i;
+      threads.add(new Thread(() -> {
+        for (int m = 0; m < messages; m++) {
+          channel.send(island, List.of(m));
+          received.addAndGet(channel.receive(island).size());
+        }
+        done.countDown();
+      }));
+    }
+    threads.forEach(Thread::start);
+    done.await();
+    for (int i = 0; i < islands; i++) {
+      received.addAndGet(channel.receive(i).size());
+    }
+
+    assertEquals(channel.receivedMigrations(), received.get());
+    assertTrue(received.get() <= (long) islands * messages);
+  }
+}
@@ -0,0 +1,65 @@
+package jmetal.algorithm.tests.superposition.merge;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import jmetal.algorithm.examples.superposition.merge.RankingMergePolicy;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.junit.Test;
+
+public class RankingMergePolicyTest {
+
+  private static DoubleSolution createSolution(double objective1, double objective2) {
+    DoubleSolution solution = new DefaultDoubleSolution(List.of(), 2, 0);
+    solution.objectives()[0] = objective1;
+    solution.objectives()[1] = objective2;
+
+    return solution;
+  }
+
+  @Test
+  public void shouldMergeTakeTheBestSolutionsOfAllThePopulationsFrontByFront() {
+    DoubleSolution best1 = createSolution(0.0, 1.0);
+    DoubleSolution best2 = createSolution(1.0, 0.0);
+    DoubleSolution best3 = createSolution(0.5, 0.5);
+    DoubleSolution secondFront = createSolution(1.0, 1.0);
+    DoubleSolution thirdFront = createSolution(2.0, 2.0);
+
+    List<DoubleSolution> merged =
+        new RankingMergePolicy<DoubleSolution>()
+            .merge(
+                List.of(List.of(thirdFront, best1), List.of(secondFront, best2), List.of(best3)),
+                4);
+
+    assertEquals(4, merged.size());
+    assertTrue(merged.subList(0, 3).containsAll(List.of(best1, best2, best3)));
+    assertEquals(secondFront, merged.get(3));
+  }
+
+  @Test
+  public void shouldMergeReturnAllTheSolutionsIfThereAreFewerThanThePopulationSize() {
+    List<List<DoubleSolution>> populations = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      populations.add(List.of(createSolution(i, 3 - i), createSolution(i + 1, 4 - i)));
+    }
+
+    assertEquals(8, new RankingMergePolicy<DoubleSolution>().merge(populations, 20).size());
+  }
+
+  @Test
+  public void shouldMergeReturnThePopulationSizeSolutionsOfMoreThanTwoPopulations() {
+    List<List<DoubleSolution>> populations = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      List<DoubleSolution> population = new ArrayList<>();
+      for (int j = 0; j < 10; j++) {
+        population.add(createSolution(j + i * 0.1, 10 - j + i));
+      }
+      populations.add(population);
+    }
+
+    assertEquals(25, new RankingMergePolicy<DoubleSolution>().merge(populations, 25).size());
+  }
+}
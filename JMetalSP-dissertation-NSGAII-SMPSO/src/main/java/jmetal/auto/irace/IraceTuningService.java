@@ -0,0 +1,410 @@
+package jmetal.auto.irace;
+
+import static jmetal.core.util.SolutionListUtils.getMatrixWithObjectiveValues;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import jmetal.auto.autoconfigurablealgorithm.AutoMOEAD;
+import jmetal.auto.autoconfigurablealgorithm.AutoMOPSO;
+import jmetal.auto.autoconfigurablealgorithm.AutoNSGAII;
+import jmetal.component.algorithm.EvolutionaryAlgorithm;
+import jmetal.component.algorithm.ParticleSwarmOptimizationAlgorithm;
+import jmetal.core.problem.Problem;
+import jmetal.core.qualityindicator.impl.InvertedGenerationalDistancePlus;
+import jmetal.core.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.util.NormalizeUtils;
+import jmetal.core.util.VectorUtils;
+import jmetal.core.util.errorchecking.Check;
+import jmetal.core.util.errorchecking.JMetalException;
+import jmetal.core.util.pseudorandom.JMetalRandom;
+import jmetal.core.util.pseudorandom.impl.ThreadLocalRandomGenerator;
+
+/**
+ * Long-lived tuning service that replaces the launch of a JVM per candidate configuration in the
+ * irace mode (classes {@link AutoNSGAIIIraceHV}, {@link AutoMOPSOIraceIGDPlus}, etc.). The
+ * service reads requests with a line protocol, runs the candidate configurations concurrently in a
+ * pool of threads and writes one response line per request:
+ *
+ * <pre>
+ * request:  &lt;id&gt; &lt;algorithm&gt; &lt;indicator&gt; &lt;arguments of the algorithm&gt;
+ * response: &lt;id&gt; &lt;value&gt;
+ *           &lt;id&gt; ERROR &lt;message&gt;
+ * </pre>
+ *
+ * <p>where the algorithm is NSGAII, MOPSO or MOEAD, the arguments are those of the corresponding
+ * auto-configurable algorithm (e.g. {@link AutoNSGAII}) and the indicator is HV (the negated
+ * hypervolume), NHV (the normalized hypervolume), IGDPlus or NHVIGDPlus (the product of both), all
+ * of them computed with normalized fronts as the irace main classes do. The responses are written
+ * when the runs end, so they can come in a different order than the requests. The lines PING,
+ * QUIT and SHUTDOWN are answered with PONG, end the session, and end the session and stop the
+ * service, respectively.
+ *
+ * <p>The reference fronts, their bounds and the hypervolume of the normalized reference fronts are
+ * read once and cached, and each thread of the pool keeps the problem instances it has loaded. The
+ * random generator of {@link JMetalRandom} is replaced by a {@link ThreadLocalRandomGenerator}, so
+ * each run produces the same result as the one of the irace main classes with the same seed.
+ *
+ * <p>The service is started with the {@link #main(String[])} method. By default it reads the
+ * requests from the standard input; with the option --port it listens on a socket of the local
+ * host, which can be used from a target-runner script of irace. Other options are --threads (the
+ * size of the pool, by default the number of available processors) and --referenceFrontDirectory
+ * (by default resources/referenceFrontsCSV).
+ */
+public class IraceTuningService implements AutoCloseable {
+  public static final String DEFAULT_REFERENCE_FRONT_DIRECTORY = "resources/referenceFrontsCSV";
+
+  private final String referenceFrontDirectory;
+  private final ExecutorService executor;
+  private final Map<String, ReferenceFront> referenceFronts = new ConcurrentHashMap<>();
+  private final ThreadLocal<Map<String, Problem<DoubleSolution>>> problems =
+      ThreadLocal.withInitial(HashMap::new);
+
+  /** Reference front together with the data needed to normalize the fronts to evaluate */
+  private static class ReferenceFront {
+    private final double[] minimumValues;
+    private final double[] maximumValues;
+    private final double[][] normalizedFront;
+    private final double hypervolume;
+
+    private ReferenceFront(double[][] front) {
+      minimumValues = NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(front);
+      maximumValues = NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(front);
+      normalizedFront = NormalizeUtils.normalize(front);
+      hypervolume = new PISAHypervolume(normalizedFront).compute(normalizedFront);
+    }
+  }
+
+  public IraceTuningService(int numberOfThreads) {
+    this(numberOfThreads, DEFAULT_REFERENCE_FRONT_DIRECTORY);
+  }
+
+  public IraceTuningService(int numberOfThreads, String referenceFrontDirectory) {
+    Check.that(numberOfThreads > 0, "The number of threads must be positive: " + numberOfThreads);
+    Check.notNull(referenceFrontDirectory);
+
+    this.referenceFrontDirectory = referenceFrontDirectory;
+
+    ThreadLocalRandomGenerator.installInJMetalRandom();
+
+    this.executor =
+        Executors.newFixedThreadPool(
+            numberOfThreads,
+            runnable -> {
+              Thread thread = new Thread(runnable, "irace-tuning-service");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Submits a request line
+   *
+   * @param request Request in the format of the protocol
+   * @return The future response line
+   */
+  public CompletableFuture<String> submit(String request) {
+    Check.notNull(request);
+    String[] tokens = request.trim().split("\\s+");
+    if (tokens.length < 3) {
+      String id = tokens[0].isEmpty() ? "-" : tokens[0];
+      return CompletableFuture.completedFuture(id + " ERROR Malformed request: " + request);
+    }
+
+    String id = tokens[0];
+    String algorithm = tokens[1];
+    String indicator = tokens[2];
+    String[] arguments = Arrays.copyOfRange(tokens, 3, tokens.length);
+
+    return CompletableFuture.supplyAsync(
+        () -> {
+          try {
+            return id + " " + evaluate(algorithm, indicator, arguments);
+          } catch (RuntimeException exception) {
+            Throwable error = exception.getMessage() == null && exception.getCause() != null
+                ? exception.getCause()
+                : exception;
+            String message = String.valueOf(error.getMessage()).replaceAll("\\s+", " ");
+            return id + " ERROR " + error.getClass().getSimpleName() + ": " + message;
+          }
+        },
+        executor);
+  }
+
+  /**
+   * Runs a candidate configuration in the calling thread and computes the quality indicator of its
+   * result
+   *
+   * @param algorithm Name of the algorithm (NSGAII, MOPSO or MOEAD)
+   * @param indicator Name of the indicator (HV, NHV, IGDPlus or NHVIGDPlus)
+   * @param arguments Arguments of the auto-configurable algorithm
+   * @return The value of the indicator
+   */
+  public double evaluate(String algorithm, String indicator, String[] arguments) {
+    Check.notNull(arguments);
+    ReferenceFront referenceFront =
+        referenceFront(argumentValue(arguments, "referenceFrontFileName"));
+
+    List<DoubleSolution> result = run(algorithm, arguments);
+
+    double[][] normalizedFront =
+        NormalizeUtils.normalize(
+            getMatrixWithObjectiveValues(result),
+            referenceFront.minimumValues,
+            referenceFront.maximumValues);
+
+    switch (indicator) {
+      case "HV":
+        return new PISAHypervolume(referenceFront.normalizedFront).compute(normalizedFront) * -1.0;
+      case "NHV":
+        return normalizedHypervolume(referenceFront, normalizedFront);
+      case "IGDPlus":
+        return new InvertedGenerationalDistancePlus(referenceFront.normalizedFront)
+            .compute(normalizedFront);
+      case "NHVIGDPlus":
+        return normalizedHypervolume(referenceFront, normalizedFront)
+            * new InvertedGenerationalDistancePlus(referenceFront.normalizedFront)
+                .compute(normalizedFront);
+      default:
+        throw new JMetalException("Unknown quality indicator: " + indicator);
+    }
+  }
+
+  private double normalizedHypervolume(ReferenceFront referenceFront, double[][] front) {
+    double hypervolume = new PISAHypervolume(referenceFront.normalizedFront).compute(front);
+
+    return 1 - (hypervolume / referenceFront.hypervolume);
+  }
+
+  private List<DoubleSolution> run(String algorithm, String[] arguments) {
+    String problemName = argumentValue(arguments, "problemName");
+
+    switch (algorithm) {
+      case "NSGAII": {
+        AutoNSGAII autoNSGAII =
+            new AutoNSGAII() {
+              @Override
+              protected Problem<DoubleSolution> problem() {
+                return cachedProblem(problemName, super::problem);
+              }
+            };
+        autoNSGAII.parse(arguments);
+        EvolutionaryAlgorithm<DoubleSolution> nsgaII = autoNSGAII.create();
+        nsgaII.run();
+        return nsgaII.result();
+      }
+      case "MOPSO": {
+        AutoMOPSO autoMOPSO =
+            new AutoMOPSO() {
+              @Override
+              protected Problem<DoubleSolution> problem() {
+                return cachedProblem(problemName, super::problem);
+              }
+            };
+        autoMOPSO.parse(arguments);
+        ParticleSwarmOptimizationAlgorithm mopso = autoMOPSO.create();
+        mopso.run();
+        return mopso.result();
+      }
+      case "MOEAD": {
+        AutoMOEAD autoMOEAD =
+            new AutoMOEAD() {
+              @Override
+              protected Problem<DoubleSolution> problem() {
+                return cachedProblem(problemName, super::problem);
+              }
+            };
+        autoMOEAD.parse(arguments);
+        EvolutionaryAlgorithm<DoubleSolution> moead = autoMOEAD.create();
+        moead.run();
+        return moead.result();
+      }
+      default:
+        throw new JMetalException("Unknown algorithm: " + algorithm);
+    }
+  }
+
+  private Problem<DoubleSolution> cachedProblem(
+      String problemName, Supplier<Problem<DoubleSolution>> problemLoader) {
+    return problems
+        .get()
+        .computeIfAbsent(
+            problemName,
+            name -> {
+              try {
+                return problemLoader.get();
+              } catch (JMetalException exception) {
+                // the exceptions of ProblemFactory have no message
+                throw new JMetalException("The problem cannot be loaded: " + name);
+              }
+            });
+  }
+
+  private ReferenceFront referenceFront(String fileName) {
+    return referenceFronts.computeIfAbsent(
+        fileName,
+        name -> {
+          try {
+            return new ReferenceFront(
+                VectorUtils.readVectors(referenceFrontDirectory + "/" + name, ","));
+          } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+          }
+        });
+  }
+
+  private static String argumentValue(String[] arguments, String name) {
+    for (int i = 0; i < arguments.length - 1; i++) {
+      if (arguments[i].equals("--" + name)) {
+        return arguments[i + 1];
+      }
+    }
+    throw new JMetalException("Missing argument: --" + name);
+  }
+
+  /**
+   * Reads requests from a session until the end of the input or a QUIT or SHUTDOWN line, and
+   * writes their responses as they are ready. The method returns when all the responses have been
+   * written
+   *
+   * @return true if the service has been asked to shut down
+   */
+  public boolean serve(BufferedReader input, PrintWriter output) throws IOException {
+    List<CompletableFuture<Void>> pendingResponses = new ArrayList<>();
+    boolean shutdown = false;
+
+    String line;
+    while ((line = input.readLine()) != null) {
+      line = line.trim();
+      if (line.isEmpty()) {
+        continue;
+      }
+      if (line.equals("QUIT")) {
+        break;
+      }
+      if (line.equals("SHUTDOWN")) {
+        shutdown = true;
+        break;
+      }
+      if (line.equals("PING")) {
+        write(output, "PONG");
+      } else {
+        pendingResponses.add(submit(line).thenAccept(response -> write(output, response)));
+      }
+      pendingResponses.removeIf(CompletableFuture::isDone);
+    }
+
+    CompletableFuture.allOf(pendingResponses.toArray(new CompletableFuture<?>[0])).join();
+
+    return shutdown;
+  }
+
+  private static void write(PrintWriter output, String line) {
+    synchronized (output) {
+      output.println(line);
+      output.flush();
+    }
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  public static void main(String[] args) throws IOException {
+    int numberOfThreads = Runtime.getRuntime().availableProcessors();
+    int port = -1;
+    String referenceFrontDirectory = DEFAULT_REFERENCE_FRONT_DIRECTORY;
+    for (int i = 0; i < args.length - 1; i += 2) {
+      switch (args[i]) {
+        case "--threads":
+          numberOfThreads = Integer.parseInt(args[i + 1]);
+          break;
+        case "--port":
+          port = Integer.parseInt(args[i + 1]);
+          break;
+        case "--referenceFrontDirectory":
+          referenceFrontDirectory = args[i + 1];
+          break;
+        default:
+          throw new JMetalException("Unknown option: " + args[i]);
+      }
+    }
+
+    try (IraceTuningService service =
+        new IraceTuningService(numberOfThreads, referenceFrontDirectory)) {
+      if (port < 0) {
+        // the standard output is reserved to the responses
+        PrintStream standardOutput = System.out;
+        System.setOut(System.err);
+        service.serve(
+            new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)),
+            new PrintWriter(new OutputStreamWriter(standardOutput, StandardCharsets.UTF_8)));
+      } else {
+        serveSocket(service, port);
+      }
+    }
+  }
+
+  private static void serveSocket(IraceTuningService service, int port) throws IOException {
+    // Not a try-with-resources resource, as a session closes it to stop accepting connections
+    ServerSocket serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+    try {
+      while (!serverSocket.isClosed()) {
+        Socket socket;
+        try {
+          socket = serverSocket.accept();
+        } catch (IOException exception) {
+          if (serverSocket.isClosed()) {
+            break;
+          }
+          throw exception;
+        }
+
+        Thread session =
+            new Thread(
+                () -> {
+                  try (socket) {
+                    boolean shutdown =
+                        service.serve(
+                            new BufferedReader(
+                                new InputStreamReader(
+                                    socket.getInputStream(), StandardCharsets.UTF_8)),
+                            new PrintWriter(
+                                new OutputStreamWriter(
+                                    socket.getOutputStream(), StandardCharsets.UTF_8)));
+                    if (shutdown) {
+                      serverSocket.close();
+                    }
+                  } catch (IOException exception) {
+                    System.err.println("Session closed: " + exception.getMessage());
+                  }
+                },
+                "irace-tuning-session");
+        session.setDaemon(true);
+        session.start();
+      }
+    } finally {
+      serverSocket.close();
+    }
+  }
+}
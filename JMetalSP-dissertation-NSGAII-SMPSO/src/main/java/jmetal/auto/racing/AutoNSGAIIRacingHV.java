@@ -0,0 +1,53 @@
+package jmetal.auto.racing;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import jmetal.auto.autoconfigurablealgorithm.AutoNSGAII;
+import jmetal.auto.irace.IraceTuningService;
+import jmetal.core.util.JMetalLogger;
+
+/**
+ * Tunes {@link AutoNSGAII} with the {@link RacingTuner} minimizing the negated hypervolume, as
+ * irace does with {@link jmetal.auto.irace.AutoNSGAIIIraceHV}. The program arguments are an irace
+ * instance list file (each line contains the problem name followed by the arguments of the
+ * instance), the budget of runs and the number of threads. It is intended to be run from the
+ * resources/irace directory of the auto package, where the instance lists are and the reference
+ * fronts are found in resources/referenceFrontsCSV.
+ */
+public class AutoNSGAIIRacingHV {
+  public static void main(String[] args) throws IOException {
+    String instanceFile = args.length > 0 ? args[0] : "instances-list-ZDT_10000.txt";
+    int budget = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+    int numberOfThreads =
+        args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+    List<String[]> instances =
+        Files.readAllLines(Paths.get(instanceFile)).stream()
+            .map(String::trim)
+            .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+            .map(line -> ("--problemName " + line).split("\\s+"))
+            .collect(Collectors.toList());
+
+    try (IraceTuningService service = new IraceTuningService(1)) {
+      RacingTuner tuner =
+          new RacingTuner(
+                  new AutoNSGAII(),
+                  instances,
+                  arguments -> service.evaluate("NSGAII", "HV", arguments),
+                  budget,
+                  1)
+              .setFixedArguments("--populationSize", "100")
+              .setNumberOfThreads(numberOfThreads);
+
+      List<Configuration> elites = tuner.run();
+
+      JMetalLogger.logger.info("Evaluations: " + tuner.evaluations());
+      for (Configuration elite : elites) {
+        System.out.println(elite.meanValue() + " " + elite);
+      }
+    }
+  }
+}
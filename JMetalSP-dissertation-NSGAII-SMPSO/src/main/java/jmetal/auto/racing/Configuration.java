@@ -0,0 +1,83 @@
+package jmetal.auto.racing;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Candidate configuration of an auto-configurable algorithm, i.e., the values of its active
+ * configurable parameters, together with the results obtained by the configuration in the blocks
+ * (instance and seed) of a race in which it has been evaluated.
+ */
+public class Configuration {
+  public static final int NO_PARENT = -1;
+
+  private final int id;
+  private final int parentId;
+  private final Map<String, String> values;
+  private final Map<Integer, Double> results = new HashMap<>();
+
+  public Configuration(int id, int parentId, Map<String, String> values) {
+    this.id = id;
+    this.parentId = parentId;
+    this.values = Collections.unmodifiableMap(new LinkedHashMap<>(values));
+  }
+
+  public int id() {
+    return id;
+  }
+
+  /** Identifier of the elite configuration this one has been sampled from, or NO_PARENT */
+  public int parentId() {
+    return parentId;
+  }
+
+  /** Values of the active parameters, in the order in which they are parsed */
+  public Map<String, String> values() {
+    return values;
+  }
+
+  public String value(String parameterName) {
+    return values.get(parameterName);
+  }
+
+  /** Returns the configuration as a list of arguments: [--name1, value1, --name2, value2, ...] */
+  public String[] toArguments() {
+    String[] arguments = new String[2 * values.size()];
+    int i = 0;
+    for (Map.Entry<String, String> entry : values.entrySet()) {
+      arguments[i++] = "--" + entry.getKey();
+      arguments[i++] = entry.getValue();
+    }
+
+    return arguments;
+  }
+
+  boolean hasResult(int block) {
+    return results.containsKey(block);
+  }
+
+  double result(int block) {
+    return results.get(block);
+  }
+
+  void result(int block, double value) {
+    results.put(block, value);
+  }
+
+  /** Number of blocks in which the configuration has been evaluated */
+  public int numberOfEvaluations() {
+    return results.size();
+  }
+
+  /** Mean of the values obtained by the configuration, or NaN if it has not been evaluated */
+  public double meanValue() {
+    return results.values().stream().mapToDouble(Double::doubleValue).average().orElse(Double.NaN);
+  }
+
+  @Override
+  public String toString() {
+    return String.join(" ", toArguments());
+  }
+}
@@ -0,0 +1,190 @@
+package jmetal.auto.racing;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.tuple.Pair;
+import jmetal.auto.autoconfigurablealgorithm.AutoConfigurableAlgorithm;
+import jmetal.auto.parameter.BooleanParameter;
+import jmetal.auto.parameter.CategoricalParameter;
+import jmetal.auto.parameter.IntegerParameter;
+import jmetal.auto.parameter.OrdinalParameter;
+import jmetal.auto.parameter.Parameter;
+import jmetal.auto.parameter.RealParameter;
+import jmetal.core.util.errorchecking.Check;
+import jmetal.core.util.errorchecking.JMetalException;
+import jmetal.core.util.pseudorandom.PseudoRandomGenerator;
+
+/**
+ * Samples configurations from the configurable parameters of an auto-configurable algorithm. The
+ * parameter tree is traversed as {@link Parameter#parse(String[])} does: the global parameters of
+ * an active parameter are always active, while a specific parameter is only active when its parent
+ * takes the value it depends on, so the sampled configurations only contain active parameters.
+ *
+ * <p>Configurations can be sampled uniformly or around an elite configuration, as in iterated
+ * racing: numerical parameters follow a normal distribution centered on the value of the elite
+ * and truncated to the range of the parameter, and categorical parameters keep the value of the
+ * elite with a given probability or take a random valid value otherwise. Real values are rounded
+ * to {@link #DIGITS} decimal digits.
+ */
+public class ConfigurationSampler {
+  public static final int DIGITS = 4;
+
+  private final List<Parameter<?>> parameters;
+  private final int numberOfParameters;
+  private final PseudoRandomGenerator random;
+
+  /**
+   * Constructor
+   *
+   * @param parameters Configurable parameters, e.g.
+   *     {@link AutoConfigurableAlgorithm#configurableParameterList()}
+   * @param random Generator used to sample the configurations
+   */
+  public ConfigurationSampler(List<Parameter<?>> parameters, PseudoRandomGenerator random) {
+    Check.notNull(parameters);
+    Check.notNull(random);
+    Check.that(!parameters.isEmpty(), "The list of parameters is empty");
+
+    this.parameters = parameters;
+    this.numberOfParameters = AutoConfigurableAlgorithm.parameterFlattening(parameters).size();
+    this.random = random;
+  }
+
+  /** Number of configurable parameters, including all the sub-parameters */
+  public int numberOfParameters() {
+    return numberOfParameters;
+  }
+
+  /** Samples a configuration uniformly */
+  public Configuration sample(int id) {
+    Map<String, String> values = new LinkedHashMap<>();
+    for (Parameter<?> parameter : parameters) {
+      sample(parameter, null, 1.0, 0.0, values);
+    }
+
+    return new Configuration(id, Configuration.NO_PARENT, values);
+  }
+
+  /**
+   * Samples a configuration around an elite one
+   *
+   * @param id Identifier of the new configuration
+   * @param parent Elite configuration
+   * @param deviation Standard deviation of the numerical parameters relative to their range
+   * @param inheritanceProbability Probability of keeping the value of the categorical parameters
+   */
+  public Configuration sample(
+      int id, Configuration parent, double deviation, double inheritanceProbability) {
+    Check.notNull(parent);
+    Check.that(deviation > 0.0, "The deviation must be positive: " + deviation);
+    Check.probabilityIsValid(inheritanceProbability);
+
+    Map<String, String> values = new LinkedHashMap<>();
+    for (Parameter<?> parameter : parameters) {
+      sample(parameter, parent, deviation, inheritanceProbability, values);
+    }
+
+    return new Configuration(id, parent.id(), values);
+  }
+
+  private void sample(
+      Parameter<?> parameter,
+      Configuration parent,
+      double deviation,
+      double inheritanceProbability,
+      Map<String, String> values) {
+    String parentValue = parent == null ? null : parent.value(parameter.name());
+    String value = sampleValue(parameter, parentValue, deviation, inheritanceProbability);
+    values.put(parameter.name(), value);
+
+    for (Parameter<?> globalParameter : parameter.globalParameters()) {
+      sample(globalParameter, parent, deviation, inheritanceProbability, values);
+    }
+
+    for (Pair<String, Parameter<?>> specificParameter : parameter.specificParameters()) {
+      if (specificParameter.getLeft().equals(value)) {
+        sample(specificParameter.getRight(), parent, deviation, inheritanceProbability, values);
+      }
+    }
+  }
+
+  private String sampleValue(
+      Parameter<?> parameter, String parentValue, double deviation, double inheritanceProbability) {
+    String value;
+    if (parameter instanceof CategoricalParameter) {
+      value = sampleCategorical(
+          ((CategoricalParameter) parameter).validValues(), parentValue, inheritanceProbability);
+    } else if (parameter instanceof BooleanParameter) {
+      value = sampleCategorical(
+          ((BooleanParameter) parameter).getValidValues(), parentValue, inheritanceProbability);
+    } else if (parameter instanceof OrdinalParameter) {
+      List<String> validValues = new ArrayList<>();
+      ((OrdinalParameter<?>) parameter).validValues().forEach(v -> validValues.add(v.toString()));
+      int index = parentValue == null ? -1 : validValues.indexOf(parentValue);
+      if (index == -1) {
+        index = random.nextInt(0, validValues.size() - 1);
+      } else {
+        index = (int) Math.round(truncatedNormal(index, deviation * (validValues.size() - 1),
+            0, validValues.size() - 1));
+      }
+      value = validValues.get(index);
+    } else if (parameter instanceof IntegerParameter) {
+      List<Integer> bounds = ((IntegerParameter) parameter).validValues();
+      int lowerBound = bounds.get(0);
+      int upperBound = bounds.get(1);
+      if (parentValue == null) {
+        value = String.valueOf(random.nextInt(lowerBound, upperBound));
+      } else {
+        value = String.valueOf(Math.round(truncatedNormal(Integer.parseInt(parentValue),
+            deviation * (upperBound - lowerBound), lowerBound, upperBound)));
+      }
+    } else if (parameter instanceof RealParameter) {
+      List<Double> bounds = ((RealParameter) parameter).validValues();
+      double lowerBound = bounds.get(0);
+      double upperBound = bounds.get(1);
+      double realValue;
+      if (parentValue == null) {
+        realValue = random.nextDouble(lowerBound, upperBound);
+      } else {
+        realValue = truncatedNormal(Double.parseDouble(parentValue),
+            deviation * (upperBound - lowerBound), lowerBound, upperBound);
+      }
+      double scale = Math.pow(10, DIGITS);
+      value = String.valueOf(
+          Math.min(upperBound, Math.max(lowerBound, Math.round(realValue * scale) / scale)));
+    } else {
+      throw new JMetalException(
+          "The parameter " + parameter.name() + " cannot be sampled: type not supported");
+    }
+
+    return value;
+  }
+
+  private String sampleCategorical(
+      List<String> validValues, String parentValue, double inheritanceProbability) {
+    if (parentValue != null && random.nextDouble() < inheritanceProbability) {
+      return parentValue;
+    }
+
+    return validValues.get(random.nextInt(0, validValues.size() - 1));
+  }
+
+  /** Normal distribution truncated to [lowerBound, upperBound] by rejection */
+  private double truncatedNormal(
+      double mean, double standardDeviation, double lowerBound, double upperBound) {
+    if (standardDeviation <= 0.0) {
+      return Math.min(upperBound, Math.max(lowerBound, mean));
+    }
+
+    double value;
+    do {
+      double u = 1.0 - random.nextDouble();
+      double v = random.nextDouble();
+      value = mean + standardDeviation * Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2.0 * Math.PI * v);
+    } while (value < lowerBound || value > upperBound);
+
+    return value;
+  }
+}
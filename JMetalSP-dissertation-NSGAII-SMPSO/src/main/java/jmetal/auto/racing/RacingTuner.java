@@ -0,0 +1,440 @@
+package jmetal.auto.racing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.ToDoubleFunction;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+import org.apache.commons.math3.distribution.ChiSquaredDistribution;
+import jmetal.auto.autoconfigurablealgorithm.AutoConfigurableAlgorithm;
+import jmetal.core.util.JMetalLogger;
+import jmetal.core.util.errorchecking.Check;
+import jmetal.core.util.errorchecking.JMetalException;
+import jmetal.core.util.pseudorandom.JMetalRandom;
+import jmetal.core.util.pseudorandom.PseudoRandomGenerator;
+import jmetal.core.util.pseudorandom.impl.JavaRandomGenerator;
+import jmetal.core.util.pseudorandom.impl.ThreadLocalRandomGenerator;
+import jmetal.lab.experiment.util.FriedmanTest;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+
+/**
+ * Iterated racing (I/F-Race) tuner for auto-configurable algorithms, which makes it possible to
+ * tune {@link jmetal.auto.autoconfigurablealgorithm.AutoNSGAII}, {@link
+ * jmetal.auto.autoconfigurablealgorithm.AutoMOPSO} and {@link
+ * jmetal.auto.autoconfigurablealgorithm.AutoMOEAD} without irace.
+ *
+ * <p>Each iteration samples new candidate configurations (uniformly in the first one and around the
+ * elite configurations in the next ones, see {@link ConfigurationSampler}) and races them. A race
+ * evaluates all the alive candidates on a sequence of blocks, each block being a tuning instance
+ * and a seed; the evaluations of a block are run in parallel. After the first {@link #firstTest}
+ * blocks, and then every {@link #eachTest} blocks, the Friedman test is applied to the results and,
+ * if the differences are significant, the candidates rejected by the Holm post-hoc test of {@link
+ * FriedmanTest} against the best ranked one are discarded. The budget, the number of iterations and
+ * the number of candidates per iteration are computed as irace does.
+ *
+ * <p>The tuner stops when the budget of evaluations is consumed; it can also stop earlier if the
+ * best configuration does not change during a number of iterations (see {@link #setPatience(int)})
+ * and a race ends as soon as the number of alive candidates falls to the minimum number of
+ * survivors. The elite configurations keep their results, so they are not evaluated again in the
+ * blocks they have already been evaluated on.
+ *
+ * <p>The evaluator receives the arguments of a run (the fixed arguments, the arguments of the
+ * instance, the configuration and --randomGeneratorSeed) and returns the cost to minimize, e.g. the
+ * negated hypervolume computed by {@link jmetal.auto.irace.IraceTuningService#evaluate(String,
+ * String, String[])}. As the evaluator is called concurrently, the random generator of {@link
+ * JMetalRandom} is replaced by a {@link ThreadLocalRandomGenerator} during the tuning, so the result
+ * of a run only depends on its seed. A run that throws an exception or returns NaN gets an infinite cost.
+ */
+public class RacingTuner {
+  private static final String CONFIGURATION = "Configuration";
+  private static final String BLOCK = "Block";
+  private static final String VALUE = "Value";
+
+  private final List<String[]> instances;
+  private final ToDoubleFunction<String[]> evaluator;
+  private final int maximumNumberOfEvaluations;
+  private final ConfigurationSampler sampler;
+  private final PseudoRandomGenerator random;
+
+  private String[] fixedArguments = new String[0];
+  private int numberOfThreads = Runtime.getRuntime().availableProcessors();
+  private int firstTest = 5;
+  private int eachTest = 1;
+  private double significanceLevel = 0.05;
+  private int minimumNumberOfSurvivors;
+  private int patience = Integer.MAX_VALUE;
+
+  private final List<Long> blockSeeds = new ArrayList<>();
+  private int evaluations;
+  private int nextConfigurationId;
+
+  /**
+   * Constructor
+   *
+   * @param algorithm Algorithm whose configurable parameters are tuned. It must not have been used
+   *     to create an algorithm, as that may change its parameter tree
+   * @param instances Arguments of each tuning instance, e.g. {"--problemName", "...ZDT1",
+   *     "--referenceFrontFileName", "ZDT1.csv"}
+   * @param evaluator Returns the cost (to minimize) of a run given its arguments
+   * @param maximumNumberOfEvaluations Budget of runs of the tuner
+   * @param seed Seed of the sampling of configurations and of the seeds of the blocks
+   */
+  public RacingTuner(
+      AutoConfigurableAlgorithm algorithm,
+      List<String[]> instances,
+      ToDoubleFunction<String[]> evaluator,
+      int maximumNumberOfEvaluations,
+      long seed) {
+    Check.notNull(algorithm);
+    Check.notNull(instances);
+    Check.notNull(evaluator);
+    Check.that(!instances.isEmpty(), "The list of instances is empty");
+    Check.that(maximumNumberOfEvaluations > 0,
+        "The maximum number of evaluations must be positive: " + maximumNumberOfEvaluations);
+
+    this.instances = instances;
+    this.evaluator = evaluator;
+    this.maximumNumberOfEvaluations = maximumNumberOfEvaluations;
+    this.random = new JavaRandomGenerator(seed);
+    this.sampler = new ConfigurationSampler(algorithm.configurableParameterList(), random);
+    this.minimumNumberOfSurvivors =
+        2 + (int) Math.round(Math.log(sampler.numberOfParameters()) / Math.log(2));
+  }
+
+  /** Arguments added to every run, e.g. the population size or the number of evaluations */
+  public RacingTuner setFixedArguments(String... fixedArguments) {
+    Check.notNull(fixedArguments);
+    this.fixedArguments = fixedArguments;
+    return this;
+  }
+
+  public RacingTuner setNumberOfThreads(int numberOfThreads) {
+    Check.that(numberOfThreads > 0, "The number of threads must be positive: " + numberOfThreads);
+    this.numberOfThreads = numberOfThreads;
+    return this;
+  }
+
+  /** Number of blocks evaluated before the first statistical test of a race (5 by default) */
+  public RacingTuner setFirstTest(int firstTest) {
+    Check.that(firstTest > 0, "The first test must be positive: " + firstTest);
+    this.firstTest = firstTest;
+    return this;
+  }
+
+  /** Number of blocks between two statistical tests of a race (1 by default) */
+  public RacingTuner setEachTest(int eachTest) {
+    Check.that(eachTest > 0, "The each test value must be positive: " + eachTest);
+    this.eachTest = eachTest;
+    return this;
+  }
+
+  /** Significance level of the Friedman test (0.05 by default) */
+  public RacingTuner setSignificanceLevel(double significanceLevel) {
+    Check.that(significanceLevel > 0.0 && significanceLevel < 1.0,
+        "The significance level must be in (0, 1): " + significanceLevel);
+    this.significanceLevel = significanceLevel;
+    return this;
+  }
+
+  /**
+   * Number of candidates at which a race stops, which is also the maximum number of elite
+   * configurations (by default 2 + log2(number of parameters), as in irace)
+   */
+  public RacingTuner setMinimumNumberOfSurvivors(int minimumNumberOfSurvivors) {
+    Check.that(minimumNumberOfSurvivors > 0,
+        "The minimum number of survivors must be positive: " + minimumNumberOfSurvivors);
+    this.minimumNumberOfSurvivors = minimumNumberOfSurvivors;
+    return this;
+  }
+
+  /** Number of iterations without a change of the best configuration before stopping */
+  public RacingTuner setPatience(int patience) {
+    Check.that(patience > 0, "The patience must be positive: " + patience);
+    this.patience = patience;
+    return this;
+  }
+
+  public int evaluations() {
+    return evaluations;
+  }
+
+  /**
+   * Runs the tuner
+   *
+   * @return The elite configurations, the best one first
+   */
+  public List<Configuration> run() {
+    PseudoRandomGenerator previousGenerator = JMetalRandom.getInstance().getRandomGenerator();
+    ThreadLocalRandomGenerator.installInJMetalRandom();
+
+    int numberOfIterations =
+        2 + (int) Math.round(Math.log(sampler.numberOfParameters()) / Math.log(2));
+    int minimumIterationBudget = firstTest * (minimumNumberOfSurvivors + 1);
+
+    ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+    try {
+      List<Configuration> elites = new ArrayList<>();
+      int iterationsWithoutImprovement = 0;
+      int iteration = 1;
+      while (evaluations < maximumNumberOfEvaluations
+          && iterationsWithoutImprovement < patience) {
+        int remainingIterations = Math.max(1, numberOfIterations - iteration + 1);
+        int iterationBudget = (maximumNumberOfEvaluations - evaluations) / remainingIterations;
+        if (iterationBudget < minimumIterationBudget) {
+          iterationBudget = maximumNumberOfEvaluations - evaluations;
+        }
+        int numberOfCandidates =
+            iterationBudget / (firstTest + Math.min(5, iteration) * eachTest) - elites.size();
+        if (numberOfCandidates <= 0) {
+          iterationBudget = maximumNumberOfEvaluations - evaluations;
+          numberOfCandidates =
+              iterationBudget / (firstTest + Math.min(5, iteration) * eachTest) - elites.size();
+        }
+        if (numberOfCandidates <= 0 || elites.size() + numberOfCandidates <= 1) {
+          break;
+        }
+
+        List<Configuration> candidates = new ArrayList<>(elites);
+        candidates.addAll(sampleCandidates(elites, numberOfCandidates, iteration));
+
+        Configuration previousBest = elites.isEmpty() ? null : elites.get(0);
+        elites = race(candidates, iterationBudget, executor);
+
+        JMetalLogger.logger.info(
+            "Iteration " + iteration + ": " + candidates.size() + " candidates, "
+                + evaluations + " evaluations. Best configuration (" + elites.get(0).id()
+                + ", mean value " + elites.get(0).meanValue() + "): " + elites.get(0));
+
+        iterationsWithoutImprovement =
+            elites.get(0) == previousBest ? iterationsWithoutImprovement + 1 : 0;
+        iteration++;
+      }
+
+      return elites;
+    } finally {
+      executor.shutdownNow();
+      JMetalRandom.getInstance().setRandomGenerator(previousGenerator);
+    }
+  }
+
+  private List<Configuration> sampleCandidates(
+      List<Configuration> elites, int numberOfCandidates, int iteration) {
+    List<Configuration> candidates = new ArrayList<>();
+    if (elites.isEmpty()) {
+      for (int i = 0; i < numberOfCandidates; i++) {
+        candidates.add(sampler.sample(nextConfigurationId++));
+      }
+    } else {
+      double deviation = Math.pow(1.0 / numberOfCandidates,
+          (double) (iteration - 1) / sampler.numberOfParameters());
+      double inheritanceProbability = 1.0 - 1.0 / iteration;
+
+      // elites are chosen as parents with a probability that decreases linearly with their rank
+      int numberOfElites = elites.size();
+      double totalWeight = numberOfElites * (numberOfElites + 1) / 2.0;
+      for (int i = 0; i < numberOfCandidates; i++) {
+        double threshold = random.nextDouble() * totalWeight;
+        int parent = 0;
+        double accumulatedWeight = numberOfElites;
+        while (accumulatedWeight < threshold && parent < numberOfElites - 1) {
+          parent++;
+          accumulatedWeight += numberOfElites - parent;
+        }
+        candidates.add(sampler.sample(
+            nextConfigurationId++, elites.get(parent), deviation, inheritanceProbability));
+      }
+    }
+
+    return candidates;
+  }
+
+  private List<Configuration> race(
+      List<Configuration> candidates, int budget, ExecutorService executor) {
+    List<Configuration> alive = new ArrayList<>(candidates);
+    int raceEvaluations = 0;
+    int block = 0;
+    while (true) {
+      final int currentBlock = block;
+      List<Configuration> pending = alive.stream()
+          .filter(configuration -> !configuration.hasResult(currentBlock))
+          .collect(Collectors.toList());
+      if (raceEvaluations + pending.size() > budget
+          || evaluations + pending.size() > maximumNumberOfEvaluations) {
+        break;
+      }
+
+      evaluate(pending, block, executor);
+      raceEvaluations += pending.size();
+      block++;
+
+      if (block >= firstTest && (block - firstTest) % eachTest == 0) {
+        alive = eliminate(alive, block);
+        if (alive.size() <= minimumNumberOfSurvivors) {
+          break;
+        }
+      }
+    }
+
+    if (block == 0) {
+      throw new JMetalException("The budget is not enough to evaluate the candidates once");
+    }
+
+    List<Configuration> ranked = rank(alive, block);
+    return new ArrayList<>(ranked.subList(0, Math.min(minimumNumberOfSurvivors, ranked.size())));
+  }
+
+  private void evaluate(List<Configuration> configurations, int block, ExecutorService executor) {
+    String[] blockArguments = blockArguments(block);
+
+    List<Future<Double>> results = new ArrayList<>();
+    for (Configuration configuration : configurations) {
+      String[] arguments = concatenate(fixedArguments, blockArguments, configuration.toArguments());
+      results.add(executor.submit(() -> evaluate(configuration, arguments)));
+    }
+
+    for (int i = 0; i < configurations.size(); i++) {
+      try {
+        configurations.get(i).result(block, results.get(i).get());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new JMetalException("The tuner has been interrupted", e);
+      } catch (ExecutionException e) {
+        throw new JMetalException("Error evaluating a configuration", e);
+      }
+    }
+    evaluations += configurations.size();
+  }
+
+  private double evaluate(Configuration configuration, String[] arguments) {
+    try {
+      double value = evaluator.applyAsDouble(arguments);
+      return Double.isNaN(value) ? Double.POSITIVE_INFINITY : value;
+    } catch (RuntimeException exception) {
+      JMetalLogger.logger.log(
+          Level.WARNING, "Configuration " + configuration.id() + " failed: " + configuration,
+          exception);
+      return Double.POSITIVE_INFINITY;
+    }
+  }
+
+  private String[] blockArguments(int block) {
+    while (blockSeeds.size() <= block) {
+      blockSeeds.add((long) random.nextInt(1, Integer.MAX_VALUE - 1));
+    }
+    String[] instance = instances.get(block % instances.size());
+
+    return concatenate(instance,
+        new String[] {"--randomGeneratorSeed", String.valueOf(blockSeeds.get(block))});
+  }
+
+  /**
+   * Applies the Friedman test to the results of the alive candidates in the first blocks and, if
+   * it is significant, discards the candidates rejected by the Holm test of {@link FriedmanTest}
+   */
+  private List<Configuration> eliminate(List<Configuration> alive, int numberOfBlocks) {
+    if (alive.size() <= 1) {
+      return alive;
+    }
+
+    FriedmanTest test = friedmanTest(alive, numberOfBlocks);
+    Table ranking = test.getResults();
+    double[] averageRanks = ranking.doubleColumn("Ranking").asDoubleArray();
+
+    int k = alive.size();
+    double sum = 0.0;
+    for (double rank : averageRanks) {
+      sum += (rank - (k + 1) / 2.0) * (rank - (k + 1) / 2.0);
+    }
+    double statistic = 12.0 * numberOfBlocks / (k * (k + 1.0)) * sum;
+    double pValue = 1.0 - new ChiSquaredDistribution(k - 1).cumulativeProbability(statistic);
+    if (pValue >= significanceLevel) {
+      return alive;
+    }
+
+    test.computeHolmTest();
+    Table results = test.getResults();
+    StringColumn names = results.stringColumn(CONFIGURATION);
+    StringColumn hypothesis = results.stringColumn("Hypothesis");
+    List<String> rejected = new ArrayList<>();
+    for (int i = 0; i < results.rowCount(); i++) {
+      if (hypothesis.get(i).equals("Rejected")) {
+        rejected.add(names.get(i));
+      }
+    }
+
+    return alive.stream()
+        .filter(configuration -> !rejected.contains(String.valueOf(configuration.id())))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Sorts the candidates by their average rank in the first blocks. Ties are broken in favour of
+   * the oldest configurations
+   */
+  private List<Configuration> rank(List<Configuration> alive, int numberOfBlocks) {
+    if (alive.size() == 1) {
+      return alive;
+    }
+
+    Table ranking = friedmanTest(alive, numberOfBlocks).getResults();
+    StringColumn names = ranking.stringColumn(CONFIGURATION);
+    DoubleColumn ranks = ranking.doubleColumn("Ranking");
+    Map<String, Double> averageRank = new HashMap<>();
+    for (int i = 0; i < ranking.rowCount(); i++) {
+      averageRank.put(names.get(i), ranks.get(i));
+    }
+
+    return alive.stream()
+        .sorted(
+            Comparator.comparing(
+                    (Configuration configuration) ->
+                        averageRank.get(String.valueOf(configuration.id())))
+                .thenComparing(Configuration::id))
+        .collect(Collectors.toList());
+  }
+
+  private FriedmanTest friedmanTest(List<Configuration> alive, int numberOfBlocks) {
+    int size = alive.size() * numberOfBlocks;
+    String[] configurationNames = new String[size];
+    String[] blockNames = new String[size];
+    double[] values = new double[size];
+    int row = 0;
+    for (Configuration configuration : alive) {
+      for (int block = 0; block < numberOfBlocks; block++) {
+        configurationNames[row] = String.valueOf(configuration.id());
+        blockNames[row] = String.valueOf(block);
+        values[row] = configuration.result(block);
+        row++;
+      }
+    }
+
+    Table table = Table.create(
+        "Race",
+        StringColumn.create(CONFIGURATION, configurationNames),
+        StringColumn.create(BLOCK, blockNames),
+        DoubleColumn.create(VALUE, values));
+
+    StringColumn algorithms = StringColumn.create(CONFIGURATION,
+        alive.stream().map(configuration -> String.valueOf(configuration.id()))
+            .collect(Collectors.toList()));
+    String[] blocks = new String[numberOfBlocks];
+    Arrays.setAll(blocks, String::valueOf);
+
+    return new FriedmanTest(
+        FriedmanTest.MINIMIZAR, table, algorithms, StringColumn.create(BLOCK, blocks), VALUE);
+  }
+
+  private static String[] concatenate(String[]... arrays) {
+    return Arrays.stream(arrays).flatMap(Arrays::stream).toArray(String[]::new);
+  }
+}
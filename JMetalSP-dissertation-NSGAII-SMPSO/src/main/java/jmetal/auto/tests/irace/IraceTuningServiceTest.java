@@ -0,0 +1,125 @@
+package jmetal.auto.tests.irace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import jmetal.auto.irace.IraceTuningService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IraceTuningServiceTest {
+  private static final String ARGUMENTS =
+      "--problemName jmetal.problem.multiobjective.zdt.ZDT1 "
+          + "--randomGeneratorSeed 3 "
+          + "--referenceFrontFileName ZDT1.csv "
+          + "--maximumNumberOfEvaluations 1000 "
+          + "--algorithmResult population "
+          + "--populationSize 20 "
+          + "--offspringPopulationSize 20 "
+          + "--createInitialSolutions random "
+          + "--variation crossoverAndMutationVariation "
+          + "--selection tournament "
+          + "--selectionTournamentSize 2 "
+          + "--crossover SBX "
+          + "--crossoverProbability 0.9 "
+          + "--crossoverRepairStrategy bounds "
+          + "--sbxDistributionIndex 20.0 "
+          + "--mutation polynomial "
+          + "--mutationProbabilityFactor 1.0 "
+          + "--mutationRepairStrategy bounds "
+          + "--polynomialMutationDistributionIndex 20.0";
+
+  private Path referenceFrontDirectory;
+  private IraceTuningService service;
+
+  @BeforeEach
+  void setup() throws IOException {
+    referenceFrontDirectory = Files.createTempDirectory("irace");
+    List<String> front = new ArrayList<>();
+    for (int i = 0; i <= 100; i++) {
+      double f1 = i / 100.0;
+      front.add(f1 + "," + (1.0 - Math.sqrt(f1)));
+    }
+    Files.write(referenceFrontDirectory.resolve("ZDT1.csv"), front);
+
+    service = new IraceTuningService(4, referenceFrontDirectory.toString());
+  }
+
+  @AfterEach
+  void teardown() throws IOException {
+    service.close();
+    Files.delete(referenceFrontDirectory.resolve("ZDT1.csv"));
+    Files.delete(referenceFrontDirectory);
+  }
+
+  @Test
+  void shouldAMalformedRequestProduceAnErrorResponse() {
+    assertEquals("r1 ERROR Malformed request: r1 NSGAII", service.submit("r1 NSGAII").join());
+  }
+
+  @Test
+  void shouldAnUnknownAlgorithmProduceAnErrorResponse() {
+    String response = service.submit("r1 NSGAIII HV " + ARGUMENTS).join();
+
+    assertEquals("r1 ERROR JMetalException: Unknown algorithm: NSGAIII", response);
+  }
+
+  @Test
+  void shouldConcurrentRequestsProduceTheSameValueAsASingleRun() {
+    double expectedValue = service.evaluate("NSGAII", "HV", ARGUMENTS.split(" "));
+
+    List<CompletableFuture<String>> responses = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      responses.add(service.submit("r" + i + " NSGAII HV " + ARGUMENTS));
+    }
+
+    assertTrue(expectedValue < 0.0);
+    for (int i = 0; i < 8; i++) {
+      assertEquals("r" + i + " " + expectedValue, responses.get(i).join());
+    }
+  }
+
+  @Test
+  void shouldServeAnswerAllTheRequestsOfASession() throws IOException {
+    String session = "PING\nr1 NSGAII HV " + ARGUMENTS + "\nr2 NSGAII IGDPlus " + ARGUMENTS
+        + "\nQUIT\nr3 NSGAII HV " + ARGUMENTS + "\n";
+    StringWriter output = new StringWriter();
+
+    boolean shutdown =
+        service.serve(new BufferedReader(new StringReader(session)), new PrintWriter(output));
+
+    List<String> lines = Arrays.asList(output.toString().trim().split("\\R"));
+    assertFalse(shutdown);
+    assertEquals(3, lines.size());
+    assertEquals("PONG", lines.get(0));
+    assertTrue(lines.stream().anyMatch(line -> line.startsWith("r1 -")));
+    assertTrue(lines.stream().anyMatch(line -> line.startsWith("r2 ")));
+    assertTrue(lines.stream().noneMatch(line -> line.startsWith("r3 ")));
+  }
+
+  @Test
+  void shouldServeReturnTrueWhenTheServiceIsAskedToShutDown() throws IOException {
+    StringWriter output = new StringWriter();
+
+    boolean shutdown =
+        service.serve(
+            new BufferedReader(new StringReader("PING\nSHUTDOWN\nPING\n")),
+            new PrintWriter(output));
+
+    assertTrue(shutdown);
+    assertEquals("PONG", output.toString().trim());
+  }
+}
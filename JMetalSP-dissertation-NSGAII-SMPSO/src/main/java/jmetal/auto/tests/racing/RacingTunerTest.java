@@ -0,0 +1,171 @@
+package jmetal.auto.tests.racing;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+import jmetal.auto.autoconfigurablealgorithm.AutoConfigurableAlgorithm;
+import jmetal.auto.autoconfigurablealgorithm.AutoNSGAII;
+import jmetal.auto.parameter.CategoricalParameter;
+import jmetal.auto.parameter.IntegerParameter;
+import jmetal.auto.parameter.Parameter;
+import jmetal.auto.parameter.RealParameter;
+import jmetal.auto.racing.Configuration;
+import jmetal.auto.racing.ConfigurationSampler;
+import jmetal.auto.racing.RacingTuner;
+import jmetal.core.util.errorchecking.exception.InvalidConditionException;
+import jmetal.core.util.pseudorandom.impl.JavaRandomGenerator;
+import org.junit.jupiter.api.Test;
+
+class RacingTunerTest {
+  private static final List<String[]> INSTANCES =
+      List.of(new String[] {"--instance", "1"}, new String[] {"--instance", "2"});
+
+  /** Algorithm with a categorical parameter, a real parameter depending on it and an integer one */
+  private static class FakeAlgorithm implements AutoConfigurableAlgorithm {
+    private final List<Parameter<?>> configurableParameters = new ArrayList<>();
+
+    FakeAlgorithm() {
+      CategoricalParameter type = new CategoricalParameter("type", List.of("a", "b", "c"));
+      type.addSpecificParameter("b", new RealParameter("x", 0.0, 1.0));
+      configurableParameters.add(type);
+      configurableParameters.add(new IntegerParameter("n", 1, 10));
+    }
+
+    @Override
+    public void parse(String[] args) {}
+
+    @Override
+    public List<Parameter<?>> configurableParameterList() {
+      return configurableParameters;
+    }
+
+    @Override
+    public List<Parameter<?>> fixedParameterList() {
+      return List.of();
+    }
+  }
+
+  /** The best configurations have type b, x = 0.3 and n = 7; the seed adds some noise */
+  private static double cost(String[] arguments) {
+    List<String> list = Arrays.asList(arguments);
+    double noise = new Random(Long.parseLong(value(list, "randomGeneratorSeed"))).nextDouble();
+    double x = value(list, "type").equals("b") ? Double.parseDouble(value(list, "x")) : 2.0;
+    int n = Integer.parseInt(value(list, "n"));
+
+    return (x - 0.3) * (x - 0.3) + 0.01 * Math.abs(n - 7) + 0.01 * noise;
+  }
+
+  private static String value(List<String> arguments, String name) {
+    return arguments.get(arguments.indexOf("--" + name) + 1);
+  }
+
+  @Test
+  void shouldTheConstructorRaiseAnExceptionIfThereAreNoInstances() {
+    assertThrows(
+        InvalidConditionException.class,
+        () -> new RacingTuner(new FakeAlgorithm(), List.of(), RacingTunerTest::cost, 100, 1));
+  }
+
+  @Test
+  void shouldTheSampledConfigurationsOnlyContainTheActiveParameters() {
+    ConfigurationSampler sampler =
+        new ConfigurationSampler(
+            new FakeAlgorithm().configurableParameterList(), new JavaRandomGenerator(1));
+
+    assertEquals(3, sampler.numberOfParameters());
+    for (int i = 0; i < 50; i++) {
+      Configuration configuration = sampler.sample(i);
+      if (configuration.value("type").equals("b")) {
+        double x = Double.parseDouble(configuration.value("x"));
+        assertTrue(x >= 0.0 && x <= 1.0);
+      } else {
+        assertNull(configuration.value("x"));
+      }
+      int n = Integer.parseInt(configuration.value("n"));
+      assertTrue(n >= 1 && n <= 10);
+    }
+  }
+
+  @Test
+  void shouldTheSampledConfigurationsBeValidConfigurationsOfAutoNSGAII() {
+    ConfigurationSampler sampler =
+        new ConfigurationSampler(
+            new AutoNSGAII().configurableParameterList(), new JavaRandomGenerator(1));
+    String[] fixedArguments = {
+      "--problemName", "jmetal.problem.multiobjective.zdt.ZDT1",
+      "--referenceFrontFileName", "ZDT1.csv",
+      "--randomGeneratorSeed", "1",
+      "--maximumNumberOfEvaluations", "1000",
+      "--populationSize", "20"
+    };
+
+    for (int i = 0; i < 50; i++) {
+      Configuration configuration = sampler.sample(i);
+      Configuration child = sampler.sample(50 + i, configuration, 0.2, 0.5);
+      for (Configuration candidate : List.of(configuration, child)) {
+        String[] arguments = new String[fixedArguments.length + 2 * candidate.values().size()];
+        System.arraycopy(fixedArguments, 0, arguments, 0, fixedArguments.length);
+        System.arraycopy(candidate.toArguments(), 0, arguments, fixedArguments.length,
+            2 * candidate.values().size());
+
+        assertDoesNotThrow(() -> new AutoNSGAII().parse(arguments));
+      }
+    }
+  }
+
+  @Test
+  void shouldTheTunerFindAGoodConfigurationWithinTheBudget() {
+    RacingTuner tuner =
+        new RacingTuner(new FakeAlgorithm(), INSTANCES, RacingTunerTest::cost, 1000, 1)
+            .setNumberOfThreads(4);
+
+    List<Configuration> elites = tuner.run();
+    Configuration best = elites.get(0);
+
+    assertTrue(tuner.evaluations() <= 1000);
+    assertTrue(elites.size() <= 4);
+    assertEquals("b", best.value("type"));
+    assertEquals(0.3, Double.parseDouble(best.value("x")), 0.1);
+    assertTrue(best.meanValue() < 0.05);
+  }
+
+  @Test
+  void shouldTheResultNotDependOnTheNumberOfThreads() {
+    ToDoubleFunction<String[]> evaluator = RacingTunerTest::cost;
+
+    List<Configuration> sequentialElites =
+        new RacingTuner(new FakeAlgorithm(), INSTANCES, evaluator, 500, 2)
+            .setNumberOfThreads(1)
+            .run();
+    List<Configuration> parallelElites =
+        new RacingTuner(new FakeAlgorithm(), INSTANCES, evaluator, 500, 2)
+            .setNumberOfThreads(8)
+            .run();
+
+    assertEquals(sequentialElites.size(), parallelElites.size());
+    for (int i = 0; i < sequentialElites.size(); i++) {
+      assertArrayEquals(
+          sequentialElites.get(i).toArguments(), parallelElites.get(i).toArguments());
+    }
+  }
+
+  @Test
+  void shouldTheTunerStopEarlyIfTheBestConfigurationDoesNotChange() {
+    RacingTuner tuner =
+        new RacingTuner(new FakeAlgorithm(), INSTANCES, arguments -> 1.0, 5000, 1)
+            .setPatience(1);
+
+    tuner.run();
+
+    assertTrue(tuner.evaluations() < 5000);
+  }
+}
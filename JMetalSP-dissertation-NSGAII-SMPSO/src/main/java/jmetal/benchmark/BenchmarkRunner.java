@@ -0,0 +1,36 @@
+package jmetal.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmarks of this package. The arguments are standard JMH command line options
+ * (e.g., {@code RankingBenchmark -p populationSize=400 -f 2}). If no benchmark is selected, all
+ * the benchmarks of the package are run, and if no result file is given, the results are written
+ * to {@code jmh-result.json} so that they can be compared between two versions of the code.
+ *
+ * <p>From Maven: {@code mvn -Pbenchmark compile exec:exec -Dbenchmark.args="..."}
+ */
+public class BenchmarkRunner {
+  public static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+
+    ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+    if (commandLineOptions.getIncludes().isEmpty()) {
+      options.include(BenchmarkRunner.class.getPackage().getName() + "\\.");
+    }
+    if (!commandLineOptions.getResult().hasValue()) {
+      options.result(DEFAULT_RESULT_FILE);
+      if (!commandLineOptions.getResultFormat().hasValue()) {
+        options.resultFormat(ResultFormatType.JSON);
+      }
+    }
+
+    new Runner(options.build()).run();
+  }
+}
@@ -0,0 +1,78 @@
+package jmetal.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import jmetal.core.problem.doubleproblem.DoubleProblem;
+import jmetal.core.problem.doubleproblem.impl.FakeDoubleProblem;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+
+/**
+ * Reproducible input data for the benchmarks. All the methods use a fixed seed, so the same
+ * parameters always produce the same solutions and fronts.
+ */
+public class BenchmarkSolutions {
+  public static final long SEED = 1234567L;
+
+  private BenchmarkSolutions() {
+  }
+
+  /**
+   * Solutions whose variables and objectives are drawn uniformly from [0, 1]. The population
+   * usually contains several non-dominated fronts.
+   */
+  public static List<DoubleSolution> randomPopulation(int populationSize, int numberOfVariables,
+      int numberOfObjectives) {
+    DoubleProblem problem = new FakeDoubleProblem(numberOfVariables, numberOfObjectives, 0);
+    Random random = new Random(SEED);
+
+    List<DoubleSolution> population = new ArrayList<>(populationSize);
+    for (int i = 0; i < populationSize; i++) {
+      DoubleSolution solution = problem.createSolution();
+      for (int j = 0; j < numberOfVariables; j++) {
+        solution.variables().set(j, random.nextDouble());
+      }
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.objectives()[j] = random.nextDouble();
+      }
+      population.add(solution);
+    }
+
+    return population;
+  }
+
+  /**
+   * Solutions whose objective vectors are the points of {@link #nonDominatedFront(int, int)}
+   */
+  public static List<DoubleSolution> nonDominatedPopulation(int populationSize,
+      int numberOfObjectives) {
+    double[][] front = nonDominatedFront(populationSize, numberOfObjectives);
+    List<DoubleSolution> population = randomPopulation(populationSize, 2, numberOfObjectives);
+    for (int i = 0; i < populationSize; i++) {
+      System.arraycopy(front[i], 0, population.get(i).objectives(), 0, numberOfObjectives);
+    }
+
+    return population;
+  }
+
+  /**
+   * Mutually non-dominated points of the linear front (the objectives of each point sum to one)
+   */
+  public static double[][] nonDominatedFront(int numberOfPoints, int numberOfObjectives) {
+    Random random = new Random(SEED);
+
+    double[][] front = new double[numberOfPoints][numberOfObjectives];
+    for (double[] point : front) {
+      double sum = 0.0;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        point[j] = -Math.log(1.0 - random.nextDouble());
+        sum += point[j];
+      }
+      for (int j = 0; j < numberOfObjectives; j++) {
+        point[j] /= sum;
+      }
+    }
+
+    return front;
+  }
+}
@@ -0,0 +1,67 @@
+package jmetal.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.util.archive.impl.CrowdingDistanceArchive;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Insertion of a population into an empty {@link CrowdingDistanceArchive} whose capacity is half
+ * the population size, so that the archive becomes full and has to be pruned. Two kinds of input
+ * are measured: a random population (many solutions are rejected by dominance) and a
+ * non-dominated one (every insertion after the archive is full triggers a pruning).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CrowdingDistanceArchiveBenchmark {
+  @Param({"100", "400", "1600"})
+  public int populationSize;
+
+  @Param({"2", "3", "5"})
+  public int numberOfObjectives;
+
+  private List<DoubleSolution> randomPopulation;
+  private List<DoubleSolution> nonDominatedPopulation;
+
+  @Setup
+  public void setup() {
+    randomPopulation = BenchmarkSolutions.randomPopulation(populationSize, 2, numberOfObjectives);
+    nonDominatedPopulation =
+        BenchmarkSolutions.nonDominatedPopulation(populationSize, numberOfObjectives);
+  }
+
+  @Benchmark
+  public CrowdingDistanceArchive<DoubleSolution> addRandomPopulation() {
+    return fill(randomPopulation);
+  }
+
+  @Benchmark
+  public CrowdingDistanceArchive<DoubleSolution> addNonDominatedPopulation() {
+    return fill(nonDominatedPopulation);
+  }
+
+  private CrowdingDistanceArchive<DoubleSolution> fill(List<DoubleSolution> population) {
+    CrowdingDistanceArchive<DoubleSolution> archive =
+        new CrowdingDistanceArchive<>(populationSize / 2);
+    for (DoubleSolution solution : population) {
+      archive.add(solution);
+    }
+
+    return archive;
+  }
+}
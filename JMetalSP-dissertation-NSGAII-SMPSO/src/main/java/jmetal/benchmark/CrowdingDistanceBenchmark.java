@@ -0,0 +1,50 @@
+package jmetal.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link CrowdingDistanceDensityEstimator} applied to a non-dominated population, as done on the
+ * last front of every NSGA-II replacement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CrowdingDistanceBenchmark {
+  @Param({"100", "400", "1600"})
+  public int populationSize;
+
+  @Param({"2", "3", "5", "10"})
+  public int numberOfObjectives;
+
+  private List<DoubleSolution> population;
+  private CrowdingDistanceDensityEstimator<DoubleSolution> densityEstimator;
+
+  @Setup
+  public void setup() {
+    population = BenchmarkSolutions.nonDominatedPopulation(populationSize, numberOfObjectives);
+    densityEstimator = new CrowdingDistanceDensityEstimator<>();
+  }
+
+  @Benchmark
+  public List<DoubleSolution> crowdingDistance() {
+    densityEstimator.compute(population);
+    return population;
+  }
+}
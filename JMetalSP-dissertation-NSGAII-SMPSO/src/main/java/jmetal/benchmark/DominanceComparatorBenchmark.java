@@ -0,0 +1,57 @@
+package jmetal.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.util.comparator.dominanceComparator.DominanceComparator;
+import jmetal.core.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * All the pairwise comparisons of a random population with {@link DefaultDominanceComparator},
+ * i.e., the work done by a naive non-dominated sorting.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DominanceComparatorBenchmark {
+  @Param({"100", "400"})
+  public int populationSize;
+
+  @Param({"2", "3", "5", "10"})
+  public int numberOfObjectives;
+
+  private List<DoubleSolution> population;
+  private DominanceComparator<DoubleSolution> comparator;
+
+  @Setup
+  public void setup() {
+    population = BenchmarkSolutions.randomPopulation(populationSize, 2, numberOfObjectives);
+    comparator = new DefaultDominanceComparator<>();
+  }
+
+  @Benchmark
+  public int defaultDominanceComparator() {
+    int sum = 0;
+    for (int i = 0; i < populationSize; i++) {
+      for (int j = 0; j < populationSize; j++) {
+        sum += comparator.compare(population.get(i), population.get(j));
+      }
+    }
+
+    return sum;
+  }
+}
@@ -0,0 +1,62 @@
+package jmetal.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import jmetal.core.qualityindicator.impl.hypervolume.Hypervolume;
+import jmetal.core.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import jmetal.core.qualityindicator.impl.hypervolume.impl.WFGHypervolume;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Hypervolume of a non-dominated front computed with {@link PISAHypervolume} and {@link
+ * WFGHypervolume}. The reference point is (1.1, ..., 1.1).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HypervolumeBenchmark {
+  @Param({"50", "100", "200"})
+  public int populationSize;
+
+  @Param({"2", "3", "5"})
+  public int numberOfObjectives;
+
+  private double[][] front;
+  private Hypervolume pisaHypervolume;
+  private Hypervolume wfgHypervolume;
+
+  @Setup
+  public void setup() {
+    front = BenchmarkSolutions.nonDominatedFront(populationSize, numberOfObjectives);
+
+    double[] referencePoint = new double[numberOfObjectives];
+    Arrays.fill(referencePoint, 1.1);
+    pisaHypervolume = new PISAHypervolume(referencePoint);
+    wfgHypervolume = new WFGHypervolume(referencePoint);
+  }
+
+  // The PISA implementation reorders the points of the front in place; as all of them are
+  // non-dominated, every invocation does the same amount of work
+  @Benchmark
+  public double pisaHypervolume() {
+    return pisaHypervolume.compute(front);
+  }
+
+  @Benchmark
+  public double wfgHypervolume() {
+    return wfgHypervolume.compute(front);
+  }
+}
@@ -0,0 +1,90 @@
+package jmetal.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import jmetal.algorithm.multiobjective.nsgaii.NSGAII;
+import jmetal.core.operator.crossover.impl.SBXCrossover;
+import jmetal.core.operator.mutation.impl.PolynomialMutation;
+import jmetal.core.operator.selection.impl.BinaryTournamentSelection;
+import jmetal.core.problem.doubleproblem.DoubleProblem;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.util.comparator.RankingAndCrowdingDistanceComparator;
+import jmetal.core.util.evaluator.impl.SequentialSolutionListEvaluator;
+import jmetal.core.util.pseudorandom.JMetalRandom;
+import jmetal.problem.multiobjective.dtlz.DTLZ2;
+import jmetal.problem.multiobjective.zdt.ZDT1;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One generation of {@link NSGAII} (selection, reproduction, evaluation and replacement) with the
+ * standard settings. The problem is ZDT1 for two objectives and DTLZ2 otherwise. The population
+ * keeps evolving from one invocation to the next, so the measures correspond to an ongoing run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NSGAIIGenerationBenchmark {
+  @Param({"100", "200", "400"})
+  public int populationSize;
+
+  @Param({"2", "3", "5"})
+  public int numberOfObjectives;
+
+  private SteppableNSGAII algorithm;
+
+  @Setup
+  public void setup() {
+    JMetalRandom.getInstance().setSeed(BenchmarkSolutions.SEED);
+
+    DoubleProblem problem = numberOfObjectives == 2
+        ? new ZDT1()
+        : new DTLZ2(numberOfObjectives + 9, numberOfObjectives);
+
+    algorithm = new SteppableNSGAII(problem, populationSize);
+    algorithm.init();
+  }
+
+  @Benchmark
+  public List<DoubleSolution> generation() {
+    return algorithm.step();
+  }
+
+  /**
+   * NSGA-II whose generations can be run one at a time
+   */
+  @SuppressWarnings("serial")
+  private static class SteppableNSGAII extends NSGAII<DoubleSolution> {
+    SteppableNSGAII(DoubleProblem problem, int populationSize) {
+      super(problem, Integer.MAX_VALUE, populationSize, populationSize, populationSize,
+          new SBXCrossover(0.9, 20.0),
+          new PolynomialMutation(1.0 / problem.numberOfVariables(), 20.0),
+          new BinaryTournamentSelection<>(new RankingAndCrowdingDistanceComparator<>()),
+          new SequentialSolutionListEvaluator<>());
+    }
+
+    void init() {
+      setPopulation(evaluatePopulation(createInitialPopulation()));
+    }
+
+    List<DoubleSolution> step() {
+      List<DoubleSolution> matingPool = selection(getPopulation());
+      List<DoubleSolution> offspringPopulation = evaluatePopulation(reproduction(matingPool));
+      setPopulation(replacement(getPopulation(), offspringPopulation));
+
+      return getPopulation();
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package jmetal.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.util.ranking.Ranking;
+import jmetal.core.util.ranking.RankingFactory;
+import jmetal.core.util.ranking.impl.FastNonDominatedSortRanking;
+import jmetal.core.util.ranking.impl.MergeNonDominatedSortRanking;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Non-dominated sorting of a random population: {@link FastNonDominatedSortRanking}, {@link
+ * MergeNonDominatedSortRanking} and the ranking returned by {@link RankingFactory}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RankingBenchmark {
+  @Param({"100", "400", "1600"})
+  public int populationSize;
+
+  @Param({"2", "3", "5", "10"})
+  public int numberOfObjectives;
+
+  private List<DoubleSolution> population;
+
+  @Setup
+  public void setup() {
+    population = BenchmarkSolutions.randomPopulation(populationSize, 2, numberOfObjectives);
+  }
+
+  @Benchmark
+  public Ranking<DoubleSolution> fastNonDominatedSort() {
+    return new FastNonDominatedSortRanking<DoubleSolution>().compute(population);
+  }
+
+  @Benchmark
+  public Ranking<DoubleSolution> mergeNonDominatedSort() {
+    return new MergeNonDominatedSortRanking<DoubleSolution>().compute(population);
+  }
+
+  @Benchmark
+  public Ranking<DoubleSolution> rankingFactory() {
+    return RankingFactory.<DoubleSolution>create().compute(population);
+  }
+}
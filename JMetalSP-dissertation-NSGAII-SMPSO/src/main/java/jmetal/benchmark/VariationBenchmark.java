@@ -0,0 +1,69 @@
+package jmetal.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import jmetal.core.operator.crossover.impl.SBXCrossover;
+import jmetal.core.operator.mutation.impl.PolynomialMutation;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link SBXCrossover} and {@link PolynomialMutation} applied to a whole population, as in the
+ * reproduction step of a generational GA. The operators use the usual settings (crossover
+ * probability 0.9, mutation probability 1/n, distribution indexes 20).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VariationBenchmark {
+  @Param({"100", "400"})
+  public int populationSize;
+
+  @Param({"10", "30", "100"})
+  public int numberOfVariables;
+
+  @Param({"2", "5"})
+  public int numberOfObjectives;
+
+  private List<DoubleSolution> population;
+  private SBXCrossover crossover;
+  private PolynomialMutation mutation;
+
+  @Setup
+  public void setup() {
+    population = BenchmarkSolutions.randomPopulation(populationSize, numberOfVariables,
+        numberOfObjectives);
+    crossover = new SBXCrossover(0.9, 20.0);
+    mutation = new PolynomialMutation(1.0 / numberOfVariables, 20.0);
+  }
+
+  @Benchmark
+  public void sbxCrossover(Blackhole blackhole) {
+    for (int i = 0; i + 1 < populationSize; i += 2) {
+      blackhole.consume(crossover.execute(List.of(population.get(i), population.get(i + 1))));
+    }
+  }
+
+  // The mutation changes the solutions in place; the variables stay within their bounds, so the
+  // population can be mutated again in the next invocation
+  @Benchmark
+  public void polynomialMutation(Blackhole blackhole) {
+    for (DoubleSolution solution : population) {
+      blackhole.consume(mutation.execute(solution));
+    }
+  }
+}
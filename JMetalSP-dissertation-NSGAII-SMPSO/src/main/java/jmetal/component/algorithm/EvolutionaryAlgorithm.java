@@ -1,10 +1,13 @@
 package jmetal.component.algorithm;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import jmetal.core.algorithm.Algorithm;
+import jmetal.core.algorithm.Checkpointable;
 import jmetal.component.catalogue.common.evaluation.Evaluation;
+import jmetal.component.catalogue.common.evaluation.impl.SequentialEvaluationWithArchive;
 import jmetal.component.catalogue.common.solutionscreation.SolutionsCreation;
 import jmetal.component.catalogue.common.termination.Termination;
 import jmetal.component.catalogue.ea.replacement.Replacement;
@@ -22,13 +25,16 @@ import jmetal.core.util.observer.Observer;
  * - The algorithms are {@link ObservableEntity}, which can be observed by {@link Observer} objects.
  * - The {@link #observable} element is a map of  pairs (String, Object), which is initialized and
  *   updated by the {@link #initProgress()} and {@link #updateProgress()} methods.
+ * - The algorithms are {@link Checkpointable}: the population, the archive of the evaluation (if
+ *   any), the number of evaluations and the computing time can be saved and restored. The internal
+ *   state of the components is not part of the saved state.
  *
  * @author Antonio J. Nebro (ajnebro@uma.es)
  *
  * @param <S> Generic type representing the encoding of the solutions
  */
 public class EvolutionaryAlgorithm<S extends Solution<?>>
-    implements Algorithm<List<S>>, ObservableEntity<Map<String, Object>> {
+    implements Algorithm<List<S>>, ObservableEntity<Map<String, Object>>, Checkpointable {
 
   private List<S> population;
   private Evaluation<S> evaluation;
@@ -42,6 +48,7 @@ public class EvolutionaryAlgorithm<S extends Solution<?>>
   private long totalComputingTime;
   private int evaluations;
   private final Observable<Map<String, Object>> observable;
+  private Map<String, Object> restoredState;
 
   private final String name;
 
@@ -79,9 +86,13 @@ public class EvolutionaryAlgorithm<S extends Solution<?>>
   public void run() {
     initTime = System.currentTimeMillis();
 
-    population = createInitialPopulation.create();
-    population = evaluation.evaluate(population);
-    initProgress();
+    if (restoredState != null) {
+      restoreProgress();
+    } else {
+      population = createInitialPopulation.create();
+      population = evaluation.evaluate(population);
+      initProgress();
+    }
     while (!termination.isMet(attributes)) {
       List<S> matingPopulation = selection.select(population);
       List<S> offspringPopulation = variation.variate(population, matingPopulation);
@@ -102,6 +113,23 @@ public class EvolutionaryAlgorithm<S extends Solution<?>>
     attributes.put("COMPUTING_TIME", currentComputingTime());
   }
 
+  @SuppressWarnings("unchecked")
+  protected void restoreProgress() {
+    population = new ArrayList<>((List<S>) restoredState.get("POPULATION"));
+    evaluations = (int) restoredState.get("EVALUATIONS");
+    initTime -= (long) restoredState.get("COMPUTING_TIME");
+    if (restoredState.containsKey("ARCHIVE")
+        && evaluation instanceof SequentialEvaluationWithArchive) {
+      ((List<S>) restoredState.get("ARCHIVE"))
+          .forEach(((SequentialEvaluationWithArchive<S>) evaluation).archive()::add);
+    }
+    restoredState = null;
+
+    attributes.put("EVALUATIONS", evaluations);
+    attributes.put("POPULATION", population);
+    attributes.put("COMPUTING_TIME", currentComputingTime());
+  }
+
   protected void updateProgress() {
     evaluations += variation.getOffspringPopulationSize();
 
@@ -159,6 +187,25 @@ public class EvolutionaryAlgorithm<S extends Solution<?>>
     return observable;
   }
 
+  @Override
+  public Map<String, Object> state() {
+    Map<String, Object> state = new HashMap<>();
+    state.put("POPULATION", new ArrayList<>(population));
+    state.put("EVALUATIONS", evaluations);
+    state.put("COMPUTING_TIME", currentComputingTime());
+    if (evaluation instanceof SequentialEvaluationWithArchive) {
+      state.put("ARCHIVE",
+          new ArrayList<>(((SequentialEvaluationWithArchive<S>) evaluation).archive().solutions()));
+    }
+
+    return state;
+  }
+
+  @Override
+  public void restore(Map<String, Object> state) {
+    this.restoredState = state;
+  }
+
   public void termination(Termination termination) {
     this.termination = termination ;
   }
@@ -1,10 +1,14 @@
 package jmetal.component.algorithm;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import jmetal.core.algorithm.Algorithm;
+import jmetal.core.algorithm.Checkpointable;
 import jmetal.component.catalogue.common.evaluation.Evaluation;
+import jmetal.component.catalogue.common.evaluation.impl.SequentialEvaluationWithArchive;
 import jmetal.component.catalogue.common.solutionscreation.SolutionsCreation;
 import jmetal.component.catalogue.common.termination.Termination;
 import jmetal.component.catalogue.pso.globalbestinitialization.GlobalBestInitialization;
@@ -31,11 +35,15 @@ import jmetal.core.util.observer.Observer;
  * - The {@link #observable} element is a map of  pairs (String, Object), which is initialized and
  *   updated by the {@link #initProgress()} and {@link #updateProgress()} methods.
  * - It is assumed than an external archive is used to store the global best particles
+ * - The algorithms are {@link Checkpointable}: the swarm, the speeds, the local and global bests,
+ *   the archive of the evaluation (if any), the number of evaluations and the computing time can be
+ *   saved and restored. The internal state of the components is not part of the saved state.
  *
  * @author Antonio J. Nebro (ajnebro@uma.es)
  */
 public class ParticleSwarmOptimizationAlgorithm
-    implements Algorithm<List<DoubleSolution>>, ObservableEntity<Map<String, Object>> {
+    implements Algorithm<List<DoubleSolution>>, ObservableEntity<Map<String, Object>>,
+    Checkpointable {
 
   private List<DoubleSolution> swarm;
   private double[][] speed;
@@ -60,6 +68,7 @@ public class ParticleSwarmOptimizationAlgorithm
   private long totalComputingTime;
   private int evaluations;
   private Observable<Map<String, Object>> observable;
+  private Map<String, Object> restoredState;
 
   private final String name;
   /**
@@ -121,13 +130,17 @@ public class ParticleSwarmOptimizationAlgorithm
   public void run() {
     initTime = System.currentTimeMillis();
 
-    swarm = createInitialSwarm.create();
-    swarm = evaluation.evaluate(swarm);
-    speed = velocityInitialization.initialize(swarm);
-    localBest = localBestInitialization.initialize(swarm);
-    globalBest = globalBestInitialization.initialize(swarm, globalBest);
+    if (restoredState != null) {
+      restoreProgress();
+    } else {
+      swarm = createInitialSwarm.create();
+      swarm = evaluation.evaluate(swarm);
+      speed = velocityInitialization.initialize(swarm);
+      localBest = localBestInitialization.initialize(swarm);
+      globalBest = globalBestInitialization.initialize(swarm, globalBest);
 
-    initProgress();
+      initProgress();
+    }
     while (!termination.isMet(attributes)) {
       speed = velocityUpdate.update(swarm, speed, localBest, globalBest, globalBestSelection,
           inertiaWeightComputingStrategy);
@@ -151,6 +164,28 @@ public class ParticleSwarmOptimizationAlgorithm
     attributes.put("COMPUTING_TIME", currentComputingTime());
   }
 
+  @SuppressWarnings("unchecked")
+  protected void restoreProgress() {
+    swarm = new ArrayList<>((List<DoubleSolution>) restoredState.get("SWARM"));
+    speed = (double[][]) restoredState.get("SPEED");
+    localBest = ((List<DoubleSolution>) restoredState.get("LOCAL_BEST"))
+        .toArray(new DoubleSolution[0]);
+    ((List<DoubleSolution>) restoredState.get("GLOBAL_BEST")).forEach(globalBest::add);
+    evaluations = (int) restoredState.get("EVALUATIONS");
+    initTime -= (long) restoredState.get("COMPUTING_TIME");
+    if (restoredState.containsKey("ARCHIVE")
+        && evaluation instanceof SequentialEvaluationWithArchive) {
+      ((List<DoubleSolution>) restoredState.get("ARCHIVE"))
+          .forEach(((SequentialEvaluationWithArchive<DoubleSolution>) evaluation).archive()::add);
+    }
+    restoredState = null;
+    globalBest.computeDensityEstimator();
+
+    attributes.put("EVALUATIONS", evaluations);
+    attributes.put("POPULATION", globalBest.solutions());
+    attributes.put("COMPUTING_TIME", currentComputingTime());
+  }
+
   protected void updateProgress() {
     evaluations += swarm.size();
     globalBest.computeDensityEstimator();
@@ -205,6 +240,28 @@ public class ParticleSwarmOptimizationAlgorithm
     return observable;
   }
 
+  @Override
+  public Map<String, Object> state() {
+    Map<String, Object> state = new HashMap<>();
+    state.put("SWARM", new ArrayList<>(swarm));
+    state.put("SPEED", speed);
+    state.put("LOCAL_BEST", new ArrayList<>(Arrays.asList(localBest)));
+    state.put("GLOBAL_BEST", new ArrayList<>(globalBest.solutions()));
+    state.put("EVALUATIONS", evaluations);
+    state.put("COMPUTING_TIME", currentComputingTime());
+    if (evaluation instanceof SequentialEvaluationWithArchive) {
+      state.put("ARCHIVE", new ArrayList<>(
+          ((SequentialEvaluationWithArchive<DoubleSolution>) evaluation).archive().solutions()));
+    }
+
+    return state;
+  }
+
+  @Override
+  public void restore(Map<String, Object> state) {
+    this.restoredState = state;
+  }
+
   public void termination(Termination termination) {
     this.termination = termination ;
   }
@@ -27,7 +27,7 @@ import jmetal.core.util.comparator.MultiComparator;
 import jmetal.core.util.densityestimator.DensityEstimator;
 import jmetal.core.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
 import jmetal.core.util.ranking.Ranking;
-import jmetal.core.util.ranking.impl.FastNonDominatedSortRanking;
+import jmetal.core.util.ranking.RankingFactory;
 
 /**
  * Class to configure and build an instance of the NSGA-II algorithm
@@ -50,7 +50,7 @@ public class NSGAIIBuilder<S extends Solution<?>> {
     name = "NSGAII";
 
     densityEstimator = new CrowdingDistanceDensityEstimator<>();
-    ranking = new FastNonDominatedSortRanking<>();
+    ranking = RankingFactory.create();
 
     this.createInitialPopulation = new RandomSolutionsCreation<>(problem, populationSize);
 
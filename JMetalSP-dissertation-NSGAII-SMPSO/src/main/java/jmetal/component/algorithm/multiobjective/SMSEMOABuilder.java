@@ -8,8 +8,8 @@ import jmetal.component.catalogue.common.solutionscreation.impl.RandomSolutionsC
 import jmetal.component.catalogue.common.termination.Termination;
 import jmetal.component.catalogue.common.termination.impl.TerminationByEvaluations;
 import jmetal.component.catalogue.ea.replacement.Replacement;
+import jmetal.component.catalogue.ea.replacement.impl.IncrementalSMSEMOAReplacement;
 import jmetal.component.catalogue.ea.replacement.impl.RankingAndDensityEstimatorReplacement;
-import jmetal.component.catalogue.ea.replacement.impl.SMSEMOAReplacement;
 import jmetal.component.catalogue.ea.selection.Selection;
 import jmetal.component.catalogue.ea.selection.impl.RandomSelection;
 import jmetal.component.catalogue.ea.variation.Variation;
@@ -20,8 +20,6 @@ import jmetal.core.problem.Problem;
 import jmetal.core.solution.Solution;
 import jmetal.core.util.densityestimator.DensityEstimator;
 import jmetal.core.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
-import jmetal.core.util.legacy.qualityindicator.impl.hypervolume.Hypervolume;
-import jmetal.core.util.legacy.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
 import jmetal.core.util.ranking.Ranking;
 import jmetal.core.util.ranking.impl.FastNonDominatedSortRanking;
 
@@ -50,8 +48,7 @@ public class SMSEMOABuilder<S extends Solution<?>> {
 
     this.createInitialPopulation = new RandomSolutionsCreation<>(problem, populationSize);
 
-    Hypervolume<S> hypervolume = new PISAHypervolume<>();
-    this.replacement = new SMSEMOAReplacement<>(ranking, hypervolume);
+    this.replacement = new IncrementalSMSEMOAReplacement<>(ranking);
 
     this.variation =
         new CrossoverAndMutationVariation<>(1, crossover, mutation);
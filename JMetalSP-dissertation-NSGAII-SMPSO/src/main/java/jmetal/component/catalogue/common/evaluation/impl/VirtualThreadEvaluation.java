@@ -0,0 +1,76 @@
+package jmetal.component.catalogue.common.evaluation.impl;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import jmetal.component.catalogue.common.evaluation.Evaluation;
+import jmetal.core.problem.Problem;
+import jmetal.core.solution.Solution;
+import jmetal.core.util.errorchecking.Check;
+import jmetal.core.util.evaluator.impl.VirtualThreadSolutionListEvaluator;
+
+/**
+ * Class that evaluates a list of solutions using a virtual thread per evaluation (see {@link
+ * VirtualThreadSolutionListEvaluator}). It is intended for problems whose evaluations block on
+ * external processes or I/O, where the number of concurrent evaluations can be much higher than
+ * the number of cores.
+ *
+ * @param <S>
+ */
+public class VirtualThreadEvaluation<S extends Solution<?>> implements Evaluation<S> {
+  private int computedEvaluations;
+  private final Problem<S> problem;
+  private final VirtualThreadSolutionListEvaluator<S> evaluator;
+
+  public VirtualThreadEvaluation(Problem<S> problem) {
+    this(0, problem);
+  }
+
+  public VirtualThreadEvaluation(int maximumConcurrency, Problem<S> problem) {
+    this(maximumConcurrency, 0, TimeUnit.SECONDS, problem);
+  }
+
+  public VirtualThreadEvaluation(int maximumConcurrency, long timeout, TimeUnit timeUnit,
+      Problem<S> problem) {
+    this(new VirtualThreadSolutionListEvaluator<>(maximumConcurrency, timeout, timeUnit), problem);
+  }
+
+  public VirtualThreadEvaluation(VirtualThreadSolutionListEvaluator<S> evaluator,
+      Problem<S> problem) {
+    Check.notNull(evaluator);
+    Check.notNull(problem);
+
+    this.evaluator = evaluator;
+    this.problem = problem;
+    computedEvaluations = 0;
+  }
+
+  @Override
+  public List<S> evaluate(List<S> solutionList) {
+    Check.notNull(solutionList);
+    evaluator.evaluate(solutionList, problem);
+    computedEvaluations = solutionList.size();
+
+    return solutionList;
+  }
+
+  @Override
+  public int computedEvaluations() {
+    return computedEvaluations;
+  }
+
+  @Override
+  public Problem<S> problem() {
+    return problem;
+  }
+
+  public int maximumConcurrency() {
+    return evaluator.maximumConcurrency();
+  }
+
+  /**
+   * Cancels the running evaluations and releases the threads
+   */
+  public void shutdown() {
+    evaluator.shutdown();
+  }
+}
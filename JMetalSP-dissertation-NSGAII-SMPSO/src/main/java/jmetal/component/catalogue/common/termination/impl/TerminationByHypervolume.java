@@ -0,0 +1,162 @@
+package jmetal.component.catalogue.common.termination.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import jmetal.component.catalogue.common.termination.Termination;
+import jmetal.core.qualityindicator.impl.hypervolume.incremental.IncrementalHypervolume;
+import jmetal.core.qualityindicator.impl.hypervolume.incremental.IncrementalHypervolumeFactory;
+import jmetal.core.solution.Solution;
+import jmetal.core.util.NormalizeUtils;
+import jmetal.core.util.errorchecking.Check;
+
+/**
+ * Class that allows to check the termination condition when the hypervolume of the current
+ * population is above a given percentage of the hypervolume of a reference front, as {@link
+ * TerminationByQualityIndicator} does with the hypervolume. Instead of computing the indicator from
+ * scratch each time, the population is kept in an {@link IncrementalHypervolume} and only the
+ * solutions that have entered or left the population since the last check are inserted or
+ * removed; solutions are assumed not to change their objectives once evaluated. The objectives are
+ * normalized with the bounds of the reference front, and the reference point is (1 + offset, ...,
+ * 1 + offset). An evaluations limit is used to avoid an infinite loop if the value is never
+ * achieved.
+ */
+public class TerminationByHypervolume implements Termination {
+  public static final double DEFAULT_OFFSET = 0.1;
+
+  private final double[] minimumValues;
+  private final double[] maximumValues;
+  private final double percentage;
+  private final double referenceFrontHypervolume;
+  private final int evaluationsLimit;
+  private final IncrementalHypervolume<Solution<?>> hypervolume;
+  private List<Solution<?>> lastPopulation = new ArrayList<>();
+  private int evaluations;
+  private boolean evaluationsLimitReached;
+  private double computedHypervolume;
+
+  public TerminationByHypervolume(double[][] referenceFront, double percentage,
+      int evaluationsLimit) {
+    this(referenceFront, percentage, evaluationsLimit, DEFAULT_OFFSET);
+  }
+
+  public TerminationByHypervolume(double[][] referenceFront, double percentage,
+      int evaluationsLimit, double offset) {
+    Check.notNull(referenceFront);
+    Check.valueIsNotNegative(percentage);
+    Check.valueIsNotNegative(evaluationsLimit);
+    Check.valueIsNotNegative(offset);
+    Check.that(referenceFront.length > 1,
+        "The reference front must have at least two points instead of " + referenceFront.length);
+
+    this.percentage = percentage;
+    this.evaluationsLimit = evaluationsLimit;
+    evaluationsLimitReached = false;
+
+    minimumValues = NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront);
+    maximumValues = NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront);
+
+    double[] referencePoint = new double[minimumValues.length];
+    Arrays.fill(referencePoint, 1.0 + offset);
+    // The normalized reference front lies between 0 and 1, which delimits the region sampled by
+    // the Monte Carlo estimation used with more than three objectives
+    double[] lowerBound = new double[minimumValues.length];
+
+    IncrementalHypervolume<double[]> referenceFrontIndicator =
+        IncrementalHypervolumeFactory.create(referencePoint, lowerBound);
+    for (double[] point : referenceFront) {
+      referenceFrontIndicator.add(point, normalize(point));
+    }
+    referenceFrontHypervolume = referenceFrontIndicator.value();
+
+    hypervolume = IncrementalHypervolumeFactory.create(referencePoint, lowerBound);
+  }
+
+  @Override
+  public boolean isMet(Map<String, Object> algorithmStatusData) {
+    Check.notNull(algorithmStatusData.get("POPULATION"));
+    Check.notNull(algorithmStatusData.get("EVALUATIONS"));
+
+    List<Solution<?>> population = solutionsOf(algorithmStatusData.get("POPULATION"));
+    evaluations = (int) algorithmStatusData.get("EVALUATIONS");
+    Check.collectionIsNotEmpty(population);
+
+    boolean stoppingCondition = false;
+    if (evaluationsLimit <= evaluations) {
+      evaluationsLimitReached = true;
+      stoppingCondition = true;
+    } else {
+      update(population);
+      computedHypervolume = hypervolume.value();
+
+      if (computedHypervolume >= percentage * referenceFrontHypervolume) {
+        stoppingCondition = true;
+      }
+    }
+
+    return stoppingCondition;
+  }
+
+  private void update(List<Solution<?>> population) {
+    Set<Solution<?>> currentSolutions = Collections.newSetFromMap(new IdentityHashMap<>());
+    currentSolutions.addAll(population);
+    for (Solution<?> solution : lastPopulation) {
+      if (!currentSolutions.contains(solution)) {
+        hypervolume.remove(solution);
+      }
+    }
+
+    for (Solution<?> solution : population) {
+      if (!hypervolume.contains(solution)) {
+        hypervolume.add(solution, normalize(solution.objectives()));
+      }
+    }
+    lastPopulation = population;
+  }
+
+  /**
+   * Copies the population with a checked cast of each solution, so the last population is kept
+   * without an unchecked cast of the status data
+   */
+  private static List<Solution<?>> solutionsOf(Object population) {
+    List<Solution<?>> solutions = new ArrayList<>();
+    for (Object solution : (List<?>) population) {
+      solutions.add((Solution<?>) solution);
+    }
+
+    return solutions;
+  }
+
+  private double[] normalize(double[] objectives) {
+    double[] normalized = new double[objectives.length];
+    for (int i = 0; i < objectives.length; i++) {
+      normalized[i] = NormalizeUtils.normalize(objectives[i], minimumValues[i], maximumValues[i]);
+    }
+
+    return normalized;
+  }
+
+  public double getComputedIndicatorValue() {
+    return computedHypervolume;
+  }
+
+  public double getReferenceFrontIndicatorValue() {
+    return referenceFrontHypervolume;
+  }
+
+  public double getEvaluations() {
+    return evaluations;
+  }
+
+  public boolean evaluationsLimitReached() {
+    return evaluationsLimitReached;
+  }
+
+  public int getEvaluationsLimit() {
+    return evaluationsLimit;
+  }
+}
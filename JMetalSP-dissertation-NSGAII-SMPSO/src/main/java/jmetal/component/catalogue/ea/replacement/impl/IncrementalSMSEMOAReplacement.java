@@ -0,0 +1,325 @@
+package jmetal.component.catalogue.ea.replacement.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import jmetal.component.catalogue.ea.replacement.Replacement;
+import jmetal.core.qualityindicator.impl.hypervolume.incremental.IncrementalHypervolume;
+import jmetal.core.qualityindicator.impl.hypervolume.incremental.IncrementalHypervolume2D;
+import jmetal.core.qualityindicator.impl.hypervolume.incremental.IncrementalHypervolume3D;
+import jmetal.core.qualityindicator.impl.hypervolume.incremental.IncrementalHypervolumeFactory;
+import jmetal.core.solution.Solution;
+import jmetal.core.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+import jmetal.core.util.errorchecking.Check;
+import jmetal.core.util.legacy.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import jmetal.core.util.ranking.Ranking;
+import jmetal.core.util.ranking.impl.AutomaticNonDominatedSortRanking;
+import jmetal.core.util.ranking.impl.FastNonDominatedSortRanking;
+import jmetal.core.util.ranking.impl.MergeNonDominatedSortRanking;
+
+/**
+ * Steady-state version of {@link SMSEMOAReplacement} for unconstrained problems with two or three
+ * objectives. Instead of ranking the joint population and computing the hypervolume contributions
+ * of its last front in every call, the non-dominated fronts of the population are kept between
+ * calls: the offspring is inserted in the first front not dominating it and the solutions it
+ * dominates there are moved to the next front, and so on. The exclusive contributions of the last
+ * front are kept in an {@link IncrementalHypervolume}, whose least contributor is removed.
+ *
+ * <p>The fronts are sorted by the first objective. With two objectives, finding the front of the
+ * offspring takes O(log^2 n), each solution moved to another front O(log n), and the least
+ * contributor is kept sorted by {@link IncrementalHypervolume2D}. With three objectives the fronts
+ * are scanned and the contributions are those of {@link IncrementalHypervolume3D}.
+ *
+ * <p>As in {@link PISAHypervolume}, the reference point is the worst value of each objective in
+ * the joint population plus an offset (the normalization made there scales all the contributions
+ * by the same factor, so it does not change the least contributor). The contributions of the last
+ * front are only recomputed when this point or the last front change.
+ *
+ * <p>The state is kept for the list returned, which is updated in place in the next call. If
+ * another list is given, the fronts are computed again. If there is more than one offspring, or
+ * the solutions have constraints or other number of objectives, the replacement is done by
+ * {@link SMSEMOAReplacement}.
+ *
+ * <p>The fronts kept are those of the Pareto dominance on the objectives, so the ranking given is
+ * only used by {@link SMSEMOAReplacement}. If it is not a non-dominated sorting with that
+ * dominance ({@link FastNonDominatedSortRanking} with a {@link DefaultDominanceComparator},
+ * {@link MergeNonDominatedSortRanking} or {@link AutomaticNonDominatedSortRanking}), every
+ * replacement is done by {@link SMSEMOAReplacement} with that ranking.
+ *
+ * @param <S> Type of the solutions
+ */
+public class IncrementalSMSEMOAReplacement<S extends Solution<?>> implements Replacement<S> {
+  public static final double DEFAULT_OFFSET = 100.0;
+
+  private final double offset;
+  private final boolean isParetoRanking;
+  private final SMSEMOAReplacement<S> replacement;
+  private final Comparator<Node<S>> frontComparator =
+      Comparator.comparingDouble((Node<S> node) -> node.objectives[0])
+          .thenComparingLong(node -> node.order);
+
+  private List<S> population;
+  private final Map<S, Node<S>> nodes = new IdentityHashMap<>();
+  private final List<TreeSet<Node<S>>> fronts = new ArrayList<>();
+  private final List<TreeMap<Double, Integer>> objectiveValues = new ArrayList<>();
+  private int numberOfObjectives;
+  private long insertions;
+
+  private IncrementalHypervolume<S> hypervolume;
+  private TreeSet<Node<S>> hypervolumeFront;
+  private double[] referencePoint;
+
+  public IncrementalSMSEMOAReplacement(Ranking<S> ranking) {
+    this(ranking, DEFAULT_OFFSET);
+  }
+
+  public IncrementalSMSEMOAReplacement(Ranking<S> ranking, double offset) {
+    Check.notNull(ranking);
+    Check.that(offset >= 0.0, "The offset is negative: " + offset);
+    this.offset = offset;
+    this.isParetoRanking = isParetoRanking(ranking);
+
+    PISAHypervolume<S> pisaHypervolume = new PISAHypervolume<>();
+    pisaHypervolume.setOffset(offset);
+    this.replacement = new SMSEMOAReplacement<>(ranking, pisaHypervolume);
+  }
+
+  @Override
+  public List<S> replace(List<S> currentList, List<S> offspringList) {
+    Check.notNull(currentList);
+    Check.notNull(offspringList);
+
+    if (!isParetoRanking || offspringList.size() != 1 || !isSupported(offspringList.get(0))) {
+      population = null;
+      return replacement.replace(currentList, offspringList);
+    }
+
+    S offspring = offspringList.get(0);
+    if (currentList != population
+        || population.size() != nodes.size()
+        || offspring.objectives().length != numberOfObjectives) {
+      rebuild(currentList, offspring.objectives().length);
+    }
+    if (nodes.containsKey(offspring)) {
+      population = null;
+      return replacement.replace(currentList, offspringList);
+    }
+
+    insert(register(offspring));
+    updateHypervolume();
+    remove(nodes.get(hypervolume.leastContributor()));
+
+    return population;
+  }
+
+  private static boolean isParetoRanking(Ranking<?> ranking) {
+    if (ranking instanceof FastNonDominatedSortRanking) {
+      return ((FastNonDominatedSortRanking<?>) ranking).getDominanceComparator()
+          instanceof DefaultDominanceComparator;
+    }
+
+    return ranking instanceof MergeNonDominatedSortRanking
+        || ranking instanceof AutomaticNonDominatedSortRanking;
+  }
+
+  private static boolean isSupported(Solution<?> solution) {
+    int objectives = solution.objectives().length;
+
+    return (objectives == 2 || objectives == 3) && solution.constraints().length == 0;
+  }
+
+  /**
+   * Computes the fronts of a population. The solutions are inserted in lexicographic order, so
+   * none of them dominates a previously inserted one and no solution has to be moved
+   */
+  private void rebuild(List<S> solutionList, int numberOfObjectives) {
+    this.numberOfObjectives = numberOfObjectives;
+    population = new ArrayList<>(solutionList.size() + 1);
+    nodes.clear();
+    fronts.clear();
+    objectiveValues.clear();
+    for (int i = 0; i < numberOfObjectives; i++) {
+      objectiveValues.add(new TreeMap<>());
+    }
+    hypervolume = null;
+    hypervolumeFront = null;
+
+    List<Node<S>> sortedNodes = new ArrayList<>(solutionList.size());
+    for (S solution : solutionList) {
+      Check.that(isSupported(solution) && solution.objectives().length == numberOfObjectives,
+          "The solutions do not have " + numberOfObjectives + " objectives and no constraints");
+      sortedNodes.add(register(solution));
+    }
+    sortedNodes.sort((node1, node2) -> Arrays.compare(node1.objectives, node2.objectives));
+    sortedNodes.forEach(this::insert);
+  }
+
+  private Node<S> register(S solution) {
+    Node<S> node =
+        new Node<>(solution, solution.objectives().clone(), insertions++, population.size());
+    population.add(solution);
+    nodes.put(solution, node);
+    for (int i = 0; i < numberOfObjectives; i++) {
+      objectiveValues.get(i).merge(node.objectives[i], 1, Integer::sum);
+    }
+
+    return node;
+  }
+
+  /**
+   * Inserts a node in the first front not dominating it. As a front dominating a node is preceded
+   * by fronts dominating it as well, this front is found with a binary search
+   */
+  private void insert(Node<S> node) {
+    int low = 0;
+    int high = fronts.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (isDominated(node, fronts.get(middle))) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+
+    List<Node<S>> movingNodes = List.of(node);
+    for (int level = low; !movingNodes.isEmpty(); level++) {
+      if (level == fronts.size()) {
+        fronts.add(new TreeSet<>(frontComparator));
+      }
+      TreeSet<Node<S>> front = fronts.get(level);
+
+      List<Node<S>> dominatedNodes = dominatedNodes(movingNodes, front);
+      for (Node<S> dominatedNode : dominatedNodes) {
+        front.remove(dominatedNode);
+        if (front == hypervolumeFront) {
+          hypervolume.remove(dominatedNode.solution);
+        }
+      }
+      for (Node<S> movingNode : movingNodes) {
+        front.add(movingNode);
+        if (front == hypervolumeFront) {
+          hypervolume.add(movingNode.solution, movingNode.objectives);
+        }
+      }
+      movingNodes = dominatedNodes;
+    }
+  }
+
+  private boolean isDominated(Node<S> node, TreeSet<Node<S>> front) {
+    Node<S> probe = probe(node.objectives[0], Long.MAX_VALUE);
+    if (numberOfObjectives == 2) {
+      // The closest node to the left has the lowest second objective of the nodes to the left
+      Node<S> floor = front.floor(probe);
+      return floor != null && dominates(floor.objectives, node.objectives);
+    }
+
+    for (Node<S> candidate : front.headSet(probe, true)) {
+      if (dominates(candidate.objectives, node.objectives)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private List<Node<S>> dominatedNodes(List<Node<S>> dominatingNodes, TreeSet<Node<S>> front) {
+    Set<Node<S>> dominatedNodes = new LinkedHashSet<>();
+    for (Node<S> node : dominatingNodes) {
+      for (Node<S> candidate : front.tailSet(probe(node.objectives[0], Long.MIN_VALUE))) {
+        if (numberOfObjectives == 2 && candidate.objectives[1] < node.objectives[1]) {
+          break;
+        }
+        if (dominates(node.objectives, candidate.objectives)) {
+          dominatedNodes.add(candidate);
+        }
+      }
+    }
+
+    return new ArrayList<>(dominatedNodes);
+  }
+
+  /**
+   * Sets the reference point from the worst objective values of the population and, if it or the
+   * last front have changed, computes the contributions of the last front again
+   */
+  private void updateHypervolume() {
+    double[] point = new double[numberOfObjectives];
+    for (int i = 0; i < numberOfObjectives; i++) {
+      point[i] = objectiveValues.get(i).lastKey() + offset;
+    }
+
+    TreeSet<Node<S>> lastFront = fronts.get(fronts.size() - 1);
+    if (lastFront != hypervolumeFront || !Arrays.equals(point, referencePoint)) {
+      referencePoint = point;
+      hypervolumeFront = lastFront;
+      hypervolume = IncrementalHypervolumeFactory.create(referencePoint);
+      for (Node<S> node : lastFront) {
+        hypervolume.add(node.solution, node.objectives);
+      }
+    }
+  }
+
+  private void remove(Node<S> node) {
+    hypervolume.remove(node.solution);
+    hypervolumeFront.remove(node);
+    if (hypervolumeFront.isEmpty()) {
+      fronts.remove(fronts.size() - 1);
+    }
+
+    nodes.remove(node.solution);
+    for (int i = 0; i < numberOfObjectives; i++) {
+      objectiveValues.get(i).computeIfPresent(
+          node.objectives[i], (value, count) -> count == 1 ? null : count - 1);
+    }
+
+    S last = population.remove(population.size() - 1);
+    if (last != node.solution) {
+      population.set(node.index, last);
+      nodes.get(last).index = node.index;
+    }
+  }
+
+  private static boolean dominates(double[] objectives1, double[] objectives2) {
+    boolean isBetterInSomeObjective = false;
+    for (int i = 0; i < objectives1.length; i++) {
+      if (objectives1[i] > objectives2[i]) {
+        return false;
+      }
+      if (objectives1[i] < objectives2[i]) {
+        isBetterInSomeObjective = true;
+      }
+    }
+
+    return isBetterInSomeObjective;
+  }
+
+  private Node<S> probe(double firstObjective, long order) {
+    return new Node<>(null, new double[] {firstObjective}, order, -1);
+  }
+
+  /**
+   * A solution of the population, with a copy of its objectives, its insertion number (to break
+   * ties in the fronts) and its position in the population list
+   */
+  private static class Node<S> {
+    private final S solution;
+    private final double[] objectives;
+    private final long order;
+    private int index;
+
+    private Node(S solution, double[] objectives, long order, int index) {
+      this.solution = solution;
+      this.objectives = objectives;
+      this.order = order;
+      this.index = index;
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package jmetal.component.tests.catalogue.common.evaluation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import jmetal.component.catalogue.common.evaluation.impl.VirtualThreadEvaluation;
+import jmetal.core.problem.doubleproblem.impl.FakeDoubleProblem;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.util.errorchecking.exception.InvalidConditionException;
+import jmetal.core.util.errorchecking.exception.NullParameterException;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadEvaluationTest {
+
+  @Test
+  void invokeTheConstructorWithANullProblemRaisesAnException() {
+    assertThrows(NullParameterException.class, () -> new VirtualThreadEvaluation<>(4, null));
+  }
+
+  @Test
+  void invokeTheConstructorWithANegativeMaximumConcurrencyRaisesAnException() {
+    assertThrows(InvalidConditionException.class,
+        () -> new VirtualThreadEvaluation<>(-1, new FakeDoubleProblem(1, 1, 0)));
+  }
+
+  @Test
+  void theConstructorInitializesTheNumberOfComputedEvaluationsAndTheMaximumConcurrency() {
+    FakeDoubleProblem problem = new FakeDoubleProblem(1, 1, 0);
+    VirtualThreadEvaluation<DoubleSolution> evaluation = new VirtualThreadEvaluation<>(8, problem);
+
+    assertEquals(0, evaluation.computedEvaluations());
+    assertEquals(8, evaluation.maximumConcurrency());
+    assertSame(problem, evaluation.problem());
+    evaluation.shutdown();
+  }
+
+  @Test
+  void evaluateAListOfSolutionsEvaluatesAllOfThem() {
+    AtomicInteger evaluations = new AtomicInteger(0);
+    FakeDoubleProblem problem = new FakeDoubleProblem(1, 1, 0) {
+      @Override
+      public DoubleSolution evaluate(DoubleSolution solution) {
+        evaluations.incrementAndGet();
+        return solution;
+      }
+    };
+    VirtualThreadEvaluation<DoubleSolution> evaluation = new VirtualThreadEvaluation<>(problem);
+
+    List<DoubleSolution> solutions = new ArrayList<>();
+    for (int i = 0; i < 25; i++) {
+      solutions.add(problem.createSolution());
+    }
+
+    assertSame(solutions, evaluation.evaluate(solutions));
+    assertEquals(25, evaluation.computedEvaluations());
+    assertEquals(25, evaluations.get());
+    evaluation.shutdown();
+  }
+
+  @Test
+  void evaluateANullListRaisesAnException() {
+    VirtualThreadEvaluation<DoubleSolution> evaluation =
+        new VirtualThreadEvaluation<>(new FakeDoubleProblem(1, 1, 0));
+
+    assertThrows(NullParameterException.class, () -> evaluation.evaluate(null));
+    evaluation.shutdown();
+  }
+}
@@ -0,0 +1,189 @@
+package jmetal.component.tests.catalogue.ea.replacement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+import jmetal.component.catalogue.ea.replacement.impl.IncrementalSMSEMOAReplacement;
+import jmetal.component.catalogue.ea.replacement.impl.SMSEMOAReplacement;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.solution.doublesolution.impl.DefaultDoubleSolution;
+import jmetal.core.util.comparator.ObjectiveComparator;
+import jmetal.core.util.ranking.Ranking;
+import jmetal.core.util.ranking.impl.FastNonDominatedSortRanking;
+import jmetal.core.util.ranking.impl.MergeNonDominatedSortRanking;
+import jmetal.core.util.ranking.impl.StrengthRanking;
+import org.junit.jupiter.api.Test;
+
+class IncrementalSMSEMOAReplacementTest {
+
+  private static DoubleSolution createSolution(double... objectives) {
+    DoubleSolution solution = new DefaultDoubleSolution(List.of(), objectives.length, 0);
+    System.arraycopy(objectives, 0, solution.objectives(), 0, objectives.length);
+
+    return solution;
+  }
+
+  /**
+   * Creates a random solution or, with probability 0.5, a perturbation of a solution of the
+   * population, so that the offspring is inserted in any of the fronts
+   */
+  private static DoubleSolution createOffspring(
+      List<DoubleSolution> population, int numberOfObjectives, Random random) {
+    double[] objectives = new double[numberOfObjectives];
+    if (population.isEmpty() || random.nextBoolean()) {
+      for (int i = 0; i < numberOfObjectives; i++) {
+        objectives[i] = random.nextDouble();
+      }
+    } else {
+      double[] parent = population.get(random.nextInt(population.size())).objectives();
+      for (int i = 0; i < numberOfObjectives; i++) {
+        objectives[i] = parent[i] + 0.05 * random.nextGaussian();
+      }
+    }
+
+    return createSolution(objectives);
+  }
+
+  private static Set<DoubleSolution> identitySet(List<DoubleSolution> solutions) {
+    Set<DoubleSolution> set = Collections.newSetFromMap(new IdentityHashMap<>());
+    set.addAll(solutions);
+
+    return set;
+  }
+
+  private static void assertReplacementIsEqualToTheNonIncrementalOne(
+      int numberOfObjectives, int populationSize, int steps) {
+    assertReplacementIsEqualToTheNonIncrementalOne(
+        numberOfObjectives, populationSize, steps, FastNonDominatedSortRanking::new);
+  }
+
+  private static void assertReplacementIsEqualToTheNonIncrementalOne(
+      int numberOfObjectives, int populationSize, int steps,
+      Supplier<Ranking<DoubleSolution>> ranking) {
+    Random random = new Random(numberOfObjectives);
+    List<DoubleSolution> population = new ArrayList<>();
+    for (int i = 0; i < populationSize; i++) {
+      population.add(createOffspring(population, numberOfObjectives, random));
+    }
+
+    var replacement = new SMSEMOAReplacement<>(ranking.get());
+    var incrementalReplacement = new IncrementalSMSEMOAReplacement<>(ranking.get());
+
+    List<DoubleSolution> incrementalPopulation = new ArrayList<>(population);
+    for (int step = 0; step < steps; step++) {
+      List<DoubleSolution> offspring =
+          List.of(createOffspring(population, numberOfObjectives, random));
+      population = replacement.replace(population, offspring);
+      if (step % 100 == 99) {
+        // A list not returned by the replacement makes it compute the fronts again
+        incrementalPopulation = new ArrayList<>(incrementalPopulation);
+      }
+      incrementalPopulation = incrementalReplacement.replace(incrementalPopulation, offspring);
+
+      assertEquals(populationSize, incrementalPopulation.size());
+      assertEquals(identitySet(population), identitySet(incrementalPopulation));
+    }
+  }
+
+  @Test
+  void shouldReplaceRemoveTheSameSolutionsAsTheNonIncrementalReplacementWithTwoObjectives() {
+    assertReplacementIsEqualToTheNonIncrementalOne(2, 50, 2000);
+  }
+
+  @Test
+  void shouldReplaceRemoveTheSameSolutionsAsTheNonIncrementalReplacementWithThreeObjectives() {
+    assertReplacementIsEqualToTheNonIncrementalOne(3, 30, 500);
+  }
+
+  @Test
+  void shouldReplaceRemoveTheSameSolutionsAsTheNonIncrementalReplacementWithAMergeSortRanking() {
+    assertReplacementIsEqualToTheNonIncrementalOne(
+        2, 30, 500, MergeNonDominatedSortRanking::new);
+  }
+
+  @Test
+  void shouldReplaceUseTheRankingIfItIsNotANonDominatedSortingOfTheObjectives() {
+    assertReplacementIsEqualToTheNonIncrementalOne(
+        2, 30, 500, () -> new FastNonDominatedSortRanking<>(new ObjectiveComparator<>(0)));
+    assertReplacementIsEqualToTheNonIncrementalOne(2, 30, 500, StrengthRanking::new);
+  }
+
+  @Test
+  void shouldReplaceRemoveASolutionOfTheLastFrontIfThereAreRepeatedObjectiveValues() {
+    Random random = new Random(1);
+    int populationSize = 40;
+    List<DoubleSolution> population = new ArrayList<>();
+    for (int i = 0; i < populationSize; i++) {
+      population.add(createSolution(random.nextInt(8), random.nextInt(8)));
+    }
+
+    var replacement =
+        new IncrementalSMSEMOAReplacement<DoubleSolution>(new FastNonDominatedSortRanking<>());
+    for (int step = 0; step < 500; step++) {
+      DoubleSolution offspring = createSolution(random.nextInt(8), random.nextInt(8));
+      List<DoubleSolution> jointPopulation = new ArrayList<>(population);
+      jointPopulation.add(offspring);
+      Ranking<DoubleSolution> ranking = new FastNonDominatedSortRanking<>();
+      ranking.compute(jointPopulation);
+      Set<DoubleSolution> lastFront =
+          identitySet(ranking.getSubFront(ranking.getNumberOfSubFronts() - 1));
+
+      population = replacement.replace(population, List.of(offspring));
+
+      Set<DoubleSolution> removedSolutions = identitySet(jointPopulation);
+      removedSolutions.removeAll(identitySet(population));
+      assertEquals(populationSize, population.size());
+      assertEquals(1, removedSolutions.size());
+      assertTrue(lastFront.containsAll(removedSolutions));
+    }
+  }
+
+  @Test
+  void shouldReplaceWithMoreThanOneOffspringRemoveOneSolutionAsTheNonIncrementalReplacement() {
+    Random random = new Random(2);
+    List<DoubleSolution> population = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      population.add(createSolution(random.nextDouble(), random.nextDouble()));
+    }
+    List<DoubleSolution> offspring =
+        List.of(
+            createSolution(random.nextDouble(), random.nextDouble()),
+            createSolution(random.nextDouble(), random.nextDouble()));
+
+    List<DoubleSolution> expected =
+        new SMSEMOAReplacement<DoubleSolution>(new FastNonDominatedSortRanking<>())
+            .replace(new ArrayList<>(population), offspring);
+    List<DoubleSolution> result =
+        new IncrementalSMSEMOAReplacement<DoubleSolution>(new FastNonDominatedSortRanking<>())
+            .replace(new ArrayList<>(population), offspring);
+
+    assertEquals(11, result.size());
+    assertEquals(identitySet(expected), identitySet(result));
+  }
+
+  @Test
+  void shouldReplaceKeepTheExtremeSolutionsOfASingleFront() {
+    List<DoubleSolution> population = new ArrayList<>();
+    for (int i = 0; i <= 10; i++) {
+      population.add(createSolution(i, 10 - i));
+    }
+    DoubleSolution offspring = createSolution(4.9, 5.1);
+
+    List<DoubleSolution> result =
+        new IncrementalSMSEMOAReplacement<DoubleSolution>(new FastNonDominatedSortRanking<>())
+            .replace(population, List.of(offspring));
+
+    assertEquals(11, result.size());
+    assertTrue(identitySet(result).contains(population.get(0)));
+    assertTrue(identitySet(result).contains(population.get(10)));
+    assertFalse(identitySet(result).contains(offspring));
+  }
+}
@@ -0,0 +1,20 @@
+package jmetal.core.algorithm;
+
+import java.util.Map;
+
+/**
+ * Interface representing algorithms whose search state can be saved during a run and restored
+ * later, so that a run that has been interrupted can be resumed. The state is a map of pairs
+ * (String, Object) whose values must be serializable.
+ */
+public interface Checkpointable {
+  /** Returns the current state of the search. It is intended to be called by an observer */
+  Map<String, Object> state();
+
+  /**
+   * Restores a state returned by {@link #state()}. The next call to run() continues the search
+   * from that state instead of creating the initial population. The algorithm should be a newly
+   * created one with the same configuration as the one that produced the state
+   */
+  void restore(Map<String, Object> state);
+}
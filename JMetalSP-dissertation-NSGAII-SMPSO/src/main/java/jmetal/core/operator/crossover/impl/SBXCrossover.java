@@ -134,8 +134,8 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
 
     if (randomGenerator.getRandomValue() <= probability) {
       for (i = 0; i < parent1.variables().size(); i++) {
-        valueX1 = parent1.variables().get(i);
-        valueX2 = parent2.variables().get(i);
+        valueX1 = parent1.variableValue(i);
+        valueX2 = parent2.variableValue(i);
         if (randomGenerator.getRandomValue() <= 0.5) {
           if (Math.abs(valueX1 - valueX2) > EPS) {
             if (valueX1 < valueX2) {
@@ -175,19 +175,19 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
             c2 = solutionRepair.repairSolutionVariableValue(c2, lowerBound, upperBound);
 
             if (randomGenerator.getRandomValue() <= 0.5) {
-              offspring.get(0).variables().set(i, c2);
-              offspring.get(1).variables().set(i, c1);
+              offspring.get(0).variableValue(i, c2);
+              offspring.get(1).variableValue(i, c1);
             } else {
-              offspring.get(0).variables().set(i, c1);
-              offspring.get(1).variables().set(i, c2);
+              offspring.get(0).variableValue(i, c1);
+              offspring.get(1).variableValue(i, c2);
             }
           } else {
-            offspring.get(0).variables().set(i, valueX1);
-            offspring.get(1).variables().set(i, valueX2);
+            offspring.get(0).variableValue(i, valueX1);
+            offspring.get(1).variableValue(i, valueX2);
           }
         } else {
-          offspring.get(0).variables().set(i, valueX2);
-          offspring.get(1).variables().set(i, valueX1);
+          offspring.get(0).variableValue(i, valueX2);
+          offspring.get(1).variableValue(i, valueX1);
         }
       }
     }
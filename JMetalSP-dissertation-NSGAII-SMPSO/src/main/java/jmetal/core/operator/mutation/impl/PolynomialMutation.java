@@ -120,7 +120,7 @@ public class PolynomialMutation implements MutationOperator<DoubleSolution> {
 
     for (int i = 0; i < solution.variables().size(); i++) {
       if (randomGenerator.getRandomValue() <= mutationProbability) {
-        double y = solution.variables().get(i);
+        double y = solution.variableValue(i);
         Bounds<Double> bounds = solution.getBounds(i);
         double yl = bounds.getLowerBound();
         double yu = bounds.getUpperBound();
@@ -146,7 +146,7 @@ public class PolynomialMutation implements MutationOperator<DoubleSolution> {
           y = y + deltaq * (yu - yl);
           y = solutionRepair.repairSolutionVariableValue(y, yl, yu);
         }
-        solution.variables().set(i, y);
+        solution.variableValue(i, y);
       }
     }
   }
@@ -10,7 +10,7 @@ import jmetal.core.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
 import jmetal.core.util.errorchecking.Check;
 import jmetal.core.util.errorchecking.JMetalException;
 import jmetal.core.util.ranking.Ranking;
-import jmetal.core.util.ranking.impl.FastNonDominatedSortRanking;
+import jmetal.core.util.ranking.RankingFactory;
 
 /**
  * This class implements a selection for selecting a number of solutions from
@@ -49,7 +49,7 @@ public class RankingAndCrowdingSelection<S extends Solution<?>>
     Check.that(solutionList.size() > solutionsToSelect, "The population size ("+solutionList.size()+") is smaller than" +
         "the solutions to selected ("+solutionsToSelect+")");
 
-    Ranking<S> ranking = new FastNonDominatedSortRanking<>(dominanceComparator);
+    Ranking<S> ranking = RankingFactory.create(dominanceComparator);
     ranking.compute(solutionList) ;
 
     return crowdingDistanceSelection(ranking);
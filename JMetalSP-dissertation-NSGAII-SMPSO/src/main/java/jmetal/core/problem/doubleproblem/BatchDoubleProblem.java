@@ -0,0 +1,35 @@
+package jmetal.core.problem.doubleproblem;
+
+/**
+ * Interface representing continuous problems that can evaluate a batch of points at once. The
+ * batch is stored as a structure of arrays: there is an array per variable and per objective,
+ * holding its value for each point, so the kernels loop over the points in the innermost loop,
+ * without boxing and with contiguous accesses that the JIT compiler can vectorize.
+ *
+ * <p>The objective values of a point must be the same as those computed by {@link
+ * #evaluate(jmetal.core.solution.doublesolution.DoubleSolution)}. As a subclass can redefine that
+ * method (e.g., to add constraints or to count the evaluations), or the functions it is based on,
+ * the batch evaluation is opt-in per class: {@link #batchEvaluationIsEquivalent()} returns false
+ * unless it is overridden, and the problems implementing a batch evaluation override it to return
+ * true only if the class of the object is their own class. Otherwise, {@link
+ * jmetal.core.util.evaluator.impl.BatchSolutionListEvaluator} evaluates the solutions one by one.
+ */
+public interface BatchDoubleProblem extends DoubleProblem {
+  /**
+   * Evaluates a batch of points
+   *
+   * @param x Values of the variables: {@code x[i][p]} is the variable {@code i} of the point
+   *     {@code p}
+   * @param f Array where the objectives are stored: {@code f[j][p]} is the objective {@code j} of
+   *     the point {@code p}
+   */
+  void evaluate(double[][] x, double[][] f);
+
+  /**
+   * Returns true if the batch evaluation computes all the values given by the evaluation of a
+   * solution (i.e., the same objectives and no constraints). By default, it returns false
+   */
+  default boolean batchEvaluationIsEquivalent() {
+    return false;
+  }
+}
@@ -5,6 +5,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import jmetal.core.problem.doubleproblem.DoubleProblem;
 import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.solution.doublesolution.impl.ArrayDoubleSolution;
 import jmetal.core.solution.doublesolution.impl.DefaultDoubleSolution;
 import jmetal.core.util.bounds.Bounds;
 import jmetal.core.util.errorchecking.Check;
@@ -21,6 +22,7 @@ public abstract class AbstractDoubleProblem implements DoubleProblem {
   protected int numberOfObjectives ;
   protected int numberOfConstraints;
   protected String name ;
+  protected boolean arrayBackedSolutions = false;
 
   @Override
   public int numberOfVariables() {
@@ -65,8 +67,23 @@ public abstract class AbstractDoubleProblem implements DoubleProblem {
             .mapToObj(i -> Bounds.create(lowerBounds.get(i), upperBounds.get(i)))
             .collect(Collectors.toList());
   }
+  /**
+   * Selects the implementation of the solutions returned by {@link #createSolution()}: {@link
+   * ArrayDoubleSolution} if true, {@link DefaultDoubleSolution} (the default) otherwise
+   */
+  public void arrayBackedSolutions(boolean arrayBackedSolutions) {
+    this.arrayBackedSolutions = arrayBackedSolutions;
+  }
+
+  public boolean arrayBackedSolutions() {
+    return arrayBackedSolutions;
+  }
+
   @Override
   public DoubleSolution createSolution() {
+    if (arrayBackedSolutions) {
+      return new ArrayDoubleSolution(bounds, numberOfObjectives(), numberOfConstraints());
+    }
     return new DefaultDoubleSolution(bounds, numberOfObjectives(), numberOfConstraints());
   }
   @Override
@@ -1,19 +1,32 @@
 package jmetal.core.problem.doubleproblem.impl;
 
 import java.io.BufferedReader;
-import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 import jmetal.core.problem.integerproblem.IntegerProblem;
 import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.util.evaluationcache.GapConfiguration;
+import jmetal.core.util.evaluationcache.GapEvaluationCache;
+import jmetal.core.util.evaluationcache.GapResult;
+import jmetal.core.util.evaluator.ExternalSimulation;
+import jmetal.core.util.evaluator.SurrogateAssistedProblem;
 
 /**
  * Fake implementation of {@link IntegerProblem}. Intended to be used in unit
@@ -35,9 +48,11 @@ import jmetal.core.solution.doublesolution.DoubleSolution;
  */
 
 @SuppressWarnings("serial")
-public class GapProblem extends AbstractDoubleProblem {
+public class GapProblem extends AbstractDoubleProblem implements ExternalSimulation<DoubleSolution>,
+    SurrogateAssistedProblem<DoubleSolution> {
 
     String simulator_executable = "C:/Users/Ana/Downloads/JMetalSP-dissertation-NSGAII-SMPSO/JMetalSP-dissertation-NSGAII-SMPSO/simulator/SimALU.exe";
+    String benchmark = "gap_dump_1717572188697_default-mibench-offi-stringsearch";
     //String filePath = "C:/Users/Ana/Downloads/JMetalSP-dissertation-NSGAII-SMPSO/JMetalSP-dissertation-NSGAII-SMPSO/simulator/gap_dump_1717572188697_default-mibench-offi-stringsearch/results_27_18_16_24_16_64_2_loop_bpred/16L_27R_18C_4F_results.txt";
 
     private static final double COST_PER_ALU = 1;
@@ -45,6 +60,21 @@ public class GapProblem extends AbstractDoubleProblem {
     private static final double COST_PER_LSU = 3.5;
     private static final double COST_PER_TOP_REGISTER = 0.02;
 
+    private GapEvaluationCache evaluationCache;
+
+    /**
+     * SimALU writes the results of a configuration always to the same file, so only one simulation
+     * per result file can be running at a time
+     */
+    private static final Map<String, Semaphore> resultFileLocks = new ConcurrentHashMap<>();
+    private final Map<Path, RunningSimulation> runningSimulations = new ConcurrentHashMap<>();
+
+    /**
+     * Copies of the simulator executable that have been created. Each one is created once, while
+     * the other threads asking for it wait, as an executable cannot be replaced while it runs
+     */
+    private static final Map<Path, Path> simulatorCopies = new ConcurrentHashMap<>();
+
     public GapProblem(int numberOfVariables, int numberOfObjectives) {
         numberOfObjectives(numberOfObjectives);
         numberOfConstraints(numberOfConstraints);
@@ -89,8 +119,24 @@ public class GapProblem extends AbstractDoubleProblem {
         this(2, 2);
     }
 
+    /**
+     * Sets a cache of simulator results. Solutions whose discretized configuration is found in the
+     * cache are evaluated without launching the simulator.
+     */
+    public void evaluationCache(GapEvaluationCache evaluationCache) {
+        this.evaluationCache = evaluationCache;
+    }
+
+    public GapEvaluationCache evaluationCache() {
+        return evaluationCache;
+    }
+
     @Override
     public DoubleSolution evaluate(DoubleSolution solution) {
+        if (evaluateWithoutSimulation(solution)) {
+            return solution;
+        }
+
         String commandLineToExecute = "";
         try {
         commandLineToExecute = this.getCommandLine(solution);
@@ -98,29 +144,152 @@ public class GapProblem extends AbstractDoubleProblem {
         throw new RuntimeException(e);
         }
 
-        // Create Command Line
-        System.out.println(commandLineToExecute);
-        Process process = null;
+        String resultsFilePath = getResultsFilePath(solution);
+        RunningSimulation simulation;
         try {
-            process = Runtime.getRuntime().exec(commandLineToExecute.toString().split(" "));
-            process.waitFor(35000, TimeUnit.MILLISECONDS);
+            simulation = startSimulation(resultsFilePath);
         } catch (IOException e) {
-            e.printStackTrace();
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        } finally {
-            if (process != null && process.isAlive()) {
-                process.destroyForcibly();
+            throw new RuntimeException(e);
+        }
+
+        try {
+            // Create Command Line
+            System.out.println(commandLineToExecute);
+            Process process = null;
+            try {
+                process = Runtime.getRuntime().exec(commandLineToExecute.toString().split(" "));
+                process.waitFor(35000, TimeUnit.MILLISECONDS);
+            } catch (IOException e) {
+                e.printStackTrace();
+            } catch (InterruptedException e) {
+                e.printStackTrace();
+            } finally {
+                if (process != null && process.isAlive()) {
+                    process.destroyForcibly();
+                }
             }
+
+            // Read results from the simulator output. A missing file is read as an IPC of zero
+            setObjectives(solution, parseIPCFromFile(resultsFilePath));
+        } finally {
+            simulation.lock.release();
         }
 
-        // Read results from the simulator output
-        String ipcFilePath = "C:/Users/Ana/Downloads/JMetalSP-dissertation-NSGAII-SMPSO/JMetalSP-dissertation-NSGAII-SMPSO/simulator/gap_dump_1717572188697_default-mibench-offi-stringsearch/results_" +
+        return solution;
+    }
+
+    @Override
+    public boolean evaluateWithoutSimulation(DoubleSolution solution) {
+        if (evaluationCache == null) {
+            return false;
+        }
+
+        GapResult cachedResult = evaluationCache.get(getConfiguration(solution));
+        if (cachedResult == null) {
+            return false;
+        }
+
+        solution.objectives()[0] = cachedResult.cpi();
+        solution.objectives()[1] = cachedResult.hardwareComplexity();
+        return true;
+    }
+
+    /**
+     * SimALU writes its results below the benchmark directory in a folder named after the
+     * configuration, so the working directory is only used for the simulator log. The simulations
+     * of the same configuration are serialized until {@link #simulationFinished}, and the result
+     * file of a previous run is deleted before launching the simulator
+     */
+    @Override
+    public List<String> commandLine(DoubleSolution solution, Path workingDirectory) throws IOException {
+        simulationFinished(solution, workingDirectory);
+        RunningSimulation simulation = startSimulation(getResultsFilePath(solution));
+        runningSimulations.put(workingDirectory, simulation);
+
+        return Arrays.asList(getCommandLine(solution).split(" "));
+    }
+
+    /**
+     * Reads the result file written by the simulation launched from the working directory. Files
+     * older than the launch (e.g. left by another run) are rejected
+     */
+    @Override
+    public void readResults(DoubleSolution solution, Path workingDirectory) throws IOException {
+        String ipcFilePath = getResultsFilePath(solution);
+        RunningSimulation simulation = runningSimulations.get(workingDirectory);
+        Path ipcFile = Path.of(ipcFilePath);
+        if (simulation == null || !Files.isReadable(ipcFile)) {
+            throw new IOException("The simulator did not produce " + ipcFilePath);
+        }
+        if (Files.getLastModifiedTime(ipcFile).toInstant().isBefore(simulation.launchTime)) {
+            throw new IOException("The file " + ipcFilePath + " was not written by the simulator");
+        }
+
+        setObjectives(solution, parseIPCFromFile(ipcFilePath));
+    }
+
+    @Override
+    public void simulationFinished(DoubleSolution solution, Path workingDirectory) {
+        RunningSimulation simulation = runningSimulations.remove(workingDirectory);
+        if (simulation != null) {
+            simulation.lock.release();
+        }
+    }
+
+    /**
+     * Waits until no other simulation writes the result file and deletes it. The lock of the
+     * returned simulation must be released when the results have been read
+     */
+    private RunningSimulation startSimulation(String resultsFilePath) throws IOException {
+        Semaphore lock = resultFileLocks.computeIfAbsent(resultsFilePath, path -> new Semaphore(1));
+        try {
+            lock.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for " + resultsFilePath);
+        }
+
+        try {
+            Files.deleteIfExists(Path.of(resultsFilePath));
+        } catch (IOException e) {
+            lock.release();
+            throw e;
+        }
+
+        // The modification times of some file systems are truncated to seconds
+        return new RunningSimulation(lock, Instant.now().truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    private static class RunningSimulation {
+        private final Semaphore lock;
+        private final Instant launchTime;
+
+        private RunningSimulation(Semaphore lock, Instant launchTime) {
+            this.lock = lock;
+            this.launchTime = launchTime;
+        }
+    }
+
+    private String getResultsFilePath(DoubleSolution solution) {
+        return "C:/Users/Ana/Downloads/JMetalSP-dissertation-NSGAII-SMPSO/JMetalSP-dissertation-NSGAII-SMPSO/simulator/" + benchmark + "/results_" +
             this.getActualValueForParameter(solution.variables().get(0), 0) + "_" + this.getActualValueForParameter(solution.variables().get(1), 1) + "_" + this.getActualValueForParameter(solution.variables().get(2), 2) + "_24_" + this.getActualValueForParameter(solution.variables().get(3), 3) + "_" + this.getActualValueForParameter(solution.variables().get(4), 4) + "_" + this.getActualValueForParameter(solution.variables().get(5), 5) + "_loop_bpred/" +
             this.getActualValueForParameter(solution.variables().get(2), 2) + "L_" + this.getActualValueForParameter(solution.variables().get(0), 0) + "R_" + this.getActualValueForParameter(solution.variables().get(1), 1) + "C_4F_results.txt";
+    }
 
-        double ipc = parseIPCFromFile(ipcFilePath);
+    private void setObjectives(DoubleSolution solution, double ipc) {
         double CPI = 1/ipc;
+        double HC = getHardwareComplexity(solution);
+        if (Double.isInfinite(ipc) || Double.isInfinite(CPI) || (Double.isInfinite(ipc) && Double.isInfinite(CPI)) ) {
+            CPI = 1/0.99;
+        } else if (evaluationCache != null && ipc > 0) {
+            // Only successful simulator runs are cached, so failed ones are retried later
+            evaluationCache.put(getConfiguration(solution), new GapResult(CPI, HC));
+        }
+        solution.objectives()[0] = CPI;
+        solution.objectives()[1] = HC;
+    }
+
+    private double getHardwareComplexity(DoubleSolution solution) {
         double HC = 0.0;
         try {
             // HC = getHardwareComplexity(27, 18, 16, 16, 2, 64);
@@ -137,15 +306,33 @@ public class GapProblem extends AbstractDoubleProblem {
             e.printStackTrace();
         } catch (Exception e) {
             e.printStackTrace();
-        } finally {
-            if (Double.isInfinite(ipc) || Double.isInfinite(CPI) || (Double.isInfinite(ipc) && Double.isInfinite(CPI)) ) {
-                CPI = 1/0.99;
-            }
-            solution.objectives()[0] = CPI;
-            solution.objectives()[1] = HC;
         }
+        return HC;
+    }
 
-        return solution;
+    /**
+     * Only the CPI needs the simulator, the hardware complexity is computed in closed form
+     */
+    @Override
+    public int[] expensiveObjectives() {
+        return new int[]{0};
+    }
+
+    @Override
+    public void evaluateCheapObjectives(DoubleSolution solution) {
+        solution.objectives()[1] = getHardwareComplexity(solution);
+    }
+
+    /**
+     * The surrogate works on the discretized parameters (the exponent for the exp2 ones)
+     */
+    @Override
+    public double[] surrogateFeatures(DoubleSolution solution) {
+        double[] features = new double[solution.variables().size()];
+        for (int i = 0; i < features.length; i++) {
+            features[i] = Math.floor(solution.variables().get(i));
+        }
+        return features;
     }
 
     private String getCommandLine(DoubleSolution solution) throws IOException {
@@ -159,7 +346,7 @@ public class GapProblem extends AbstractDoubleProblem {
 
        // String benchmarksPath = "C:/Users/Ana/Downloads/JMetalSP-dissertation-NSGAII-SMPSO/JMetalSP-dissertation-NSGAII-SMPSO/simulator/gap_dump_1717571900584_default-mibench-netw-dijkstra";
         // String benchmarksPath = "C:\\Users\\Ana\\Downloads\\JMetalSP-dissertation-NSGAII-SMPSO\\JMetalSP-dissertation-NSGAII-SMPSO\\simulator\\gap_dump_1717572239909_default-mibench-auto-qsort";
-        String benchmarksPath = "C:\\Users\\Ana\\Downloads\\JMetalSP-dissertation-NSGAII-SMPSO\\JMetalSP-dissertation-NSGAII-SMPSO\\simulator\\gap_dump_1717572188697_default-mibench-offi-stringsearch";
+        String benchmarksPath = "C:\\Users\\Ana\\Downloads\\JMetalSP-dissertation-NSGAII-SMPSO\\JMetalSP-dissertation-NSGAII-SMPSO\\simulator\\" + benchmark;
         
         return getMySimulator() + " " + benchmarksPath + arguments + " /lb";
     }
@@ -167,14 +354,59 @@ public class GapProblem extends AbstractDoubleProblem {
     private String getMySimulator() throws IOException {
         var simulator_id = (int) ((Math.random() * 900) + 100);
 
-        String my_sim = simulator_executable.replace(".exe", simulator_id + ".exe");
+        Path my_sim = Path.of(simulator_executable.replace(".exe", simulator_id + ".exe"));
+        try {
+            simulatorCopies.computeIfAbsent(my_sim, this::copySimulator);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
 
-        if (!(new File(my_sim)).canRead()) {
-            Files.copy(new File(simulator_executable).toPath(), new File(my_sim).toPath(),
+        return my_sim.toString();
+    }
+
+    /**
+     * Creates a copy of the simulator if it does not exist. The executable is copied to a
+     * temporary file that is then moved to its name, so a copy is never replaced or launched
+     * while it is being written
+     */
+    private Path copySimulator(Path copy) {
+        if (Files.isReadable(copy)) {
+            return copy;
+        }
+
+        try {
+            Path temporaryFile =
+                Files.createTempFile(copy.getParent(), copy.getFileName().toString(), ".tmp");
+            try {
+                Files.copy(Path.of(simulator_executable), temporaryFile,
                     StandardCopyOption.REPLACE_EXISTING);
+                Files.move(temporaryFile, copy, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                // Another process may have created the copy in the meantime
+                Files.deleteIfExists(temporaryFile);
+                if (!Files.isReadable(copy)) {
+                    throw e;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
 
-        return my_sim;
+        return copy;
+    }
+
+    /**
+     * Returns the discretized hardware configuration simulated for a solution
+     */
+    public GapConfiguration getConfiguration(DoubleSolution solution) {
+        return new GapConfiguration(
+            this.getActualValueForParameter(solution.variables().get(0), 0),
+            this.getActualValueForParameter(solution.variables().get(1), 1),
+            this.getActualValueForParameter(solution.variables().get(2), 2),
+            this.getActualValueForParameter(solution.variables().get(3), 3),
+            this.getActualValueForParameter(solution.variables().get(4), 4),
+            this.getActualValueForParameter(solution.variables().get(5), 5),
+            benchmark);
     }
 
     private int getActualValueForParameter(double value, int index) {
@@ -1,6 +1,7 @@
 package jmetal.core.qualityindicator;
 
 import jmetal.core.util.errorchecking.Check;
+import jmetal.core.util.errorchecking.JMetalException;
 
 /**
  * Abstract class representing quality indicators. It is assumed that the fronts are normalized
@@ -8,7 +9,7 @@ import jmetal.core.util.errorchecking.Check;
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
-public abstract class QualityIndicator {
+public abstract class QualityIndicator implements Cloneable {
   protected double[][] referenceFront ;
 
   protected QualityIndicator() {
@@ -34,6 +35,26 @@ public abstract class QualityIndicator {
     return referenceFront;
   }
 
+  /**
+   * Returns a copy of the indicator with its own copy of the reference front, so that copies can
+   * be used to compute the indicator in several threads
+   */
+  public QualityIndicator copy() {
+    try {
+      QualityIndicator copy = (QualityIndicator) clone();
+      if (referenceFront != null) {
+        copy.referenceFront = new double[referenceFront.length][];
+        for (int i = 0; i < referenceFront.length; i++) {
+          copy.referenceFront[i] = referenceFront[i].clone();
+        }
+      }
+
+      return copy;
+    } catch (CloneNotSupportedException exception) {
+      throw new JMetalException("The indicator " + name() + " cannot be copied");
+    }
+  }
+
   public abstract String name() ;
   public abstract String description() ;
 }
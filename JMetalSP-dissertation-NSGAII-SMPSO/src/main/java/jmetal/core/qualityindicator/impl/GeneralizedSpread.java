@@ -60,6 +60,10 @@ public class GeneralizedSpread extends QualityIndicator {
    **/
   public double generalizedSpread(double[][] front, double[][] referenceFront) {
     int numberOfObjectives = front[0].length ;
+    // Copies are sorted, so that the reference front can be shared by indicators computed in
+    // several threads
+    front = Arrays.copyOf(front, front.length) ;
+    referenceFront = Arrays.copyOf(referenceFront, referenceFront.length) ;
 
     double[][] extremeValues = new double[numberOfObjectives][] ;
     for (int i = 0; i < numberOfObjectives; i++) {
@@ -51,7 +51,10 @@ public class Spread extends QualityIndicator {
   public double spread(double[][] front, double[][] referenceFront) {
     var distance = new EuclideanDistanceBetweenVectors() ;
 
-    // STEP 1. Sort normalizedFront and normalizedParetoFront;
+    // STEP 1. Sort normalizedFront and normalizedParetoFront. Copies are sorted, so that the
+    // reference front can be shared by indicators computed in several threads
+    front = Arrays.copyOf(front, front.length) ;
+    referenceFront = Arrays.copyOf(referenceFront, referenceFront.length) ;
     Arrays.sort(front, 0, front.length, new LexicographicalVectorComparator()) ;
     Arrays.sort(referenceFront, 0, referenceFront.length, new LexicographicalVectorComparator()) ;
 
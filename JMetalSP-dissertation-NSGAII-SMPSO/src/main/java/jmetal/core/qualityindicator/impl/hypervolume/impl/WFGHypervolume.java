@@ -46,7 +46,7 @@ public class WFGHypervolume extends Hypervolume {
     return hypervolume(front, referenceFront);
   }
 
-  static class ComparatorGreater implements Comparator {
+  class ComparatorGreater implements Comparator {
 
     @Override
     public int compare(Object o1, Object o2) {
@@ -83,12 +83,12 @@ public class WFGHypervolume extends Hypervolume {
     }
   }
 
-  static int n;
-  static Front[] fs; // memory management stuff
-  static int safe = 0; // the number of points that don't need sorting
-  static int fr = 0;
+  private int n;
+  private Front[] fs; // memory management stuff
+  private int safe = 0; // the number of points that don't need sorting
+  private int fr = 0;
 
-  static double CalculateHypervolume(double[][] fronton, int noPoints, int noObjectives) {
+  private double CalculateHypervolume(double[][] fronton, int noPoints, int noObjectives) {
 
     n = noObjectives;
     safe = 0;
@@ -102,16 +102,16 @@ public class WFGHypervolume extends Hypervolume {
     return volume;
   }
 
-  static boolean BEATS(double x, double y) {
+  private boolean BEATS(double x, double y) {
     if (x > y) return true;
     return false;
   }
 
-  static double WORSE(double x, double y) {
+  private double WORSE(double x, double y) {
     return x > y ? y : x;
   }
 
-  static int dominates2way(Point p, Point q, int k)
+  private int dominates2way(Point p, Point q, int k)
   // returns -1 if p dominates q, 1 if q dominates p, 2 if p == q, 0 otherwise
   // k is the highest index inspected
   {
@@ -126,7 +126,7 @@ public class WFGHypervolume extends Hypervolume {
     return 2;
   }
 
-  static boolean dominates1way(Point p, Point q, int k)
+  private boolean dominates1way(Point p, Point q, int k)
   // returns true if p dominates q or p == q, false otherwise
   // the assumption is that q doesn't dominate p
   // k is the highest index inspected
@@ -135,7 +135,7 @@ public class WFGHypervolume extends Hypervolume {
     return true;
   }
 
-  static void makeDominatedBit(Front ps, int p)
+  private void makeDominatedBit(Front ps, int p)
   // creates the front ps[0 .. p-1] in fs[fr], with each point bounded by ps[p] and dominated
   // points removed
   {
@@ -234,7 +234,7 @@ public class WFGHypervolume extends Hypervolume {
     fr++;
   }
 
-  static double hv2(Front ps, int k)
+  private double hv2(Front ps, int k)
   // returns the hypervolume of ps[0 .. k-1] in 2D
   // assumes that ps is sorted improving
   {
@@ -246,7 +246,7 @@ public class WFGHypervolume extends Hypervolume {
     return volume;
   }
 
-  static double inclhv(Point p)
+  private double inclhv(Point p)
   // returns the inclusive hypervolume of p
   {
     double volume = 1;
@@ -254,7 +254,7 @@ public class WFGHypervolume extends Hypervolume {
     return volume;
   }
 
-  static double inclhv2(Point p, Point q)
+  private double inclhv2(Point p, Point q)
   // returns the hypervolume of {p, q}
   {
     double vp = 1;
@@ -269,7 +269,7 @@ public class WFGHypervolume extends Hypervolume {
     return suma;
   }
 
-  static double inclhv3(Point p, Point q, Point r)
+  private double inclhv3(Point p, Point q, Point r)
   // returns the hypervolume of {p, q, r}
   {
     double vp = 1;
@@ -310,7 +310,7 @@ public class WFGHypervolume extends Hypervolume {
     return vp + vq + vr - vpq - vpr - vqr + vpqr;
   }
 
-  static double inclhv4(Point p, Point q, Point r, Point s)
+  private double inclhv4(Point p, Point q, Point r, Point s)
   // returns the hypervolume of {p, q, r, s}
   {
     double vp = 1;
@@ -448,7 +448,7 @@ public class WFGHypervolume extends Hypervolume {
             - vpqrs;
   }
 
-  static double exclhv(Front ps, int p)
+  private double exclhv(Front ps, int p)
   // returns the exclusive hypervolume of ps[p] relative to ps[0 .. p-1]
   {
     makeDominatedBit(ps, p);
@@ -459,7 +459,7 @@ public class WFGHypervolume extends Hypervolume {
     return volume;
   }
 
-  static double hv(Front ps)
+  private double hv(Front ps)
   // returns the hypervolume of ps[0 ..]
   {
     // process small fronts with the IEA
@@ -0,0 +1,133 @@
+package jmetal.core.qualityindicator.impl.hypervolume.incremental;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import jmetal.core.util.errorchecking.Check;
+
+/**
+ * Base class of the {@link IncrementalHypervolume} implementations. It keeps the points indexed by
+ * item and delegates the maintenance of the hypervolume to the subclasses.
+ *
+ * @param <T> Type of the items associated to the points
+ */
+public abstract class AbstractIncrementalHypervolume<T> implements IncrementalHypervolume<T> {
+  protected final double[] referencePoint;
+  private final Map<T, Point<T>> points = new IdentityHashMap<>();
+  private long insertions = 0;
+
+  protected AbstractIncrementalHypervolume(double[] referencePoint) {
+    Check.notNull(referencePoint);
+    this.referencePoint = referencePoint.clone();
+  }
+
+  @Override
+  public boolean add(T item, double[] objectives) {
+    Check.notNull(item);
+    Check.notNull(objectives);
+    Check.that(objectives.length == referencePoint.length,
+        "The number of objectives (" + objectives.length + ") is not the dimension of the "
+            + "reference point (" + referencePoint.length + ")");
+    if (points.containsKey(item)) {
+      return false;
+    }
+
+    Point<T> point = new Point<>(item, objectives.clone(), insertions++);
+    points.put(item, point);
+    insert(point);
+
+    return true;
+  }
+
+  @Override
+  public boolean remove(T item) {
+    Point<T> point = points.remove(item);
+    if (point == null) {
+      return false;
+    }
+    delete(point);
+
+    return true;
+  }
+
+  @Override
+  public boolean contains(T item) {
+    return points.containsKey(item);
+  }
+
+  @Override
+  public int size() {
+    return points.size();
+  }
+
+  @Override
+  public void clear() {
+    points.clear();
+    reset();
+  }
+
+  @Override
+  public double[] referencePoint() {
+    return referencePoint.clone();
+  }
+
+  @Override
+  public double contribution(T item) {
+    Point<T> point = points.get(item);
+    Check.that(point != null, "The item is not in the set");
+
+    return contribution(point);
+  }
+
+  @Override
+  public T leastContributor() {
+    if (points.isEmpty()) {
+      return null;
+    }
+
+    return leastContributingPoint().item;
+  }
+
+  protected Collection<Point<T>> points() {
+    return points.values();
+  }
+
+  /**
+   * Returns true if the point is strictly better than the reference point in all the objectives
+   */
+  protected boolean isInsideTheReferencePoint(double[] objectives) {
+    for (int i = 0; i < objectives.length; i++) {
+      if (objectives[i] >= referencePoint[i]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  protected abstract void insert(Point<T> point);
+
+  protected abstract void delete(Point<T> point);
+
+  protected abstract double contribution(Point<T> point);
+
+  protected abstract Point<T> leastContributingPoint();
+
+  protected abstract void reset();
+
+  /**
+   * A point of the set. The order is the insertion number, used to break ties.
+   */
+  protected static class Point<T> {
+    protected final T item;
+    protected final double[] objectives;
+    protected final long order;
+    protected double contribution;
+
+    protected Point(T item, double[] objectives, long order) {
+      this.item = item;
+      this.objectives = objectives;
+      this.order = order;
+    }
+  }
+}
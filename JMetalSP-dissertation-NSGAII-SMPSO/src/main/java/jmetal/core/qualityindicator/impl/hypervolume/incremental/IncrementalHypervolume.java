@@ -0,0 +1,54 @@
+package jmetal.core.qualityindicator.impl.hypervolume.incremental;
+
+/**
+ * Hypervolume of a set of points (minimization) that is updated when points are inserted or
+ * removed, instead of being recomputed from scratch. The points are associated to items (typically
+ * solutions), which are compared by identity. The exclusive contribution of every point, i.e., the
+ * hypervolume lost if the point is removed, can be queried as well.
+ *
+ * <p>Only the region between the points and the reference point is measured; points that are not
+ * strictly better than the reference point in all the objectives do not contribute.
+ *
+ * @param <T> Type of the items associated to the points
+ */
+public interface IncrementalHypervolume<T> {
+  /**
+   * Inserts a point. The objectives are copied, so later changes in the array have no effect.
+   *
+   * @return false if the item was already in the set
+   */
+  boolean add(T item, double[] objectives);
+
+  /**
+   * Removes the point of an item
+   *
+   * @return false if the item was not in the set
+   */
+  boolean remove(T item);
+
+  boolean contains(T item);
+
+  int size();
+
+  void clear();
+
+  double[] referencePoint();
+
+  /**
+   * Hypervolume of the current set of points
+   */
+  double value();
+
+  /**
+   * Hypervolume exclusively dominated by the point of an item (zero if it is dominated)
+   */
+  double contribution(T item);
+
+  /**
+   * Item whose point has the lowest exclusive contribution. Ties are broken in favour of the item
+   * inserted first.
+   *
+   * @return null if the set is empty
+   */
+  T leastContributor();
+}
@@ -0,0 +1,182 @@
+package jmetal.core.qualityindicator.impl.hypervolume.incremental;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import jmetal.core.util.errorchecking.Check;
+
+/**
+ * Exact incremental hypervolume for two objectives. The non-dominated points are kept in a
+ * balanced tree sorted by the first objective (the second one is then decreasing), so that the
+ * exclusive contribution of a point only depends on its two neighbours:
+ * <pre>
+ *   contribution(p) = (right.f1 - p.f1) * (left.f2 - p.f2)
+ * </pre>
+ * The contributions are kept in a second tree, so the least contributor is found in O(log n).
+ * Inserting a point costs O(log n) plus O(log n) per point it dominates; removing a point costs
+ * O(log n) plus the re-examination of the points it was dominating, which may become
+ * non-dominated. Weakly dominated points (including duplicates) contribute zero; if there are such
+ * points, querying the contribution of a non-dominated point also takes into account the part of
+ * its region that they cover, in O(d log d) for d dominated points.
+ *
+ * @param <T> Type of the items associated to the points
+ */
+public class IncrementalHypervolume2D<T> extends AbstractIncrementalHypervolume<T> {
+  private final TreeSet<Point<T>> front;
+  private final TreeSet<Point<T>> contributions;
+  private final Set<Point<T>> dominated = new LinkedHashSet<>();
+  private double value = 0.0;
+
+  public IncrementalHypervolume2D(double[] referencePoint) {
+    super(referencePoint);
+    Check.that(referencePoint.length == 2,
+        "The reference point must have two objectives instead of " + referencePoint.length);
+
+    front = new TreeSet<>(
+        Comparator.comparingDouble((Point<T> point) -> point.objectives[0])
+            .thenComparingLong(point -> point.order));
+    contributions = new TreeSet<>(
+        Comparator.comparingDouble((Point<T> point) -> point.contribution)
+            .thenComparingLong(point -> point.order));
+  }
+
+  @Override
+  public double value() {
+    return value;
+  }
+
+  @Override
+  protected void insert(Point<T> point) {
+    if (!isInsideTheReferencePoint(point.objectives) || isWeaklyDominated(point)) {
+      dominated.add(point);
+    } else {
+      insertIntoTheFront(point);
+    }
+  }
+
+  @Override
+  protected void delete(Point<T> point) {
+    if (dominated.remove(point)) {
+      return;
+    }
+    removeFromTheFront(point);
+
+    // Only the points inside the region of the removed one can become non-dominated. They are
+    // inserted in lexicographic order, so none of them can dominate a previously inserted one
+    List<Point<T>> candidates = new ArrayList<>();
+    for (Point<T> candidate : dominated) {
+      if (candidate.objectives[0] >= point.objectives[0]
+          && candidate.objectives[1] >= point.objectives[1]
+          && isInsideTheReferencePoint(candidate.objectives)) {
+        candidates.add(candidate);
+      }
+    }
+    candidates.sort(
+        Comparator.comparingDouble((Point<T> candidate) -> candidate.objectives[0])
+            .thenComparingDouble(candidate -> candidate.objectives[1])
+            .thenComparingLong(candidate -> candidate.order));
+    for (Point<T> candidate : candidates) {
+      if (!isWeaklyDominated(candidate)) {
+        dominated.remove(candidate);
+        insertIntoTheFront(candidate);
+      }
+    }
+  }
+
+  @Override
+  protected double contribution(Point<T> point) {
+    if (point.contribution == 0.0 || dominated.isEmpty()) {
+      return point.contribution;
+    }
+
+    // The dominated points cover part of the region of the point once it is removed. Those not
+    // dominated by this point are clipped outside its region and do not count
+    Point<T> left = front.lower(point);
+    Point<T> right = front.higher(point);
+    double[] corner = {
+        right == null ? referencePoint[0] : right.objectives[0],
+        left == null ? referencePoint[1] : left.objectives[1]};
+
+    IncrementalHypervolume2D<Point<T>> coveredRegion = new IncrementalHypervolume2D<>(corner);
+    for (Point<T> dominatedPoint : dominated) {
+      coveredRegion.add(dominatedPoint, new double[] {
+          Math.max(dominatedPoint.objectives[0], point.objectives[0]),
+          Math.max(dominatedPoint.objectives[1], point.objectives[1])});
+    }
+
+    return point.contribution - coveredRegion.value();
+  }
+
+  @Override
+  protected Point<T> leastContributingPoint() {
+    if (!dominated.isEmpty()) {
+      return dominated.iterator().next();
+    }
+
+    return contributions.first();
+  }
+
+  @Override
+  protected void reset() {
+    front.clear();
+    contributions.clear();
+    dominated.clear();
+    value = 0.0;
+  }
+
+  private boolean isWeaklyDominated(Point<T> point) {
+    Point<T> floor = front.floor(probe(point.objectives[0], Long.MAX_VALUE));
+
+    return floor != null && floor.objectives[1] <= point.objectives[1];
+  }
+
+  private void insertIntoTheFront(Point<T> point) {
+    Point<T> next = front.ceiling(probe(point.objectives[0], Long.MIN_VALUE));
+    while (next != null && next.objectives[1] >= point.objectives[1]) {
+      removeFromTheFront(next);
+      dominated.add(next);
+      next = front.ceiling(probe(point.objectives[0], Long.MIN_VALUE));
+    }
+
+    front.add(point);
+    updateContribution(point);
+    value += point.contribution;
+    updateContribution(front.lower(point));
+    updateContribution(front.higher(point));
+  }
+
+  private void removeFromTheFront(Point<T> point) {
+    Point<T> left = front.lower(point);
+    Point<T> right = front.higher(point);
+
+    contributions.remove(point);
+    front.remove(point);
+    value -= point.contribution;
+    point.contribution = 0.0;
+
+    updateContribution(left);
+    updateContribution(right);
+  }
+
+  private void updateContribution(Point<T> point) {
+    if (point == null) {
+      return;
+    }
+
+    Point<T> left = front.lower(point);
+    Point<T> right = front.higher(point);
+    double width = (right == null ? referencePoint[0] : right.objectives[0]) - point.objectives[0];
+    double height = (left == null ? referencePoint[1] : left.objectives[1]) - point.objectives[1];
+
+    contributions.remove(point);
+    point.contribution = width * height;
+    contributions.add(point);
+  }
+
+  private Point<T> probe(double firstObjective, long order) {
+    return new Point<>(null, new double[] {firstObjective, 0.0}, order);
+  }
+}
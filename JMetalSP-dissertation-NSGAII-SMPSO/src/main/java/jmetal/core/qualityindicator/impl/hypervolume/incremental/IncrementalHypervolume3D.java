@@ -0,0 +1,139 @@
+package jmetal.core.qualityindicator.impl.hypervolume.incremental;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import jmetal.core.util.errorchecking.Check;
+
+/**
+ * Exact incremental hypervolume for three objectives. When a point is inserted or removed, only
+ * its exclusive contribution is computed and added to (or subtracted from) the current value. The
+ * contribution of a point p is the volume of the box between p and the reference point minus the
+ * volume dominated inside that box by the other points, which is computed with a sweep along the
+ * third objective maintaining a {@link IncrementalHypervolume2D} of the first two, in O(n log n).
+ * The contributions of all the points, needed to find the least contributor, are cached until the
+ * set changes.
+ *
+ * @param <T> Type of the items associated to the points
+ */
+public class IncrementalHypervolume3D<T> extends AbstractIncrementalHypervolume<T> {
+  private double value = 0.0;
+  private boolean contributionsAreUpToDate = true;
+
+  public IncrementalHypervolume3D(double[] referencePoint) {
+    super(referencePoint);
+    Check.that(referencePoint.length == 3,
+        "The reference point must have three objectives instead of " + referencePoint.length);
+  }
+
+  @Override
+  public double value() {
+    return value;
+  }
+
+  @Override
+  protected void insert(Point<T> point) {
+    value += exclusiveContribution(point);
+    contributionsAreUpToDate = false;
+  }
+
+  @Override
+  protected void delete(Point<T> point) {
+    value -= exclusiveContribution(point);
+    if (points().isEmpty()) {
+      value = 0.0;
+    }
+    contributionsAreUpToDate = false;
+  }
+
+  @Override
+  protected double contribution(Point<T> point) {
+    if (contributionsAreUpToDate) {
+      return point.contribution;
+    }
+
+    return exclusiveContribution(point);
+  }
+
+  @Override
+  protected Point<T> leastContributingPoint() {
+    if (!contributionsAreUpToDate) {
+      for (Point<T> point : points()) {
+        point.contribution = exclusiveContribution(point);
+      }
+      contributionsAreUpToDate = true;
+    }
+
+    Point<T> least = null;
+    for (Point<T> point : points()) {
+      if (least == null
+          || point.contribution < least.contribution
+          || (point.contribution == least.contribution && point.order < least.order)) {
+        least = point;
+      }
+    }
+
+    return least;
+  }
+
+  @Override
+  protected void reset() {
+    value = 0.0;
+    contributionsAreUpToDate = true;
+  }
+
+  /**
+   * Volume exclusively dominated by a point with respect to the other points of the set (the
+   * point itself may or may not be in the set)
+   */
+  private double exclusiveContribution(Point<T> point) {
+    double[] objectives = point.objectives;
+    if (!isInsideTheReferencePoint(objectives)) {
+      return 0.0;
+    }
+
+    List<double[]> clippedPoints = new ArrayList<>();
+    for (Point<T> other : points()) {
+      if (other != point) {
+        double[] clipped = new double[3];
+        for (int i = 0; i < 3; i++) {
+          clipped[i] = Math.max(objectives[i], other.objectives[i]);
+        }
+        if (isInsideTheReferencePoint(clipped)) {
+          clippedPoints.add(clipped);
+        }
+      }
+    }
+
+    double boxVolume = 1.0;
+    for (int i = 0; i < 3; i++) {
+      boxVolume *= referencePoint[i] - objectives[i];
+    }
+
+    return Math.max(0.0, boxVolume - volume(clippedPoints, referencePoint));
+  }
+
+  /**
+   * Hypervolume of a list of points, all of them inside the reference point, computed by sweeping
+   * along the third objective
+   */
+  static double volume(List<double[]> points, double[] referencePoint) {
+    if (points.isEmpty()) {
+      return 0.0;
+    }
+    points.sort(Comparator.comparingDouble(point -> point[2]));
+
+    IncrementalHypervolume2D<double[]> slice =
+        new IncrementalHypervolume2D<>(Arrays.copyOf(referencePoint, 2));
+    double volume = 0.0;
+    for (int i = 0; i < points.size(); i++) {
+      double[] point = points.get(i);
+      slice.add(point, Arrays.copyOf(point, 2));
+      double nextHeight = (i + 1 < points.size()) ? points.get(i + 1)[2] : referencePoint[2];
+      volume += slice.value() * (nextHeight - point[2]);
+    }
+
+    return volume;
+  }
+}
@@ -0,0 +1,52 @@
+package jmetal.core.qualityindicator.impl.hypervolume.incremental;
+
+import jmetal.core.util.errorchecking.Check;
+
+/**
+ * Creates the {@link IncrementalHypervolume} implementation suited to the number of objectives:
+ * exact for two ({@link IncrementalHypervolume2D}) and three ({@link IncrementalHypervolume3D})
+ * objectives, and a Monte Carlo estimation ({@link MonteCarloIncrementalHypervolume}) otherwise.
+ */
+public class IncrementalHypervolumeFactory {
+  private IncrementalHypervolumeFactory() {
+  }
+
+  /**
+   * Creates an exact incremental hypervolume for two or three objectives. The Monte Carlo
+   * estimation used for more objectives needs a lower bound of the objectives to delimit the
+   * sampled region, so it must be created with {@link #create(double[], double[])}.
+   */
+  public static <T> IncrementalHypervolume<T> create(double[] referencePoint) {
+    Check.notNull(referencePoint);
+    Check.that(referencePoint.length <= 3,
+        "A lower bound of the objectives is needed with " + referencePoint.length
+            + " objectives");
+
+    return create(referencePoint, null);
+  }
+
+  /**
+   * Creates an incremental hypervolume. The lower bound is only used by the Monte Carlo
+   * estimation (more than three objectives) to delimit the sampled region, so it can be null with
+   * two or three objectives. Points below it are only measured inside the sampled region.
+   */
+  public static <T> IncrementalHypervolume<T> create(double[] referencePoint,
+      double[] lowerBound) {
+    Check.notNull(referencePoint);
+    Check.that(referencePoint.length >= 2,
+        "The reference point must have at least two objectives instead of "
+            + referencePoint.length);
+
+    IncrementalHypervolume<T> hypervolume;
+    if (referencePoint.length == 2) {
+      hypervolume = new IncrementalHypervolume2D<>(referencePoint);
+    } else if (referencePoint.length == 3) {
+      hypervolume = new IncrementalHypervolume3D<>(referencePoint);
+    } else {
+      Check.notNull(lowerBound);
+      hypervolume = new MonteCarloIncrementalHypervolume<>(referencePoint, lowerBound);
+    }
+
+    return hypervolume;
+  }
+}
@@ -0,0 +1,142 @@
+package jmetal.core.qualityindicator.impl.hypervolume.incremental;
+
+import java.util.Arrays;
+import jmetal.core.util.errorchecking.Check;
+import jmetal.core.util.pseudorandom.PseudoRandomGenerator;
+import jmetal.core.util.pseudorandom.impl.JavaRandomGenerator;
+
+/**
+ * Monte Carlo estimation of the hypervolume for any number of objectives. A fixed set of samples
+ * is drawn uniformly in the box between a lower bound and the reference point, and for each
+ * sample the number of points dominating it is kept. Inserting or removing a point updates the
+ * counters of the samples it dominates, in O(KM) for K samples and M objectives, and the
+ * hypervolume is estimated as the fraction of dominated samples times the volume of the box.
+ *
+ * <p>The estimation is unbiased if no point is below the lower bound (otherwise the part of the
+ * dominated region outside the box is not measured). Its standard error, returned by {@link
+ * #standardError()}, is {@code V * sqrt(q (1 - q) / K)}, where V is the volume of the box and q the
+ * fraction of dominated samples; the exclusive contributions are estimated from the samples
+ * dominated by exactly one point. The samples are generated with their own random generator, so
+ * the random sequence of the algorithm using the estimator is not altered.
+ *
+ * @param <T> Type of the items associated to the points
+ */
+public class MonteCarloIncrementalHypervolume<T> extends AbstractIncrementalHypervolume<T> {
+  public static final int DEFAULT_NUMBER_OF_SAMPLES = 10000;
+  public static final long DEFAULT_SEED = 1L;
+
+  private final double[][] samples;
+  private final int[] numberOfDominatingPoints;
+  private final double boxVolume;
+  private int dominatedSamples = 0;
+
+  public MonteCarloIncrementalHypervolume(double[] referencePoint, double[] lowerBound) {
+    this(referencePoint, lowerBound, DEFAULT_NUMBER_OF_SAMPLES,
+        new JavaRandomGenerator(DEFAULT_SEED));
+  }
+
+  public MonteCarloIncrementalHypervolume(double[] referencePoint, double[] lowerBound,
+      int numberOfSamples, PseudoRandomGenerator randomGenerator) {
+    super(referencePoint);
+    Check.notNull(lowerBound);
+    Check.notNull(randomGenerator);
+    Check.that(lowerBound.length == referencePoint.length,
+        "The lower bound and the reference point have different dimensions");
+    Check.that(numberOfSamples > 0, "The number of samples must be positive: " + numberOfSamples);
+
+    double volume = 1.0;
+    for (int i = 0; i < referencePoint.length; i++) {
+      Check.that(lowerBound[i] < referencePoint[i],
+          "The lower bound must be lower than the reference point in all the objectives");
+      volume *= referencePoint[i] - lowerBound[i];
+    }
+    boxVolume = volume;
+
+    samples = new double[numberOfSamples][referencePoint.length];
+    for (double[] sample : samples) {
+      for (int i = 0; i < referencePoint.length; i++) {
+        sample[i] = randomGenerator.nextDouble(lowerBound[i], referencePoint[i]);
+      }
+    }
+    numberOfDominatingPoints = new int[numberOfSamples];
+  }
+
+  @Override
+  public double value() {
+    return boxVolume * dominatedSamples / samples.length;
+  }
+
+  /**
+   * Standard error of the estimation returned by {@link #value()}
+   */
+  public double standardError() {
+    double fraction = (double) dominatedSamples / samples.length;
+
+    return boxVolume * Math.sqrt(fraction * (1.0 - fraction) / samples.length);
+  }
+
+  public int numberOfSamples() {
+    return samples.length;
+  }
+
+  @Override
+  protected void insert(Point<T> point) {
+    for (int i = 0; i < samples.length; i++) {
+      if (dominates(point.objectives, samples[i]) && numberOfDominatingPoints[i]++ == 0) {
+        dominatedSamples++;
+      }
+    }
+  }
+
+  @Override
+  protected void delete(Point<T> point) {
+    for (int i = 0; i < samples.length; i++) {
+      if (dominates(point.objectives, samples[i]) && --numberOfDominatingPoints[i] == 0) {
+        dominatedSamples--;
+      }
+    }
+  }
+
+  @Override
+  protected double contribution(Point<T> point) {
+    int exclusiveSamples = 0;
+    for (int i = 0; i < samples.length; i++) {
+      if (numberOfDominatingPoints[i] == 1 && dominates(point.objectives, samples[i])) {
+        exclusiveSamples++;
+      }
+    }
+
+    return boxVolume * exclusiveSamples / samples.length;
+  }
+
+  @Override
+  protected Point<T> leastContributingPoint() {
+    Point<T> least = null;
+    for (Point<T> point : points()) {
+      point.contribution = contribution(point);
+      if (least == null
+          || point.contribution < least.contribution
+          || (point.contribution == least.contribution && point.order < least.order)) {
+        least = point;
+      }
+    }
+
+    return least;
+  }
+
+  @Override
+  protected void reset() {
+    Arrays.fill(numberOfDominatingPoints, 0);
+    dominatedSamples = 0;
+  }
+
+  private static boolean dominates(double[] point, double[] sample) {
+    for (int i = 0; i < point.length; i++) {
+      if (point[i] > sample[i]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+}
@@ -0,0 +1,186 @@
+package jmetal.core.solution;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import jmetal.core.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import jmetal.core.util.ranking.impl.FastNonDominatedSortRanking;
+import jmetal.core.util.solutionattribute.impl.GenericSolutionAttribute;
+
+/**
+ * Map of solution attributes with fixed slots for the attributes used in every generation of the
+ * most common algorithms: the rank of {@link FastNonDominatedSortRanking}, the crowding distance of
+ * {@link CrowdingDistanceDensityEstimator} and the local best of SMPSO (a {@link
+ * GenericSolutionAttribute} with the default identifier). Other attributes are stored in a
+ * {@link HashMap} created the first time one of them is added, so a solution without attributes
+ * does not allocate a hash table and copying the map is cheap.
+ */
+@SuppressWarnings("serial")
+public class CompactAttributeMap extends AbstractMap<Object, Object> implements Serializable {
+  private static final Object[] SLOT_KEYS = {
+      FastNonDominatedSortRanking.class.getName(),
+      CrowdingDistanceDensityEstimator.class.getName(),
+      GenericSolutionAttribute.class
+  };
+  // marks an empty slot, so that null values can be stored as in a HashMap
+  private enum Absent { INSTANCE }
+  private static final Object ABSENT = Absent.INSTANCE;
+
+  private final Object[] slots;
+  private HashMap<Object, Object> otherAttributes;
+
+  public CompactAttributeMap() {
+    slots = new Object[SLOT_KEYS.length];
+    Arrays.fill(slots, ABSENT);
+  }
+
+  /** Copy constructor */
+  public CompactAttributeMap(CompactAttributeMap map) {
+    slots = map.slots.clone();
+    otherAttributes = map.otherAttributes == null ? null : new HashMap<>(map.otherAttributes);
+  }
+
+  private static int slot(Object key) {
+    for (int i = 0; i < SLOT_KEYS.length; i++) {
+      if (SLOT_KEYS[i].equals(key)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public Object get(Object key) {
+    int slot = slot(key);
+    if (slot >= 0) {
+      return slots[slot] == ABSENT ? null : slots[slot];
+    }
+    return otherAttributes == null ? null : otherAttributes.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    int slot = slot(key);
+    if (slot >= 0) {
+      return slots[slot] != ABSENT;
+    }
+    return otherAttributes != null && otherAttributes.containsKey(key);
+  }
+
+  @Override
+  public Object put(Object key, Object value) {
+    int slot = slot(key);
+    if (slot >= 0) {
+      Object previous = slots[slot];
+      slots[slot] = value;
+      return previous == ABSENT ? null : previous;
+    }
+    if (otherAttributes == null) {
+      otherAttributes = new HashMap<>();
+    }
+    return otherAttributes.put(key, value);
+  }
+
+  @Override
+  public Object remove(Object key) {
+    int slot = slot(key);
+    if (slot >= 0) {
+      Object previous = slots[slot];
+      slots[slot] = ABSENT;
+      return previous == ABSENT ? null : previous;
+    }
+    return otherAttributes == null ? null : otherAttributes.remove(key);
+  }
+
+  @Override
+  public int size() {
+    int size = otherAttributes == null ? 0 : otherAttributes.size();
+    for (Object value : slots) {
+      if (value != ABSENT) {
+        size++;
+      }
+    }
+    return size;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(slots, ABSENT);
+    if (otherAttributes != null) {
+      otherAttributes.clear();
+    }
+  }
+
+  @Override
+  public Set<Entry<Object, Object>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<Object, Object>> iterator() {
+        return new EntryIterator();
+      }
+
+      @Override
+      public int size() {
+        return CompactAttributeMap.this.size();
+      }
+    };
+  }
+
+  /**
+   * Iterates over a snapshot of the entries; {@link Entry#setValue} and {@link Iterator#remove}
+   * write through to the map
+   */
+  private class EntryIterator implements Iterator<Entry<Object, Object>> {
+    private final List<Object> keys = new ArrayList<>();
+    private int next = 0;
+    private Object current = ABSENT;
+
+    EntryIterator() {
+      for (int i = 0; i < SLOT_KEYS.length; i++) {
+        if (slots[i] != ABSENT) {
+          keys.add(SLOT_KEYS[i]);
+        }
+      }
+      if (otherAttributes != null) {
+        keys.addAll(otherAttributes.keySet());
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next < keys.size();
+    }
+
+    @Override
+    public Entry<Object, Object> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      Object key = keys.get(next++);
+      current = key;
+      return new SimpleEntry<>(key, get(key)) {
+        @Override
+        public Object setValue(Object value) {
+          super.setValue(value);
+          return put(key, value);
+        }
+      };
+    }
+
+    @Override
+    public void remove() {
+      if (current == ABSENT) {
+        throw new IllegalStateException();
+      }
+      CompactAttributeMap.this.remove(current);
+      current = ABSENT;
+    }
+  }
+}
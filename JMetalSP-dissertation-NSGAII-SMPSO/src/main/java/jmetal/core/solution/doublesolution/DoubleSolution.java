@@ -11,4 +11,19 @@ import jmetal.core.util.bounds.Bounds;
  */
 public interface DoubleSolution extends Solution<Double> {
   Bounds<Double> getBounds(int index) ;
+
+  /**
+   * Returns the value of a variable. Implementations storing the variables as primitives (see
+   * {@link jmetal.core.solution.doublesolution.impl.ArrayDoubleSolution}) avoid boxing it.
+   */
+  default double variableValue(int index) {
+    return variables().get(index) ;
+  }
+
+  /**
+   * Sets the value of a variable without boxing it if the implementation stores primitives
+   */
+  default void variableValue(int index, double value) {
+    variables().set(index, value) ;
+  }
 }
@@ -0,0 +1,157 @@
+package jmetal.core.solution.doublesolution.impl;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import jmetal.core.solution.CompactAttributeMap;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.util.bounds.Bounds;
+import jmetal.core.util.pseudorandom.JMetalRandom;
+
+/**
+ * Implementation of {@link DoubleSolution} storing the variables in a {@code double[]} instead of
+ * a {@code List<Double>}, and the attributes in a {@link CompactAttributeMap}. The list returned
+ * by {@link #variables()} is a view of the array; operators using {@link #variableValue(int)} and
+ * {@link #variableValue(int, double)} do not box the values. Copying a solution only copies
+ * arrays, which reduces the allocations of problems with many variables (e.g. LSMOP or
+ * BigOpt2015). It can be selected with {@link
+ * jmetal.core.problem.doubleproblem.impl.AbstractDoubleProblem#arrayBackedSolutions(boolean)}.
+ */
+@SuppressWarnings("serial")
+public class ArrayDoubleSolution implements DoubleSolution {
+  private final double[] variables;
+  private final double[] objectives;
+  private final double[] constraints;
+  private final CompactAttributeMap attributes;
+  private final List<Bounds<Double>> bounds;
+  private transient List<Double> variableList;
+
+  /**
+   * Constructor
+   */
+  public ArrayDoubleSolution(List<Bounds<Double>> boundsList,
+      int numberOfObjectives,
+      int numberOfConstraints) {
+    this.bounds = boundsList;
+    variables = new double[boundsList.size()];
+    objectives = new double[numberOfObjectives];
+    constraints = new double[numberOfConstraints];
+    attributes = new CompactAttributeMap();
+
+    for (int i = 0; i < variables.length; i++) {
+      variables[i] = JMetalRandom.getInstance().nextDouble(bounds.get(i).getLowerBound(), bounds.get(i).getUpperBound());
+    }
+  }
+
+  /**
+   * Copy constructor
+   */
+  public ArrayDoubleSolution(ArrayDoubleSolution solution) {
+    variables = solution.variables.clone();
+    objectives = solution.objectives.clone();
+    constraints = solution.constraints.clone();
+    bounds = solution.bounds;
+    attributes = new CompactAttributeMap(solution.attributes);
+  }
+
+  @Override
+  public List<Double> variables() {
+    if (variableList == null) {
+      variableList = new VariableList();
+    }
+    return variableList;
+  }
+
+  @Override
+  public double variableValue(int index) {
+    return variables[index];
+  }
+
+  @Override
+  public void variableValue(int index, double value) {
+    variables[index] = value;
+  }
+
+  @Override
+  public double[] objectives() {
+    return objectives;
+  }
+
+  @Override
+  public double[] constraints() {
+    return constraints;
+  }
+
+  @Override
+  public Map<Object, Object> attributes() {
+    return attributes;
+  }
+
+  @Override
+  public Bounds<Double> getBounds(int index) {
+    return bounds.get(index);
+  }
+
+  @Override
+  public ArrayDoubleSolution copy() {
+    return new ArrayDoubleSolution(this);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder result = new StringBuilder("Variables: ");
+    for (double variable : variables) {
+      result.append(variable).append(" ");
+    }
+    result.append("Objectives: ");
+    for (double objective : objectives) {
+      result.append(objective).append(" ");
+    }
+    result.append("Constraints: ");
+    for (double constraint : constraints) {
+      result.append(constraint).append(" ");
+    }
+    result.append("\t");
+    result.append("AlgorithmAttributes: ").append(attributes).append("\n");
+
+    return result.toString();
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (object == null || this.getClass() != object.getClass()) {
+      return false;
+    }
+
+    return Arrays.equals(variables, ((ArrayDoubleSolution) object).variables);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(variables);
+  }
+
+  /**
+   * Fixed-size view of the variables array
+   */
+  private class VariableList extends AbstractList<Double> implements RandomAccess {
+    @Override
+    public Double get(int index) {
+      return variables[index];
+    }
+
+    @Override
+    public Double set(int index, Double value) {
+      double previous = variables[index];
+      variables[index] = value;
+      return previous;
+    }
+
+    @Override
+    public int size() {
+      return variables.length;
+    }
+  }
+}
@@ -2,7 +2,6 @@ package jmetal.core.solution.doublesolution.impl;
 
 import java.util.HashMap;
 import java.util.List;
-import java.util.stream.IntStream;
 import jmetal.core.solution.AbstractSolution;
 import jmetal.core.solution.doublesolution.DoubleSolution;
 import jmetal.core.util.bounds.Bounds;
@@ -38,9 +37,11 @@ public class DefaultDoubleSolution extends AbstractSolution<Double> implements D
   public DefaultDoubleSolution(DefaultDoubleSolution solution) {
     super(solution.variables().size(), solution.objectives().length, solution.constraints().length);
 
-    IntStream.range(0, solution.variables().size()).forEach(i -> variables().set(i, solution.variables().get(i)));
-    IntStream.range(0, solution.objectives().length).forEach(i -> objectives()[i] = solution.objectives()[i]);
-    IntStream.range(0, solution.constraints().length).forEach(i -> constraints()[i] = solution.constraints()[i]);
+    for (int i = 0; i < solution.variables().size(); i++) {
+      variables().set(i, solution.variables().get(i));
+    }
+    System.arraycopy(solution.objectives(), 0, objectives(), 0, solution.objectives().length);
+    System.arraycopy(solution.constraints(), 0, constraints(), 0, solution.constraints().length);
 
     bounds = solution.bounds;
     attributes = new HashMap<>(solution.attributes);
@@ -0,0 +1,75 @@
+package jmetal.core.tests.qualityindicator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import jmetal.core.qualityindicator.QualityIndicator;
+import jmetal.core.qualityindicator.impl.GeneralizedSpread;
+import org.junit.Test;
+
+public class GeneralizedSpreadTest {
+  private static double[][] randomFront(int numberOfPoints, int numberOfObjectives, long seed) {
+    Random random = new Random(seed);
+    double[][] front = new double[numberOfPoints][numberOfObjectives];
+    for (int i = 0; i < numberOfPoints; i++) {
+      double sum = 0.0;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        front[i][j] = random.nextDouble();
+        sum += front[i][j];
+      }
+      for (int j = 0; j < numberOfObjectives; j++) {
+        front[i][j] /= sum;
+      }
+    }
+
+    return front;
+  }
+
+  @Test
+  public void shouldComputeNotReorderTheFrontOrTheReferenceFront() {
+    double[][] referenceFront = randomFront(50, 2, 1);
+    double[][] front = randomFront(20, 2, 2);
+    double[][] referenceFrontCopy = referenceFront.clone();
+    double[][] frontCopy = front.clone();
+
+    new GeneralizedSpread(referenceFront).compute(front);
+
+    assertArrayEquals(referenceFrontCopy, referenceFront);
+    assertArrayEquals(frontCopy, front);
+  }
+
+  @Test
+  public void shouldIndicatorsSharingTheReferenceFrontComputeTheSameValuesInSeveralThreads()
+      throws Exception {
+    double[][] referenceFront = randomFront(2000, 2, 1);
+    QualityIndicator indicator = new GeneralizedSpread(referenceFront);
+    List<double[][]> fronts = new ArrayList<>();
+    for (int i = 0; i < 64; i++) {
+      fronts.add(randomFront(100, 2, 100 + i));
+    }
+
+    double[] sequentialValues = new double[fronts.size()];
+    for (int i = 0; i < fronts.size(); i++) {
+      sequentialValues[i] = indicator.compute(fronts.get(i));
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Double>> values = new ArrayList<>();
+      for (double[][] front : fronts) {
+        values.add(executor.submit(() -> new GeneralizedSpread(referenceFront).compute(front)));
+      }
+      for (int i = 0; i < fronts.size(); i++) {
+        assertEquals(sequentialValues[i], values.get(i).get(), 0.0);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package jmetal.core.tests.qualityindicator.impl.hypervolume.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import jmetal.core.qualityindicator.QualityIndicator;
+import jmetal.core.qualityindicator.impl.hypervolume.impl.WFGHypervolume;
+import org.junit.Test;
+
+public class WFGHypervolumeTest {
+  private static double[][] randomFront(int numberOfPoints, int numberOfObjectives, long seed) {
+    Random random = new Random(seed);
+    double[][] front = new double[numberOfPoints][numberOfObjectives];
+    for (int i = 0; i < numberOfPoints; i++) {
+      double sum = 0.0;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        front[i][j] = random.nextDouble();
+        sum += front[i][j];
+      }
+      for (int j = 0; j < numberOfObjectives; j++) {
+        front[i][j] /= sum;
+      }
+    }
+
+    return front;
+  }
+
+  @Test
+  public void shouldComputeReturnTheVolumeOfASinglePoint() {
+    WFGHypervolume hypervolume = new WFGHypervolume(new double[][] {{1.0, 1.0}});
+
+    assertEquals(0.25, hypervolume.compute(new double[][] {{0.5, 0.5}}), 1e-10);
+  }
+
+  @Test
+  public void shouldTheCopiesBeIndependentOfTheOriginalIndicator() {
+    double[][] referenceFront = randomFront(10, 3, 1);
+    WFGHypervolume hypervolume = new WFGHypervolume(referenceFront);
+
+    QualityIndicator copy = hypervolume.copy();
+    copy.referenceFront(randomFront(10, 4, 2));
+
+    assertSame(referenceFront, hypervolume.referenceFront());
+    assertEquals(4, copy.referenceFront()[0].length);
+  }
+
+  @Test
+  public void shouldCopiesComputeTheSameValuesWhenTheyAreUsedInSeveralThreads() throws Exception {
+    WFGHypervolume hypervolume = new WFGHypervolume(randomFront(10, 5, 1));
+    List<double[][]> fronts = new ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      fronts.add(randomFront(40, 5, 100 + i));
+    }
+
+    double[] sequentialValues = new double[fronts.size()];
+    for (int i = 0; i < fronts.size(); i++) {
+      sequentialValues[i] = hypervolume.compute(fronts.get(i));
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Double>> values = new ArrayList<>();
+      for (double[][] front : fronts) {
+        values.add(executor.submit(() -> hypervolume.copy().compute(front)));
+      }
+      for (int i = 0; i < fronts.size(); i++) {
+        assertEquals(sequentialValues[i], values.get(i).get(), 0.0);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
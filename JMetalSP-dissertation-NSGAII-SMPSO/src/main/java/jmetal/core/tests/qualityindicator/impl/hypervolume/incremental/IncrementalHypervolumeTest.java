@@ -0,0 +1,236 @@
+package jmetal.core.tests.qualityindicator.impl.hypervolume.incremental;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import jmetal.core.qualityindicator.impl.hypervolume.incremental.IncrementalHypervolume;
+import jmetal.core.qualityindicator.impl.hypervolume.incremental.IncrementalHypervolume2D;
+import jmetal.core.qualityindicator.impl.hypervolume.incremental.IncrementalHypervolume3D;
+import jmetal.core.qualityindicator.impl.hypervolume.incremental.IncrementalHypervolumeFactory;
+import jmetal.core.qualityindicator.impl.hypervolume.incremental.MonteCarloIncrementalHypervolume;
+import jmetal.core.util.errorchecking.exception.InvalidConditionException;
+import org.junit.jupiter.api.Test;
+
+public class IncrementalHypervolumeTest {
+  private static final double EPSILON = 0.0000001;
+
+  @Test
+  public void shouldTheHypervolumeOfAnEmptySetBeZero() {
+    IncrementalHypervolume<double[]> hypervolume = new IncrementalHypervolume2D<>(
+        new double[] {1.0, 1.0});
+
+    assertEquals(0.0, hypervolume.value(), EPSILON);
+    assertNull(hypervolume.leastContributor());
+  }
+
+  @Test
+  public void shouldTheHypervolumeOfTwoPointsBeCorrect() {
+    IncrementalHypervolume<String> hypervolume = new IncrementalHypervolume2D<>(
+        new double[] {1.0, 1.0});
+    hypervolume.add("a", new double[] {0.25, 0.75});
+    hypervolume.add("b", new double[] {0.5, 0.5});
+
+    assertEquals(0.25 * 0.25 + 0.5 * 0.5, hypervolume.value(), EPSILON);
+    assertEquals(0.25 * 0.25, hypervolume.contribution("a"), EPSILON);
+    assertEquals(0.5 * 0.25, hypervolume.contribution("b"), EPSILON);
+    assertEquals("a", hypervolume.leastContributor());
+  }
+
+  @Test
+  public void shouldAPointAddedTwiceBeIgnored() {
+    IncrementalHypervolume<String> hypervolume = new IncrementalHypervolume2D<>(
+        new double[] {1.0, 1.0});
+
+    assertTrue(hypervolume.add("a", new double[] {0.5, 0.5}));
+    assertFalse(hypervolume.add("a", new double[] {0.5, 0.5}));
+    assertEquals(1, hypervolume.size());
+  }
+
+  @Test
+  public void shouldAPointOutsideTheReferencePointNotContribute() {
+    IncrementalHypervolume<String> hypervolume = new IncrementalHypervolume2D<>(
+        new double[] {1.0, 1.0});
+    hypervolume.add("a", new double[] {0.5, 0.5});
+    hypervolume.add("b", new double[] {0.1, 2.0});
+
+    assertEquals(0.25, hypervolume.value(), EPSILON);
+    assertEquals(0.0, hypervolume.contribution("b"), EPSILON);
+    assertEquals("b", hypervolume.leastContributor());
+  }
+
+  @Test
+  public void shouldRemovingADominatingPointRestoreTheDominatedOnes() {
+    IncrementalHypervolume<String> hypervolume = new IncrementalHypervolume2D<>(
+        new double[] {1.0, 1.0});
+    hypervolume.add("dominated1", new double[] {0.5, 0.6});
+    hypervolume.add("dominated2", new double[] {0.6, 0.5});
+    hypervolume.add("dominating", new double[] {0.2, 0.2});
+
+    assertEquals(0.64, hypervolume.value(), EPSILON);
+    assertEquals(0.0, hypervolume.contribution("dominated1"), EPSILON);
+    assertEquals(0.64 - 0.24, hypervolume.contribution("dominating"), EPSILON);
+
+    hypervolume.remove("dominating");
+
+    assertEquals(0.4 * 0.5 + 0.5 * 0.4 - 0.4 * 0.4, hypervolume.value(), EPSILON);
+    assertEquals(0.1 * 0.4, hypervolume.contribution("dominated1"), EPSILON);
+  }
+
+  @Test
+  public void shouldTheTwoObjectiveHypervolumeMatchTheBruteForceComputation() {
+    assertMatchesTheBruteForceComputation(new IncrementalHypervolume2D<>(
+        new double[] {1.0, 1.0}), 2, 300);
+  }
+
+  @Test
+  public void shouldTheThreeObjectiveHypervolumeMatchTheBruteForceComputation() {
+    assertMatchesTheBruteForceComputation(new IncrementalHypervolume3D<>(
+        new double[] {1.0, 1.0, 1.0}), 3, 60);
+  }
+
+  @Test
+  public void shouldTheMonteCarloEstimationBeWithinItsErrorBounds() {
+    Random random = new Random(3);
+    MonteCarloIncrementalHypervolume<double[]> estimation =
+        new MonteCarloIncrementalHypervolume<>(new double[] {1.0, 1.0, 1.0}, new double[3]);
+    List<double[]> points = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      double[] point = randomPoint(random, 3);
+      points.add(point);
+      estimation.add(point, point);
+    }
+
+    double exactValue = bruteForceHypervolume(points, new double[] {1.0, 1.0, 1.0});
+
+    assertTrue(estimation.standardError() > 0.0);
+    assertEquals(exactValue, estimation.value(), 4 * estimation.standardError());
+  }
+
+  @Test
+  public void shouldTheFactoryChooseTheImplementationByTheNumberOfObjectives() {
+    assertTrue(IncrementalHypervolumeFactory.create(new double[] {1.0, 1.0})
+        instanceof IncrementalHypervolume2D);
+    assertTrue(IncrementalHypervolumeFactory.create(new double[] {1.0, 1.0, 1.0})
+        instanceof IncrementalHypervolume3D);
+    assertTrue(IncrementalHypervolumeFactory.create(
+        new double[] {1.0, 1.0, 1.0, 1.0}, new double[] {-1.0, -1.0, -1.0, -1.0})
+        instanceof MonteCarloIncrementalHypervolume);
+  }
+
+  @Test
+  public void shouldTheFactoryRequireALowerBoundWithMoreThanThreeObjectives() {
+    assertThrows(InvalidConditionException.class,
+        () -> IncrementalHypervolumeFactory.create(new double[] {1.0, 1.0, 1.0, 1.0}));
+  }
+
+  @Test
+  public void shouldAddRaiseAnExceptionIfTheDimensionIsWrong() {
+    IncrementalHypervolume<String> hypervolume = new IncrementalHypervolume2D<>(
+        new double[] {1.0, 1.0});
+
+    assertThrows(InvalidConditionException.class,
+        () -> hypervolume.add("a", new double[] {0.5, 0.5, 0.5}));
+  }
+
+  private void assertMatchesTheBruteForceComputation(IncrementalHypervolume<double[]> hypervolume,
+      int numberOfObjectives, int numberOfOperations) {
+    Random random = new Random(numberOfObjectives);
+    double[] referencePoint = hypervolume.referencePoint();
+    List<double[]> points = new ArrayList<>();
+
+    for (int i = 0; i < numberOfOperations; i++) {
+      if (points.size() > 3 && random.nextInt(3) == 0) {
+        double[] removed = points.remove(random.nextInt(points.size()));
+        assertTrue(hypervolume.remove(removed));
+      } else {
+        double[] point = randomPoint(random, numberOfObjectives);
+        points.add(point);
+        hypervolume.add(point, point);
+      }
+
+      double expected = bruteForceHypervolume(points, referencePoint);
+      assertEquals(expected, hypervolume.value(), EPSILON);
+
+      if (i % 10 == 0) {
+        double leastContribution = Double.MAX_VALUE;
+        for (double[] point : points) {
+          List<double[]> others = new ArrayList<>(points);
+          others.remove(point);
+          double contribution = expected - bruteForceHypervolume(others, referencePoint);
+          assertEquals(contribution, hypervolume.contribution(point), EPSILON);
+          leastContribution = Math.min(leastContribution, contribution);
+        }
+        assertEquals(leastContribution,
+            hypervolume.contribution(hypervolume.leastContributor()), EPSILON);
+      }
+    }
+    assertEquals(points.size(), hypervolume.size());
+  }
+
+  private double[] randomPoint(Random random, int numberOfObjectives) {
+    double[] point = new double[numberOfObjectives];
+    for (int j = 0; j < numberOfObjectives; j++) {
+      // A few points lie beyond the reference point, and some values are repeated
+      point[j] = Math.round(random.nextDouble() * 22.0) / 20.0;
+    }
+
+    return point;
+  }
+
+  /**
+   * Hypervolume computed on the grid defined by the coordinates of the points
+   */
+  private double bruteForceHypervolume(List<double[]> points, double[] referencePoint) {
+    int numberOfObjectives = referencePoint.length;
+    List<double[]> coordinates = new ArrayList<>();
+    for (int j = 0; j < numberOfObjectives; j++) {
+      TreeSet<Double> values = new TreeSet<>();
+      for (double[] point : points) {
+        if (point[j] < referencePoint[j]) {
+          values.add(point[j]);
+        }
+      }
+      values.add(referencePoint[j]);
+      coordinates.add(values.stream().mapToDouble(Double::doubleValue).toArray());
+    }
+
+    return bruteForceHypervolume(points, coordinates, new int[numberOfObjectives], 0);
+  }
+
+  private double bruteForceHypervolume(List<double[]> points, List<double[]> coordinates,
+      int[] cell, int objective) {
+    if (objective == cell.length) {
+      double volume = 1.0;
+      double[] corner = new double[cell.length];
+      for (int j = 0; j < cell.length; j++) {
+        corner[j] = coordinates.get(j)[cell[j]];
+        volume *= coordinates.get(j)[cell[j] + 1] - corner[j];
+      }
+      for (double[] point : points) {
+        boolean dominatesTheCell = true;
+        for (int j = 0; j < cell.length; j++) {
+          dominatesTheCell &= point[j] <= corner[j];
+        }
+        if (dominatesTheCell) {
+          return volume;
+        }
+      }
+      return 0.0;
+    }
+
+    double volume = 0.0;
+    for (int i = 0; i < coordinates.get(objective).length - 1; i++) {
+      cell[objective] = i;
+      volume += bruteForceHypervolume(points, coordinates, cell, objective + 1);
+    }
+
+    return volume;
+  }
+}
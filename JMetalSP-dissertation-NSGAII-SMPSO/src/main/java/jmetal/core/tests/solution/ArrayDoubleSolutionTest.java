@@ -0,0 +1,111 @@
+package jmetal.core.tests.solution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import jmetal.core.problem.doubleproblem.impl.FakeDoubleProblem;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.solution.doublesolution.impl.ArrayDoubleSolution;
+import jmetal.core.solution.doublesolution.impl.DefaultDoubleSolution;
+import jmetal.core.util.bounds.Bounds;
+import jmetal.core.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import jmetal.core.util.ranking.impl.FastNonDominatedSortRanking;
+import org.junit.Test;
+
+public class ArrayDoubleSolutionTest {
+  private final List<Bounds<Double>> bounds =
+      Arrays.asList(Bounds.create(0.0, 1.0), Bounds.create(-2.0, 2.0), Bounds.create(5.0, 10.0));
+
+  @Test
+  public void shouldConstructorCreateVariablesWithinTheBounds() {
+    ArrayDoubleSolution solution = new ArrayDoubleSolution(bounds, 2, 1);
+
+    assertEquals(3, solution.variables().size());
+    assertEquals(2, solution.objectives().length);
+    assertEquals(1, solution.constraints().length);
+    for (int i = 0; i < bounds.size(); i++) {
+      assertTrue(solution.variableValue(i) >= bounds.get(i).getLowerBound());
+      assertTrue(solution.variableValue(i) <= bounds.get(i).getUpperBound());
+    }
+  }
+
+  @Test
+  public void shouldTheVariableListBeAViewOfTheArray() {
+    ArrayDoubleSolution solution = new ArrayDoubleSolution(bounds, 2, 0);
+
+    solution.variables().set(1, 1.5);
+    solution.variableValue(2, 7.0);
+
+    assertEquals(1.5, solution.variableValue(1), 0.0);
+    assertEquals(7.0, solution.variables().get(2), 0.0);
+  }
+
+  @Test
+  public void shouldCopyReturnAnIndependentIdenticalSolution() {
+    ArrayDoubleSolution solution = new ArrayDoubleSolution(bounds, 2, 1);
+    solution.objectives()[0] = 3.0;
+    solution.constraints()[0] = -1.0;
+    solution.attributes().put("key", "value");
+
+    ArrayDoubleSolution copy = solution.copy();
+    copy.variableValue(0, 0.25);
+    copy.objectives()[0] = 4.0;
+    copy.attributes().put("key", "other");
+
+    assertNotSame(solution.variables(), copy.variables());
+    assertEquals(3.0, solution.objectives()[0], 0.0);
+    assertEquals(-1.0, copy.constraints()[0], 0.0);
+    assertEquals("value", solution.attributes().get("key"));
+    assertFalse(solution.equals(copy));
+    assertEquals(solution, solution.copy());
+  }
+
+  @Test
+  public void shouldHashCodeBeEqualToTheHashCodeOfTheVariableList() {
+    ArrayDoubleSolution solution = new ArrayDoubleSolution(bounds, 2, 0);
+
+    assertEquals(List.copyOf(solution.variables()).hashCode(), solution.hashCode());
+  }
+
+  @Test
+  public void shouldTheAttributeSlotsBehaveLikeAMap() {
+    Map<Object, Object> attributes = new ArrayDoubleSolution(bounds, 2, 0).attributes();
+    String rank = FastNonDominatedSortRanking.class.getName();
+    String crowdingDistance = CrowdingDistanceDensityEstimator.class.getName();
+
+    assertNull(attributes.put(rank, 1));
+    assertEquals(1, attributes.put(rank, 2));
+    attributes.put(crowdingDistance, null);
+    attributes.put("other", 3.0);
+
+    assertEquals(3, attributes.size());
+    assertEquals(2, attributes.get(rank));
+    assertTrue(attributes.containsKey(crowdingDistance));
+    assertEquals(Map.of(rank, 2, "other", 3.0), Map.of(rank, attributes.get(rank), "other", attributes.get("other")));
+
+    attributes.entrySet().removeIf(entry -> entry.getKey().equals(rank));
+    assertFalse(attributes.containsKey(rank));
+    assertEquals(2, attributes.size());
+
+    attributes.clear();
+    assertTrue(attributes.isEmpty());
+  }
+
+  @Test
+  public void shouldProblemCreateArrayBackedSolutionsWhenSelected() {
+    FakeDoubleProblem problem = new FakeDoubleProblem(3, 2, 0);
+
+    DoubleSolution defaultSolution = problem.createSolution();
+    problem.arrayBackedSolutions(true);
+    DoubleSolution arraySolution = problem.createSolution();
+
+    assertTrue(defaultSolution instanceof DefaultDoubleSolution);
+    assertTrue(arraySolution instanceof ArrayDoubleSolution);
+  }
+}
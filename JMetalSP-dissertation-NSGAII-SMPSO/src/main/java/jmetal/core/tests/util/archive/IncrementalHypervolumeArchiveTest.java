@@ -0,0 +1,103 @@
+package jmetal.core.tests.util.archive;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import org.junit.Test;
+import jmetal.core.problem.doubleproblem.DoubleProblem;
+import jmetal.core.qualityindicator.impl.hypervolume.incremental.IncrementalHypervolumeFactory;
+import jmetal.core.problem.doubleproblem.impl.FakeDoubleProblem;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.util.archive.impl.IncrementalHypervolumeArchive;
+import jmetal.core.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+import jmetal.core.util.solutionattribute.impl.HypervolumeContributionAttribute;
+
+public class IncrementalHypervolumeArchiveTest {
+  private static final double EPSILON = 0.000000000001;
+
+  private final DoubleProblem problem = new FakeDoubleProblem(2, 2, 0);
+
+  @Test
+  public void shouldAddRemoveTheLeastContributorWhenTheArchiveIsFull() {
+    IncrementalHypervolumeArchive<DoubleSolution> archive =
+        new IncrementalHypervolumeArchive<>(2, new double[] {1.0, 1.0});
+
+    DoubleSolution solution1 = createSolution(0.1, 0.9);
+    DoubleSolution solution2 = createSolution(0.5, 0.5);
+    DoubleSolution solution3 = createSolution(0.9, 0.1);
+    archive.add(solution1);
+    archive.add(solution2);
+    archive.add(solution3);
+
+    assertEquals(2, archive.size());
+    assertFalse(archive.solutions().contains(solution1));
+    assertEquals(0.5 * 0.5 + 0.1 * 0.4, archive.hypervolume(), EPSILON);
+  }
+
+  @Test
+  public void shouldTheSolutionsRemovedByDominanceBeRemovedFromTheHypervolume() {
+    IncrementalHypervolumeArchive<DoubleSolution> archive =
+        new IncrementalHypervolumeArchive<>(10, new double[] {1.0, 1.0});
+
+    archive.add(createSolution(0.5, 0.5));
+    archive.add(createSolution(0.6, 0.4));
+    DoubleSolution dominating = createSolution(0.4, 0.3);
+    assertTrue(archive.add(dominating));
+
+    assertEquals(1, archive.size());
+    assertEquals(0.6 * 0.7, archive.hypervolume(), EPSILON);
+
+    archive.computeDensityEstimator();
+    assertEquals(0.6 * 0.7,
+        new HypervolumeContributionAttribute<DoubleSolution>().getAttribute(dominating), EPSILON);
+  }
+
+  @Test
+  public void shouldTheArchiveWithADominanceComparatorRemoveTheSameSolutions() {
+    IncrementalHypervolumeArchive<DoubleSolution> archive =
+        new IncrementalHypervolumeArchive<>(5, new double[] {1.0, 1.0});
+    IncrementalHypervolumeArchive<DoubleSolution> listArchive =
+        new IncrementalHypervolumeArchive<>(5,
+            IncrementalHypervolumeFactory.create(new double[] {1.0, 1.0}),
+            new DefaultDominanceComparator<>());
+
+    Random random = new Random(1);
+    for (int i = 0; i < 500; i++) {
+      DoubleSolution solution = createSolution(random.nextDouble(), random.nextDouble());
+      assertEquals(listArchive.add(solution), archive.add(solution));
+      assertEquals(listArchive.size(), archive.size());
+      for (DoubleSolution member : listArchive.solutions()) {
+        assertTrue(archive.solutions().contains(member));
+      }
+      assertEquals(listArchive.hypervolume(), archive.hypervolume(), EPSILON);
+    }
+  }
+
+  @Test
+  public void shouldTheArchiveWithALowerBoundAcceptSolutionsWithFourObjectives() {
+    DoubleProblem problem = new FakeDoubleProblem(2, 4, 0);
+    IncrementalHypervolumeArchive<DoubleSolution> archive =
+        new IncrementalHypervolumeArchive<>(2, new double[] {1.0, 1.0, 1.0, 1.0},
+            new double[] {-1.0, -1.0, -1.0, -1.0});
+
+    for (double[] objectives : new double[][] {
+        {-0.5, 0.5, 0.5, 0.5}, {0.5, -0.5, 0.5, 0.5}, {0.5, 0.5, -0.5, 0.5}}) {
+      DoubleSolution solution = problem.createSolution();
+      System.arraycopy(objectives, 0, solution.objectives(), 0, objectives.length);
+      assertTrue(archive.add(solution));
+    }
+
+    assertEquals(2, archive.size());
+    assertTrue(archive.hypervolume() > 0.0);
+  }
+
+  private DoubleSolution createSolution(double objective1, double objective2) {
+    DoubleSolution solution = problem.createSolution();
+    solution.objectives()[0] = objective1;
+    solution.objectives()[1] = objective2;
+
+    return solution;
+  }
+}
@@ -0,0 +1,86 @@
+package jmetal.core.tests.util.archive;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import jmetal.core.problem.doubleproblem.DoubleProblem;
+import jmetal.core.problem.doubleproblem.impl.FakeDoubleProblem;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.util.SolutionListUtils;
+import jmetal.core.util.archive.impl.KNNDistanceArchive;
+import jmetal.core.util.archive.impl.NonDominatedSolutionListArchive;
+import jmetal.core.util.densityestimator.impl.KnnDensityEstimator;
+
+public class KNNDistanceArchiveTest {
+  private DoubleSolution createSolution(DoubleProblem problem, double... objectives) {
+    DoubleSolution solution = problem.createSolution();
+    System.arraycopy(objectives, 0, solution.objectives(), 0, objectives.length);
+
+    return solution;
+  }
+
+  @Test
+  public void shouldAddRemoveTheSolutionWithTheLowestKNNDistanceWhenTheArchiveIsFull() {
+    DoubleProblem problem = new FakeDoubleProblem(2, 2, 0);
+    KNNDistanceArchive<DoubleSolution> archive = new KNNDistanceArchive<>(3, 1);
+
+    DoubleSolution solution1 = createSolution(problem, 0.0, 1.0);
+    DoubleSolution solution2 = createSolution(problem, 0.5, 0.5);
+    DoubleSolution solution3 = createSolution(problem, 0.55, 0.45);
+    DoubleSolution solution4 = createSolution(problem, 1.0, 0.0);
+    archive.add(solution1);
+    archive.add(solution2);
+    archive.add(solution3);
+    archive.add(solution4);
+
+    assertEquals(3, archive.size());
+    assertFalse(archive.solutions().contains(solution2));
+  }
+
+  @Test
+  public void shouldTheArchiveKeepTheSameSolutionsAsWhenTheDistancesAreRecomputed() {
+    for (int numberOfObjectives = 2; numberOfObjectives <= 3; numberOfObjectives++) {
+      DoubleProblem problem = new FakeDoubleProblem(2, numberOfObjectives, 0);
+      Random random = new Random(numberOfObjectives);
+      KNNDistanceArchive<DoubleSolution> archive = new KNNDistanceArchive<>(50, 1);
+      NonDominatedSolutionListArchive<DoubleSolution> expectedArchive =
+          new NonDominatedSolutionListArchive<>();
+      KnnDensityEstimator<DoubleSolution> densityEstimator = new KnnDensityEstimator<>(1);
+      Comparator<DoubleSolution> comparator =
+          Comparator.comparing(densityEstimator::value).reversed();
+
+      for (int i = 0; i < 2000; i++) {
+        double[] objectives = new double[numberOfObjectives];
+        double sum = 0.0;
+        for (int j = 0; j < numberOfObjectives; j++) {
+          objectives[j] = random.nextDouble();
+          sum += objectives[j];
+        }
+        for (int j = 0; j < numberOfObjectives; j++) {
+          objectives[j] = objectives[j] / sum + 0.1 * random.nextDouble();
+        }
+
+        archive.add(createSolution(problem, objectives));
+        if (expectedArchive.add(createSolution(problem, objectives))
+            && expectedArchive.size() > 50) {
+          densityEstimator.compute(expectedArchive.solutions());
+          DoubleSolution worst =
+              new SolutionListUtils().findWorstSolution(expectedArchive.solutions(), comparator);
+          expectedArchive.solutions().remove(worst);
+        }
+
+        List<DoubleSolution> solutions = archive.solutions();
+        assertEquals(expectedArchive.size(), solutions.size());
+        for (int j = 0; j < solutions.size(); j++) {
+          assertArrayEquals(
+              expectedArchive.get(j).objectives(), solutions.get(j).objectives(), 0.0);
+        }
+      }
+    }
+  }
+}
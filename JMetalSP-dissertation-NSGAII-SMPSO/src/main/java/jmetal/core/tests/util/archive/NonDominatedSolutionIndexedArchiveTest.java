@@ -0,0 +1,222 @@
+package jmetal.core.tests.util.archive;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import jmetal.core.problem.doubleproblem.DoubleProblem;
+import jmetal.core.problem.doubleproblem.impl.FakeDoubleProblem;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.util.archive.Archive;
+import jmetal.core.util.archive.impl.CrowdingDistanceArchive;
+import jmetal.core.util.archive.impl.NonDominatedSolutionIndexedArchive;
+import jmetal.core.util.archive.impl.NonDominatedSolutionListArchive;
+import jmetal.core.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+
+public class NonDominatedSolutionIndexedArchiveTest {
+
+  @Test
+  public void shouldAddRejectADominatedSolutionAndASolutionWithTheSameObjectives() {
+    NonDominatedSolutionIndexedArchive<DoubleSolution> archive =
+        new NonDominatedSolutionIndexedArchive<>();
+
+    assertTrue(archive.add(createSolution(new FakeDoubleProblem(2, 2, 0), 0.5, 0.5)));
+    assertFalse(archive.add(createSolution(new FakeDoubleProblem(2, 2, 0), 0.6, 0.5)));
+    assertFalse(archive.add(createSolution(new FakeDoubleProblem(2, 2, 0), 0.5, 0.5)));
+    assertEquals(1, archive.size());
+  }
+
+  @Test
+  public void shouldAddRemoveTheDominatedSolutions() {
+    NonDominatedSolutionIndexedArchive<DoubleSolution> archive =
+        new NonDominatedSolutionIndexedArchive<>();
+    DoubleProblem problem = new FakeDoubleProblem(2, 3, 0);
+
+    archive.add(createSolution(problem, 0.5, 0.5, 0.5));
+    archive.add(createSolution(problem, 0.4, 0.6, 0.5));
+    DoubleSolution solution = createSolution(problem, 0.9, 0.1, 0.1);
+    archive.add(solution);
+    DoubleSolution dominating = createSolution(problem, 0.4, 0.5, 0.5);
+
+    assertTrue(archive.add(dominating));
+    assertEquals(2, archive.size());
+    assertSame(solution, archive.get(0));
+    assertSame(dominating, archive.get(1));
+  }
+
+  @Test
+  public void shouldTheArchiveContainTheSameSolutionsAsTheListArchiveWithTwoObjectives() {
+    assertTheSameSolutionsAsTheListArchive(2, 2000);
+  }
+
+  @Test
+  public void shouldTheArchiveContainTheSameSolutionsAsTheListArchiveWithThreeObjectives() {
+    assertTheSameSolutionsAsTheListArchive(3, 2000);
+  }
+
+  @Test
+  public void shouldTheArchiveContainTheSameSolutionsAsTheListArchiveWithFiveObjectives() {
+    assertTheSameSolutionsAsTheListArchive(5, 1000);
+  }
+
+  @Test
+  public void shouldAddAllProduceTheSameResultAsAddingTheSolutionsOneByOne() {
+    for (int numberOfObjectives : new int[] {2, 4}) {
+      Random random = new Random(numberOfObjectives);
+      DoubleProblem problem = new FakeDoubleProblem(2, numberOfObjectives, 0);
+      NonDominatedSolutionIndexedArchive<DoubleSolution> archive =
+          new NonDominatedSolutionIndexedArchive<>();
+      NonDominatedSolutionListArchive<DoubleSolution> listArchive =
+          new NonDominatedSolutionListArchive<>(new DefaultDominanceComparator<>());
+
+      for (int batch = 0; batch < 10; batch++) {
+        List<DoubleSolution> solutions = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+          solutions.add(createRandomSolution(problem, random));
+        }
+        archive.addAll(solutions);
+        listArchive.addAll(solutions);
+
+        assertSameSolutions(listArchive.solutions(), archive.solutions());
+      }
+    }
+  }
+
+  @Test
+  public void shouldTheSolutionsRemovedFromTheListBeRemovedFromTheIndex() {
+    NonDominatedSolutionIndexedArchive<DoubleSolution> archive =
+        new NonDominatedSolutionIndexedArchive<>();
+    DoubleProblem problem = new FakeDoubleProblem(2, 3, 0);
+
+    DoubleSolution solution = createSolution(problem, 0.2, 0.2, 0.2);
+    archive.add(solution);
+    archive.solutions().remove(solution);
+
+    assertEquals(0, archive.size());
+    assertTrue(archive.add(createSolution(problem, 0.3, 0.3, 0.3)));
+  }
+
+  @Test
+  public void shouldACrowdingDistanceArchiveBehaveTheSameWithTheIndexedArchive() {
+    Random random = new Random(1);
+    DoubleProblem problem = new FakeDoubleProblem(2, 3, 0);
+    CrowdingDistanceArchive<DoubleSolution> archive =
+        new CrowdingDistanceArchive<>(20, new NonDominatedSolutionIndexedArchive<>());
+    CrowdingDistanceArchive<DoubleSolution> listArchive =
+        new CrowdingDistanceArchive<>(20, new DefaultDominanceComparator<>());
+
+    for (int i = 0; i < 1000; i++) {
+      DoubleSolution solution = createRandomSolution(problem, random);
+      assertEquals(listArchive.add(solution), archive.add(solution));
+    }
+
+    assertEquals(20, archive.size());
+    assertSameSolutions(listArchive.solutions(), archive.solutions());
+  }
+
+  @Test
+  public void shouldTheSolutionsBeRemovedFromALargeArchiveKeepingTheOrderOfTheRest() {
+    int numberOfSolutions = 20000;
+    Random random = new Random(3);
+    DoubleProblem problem = new FakeDoubleProblem(2, 2, 0);
+    NonDominatedSolutionIndexedArchive<DoubleSolution> archive =
+        new NonDominatedSolutionIndexedArchive<>();
+    List<DoubleSolution> expected = new ArrayList<>();
+    for (int i = 0; i < numberOfSolutions; i++) {
+      DoubleSolution solution = createSolution(problem, i, numberOfSolutions - i);
+      archive.add(solution);
+      expected.add(solution);
+    }
+
+    // Each new solution dominates a block of consecutive members of the front
+    for (int i = 0; i < 100; i++) {
+      int first = random.nextInt(numberOfSolutions - 10);
+      DoubleSolution solution =
+          createSolution(problem, first + 0.5, numberOfSolutions - first - 9.5);
+      boolean inserted = archive.add(solution);
+      boolean dominatesSomeSolution =
+          expected.removeIf(
+              member ->
+                  member.objectives()[0] >= solution.objectives()[0]
+                      && member.objectives()[1] >= solution.objectives()[1]);
+      assertEquals(dominatesSomeSolution, inserted);
+      if (inserted) {
+        expected.add(solution);
+      }
+    }
+    assertSameSolutions(expected, archive.solutions());
+
+    // Removals through the list, by position and by solution
+    for (int i = 0; i < 1000; i++) {
+      int position = random.nextInt(expected.size());
+      if (i % 2 == 0) {
+        assertSame(expected.remove(position), archive.solutions().remove(position));
+      } else {
+        assertTrue(archive.solutions().remove(expected.remove(position)));
+      }
+    }
+    assertSameSolutions(expected, archive.solutions());
+
+    DoubleSolution solution = createSolution(problem, -1.0, -1.0);
+    assertTrue(archive.add(solution));
+    assertEquals(1, archive.size());
+    assertSame(solution, archive.get(0));
+  }
+
+  private void assertTheSameSolutionsAsTheListArchive(int numberOfObjectives,
+      int numberOfSolutions) {
+    Random random = new Random(numberOfObjectives);
+    DoubleProblem problem = new FakeDoubleProblem(2, numberOfObjectives, 0);
+    Archive<DoubleSolution> archive = new NonDominatedSolutionIndexedArchive<>();
+    Archive<DoubleSolution> listArchive =
+        new NonDominatedSolutionListArchive<>(new DefaultDominanceComparator<>());
+
+    for (int i = 0; i < numberOfSolutions; i++) {
+      DoubleSolution solution = createRandomSolution(problem, random);
+      assertEquals(listArchive.add(solution), archive.add(solution));
+      if (i % 100 == 0) {
+        assertSameSolutions(listArchive.solutions(), archive.solutions());
+      }
+    }
+    assertSameSolutions(listArchive.solutions(), archive.solutions());
+  }
+
+  private void assertSameSolutions(List<DoubleSolution> expected, List<DoubleSolution> actual) {
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertSame(expected.get(i), actual.get(i));
+    }
+  }
+
+  /**
+   * Random solution whose objectives lie around the simplex, rounded so that there are repeated
+   * values and solutions with the same objectives
+   */
+  private DoubleSolution createRandomSolution(DoubleProblem problem, Random random) {
+    DoubleSolution solution = problem.createSolution();
+    int numberOfObjectives = solution.objectives().length;
+    double sum = 0.0;
+    for (int j = 0; j < numberOfObjectives; j++) {
+      solution.objectives()[j] = random.nextDouble();
+      sum += solution.objectives()[j];
+    }
+    double scale = 1.0 + random.nextDouble() * 0.5;
+    for (int j = 0; j < numberOfObjectives; j++) {
+      solution.objectives()[j] = Math.round(solution.objectives()[j] / sum * scale * 50.0) / 50.0;
+    }
+
+    return solution;
+  }
+
+  private DoubleSolution createSolution(DoubleProblem problem, double... objectives) {
+    DoubleSolution solution = problem.createSolution();
+    System.arraycopy(objectives, 0, solution.objectives(), 0, objectives.length);
+
+    return solution;
+  }
+}
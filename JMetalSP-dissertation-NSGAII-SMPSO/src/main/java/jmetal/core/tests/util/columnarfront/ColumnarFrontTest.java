@@ -0,0 +1,120 @@
+package jmetal.core.tests.util.columnarfront;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import jmetal.core.solution.binarysolution.impl.DefaultBinarySolution;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.solution.doublesolution.impl.DefaultDoubleSolution;
+import jmetal.core.util.VectorUtils;
+import jmetal.core.util.bounds.Bounds;
+import jmetal.core.util.columnarfront.ColumnarFront;
+import jmetal.core.util.errorchecking.exception.InvalidConditionException;
+import jmetal.core.util.fileoutput.SolutionListOutput;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ColumnarFrontTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private static DoubleSolution solution(double x, double y, double f1, double f2) {
+    DoubleSolution solution =
+        new DefaultDoubleSolution(List.of(Bounds.create(0.0, 1.0), Bounds.create(0.0, 1.0)), 2, 0);
+    solution.variables().set(0, x);
+    solution.variables().set(1, y);
+    solution.objectives()[0] = f1;
+    solution.objectives()[1] = f2;
+
+    return solution;
+  }
+
+  @Test
+  public void shouldReadReturnTheObjectivesAndVariablesOfTheWrittenSolutions() throws IOException {
+    String fileName = new File(folder.getRoot(), "FUN0.bin").getPath();
+    ColumnarFront.write(
+        fileName, List.of(solution(0.1, 0.2, 1.0, 2.0), solution(0.3, 0.4, 3.0, 4.0)));
+
+    ColumnarFront front = ColumnarFront.read(fileName);
+
+    assertEquals(2, front.numberOfPoints());
+    assertEquals(2, front.numberOfObjectives());
+    assertEquals(2, front.numberOfVariables());
+    assertEquals(3.0, front.objective(1, 0), 0.0);
+    assertEquals(0.2, front.variable(0, 1), 0.0);
+    assertArrayEquals(new double[] {2.0, 4.0}, front.objectiveColumn(1), 0.0);
+    assertArrayEquals(new double[] {1.0, 2.0}, front.objectives()[0], 0.0);
+    assertArrayEquals(new double[] {0.3, 0.4}, front.variables()[1], 0.0);
+  }
+
+  @Test
+  public void shouldTheVariablesNotBeStoredIfTheyAreNotNumbers() throws IOException {
+    String fileName = new File(folder.getRoot(), "FUN0.bin").getPath();
+    DefaultBinarySolution solution = new DefaultBinarySolution(List.of(8), 2);
+    solution.objectives()[0] = 1.0;
+    solution.objectives()[1] = 2.0;
+    ColumnarFront.write(fileName, List.of(solution));
+
+    ColumnarFront front = ColumnarFront.read(fileName);
+
+    assertEquals(1, front.numberOfPoints());
+    assertEquals(0, front.numberOfVariables());
+    assertArrayEquals(new double[] {1.0, 2.0}, front.objectives()[0], 0.0);
+  }
+
+  @Test
+  public void shouldAnEmptyFrontBeWrittenAndRead() throws IOException {
+    String fileName = new File(folder.getRoot(), "FUN0.bin").getPath();
+    ColumnarFront.write(fileName, List.of());
+
+    assertEquals(0, ColumnarFront.read(fileName).numberOfPoints());
+    assertEquals(0, ColumnarFront.read(fileName).objectives().length);
+  }
+
+  @Test
+  public void shouldTheExportedCSVFilesBeEqualToThoseWrittenBySolutionListOutput()
+      throws IOException {
+    List<DoubleSolution> solutions =
+        List.of(solution(0.1, 0.2, 1.5, 2.0), solution(0.3, 0.4, 3.0, 1e-7));
+    String fileName = new File(folder.getRoot(), "FUN0.bin").getPath();
+    ColumnarFront.write(fileName, solutions);
+    ColumnarFront front = ColumnarFront.read(fileName);
+
+    File exportedFun = new File(folder.getRoot(), "exportedFUN.csv");
+    File exportedVar = new File(folder.getRoot(), "exportedVAR.csv");
+    front.exportObjectivesToCSV(exportedFun.getPath(), ",");
+    front.exportVariablesToCSV(exportedVar.getPath(), ",");
+    File fun = new File(folder.getRoot(), "FUN.csv");
+    File var = new File(folder.getRoot(), "VAR.csv");
+    new SolutionListOutput(solutions).printObjectivesToFile(fun.getPath(), ",");
+    new SolutionListOutput(solutions).printVariablesToFile(var.getPath(), ",");
+
+    assertEquals(Files.readString(fun.toPath()), Files.readString(exportedFun.toPath()));
+    assertEquals(Files.readString(var.toPath()), Files.readString(exportedVar.toPath()));
+    assertArrayEquals(VectorUtils.readVectors(fun.getPath(), ",")[1], front.objectives()[1], 0.0);
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldReadRaiseAnExceptionIfTheFileIsNotAFrontFile() throws IOException {
+    File file = new File(folder.getRoot(), "FUN0.csv");
+    Files.writeString(file.toPath(), "1.0,2.0\n3.0,4.0\n");
+
+    ColumnarFront.read(file.getPath());
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldReadRaiseAnExceptionIfTheFileIsTruncated() throws IOException {
+    String fileName = new File(folder.getRoot(), "FUN0.bin").getPath();
+    ColumnarFront.write(fileName, List.of(solution(0.1, 0.2, 1.0, 2.0)));
+    byte[] content = Files.readAllBytes(new File(fileName).toPath());
+    Files.write(new File(fileName).toPath(), Arrays.copyOf(content, content.length - 8));
+
+    ColumnarFront.read(fileName);
+  }
+}
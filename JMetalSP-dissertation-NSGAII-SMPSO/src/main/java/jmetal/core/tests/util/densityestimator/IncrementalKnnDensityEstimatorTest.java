@@ -0,0 +1,83 @@
+package jmetal.core.tests.util.densityestimator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import jmetal.core.problem.doubleproblem.DoubleProblem;
+import jmetal.core.problem.doubleproblem.impl.FakeDoubleProblem;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.util.densityestimator.impl.IncrementalKnnDensityEstimator;
+import jmetal.core.util.densityestimator.impl.KnnDensityEstimator;
+
+class IncrementalKnnDensityEstimatorTest {
+  private DoubleSolution createSolution(DoubleProblem problem, double... objectives) {
+    DoubleSolution solution = problem.createSolution();
+    System.arraycopy(objectives, 0, solution.objectives(), 0, objectives.length);
+
+    return solution;
+  }
+
+  @Test
+  void shouldDensityEstimatorComputeTheRightDistancesAfterRemovingASolution() {
+    DoubleProblem problem = new FakeDoubleProblem(3, 2, 0);
+    IncrementalKnnDensityEstimator<DoubleSolution> densityEstimator =
+        new IncrementalKnnDensityEstimator<>(1);
+
+    DoubleSolution solution1 = createSolution(problem, 1.0, 5.0);
+    DoubleSolution solution2 = createSolution(problem, 2.0, 4.0);
+    DoubleSolution solution3 = createSolution(problem, 3.0, 3.0);
+    DoubleSolution solution4 = createSolution(problem, 5.0, 1.0);
+    List<DoubleSolution> solutionList =
+        new ArrayList<>(List.of(solution1, solution2, solution3, solution4));
+
+    densityEstimator.compute(solutionList);
+    assertEquals(Math.sqrt(2), densityEstimator.value(solution1), 0.0);
+    assertEquals(Math.sqrt(8), densityEstimator.value(solution4), 0.0);
+
+    solutionList.remove(solution2);
+    densityEstimator.compute(solutionList);
+
+    assertEquals(Math.sqrt(8), densityEstimator.value(solution1), 0.0);
+    assertEquals(Math.sqrt(8), densityEstimator.value(solution3), 0.0);
+    assertEquals(Math.sqrt(8), densityEstimator.value(solution4), 0.0);
+  }
+
+  @Test
+  void shouldTheValuesBeEqualToThoseOfTheKnnDensityEstimatorWhenTheListChanges() {
+    for (int numberOfObjectives = 2; numberOfObjectives <= 4; numberOfObjectives++) {
+      for (int k = 1; k <= 3; k++) {
+        DoubleProblem problem = new FakeDoubleProblem(3, numberOfObjectives, 0);
+        Random random = new Random(10L * numberOfObjectives + k);
+        IncrementalKnnDensityEstimator<DoubleSolution> incrementalDensityEstimator =
+            new IncrementalKnnDensityEstimator<>(k);
+        KnnDensityEstimator<DoubleSolution> densityEstimator = new KnnDensityEstimator<>(k);
+
+        List<DoubleSolution> solutionList = new ArrayList<>();
+        for (int step = 0; step < 400; step++) {
+          if (solutionList.size() > 5 && random.nextInt(3) == 0) {
+            solutionList.remove(random.nextInt(solutionList.size()));
+          } else {
+            double[] objectives = new double[numberOfObjectives];
+            for (int i = 0; i < numberOfObjectives; i++) {
+              // A coarse grid, so that there are repeated points and distances
+              objectives[i] = random.nextInt(20) / 20.0;
+            }
+            solutionList.add(createSolution(problem, objectives));
+          }
+
+          incrementalDensityEstimator.compute(solutionList);
+          densityEstimator.compute(solutionList);
+          if (solutionList.size() > k) {
+            for (DoubleSolution solution : solutionList) {
+              assertEquals(
+                  densityEstimator.value(solution), incrementalDensityEstimator.value(solution));
+            }
+          }
+        }
+      }
+    }
+  }
+}
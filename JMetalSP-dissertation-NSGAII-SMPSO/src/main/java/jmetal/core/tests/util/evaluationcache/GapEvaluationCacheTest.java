@@ -0,0 +1,91 @@
+package jmetal.core.tests.util.evaluationcache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import jmetal.core.util.evaluationcache.GapConfiguration;
+import jmetal.core.util.evaluationcache.GapEvaluationCache;
+import jmetal.core.util.evaluationcache.GapResult;
+import jmetal.core.util.evaluationcache.MappedGapResultStore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class GapEvaluationCacheTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private static GapConfiguration configuration(int nLines) {
+    return new GapConfiguration(nLines, 8, 4, 16, 128, 2, "stringsearch");
+  }
+
+  @Test
+  public void shouldGetReturnNullIfTheConfigurationHasNotBeenStored() {
+    GapEvaluationCache cache = new GapEvaluationCache(10);
+
+    assertNull(cache.get(configuration(4)));
+    assertEquals(1, cache.misses());
+  }
+
+  @Test
+  public void shouldGetReturnAStoredResult() {
+    GapEvaluationCache cache = new GapEvaluationCache(10);
+    cache.put(configuration(4), new GapResult(1.5, 200.0));
+
+    assertEquals(new GapResult(1.5, 200.0), cache.get(configuration(4)));
+    assertEquals(1, cache.hits());
+  }
+
+  @Test
+  public void shouldTheMemoryTierEvictTheLeastRecentlyUsedEntry() {
+    GapEvaluationCache cache = new GapEvaluationCache(2);
+    cache.put(configuration(4), new GapResult(1.0, 1.0));
+    cache.put(configuration(5), new GapResult(2.0, 2.0));
+    cache.get(configuration(4));
+    cache.put(configuration(6), new GapResult(3.0, 3.0));
+
+    assertNull(cache.get(configuration(5)));
+    assertEquals(new GapResult(1.0, 1.0), cache.get(configuration(4)));
+  }
+
+  @Test
+  public void shouldResultsSurviveReopeningTheFile() throws Exception {
+    Path file = folder.getRoot().toPath().resolve("gap.cache");
+    try (GapEvaluationCache cache = new GapEvaluationCache(10, file)) {
+      cache.put(configuration(4), new GapResult(1.5, 200.0));
+      cache.put(configuration(5), new GapResult(2.5, 300.0));
+    }
+
+    try (GapEvaluationCache cache = new GapEvaluationCache(10, file)) {
+      assertEquals(new GapResult(1.5, 200.0), cache.get(configuration(4)));
+      assertEquals(new GapResult(2.5, 300.0), cache.get(configuration(5)));
+    }
+  }
+
+  @Test
+  public void shouldATornRecordBeDiscardedWhenReopeningTheFile() throws Exception {
+    Path file = folder.getRoot().toPath().resolve("gap.cache");
+    try (MappedGapResultStore store = new MappedGapResultStore(file)) {
+      store.put(configuration(4), new GapResult(1.5, 200.0));
+    }
+    File rawFile = file.toFile();
+    try (RandomAccessFile raw = new RandomAccessFile(rawFile, "rw")) {
+      raw.seek(raw.length());
+      raw.writeInt(1000);
+      raw.writeInt(7);
+    }
+
+    try (MappedGapResultStore store = new MappedGapResultStore(file)) {
+      assertEquals(1, store.size());
+      store.put(configuration(5), new GapResult(2.5, 300.0));
+    }
+
+    try (MappedGapResultStore store = new MappedGapResultStore(file)) {
+      assertEquals(2, store.size());
+      assertEquals(new GapResult(2.5, 300.0), store.get(configuration(5)));
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package jmetal.core.tests.util.evaluator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import jmetal.core.problem.doubleproblem.DoubleProblem;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.util.errorchecking.exception.InvalidConditionException;
+import jmetal.core.util.evaluator.impl.BatchSolutionListEvaluator;
+import jmetal.core.util.pseudorandom.JMetalRandom;
+import jmetal.problem.multiobjective.cdtlz.C1_DTLZ1;
+import jmetal.problem.multiobjective.dtlz.DTLZ1;
+import jmetal.problem.multiobjective.dtlz.DTLZ1Minus;
+import jmetal.problem.multiobjective.dtlz.DTLZ2;
+import jmetal.problem.multiobjective.dtlz.DTLZ2_2D;
+import jmetal.problem.multiobjective.dtlz.DTLZ3;
+import jmetal.problem.multiobjective.dtlz.DTLZ4;
+import jmetal.problem.multiobjective.dtlz.DTLZ4Minus;
+import jmetal.problem.multiobjective.dtlz.DTLZ5;
+import jmetal.problem.multiobjective.dtlz.DTLZ6;
+import jmetal.problem.multiobjective.dtlz.DTLZ7;
+import jmetal.problem.multiobjective.zdt.ZDT1;
+import jmetal.problem.multiobjective.zdt.ZDT2;
+import jmetal.problem.multiobjective.zdt.ZDT3;
+import jmetal.problem.multiobjective.zdt.ZDT4;
+import jmetal.problem.multiobjective.zdt.ZDT6;
+import org.junit.Test;
+
+public class BatchSolutionListEvaluatorTest {
+  private static List<DoubleSolution> createSolutions(DoubleProblem problem, int size) {
+    JMetalRandom.getInstance().setSeed(size);
+    List<DoubleSolution> solutions = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      solutions.add(problem.createSolution());
+    }
+
+    return solutions;
+  }
+
+  private static void assertBatchAndSequentialEvaluationsAreEqual(DoubleProblem problem) {
+    List<DoubleSolution> solutions = createSolutions(problem, 300);
+    List<DoubleSolution> expectedSolutions = createSolutions(problem, 300);
+    expectedSolutions.forEach(problem::evaluate);
+
+    new BatchSolutionListEvaluator(128).evaluate(solutions, problem);
+
+    for (int i = 0; i < solutions.size(); i++) {
+      assertArrayEquals(
+          problem.name(),
+          expectedSolutions.get(i).objectives(),
+          solutions.get(i).objectives(),
+          0.0);
+      assertArrayEquals(
+          expectedSolutions.get(i).constraints(), solutions.get(i).constraints(), 0.0);
+    }
+  }
+
+  @Test
+  public void shouldTheBatchEvaluationOfTheZDTProblemsBeEqualToTheirEvaluation() {
+    for (DoubleProblem problem :
+        List.of(new ZDT1(), new ZDT2(), new ZDT3(), new ZDT4(), new ZDT6(), new ZDT1(2))) {
+      assertTrue(BatchSolutionListEvaluator.isBatchEvaluationApplicable(problem));
+      assertBatchAndSequentialEvaluationsAreEqual(problem);
+    }
+  }
+
+  @Test
+  public void shouldTheBatchEvaluationOfTheDTLZProblemsBeEqualToTheirEvaluation() {
+    for (DoubleProblem problem :
+        List.of(
+            new DTLZ1(),
+            new DTLZ2(),
+            new DTLZ3(),
+            new DTLZ4(),
+            new DTLZ5(),
+            new DTLZ6(),
+            new DTLZ7(),
+            new DTLZ2(14, 5),
+            new DTLZ5(14, 5),
+            new DTLZ7(14, 5),
+            new DTLZ1Minus(),
+            new DTLZ4Minus(),
+            new DTLZ2_2D())) {
+      assertTrue(BatchSolutionListEvaluator.isBatchEvaluationApplicable(problem));
+      assertBatchAndSequentialEvaluationsAreEqual(problem);
+    }
+  }
+
+  @Test
+  public void shouldSubclassesRedefiningTheEvaluationBeEvaluatedSolutionBySolution() {
+    DoubleProblem constrainedProblem = new C1_DTLZ1(7, 3);
+    DoubleProblem redefinedProblem =
+        new ZDT1() {
+          @Override
+          protected double evalH(double f, double g) {
+            return 2.0 * super.evalH(f, g);
+          }
+        };
+
+    assertFalse(BatchSolutionListEvaluator.isBatchEvaluationApplicable(constrainedProblem));
+    assertFalse(BatchSolutionListEvaluator.isBatchEvaluationApplicable(redefinedProblem));
+    assertBatchAndSequentialEvaluationsAreEqual(constrainedProblem);
+    assertBatchAndSequentialEvaluationsAreEqual(redefinedProblem);
+  }
+
+  @Test
+  public void shouldTheOverriddenEvaluationOfASubclassBeUsedForEachSolution() {
+    AtomicInteger evaluations = new AtomicInteger();
+    DoubleProblem countingProblem =
+        new DTLZ2() {
+          @Override
+          public DoubleSolution evaluate(DoubleSolution solution) {
+            evaluations.incrementAndGet();
+            return super.evaluate(solution);
+          }
+        };
+
+    new BatchSolutionListEvaluator(128)
+        .evaluate(createSolutions(countingProblem, 300), countingProblem);
+
+    assertFalse(BatchSolutionListEvaluator.isBatchEvaluationApplicable(countingProblem));
+    assertEquals(300, evaluations.get());
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldConstructorFailIfTheBatchSizeIsNotPositive() {
+    new BatchSolutionListEvaluator(0);
+  }
+}
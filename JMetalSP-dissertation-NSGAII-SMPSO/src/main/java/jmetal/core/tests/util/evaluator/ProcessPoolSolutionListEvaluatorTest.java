@@ -0,0 +1,184 @@
+package jmetal.core.tests.util.evaluator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import jmetal.core.problem.doubleproblem.impl.FakeDoubleProblem;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.util.errorchecking.JMetalException;
+import jmetal.core.util.errorchecking.exception.InvalidConditionException;
+import jmetal.core.util.evaluator.ExternalSimulation;
+import jmetal.core.util.evaluator.impl.ProcessPoolSolutionListEvaluator;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * The simulator is replaced by shell scripts, so these tests require a POSIX shell
+ */
+public class ProcessPoolSolutionListEvaluatorTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  /**
+   * Stand-in simulation: the variables are written to input.txt and the script must write the
+   * value of the first objective to output.txt
+   */
+  @SuppressWarnings("serial")
+  private static class ShellScriptSimulation implements ExternalSimulation<DoubleSolution> {
+    private final Path script;
+    private final Set<Path> usedDirectories = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger launchedSimulations = new AtomicInteger();
+    private final AtomicInteger finishedSimulations = new AtomicInteger();
+
+    ShellScriptSimulation(Path script) {
+      this.script = script;
+    }
+
+    @Override
+    public List<String> commandLine(DoubleSolution solution, Path workingDirectory) throws IOException {
+      usedDirectories.add(workingDirectory);
+      launchedSimulations.incrementAndGet();
+      List<String> lines = new ArrayList<>();
+      solution.variables().forEach(value -> lines.add(String.valueOf(value)));
+      Files.write(workingDirectory.resolve("input.txt"), lines);
+
+      return Arrays.asList("sh", script.toString(), "input.txt", "output.txt");
+    }
+
+    @Override
+    public void readResults(DoubleSolution solution, Path workingDirectory) throws IOException {
+      String value = Files.readAllLines(workingDirectory.resolve("output.txt")).get(0);
+      solution.objectives()[0] = Double.parseDouble(value.trim());
+    }
+
+    @Override
+    public void simulationFinished(DoubleSolution solution, Path workingDirectory) {
+      finishedSimulations.incrementAndGet();
+    }
+  }
+
+  private Path script(String body) throws IOException {
+    Path script = folder.getRoot().toPath().resolve("simulator" + System.nanoTime() + ".sh");
+    Files.write(script, Arrays.asList("#!/bin/sh", body));
+    return script;
+  }
+
+  private List<DoubleSolution> solutions(int numberOfSolutions) {
+    FakeDoubleProblem problem = new FakeDoubleProblem(3, 2, 0);
+    List<DoubleSolution> solutions = new ArrayList<>();
+    for (int i = 0; i < numberOfSolutions; i++) {
+      solutions.add(problem.createSolution());
+    }
+    return solutions;
+  }
+
+  @Test
+  public void shouldEvaluateEverySolutionWithTheSimulatorOutput() throws IOException {
+    ShellScriptSimulation simulation =
+        new ShellScriptSimulation(script("awk '{s += $1} END {print s}' \"$1\" > \"$2\""));
+    ProcessPoolSolutionListEvaluator<DoubleSolution> evaluator =
+        new ProcessPoolSolutionListEvaluator<>(
+            simulation, 3, folder.getRoot().toPath().resolve("scratch"), 10, TimeUnit.SECONDS, 0);
+
+    List<DoubleSolution> solutions = solutions(10);
+    evaluator.evaluate(solutions, new FakeDoubleProblem());
+    evaluator.shutdown();
+
+    for (DoubleSolution solution : solutions) {
+      double sum = solution.variables().stream().mapToDouble(Double::doubleValue).sum();
+      assertEquals(sum, solution.objectives()[0], 0.00001);
+    }
+  }
+
+  @Test
+  public void shouldEachWorkerUseItsOwnWorkingDirectory() throws IOException {
+    ShellScriptSimulation simulation =
+        new ShellScriptSimulation(script("sleep 0.1; echo 1 > \"$2\""));
+    Path scratch = folder.getRoot().toPath().resolve("scratch");
+    ProcessPoolSolutionListEvaluator<DoubleSolution> evaluator =
+        new ProcessPoolSolutionListEvaluator<>(simulation, 4, scratch, 10, TimeUnit.SECONDS, 0);
+
+    evaluator.evaluate(solutions(12), new FakeDoubleProblem());
+    evaluator.shutdown();
+
+    assertTrue(simulation.usedDirectories.size() <= 4);
+    for (Path directory : simulation.usedDirectories) {
+      assertEquals(scratch, directory.getParent());
+      assertTrue(directory.getFileName().toString().startsWith("worker-"));
+    }
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldASimulationExceedingTheTimeoutBeKilledAndRaiseAnException() throws IOException {
+    ShellScriptSimulation simulation = new ShellScriptSimulation(script("sleep 10"));
+    ProcessPoolSolutionListEvaluator<DoubleSolution> evaluator =
+        new ProcessPoolSolutionListEvaluator<>(
+            simulation, 1, folder.getRoot().toPath().resolve("scratch"), 200, TimeUnit.MILLISECONDS, 1);
+
+    try {
+      evaluator.evaluate(solutions(1), new FakeDoubleProblem());
+    } finally {
+      evaluator.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldAFailedSimulationBeRetried() throws IOException {
+    Path marker = folder.getRoot().toPath().resolve("marker");
+    ShellScriptSimulation simulation =
+        new ShellScriptSimulation(
+            script("if [ -f " + marker + " ]; then echo 5 > \"$2\"; else touch " + marker + "; exit 1; fi"));
+    ProcessPoolSolutionListEvaluator<DoubleSolution> evaluator =
+        new ProcessPoolSolutionListEvaluator<>(
+            simulation, 1, folder.getRoot().toPath().resolve("scratch"), 10, TimeUnit.SECONDS, 2);
+
+    List<DoubleSolution> solutions = solutions(1);
+    evaluator.evaluate(solutions, new FakeDoubleProblem());
+    evaluator.shutdown();
+
+    assertEquals(5.0, solutions.get(0).objectives()[0], 0.0);
+  }
+
+  @Test
+  public void shouldTheSimulationBeNotifiedWhenEveryAttemptFinishes() throws IOException {
+    ShellScriptSimulation simulation = new ShellScriptSimulation(script("exit 1"));
+    ProcessPoolSolutionListEvaluator<DoubleSolution> evaluator =
+        new ProcessPoolSolutionListEvaluator<>(
+            simulation, 1, folder.getRoot().toPath().resolve("scratch"), 10, TimeUnit.SECONDS, 2);
+
+    try {
+      evaluator.evaluate(solutions(1), new FakeDoubleProblem());
+    } catch (JMetalException e) {
+      // Expected: the three attempts fail
+    } finally {
+      evaluator.shutdown();
+    }
+
+    assertEquals(3, simulation.launchedSimulations.get());
+    assertEquals(3, simulation.finishedSimulations.get());
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldAProblemThatIsNotASimulationRaiseAnExceptionIfNoSimulationIsGiven() {
+    ProcessPoolSolutionListEvaluator<DoubleSolution> evaluator =
+        new ProcessPoolSolutionListEvaluator<>(
+            1, folder.getRoot().toPath().resolve("scratch"), 10, TimeUnit.SECONDS, 0);
+
+    try {
+      evaluator.evaluate(solutions(1), new FakeDoubleProblem());
+    } finally {
+      evaluator.shutdown();
+    }
+  }
+}
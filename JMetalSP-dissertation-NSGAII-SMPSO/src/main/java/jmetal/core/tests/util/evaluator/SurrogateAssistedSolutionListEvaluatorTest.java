@@ -0,0 +1,193 @@
+package jmetal.core.tests.util.evaluator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import jmetal.core.problem.doubleproblem.impl.AbstractDoubleProblem;
+import jmetal.core.problem.doubleproblem.impl.FakeDoubleProblem;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.util.errorchecking.exception.InvalidConditionException;
+import jmetal.core.util.evaluator.SurrogateAssistedProblem;
+import jmetal.core.util.evaluator.impl.SequentialSolutionListEvaluator;
+import jmetal.core.util.evaluator.impl.SurrogateAssistedSolutionListEvaluator;
+import jmetal.core.util.evaluator.surrogate.SurrogateModel;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SurrogateAssistedSolutionListEvaluatorTest {
+  /**
+   * Two variables in [0, 1]: f0 = x + y is the expensive objective and f1 = 1 - x + y the cheap
+   * one, so the Pareto front is y = 0
+   */
+  @SuppressWarnings("serial")
+  private static class PartiallyExpensiveProblem extends AbstractDoubleProblem
+      implements SurrogateAssistedProblem<DoubleSolution> {
+    private int evaluations = 0;
+
+    PartiallyExpensiveProblem() {
+      numberOfObjectives(2);
+      numberOfConstraints(0);
+      variableBounds(Arrays.asList(0.0, 0.0), Arrays.asList(1.0, 1.0));
+    }
+
+    @Override
+    public DoubleSolution evaluate(DoubleSolution solution) {
+      evaluations++;
+      solution.objectives()[0] = solution.variables().get(0) + solution.variables().get(1);
+      evaluateCheapObjectives(solution);
+      return solution;
+    }
+
+    @Override
+    public int[] expensiveObjectives() {
+      return new int[]{0};
+    }
+
+    @Override
+    public void evaluateCheapObjectives(DoubleSolution solution) {
+      solution.objectives()[1] = 1 - solution.variables().get(0) + solution.variables().get(1);
+    }
+
+    @Override
+    public double[] surrogateFeatures(DoubleSolution solution) {
+      return new double[]{solution.variables().get(0), solution.variables().get(1)};
+    }
+  }
+
+  /**
+   * Exact model of f0 with a configurable standard deviation
+   */
+  @SuppressWarnings("serial")
+  private static class ExactModel implements SurrogateModel {
+    private final double standardDeviation;
+    private List<double[]> trainingFeatures = List.of();
+
+    ExactModel(double standardDeviation) {
+      this.standardDeviation = standardDeviation;
+    }
+
+    @Override
+    public void train(List<double[]> features, List<Double> values) {
+      trainingFeatures = new ArrayList<>(features);
+    }
+
+    @Override
+    public double[] predict(double[] features) {
+      return new double[]{features[0] + features[1], standardDeviation};
+    }
+  }
+
+  private PartiallyExpensiveProblem problem;
+
+  @Before
+  public void setup() {
+    problem = new PartiallyExpensiveProblem();
+  }
+
+  private DoubleSolution solution(double x, double y) {
+    DoubleSolution solution = problem.createSolution();
+    solution.variables().set(0, x);
+    solution.variables().set(1, y);
+    return solution;
+  }
+
+  private SurrogateAssistedSolutionListEvaluator<DoubleSolution> trainedEvaluator(double standardDeviation,
+      double uncertaintyThreshold) {
+    SurrogateAssistedSolutionListEvaluator<DoubleSolution> evaluator =
+        new SurrogateAssistedSolutionListEvaluator<>(new SequentialSolutionListEvaluator<>(), 1,
+            () -> new ExactModel(standardDeviation), 3, 0.0, uncertaintyThreshold);
+    evaluator.evaluate(new ArrayList<>(List.of(solution(0.0, 0.0), solution(0.5, 0.0), solution(1.0, 0.0))), problem);
+    return evaluator;
+  }
+
+  @Test
+  public void shouldEvaluateAllTheSolutionsUntilTheModelIsTrained() {
+    SurrogateAssistedSolutionListEvaluator<DoubleSolution> evaluator =
+        new SurrogateAssistedSolutionListEvaluator<>(new SequentialSolutionListEvaluator<>(), 1,
+            () -> new ExactModel(0.0), 4, 0.0, Double.POSITIVE_INFINITY);
+
+    evaluator.evaluate(new ArrayList<>(List.of(solution(0.0, 0.5), solution(0.5, 0.5), solution(1.0, 0.5))), problem);
+
+    assertFalse(evaluator.isTrained());
+    assertEquals(3, problem.evaluations);
+    assertEquals(3, evaluator.simulatorCalls());
+    assertEquals(0, evaluator.savedSimulatorCalls());
+  }
+
+  @Test
+  public void shouldNotEvaluateSolutionsPredictedToBeDominated() {
+    SurrogateAssistedSolutionListEvaluator<DoubleSolution> evaluator = trainedEvaluator(0.0, Double.POSITIVE_INFINITY);
+    DoubleSolution dominatedSolution = solution(0.5, 0.5);
+
+    evaluator.evaluate(new ArrayList<>(List.of(dominatedSolution)), problem);
+
+    assertTrue(evaluator.isTrained());
+    assertEquals(3, problem.evaluations);
+    assertEquals(1, evaluator.savedSimulatorCalls());
+    assertEquals(1.0, dominatedSolution.objectives()[0], 1e-10);
+    assertEquals(1.0, dominatedSolution.objectives()[1], 1e-10);
+    assertEquals(true, dominatedSolution.attributes().get(SurrogateAssistedSolutionListEvaluator.PREDICTED_ATTRIBUTE));
+  }
+
+  @Test
+  public void shouldEvaluateSolutionsPredictedToBeNonDominated() {
+    SurrogateAssistedSolutionListEvaluator<DoubleSolution> evaluator = trainedEvaluator(0.0, Double.POSITIVE_INFINITY);
+    DoubleSolution promisingSolution = solution(0.25, 0.0);
+
+    evaluator.evaluate(new ArrayList<>(List.of(promisingSolution)), problem);
+
+    assertEquals(4, problem.evaluations);
+    assertEquals(4, evaluator.simulatorCalls());
+    assertEquals(0, evaluator.savedSimulatorCalls());
+    assertFalse(promisingSolution.attributes().containsKey(SurrogateAssistedSolutionListEvaluator.PREDICTED_ATTRIBUTE));
+  }
+
+  @Test
+  public void shouldEvaluateSolutionsWithUncertainPredictions() {
+    SurrogateAssistedSolutionListEvaluator<DoubleSolution> evaluator = trainedEvaluator(1.0, 0.5);
+
+    evaluator.evaluate(new ArrayList<>(List.of(solution(0.5, 0.5))), problem);
+
+    assertEquals(4, problem.evaluations);
+    assertEquals(0, evaluator.savedSimulatorCalls());
+  }
+
+  @Test
+  public void shouldTrainTheModelsWithTheLastEvaluatedSolutionsOnly() {
+    List<ExactModel> models = new ArrayList<>();
+    SurrogateAssistedSolutionListEvaluator<DoubleSolution> evaluator =
+        new SurrogateAssistedSolutionListEvaluator<>(new SequentialSolutionListEvaluator<>(), 1,
+            () -> {
+              ExactModel model = new ExactModel(1.0);
+              models.add(model);
+              return model;
+            }, 2, 3, 0.0, 0.5);
+
+    for (int i = 0; i < 5; i++) {
+      evaluator.evaluate(new ArrayList<>(List.of(solution(0.1 * i, 0.5), solution(0.1 * i, 0.6))), problem);
+    }
+
+    List<double[]> trainingFeatures = models.get(0).trainingFeatures;
+    assertEquals(3, trainingFeatures.size());
+    assertEquals(0.3, trainingFeatures.get(0)[0], 1e-10);
+    assertEquals(0.6, trainingFeatures.get(0)[1], 1e-10);
+    assertEquals(0.4, trainingFeatures.get(2)[0], 1e-10);
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldConstructorFailIfTheMaximumTrainingSetSizeIsLowerThanTheMinimumOne() {
+    new SurrogateAssistedSolutionListEvaluator<DoubleSolution>(new SequentialSolutionListEvaluator<>(), 1,
+        () -> new ExactModel(0.0), 10, 5, 1.0, Double.POSITIVE_INFINITY);
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldEvaluateFailIfTheProblemHasNoCheapObjectives() {
+    FakeDoubleProblem fakeProblem = new FakeDoubleProblem(2, 2, 0);
+    new SurrogateAssistedSolutionListEvaluator<DoubleSolution>(new SequentialSolutionListEvaluator<>(), 1,
+        () -> new ExactModel(0.0)).evaluate(List.of(fakeProblem.createSolution()), fakeProblem);
+  }
+}
@@ -0,0 +1,162 @@
+package jmetal.core.tests.util.evaluator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import jmetal.core.problem.doubleproblem.impl.FakeDoubleProblem;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.util.errorchecking.JMetalException;
+import jmetal.core.util.errorchecking.exception.InvalidConditionException;
+import jmetal.core.util.evaluator.impl.VirtualThreadSolutionListEvaluator;
+import org.junit.Test;
+
+public class VirtualThreadSolutionListEvaluatorTest {
+
+  /**
+   * Problem whose evaluation blocks for a given time and assigns the first variable to the first
+   * objective. It records the maximum number of evaluations running at the same time
+   */
+  @SuppressWarnings("serial")
+  private static class BlockingProblem extends FakeDoubleProblem {
+    private final long sleepTime;
+    private final AtomicInteger runningEvaluations = new AtomicInteger(0);
+    private final AtomicInteger maximumRunningEvaluations = new AtomicInteger(0);
+
+    BlockingProblem(long sleepTime) {
+      super(1, 1, 0);
+      this.sleepTime = sleepTime;
+    }
+
+    @Override
+    public DoubleSolution evaluate(DoubleSolution solution) {
+      maximumRunningEvaluations.accumulateAndGet(runningEvaluations.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(sleepTime);
+      } catch (InterruptedException e) {
+        throw new JMetalException("Evaluation interrupted", e);
+      } finally {
+        runningEvaluations.decrementAndGet();
+      }
+      solution.objectives()[0] = solution.variables().get(0);
+
+      return solution;
+    }
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheMaximumConcurrencyIsNegative() {
+    new VirtualThreadSolutionListEvaluator<DoubleSolution>(-1);
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheTimeoutIsNegative() {
+    new VirtualThreadSolutionListEvaluator<DoubleSolution>(1, -1, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void shouldEvaluateAllTheSolutionsKeepingTheirOrder() {
+    BlockingProblem problem = new BlockingProblem(5);
+    List<DoubleSolution> solutions = createSolutions(problem, 50);
+    VirtualThreadSolutionListEvaluator<DoubleSolution> evaluator =
+        new VirtualThreadSolutionListEvaluator<>();
+
+    List<DoubleSolution> evaluatedSolutions = evaluator.evaluate(solutions, problem);
+    evaluator.shutdown();
+
+    assertEquals(solutions, evaluatedSolutions);
+    for (DoubleSolution solution : evaluatedSolutions) {
+      assertEquals(solution.variables().get(0), solution.objectives()[0], 0.0);
+    }
+  }
+
+  @Test
+  public void shouldBlockingEvaluationsRunConcurrentlyBeyondTheNumberOfCores() {
+    int numberOfSolutions = 4 * Runtime.getRuntime().availableProcessors() + 8;
+    BlockingProblem problem = new BlockingProblem(300);
+    VirtualThreadSolutionListEvaluator<DoubleSolution> evaluator =
+        new VirtualThreadSolutionListEvaluator<>();
+
+    evaluator.evaluate(createSolutions(problem, numberOfSolutions), problem);
+    evaluator.shutdown();
+
+    assertTrue(problem.maximumRunningEvaluations.get() > numberOfSolutions / 2);
+  }
+
+  @Test
+  public void shouldTheNumberOfConcurrentEvaluationsNotExceedTheMaximumConcurrency() {
+    BlockingProblem problem = new BlockingProblem(10);
+    VirtualThreadSolutionListEvaluator<DoubleSolution> evaluator =
+        new VirtualThreadSolutionListEvaluator<>(3);
+
+    evaluator.evaluate(createSolutions(problem, 30), problem);
+    evaluator.shutdown();
+
+    assertEquals(3, problem.maximumRunningEvaluations.get());
+  }
+
+  @Test
+  public void shouldAnEvaluationExceedingTheTimeoutRaiseAnException() {
+    BlockingProblem problem = new BlockingProblem(10000);
+    VirtualThreadSolutionListEvaluator<DoubleSolution> evaluator =
+        new VirtualThreadSolutionListEvaluator<>(0, 100, TimeUnit.MILLISECONDS);
+
+    long startTime = System.currentTimeMillis();
+    try {
+      evaluator.evaluate(createSolutions(problem, 4), problem);
+      fail("The timeout has not been detected");
+    } catch (JMetalException e) {
+      assertTrue(e.getMessage().contains("timeout"));
+    } finally {
+      evaluator.shutdown();
+    }
+
+    assertTrue(System.currentTimeMillis() - startTime < 5000);
+  }
+
+  @Test
+  public void shouldTheEvaluatorAcceptADedicatedExecutor() {
+    BlockingProblem problem = new BlockingProblem(5);
+    VirtualThreadSolutionListEvaluator<DoubleSolution> evaluator =
+        new VirtualThreadSolutionListEvaluator<>(Executors.newFixedThreadPool(2), 0, 1,
+            TimeUnit.SECONDS);
+
+    List<DoubleSolution> solutions = evaluator.evaluate(createSolutions(problem, 10), problem);
+    evaluator.shutdown();
+
+    assertEquals(10, solutions.size());
+    assertEquals(2, problem.maximumRunningEvaluations.get());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void shouldTheExceptionOfAFailedEvaluationBeRethrown() {
+    FakeDoubleProblem problem = new FakeDoubleProblem(1, 1, 0) {
+      @Override
+      public DoubleSolution evaluate(DoubleSolution solution) {
+        throw new IllegalStateException("Simulator not available");
+      }
+    };
+    VirtualThreadSolutionListEvaluator<DoubleSolution> evaluator =
+        new VirtualThreadSolutionListEvaluator<>();
+
+    try {
+      evaluator.evaluate(createSolutions(problem, 5), problem);
+    } finally {
+      evaluator.shutdown();
+    }
+  }
+
+  private List<DoubleSolution> createSolutions(FakeDoubleProblem problem, int numberOfSolutions) {
+    List<DoubleSolution> solutions = new ArrayList<>(numberOfSolutions);
+    for (int i = 0; i < numberOfSolutions; i++) {
+      solutions.add(problem.createSolution());
+    }
+
+    return solutions;
+  }
+}
@@ -0,0 +1,117 @@
+package jmetal.core.tests.util.linearalgebra;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+import jmetal.core.util.errorchecking.exception.InvalidConditionException;
+import jmetal.core.util.linearalgebra.DenseMatrix;
+import org.junit.Test;
+
+public class DenseMatrixTest {
+  private static DenseMatrix randomMatrix(int rows, int columns, Random random) {
+    DenseMatrix matrix = new DenseMatrix(rows, columns);
+    for (int i = 0; i < matrix.data().length; i++) {
+      matrix.data()[i] = random.nextDouble() * 2.0 - 1.0;
+    }
+
+    return matrix;
+  }
+
+  @Test
+  public void shouldMultiplyReturnTheSameValuesAsTheTripleLoop() {
+    Random random = new Random(1);
+    // Sizes larger than a block, and not multiples of it
+    DenseMatrix a = randomMatrix(70, 150, random);
+    DenseMatrix b = randomMatrix(150, 131, random);
+
+    DenseMatrix product = a.multiply(b);
+
+    assertEquals(70, product.rows());
+    assertEquals(131, product.columns());
+    for (int i = 0; i < a.rows(); i++) {
+      for (int j = 0; j < b.columns(); j++) {
+        double sum = 0.0;
+        for (int k = 0; k < a.columns(); k++) {
+          sum += a.get(i, k) * b.get(k, j);
+        }
+        assertEquals(sum, product.get(i, j), 0.0);
+      }
+    }
+  }
+
+  @Test
+  public void shouldMultiplyTransposedReturnTheProductByTheTranspose() {
+    Random random = new Random(2);
+    DenseMatrix a = randomMatrix(67, 40, random);
+    DenseMatrix b = randomMatrix(90, 40, random);
+    DenseMatrix transposeOfB = new DenseMatrix(40, 90);
+    for (int i = 0; i < b.rows(); i++) {
+      for (int j = 0; j < b.columns(); j++) {
+        transposeOfB.set(j, i, b.get(i, j));
+      }
+    }
+
+    assertArrayEquals(a.multiply(transposeOfB).data(), a.multiplyTransposed(b).data(), 0.0);
+  }
+
+  @Test
+  public void shouldMultiplyByAVectorReturnTheRightValues() {
+    DenseMatrix matrix = DenseMatrix.of(new double[][] {{1, 2, 3}, {4, 5, 6}});
+
+    assertArrayEquals(new double[] {14, 32}, matrix.multiply(new double[] {1, 2, 3}), 0.0);
+  }
+
+  @Test
+  public void shouldTheRowStatisticsBeTheMeanAndTheSampleStandardDeviation() {
+    DenseMatrix matrix =
+        DenseMatrix.of(new double[][] {{2, 4, 4, 4, 5, 5, 7, 9}, {1, 1, 1, 1, 1, 1, 1, 1}});
+
+    double[] means = matrix.rowMeans();
+
+    assertArrayEquals(new double[] {5, 1}, means, 0.0);
+    assertArrayEquals(
+        new double[] {Math.sqrt(32.0 / 7), 0}, matrix.rowStandardDeviations(means), 1e-15);
+  }
+
+  @Test
+  public void shouldSubtractFromRowsSubtractAValueFromEachRow() {
+    DenseMatrix matrix = DenseMatrix.of(new double[][] {{1, 2}, {3, 5}});
+
+    DenseMatrix result = matrix.subtractFromRows(matrix.column(0));
+
+    assertArrayEquals(new double[] {0, 1, 0, 2}, result.data(), 0.0);
+    assertArrayEquals(new double[] {1, 2, 3, 5}, matrix.data(), 0.0);
+  }
+
+  @Test
+  public void shouldSolveReturnTheSolutionOfTheSystemWithoutModifyingTheMatrix() {
+    DenseMatrix matrix = DenseMatrix.of(new double[][] {{2, 1, -1}, {-3, -1, 2}, {-2, 1, 2}});
+    double[] values = matrix.data().clone();
+
+    double[] x = matrix.solve(new double[] {8, -11, -3});
+
+    assertArrayEquals(new double[] {2, 3, -1}, x, 1e-12);
+    assertArrayEquals(values, matrix.data(), 0.0);
+  }
+
+  @Test
+  public void shouldOfAndToArrayKeepTheValues() {
+    double[][] values = {{1, 2, 3}, {4, 5, 6}};
+
+    DenseMatrix matrix = DenseMatrix.of(values);
+
+    assertEquals(6, matrix.get(1, 2), 0.0);
+    assertArrayEquals(values, matrix.toArray());
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldMultiplyFailIfTheSizesDoNotMatch() {
+    new DenseMatrix(2, 3).multiply(new DenseMatrix(2, 3));
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldOfFailIfTheArrayIsNotRectangular() {
+    DenseMatrix.of(new double[][] {{1, 2}, {3}});
+  }
+}
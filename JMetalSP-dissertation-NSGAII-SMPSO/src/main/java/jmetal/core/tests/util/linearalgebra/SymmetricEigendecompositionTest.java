@@ -0,0 +1,63 @@
+package jmetal.core.tests.util.linearalgebra;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import jmetal.core.util.linearalgebra.DenseMatrix;
+import jmetal.core.util.linearalgebra.SymmetricEigendecomposition;
+import org.junit.Test;
+
+public class SymmetricEigendecompositionTest {
+  @Test
+  public void shouldDecomposeADiagonalMatrixReturnItsSortedValuesAndThePermutation() {
+    DenseMatrix matrix = DenseMatrix.of(new double[][] {{3, 0, 0}, {0, 1, 0}, {0, 0, 2}});
+    double[] eigenvalues = new double[3];
+
+    SymmetricEigendecomposition.decompose(matrix, eigenvalues);
+
+    assertArrayEquals(new double[] {1, 2, 3}, eigenvalues, 1e-15);
+    for (int i = 0; i < 3; i++) {
+      for (int j = 0; j < 3; j++) {
+        assertEquals(i == j ? 1.0 : 0.0, Math.abs(matrix.get(i, (j + 2) % 3)), 1e-15);
+      }
+    }
+  }
+
+  @Test
+  public void shouldTheEigenvectorsBeOrthonormalAndReconstructTheMatrix() {
+    Random random = new Random(3);
+    int n = 30;
+    DenseMatrix matrix = new DenseMatrix(n, n);
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j <= i; j++) {
+        double value = random.nextDouble();
+        matrix.set(i, j, value);
+        matrix.set(j, i, value);
+      }
+    }
+    DenseMatrix v = matrix.copy();
+    double[] eigenvalues = new double[n];
+
+    SymmetricEigendecomposition.decompose(v, eigenvalues);
+
+    for (int i = 1; i < n; i++) {
+      assertTrue(eigenvalues[i - 1] <= eigenvalues[i]);
+    }
+    DenseMatrix scaled = new DenseMatrix(n, n);
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j < n; j++) {
+        scaled.set(i, j, v.get(i, j) * eigenvalues[j]);
+      }
+    }
+    DenseMatrix reconstruction = scaled.multiplyTransposed(v);
+    DenseMatrix identity = v.multiplyTransposed(v);
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j < n; j++) {
+        assertEquals(matrix.get(i, j), reconstruction.get(i, j), 1e-12);
+        assertEquals(i == j ? 1.0 : 0.0, identity.get(i, j), 1e-12);
+      }
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package jmetal.core.tests.util.pseudorandom.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import jmetal.core.util.errorchecking.JMetalException;
+import jmetal.core.util.pseudorandom.PseudoRandomGenerator;
+import jmetal.core.util.pseudorandom.impl.SplittableRandomGenerator;
+import jmetal.core.util.pseudorandom.impl.ThreadLocalRandomGenerator;
+import org.junit.Test;
+
+public class SplittableRandomGeneratorTest {
+
+  @Test
+  public void shouldTheStreamsSplitFromAGeneratorDependOnlyOnItsSeed() {
+    List<PseudoRandomGenerator> streams = new SplittableRandomGenerator(1).split(3);
+    List<PseudoRandomGenerator> sameStreams = new SplittableRandomGenerator(1).split(3);
+
+    for (int i = 0; i < streams.size(); i++) {
+      for (int j = 0; j < 100; j++) {
+        assertEquals(streams.get(i).nextDouble(), sameStreams.get(i).nextDouble(), 0.0);
+      }
+    }
+    assertNotEquals(streams.get(0).nextDouble(), streams.get(1).nextDouble(), 0.0);
+  }
+
+  @Test
+  public void shouldSetSeedRestartTheSequence() {
+    SplittableRandomGenerator generator = new SplittableRandomGenerator(5);
+    double first = generator.nextDouble();
+    generator.nextInt(0, 10);
+
+    generator.setSeed(5);
+
+    assertEquals(first, generator.nextDouble(), 0.0);
+    assertEquals(5, generator.getSeed());
+  }
+
+  @Test
+  public void shouldNextIntReturnValuesInTheClosedInterval() {
+    SplittableRandomGenerator generator = new SplittableRandomGenerator(2);
+    boolean[] generated = new boolean[5];
+    for (int i = 0; i < 1000; i++) {
+      int value = generator.nextInt(-2, 2);
+      assertTrue(value >= -2 && value <= 2);
+      generated[value + 2] = true;
+    }
+    for (boolean value : generated) {
+      assertTrue(value);
+    }
+
+    assertEquals(7, generator.nextInt(7, 7));
+    generator.nextInt(Integer.MIN_VALUE, Integer.MAX_VALUE);
+  }
+
+  @Test
+  public void shouldADeserializedGeneratorContinueTheSequence()
+      throws IOException, ClassNotFoundException {
+    SplittableRandomGenerator generator = new SplittableRandomGenerator("L64X256MixRandom", 3);
+    for (int i = 0; i < 10; i++) {
+      generator.nextDouble();
+    }
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+      output.writeObject(generator);
+    }
+    PseudoRandomGenerator copy;
+    try (ObjectInputStream input =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      copy = (PseudoRandomGenerator) input.readObject();
+    }
+
+    assertEquals(generator.getName(), copy.getName());
+    assertEquals(generator.nextDouble(), copy.nextDouble(), 0.0);
+    assertEquals(generator.nextInt(0, 100), copy.nextInt(0, 100));
+  }
+
+  @Test
+  public void shouldEachThreadGetItsOwnStreamOfTheMasterGenerator() {
+    ThreadLocalRandomGenerator generator =
+        new ThreadLocalRandomGenerator(new SplittableRandomGenerator(4));
+
+    double value = generator.nextDouble();
+    double otherThreadValue = CompletableFuture.supplyAsync(generator::nextDouble).join();
+
+    assertNotEquals(value, otherThreadValue, 0.0);
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorFailIfTheAlgorithmDoesNotExist() {
+    new SplittableRandomGenerator("NoSuchRandom", 1);
+  }
+}
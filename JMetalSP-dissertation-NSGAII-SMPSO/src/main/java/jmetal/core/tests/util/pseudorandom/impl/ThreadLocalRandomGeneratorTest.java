@@ -0,0 +1,44 @@
+package jmetal.core.tests.util.pseudorandom.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.CompletableFuture;
+import jmetal.core.util.pseudorandom.PseudoRandomGenerator;
+import jmetal.core.util.pseudorandom.impl.ThreadLocalRandomGenerator;
+import org.junit.Test;
+
+public class ThreadLocalRandomGeneratorTest {
+
+  @Test
+  public void shouldEachThreadHaveItsOwnGenerator() {
+    ThreadLocalRandomGenerator generator = new ThreadLocalRandomGenerator();
+    PseudoRandomGenerator current = generator.currentGenerator();
+
+    assertSame(current, generator.currentGenerator());
+    assertNotSame(
+        current, CompletableFuture.supplyAsync(generator::currentGenerator).join());
+  }
+
+  @Test
+  public void shouldSettingTheSeedInAThreadNotAffectTheOtherThreads() {
+    ThreadLocalRandomGenerator generator = new ThreadLocalRandomGenerator();
+    generator.setSeed(1);
+    double[] expected = {generator.nextDouble(), generator.nextDouble(), generator.nextDouble()};
+
+    generator.setSeed(1);
+    double first = generator.nextDouble();
+    CompletableFuture.runAsync(
+            () -> {
+              generator.setSeed(1);
+              generator.nextDouble();
+              generator.nextDouble();
+            })
+        .join();
+
+    assertEquals(expected[0], first, 0.0);
+    assertEquals(expected[1], generator.nextDouble(), 0.0);
+    assertEquals(expected[2], generator.nextDouble(), 0.0);
+  }
+}
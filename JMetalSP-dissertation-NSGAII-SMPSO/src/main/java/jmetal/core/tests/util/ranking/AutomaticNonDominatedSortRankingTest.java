@@ -0,0 +1,95 @@
+package jmetal.core.tests.util.ranking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import jmetal.core.problem.doubleproblem.DoubleProblem;
+import jmetal.core.problem.doubleproblem.impl.FakeDoubleProblem;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+import jmetal.core.util.ranking.Ranking;
+import jmetal.core.util.ranking.RankingFactory;
+import jmetal.core.util.ranking.impl.AutomaticNonDominatedSortRanking;
+import jmetal.core.util.ranking.impl.FastNonDominatedSortRanking;
+import org.junit.jupiter.api.Test;
+
+public class AutomaticNonDominatedSortRankingTest
+    extends NonDominanceRankingTestCases<Ranking<DoubleSolution>> {
+  public AutomaticNonDominatedSortRankingTest() {
+    setRanking(new AutomaticNonDominatedSortRanking<>());
+  }
+
+  @Test
+  public void shouldRankingBeEqualToFastNonDominatedSortWithTwoObjectives() {
+    assertSameRanksAsFastNonDominatedSort(200, 2);
+  }
+
+  @Test
+  public void shouldRankingBeEqualToFastNonDominatedSortWithManyObjectives() {
+    assertSameRanksAsFastNonDominatedSort(100, AutomaticNonDominatedSortRanking.MANY_OBJECTIVES);
+  }
+
+  @Test
+  public void shouldRankingBeEqualToFastNonDominatedSortWithASmallPopulation() {
+    assertSameRanksAsFastNonDominatedSort(
+        AutomaticNonDominatedSortRanking.SMALL_POPULATION_SIZE - 1, 3);
+  }
+
+  @Test
+  public void shouldTheRankingBeComputedSeveralTimesWithDifferentSizes() {
+    assertSameRanksAsFastNonDominatedSort(50, 3);
+    assertSameRanksAsFastNonDominatedSort(300, 4);
+    assertSameRanksAsFastNonDominatedSort(20, 2);
+  }
+
+  @Test
+  public void shouldTheFactoryReturnTheAutomaticRankingWithTheDefaultDominanceComparator() {
+    assertTrue(RankingFactory.create() instanceof AutomaticNonDominatedSortRanking);
+    assertTrue(RankingFactory.create(null) instanceof AutomaticNonDominatedSortRanking);
+    assertTrue(
+        RankingFactory.<DoubleSolution>create(new DefaultDominanceComparator<>())
+            instanceof AutomaticNonDominatedSortRanking);
+  }
+
+  @Test
+  public void shouldTheFactoryReturnTheFastNonDominatedSortWithACustomComparator() {
+    Ranking<DoubleSolution> ranking =
+        RankingFactory.create((DoubleSolution s1, DoubleSolution s2) -> 0);
+
+    assertTrue(ranking instanceof FastNonDominatedSortRanking);
+  }
+
+  private void assertSameRanksAsFastNonDominatedSort(int populationSize, int numberOfObjectives) {
+    DoubleProblem problem = new FakeDoubleProblem(2, numberOfObjectives, 0);
+    Random random = new Random(populationSize * 31L + numberOfObjectives);
+
+    List<DoubleSolution> population = new ArrayList<>(populationSize);
+    for (int i = 0; i < populationSize; i++) {
+      DoubleSolution solution = problem.createSolution();
+      for (int j = 0; j < numberOfObjectives; j++) {
+        // Rounded values so that there are repeated objective values
+        solution.objectives()[j] = random.nextInt(10);
+      }
+      population.add(solution);
+    }
+
+    Ranking<DoubleSolution> expected = new FastNonDominatedSortRanking<>();
+    expected.compute(population);
+    int[] expectedRanks = new int[populationSize];
+    for (int i = 0; i < populationSize; i++) {
+      expectedRanks[i] = expected.getRank(population.get(i));
+    }
+
+    Ranking<DoubleSolution> ranking = getRanking();
+    ranking.compute(population);
+
+    assertEquals(expected.getNumberOfSubFronts(), ranking.getNumberOfSubFronts());
+    for (int i = 0; i < populationSize; i++) {
+      assertEquals(expectedRanks[i], (int) ranking.getRank(population.get(i)));
+      assertTrue(ranking.getSubFront(expectedRanks[i]).contains(population.get(i)));
+    }
+  }
+}
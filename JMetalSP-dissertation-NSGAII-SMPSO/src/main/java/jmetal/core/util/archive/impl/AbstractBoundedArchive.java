@@ -12,12 +12,20 @@ import jmetal.core.util.comparator.dominanceComparator.impl.DefaultDominanceComp
  * @param <S>
  */
 public abstract class AbstractBoundedArchive<S extends Solution<?>> implements BoundedArchive<S> {
-  protected NonDominatedSolutionListArchive<S> archive;
+  protected Archive<S> archive;
   protected int maxSize;
 
   protected AbstractBoundedArchive(int maxSize, DominanceComparator<S> dominanceComparator) {
+    this(maxSize, new NonDominatedSolutionListArchive<>(dominanceComparator));
+  }
+
+  /**
+   * Constructor using the given archive to keep the non-dominated solutions (e.g., a {@link
+   * NonDominatedSolutionIndexedArchive}). Its list of solutions must allow removing solutions.
+   */
+  protected AbstractBoundedArchive(int maxSize, Archive<S> nonDominatedArchive) {
     this.maxSize = maxSize;
-    this.archive = new NonDominatedSolutionListArchive<>(dominanceComparator);
+    this.archive = nonDominatedArchive;
   }
 
   protected AbstractBoundedArchive(int maxSize) {
@@ -3,6 +3,7 @@ package jmetal.core.util.archive.impl;
 import java.util.Comparator;
 import jmetal.core.solution.Solution;
 import jmetal.core.util.SolutionListUtils;
+import jmetal.core.util.archive.Archive;
 import jmetal.core.util.comparator.dominanceComparator.DominanceComparator;
 import jmetal.core.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
 import jmetal.core.util.densityestimator.DensityEstimator;
@@ -23,6 +24,12 @@ public class CrowdingDistanceArchive<S extends Solution<?>> extends AbstractBoun
     crowdingDistanceComparator = Comparator.comparing(crowdingDistance::value).reversed() ;
   }
 
+  public CrowdingDistanceArchive(int maxSize, Archive<S> nonDominatedArchive) {
+    super(maxSize, nonDominatedArchive);
+    crowdingDistance = new CrowdingDistanceDensityEstimator<>();
+    crowdingDistanceComparator = Comparator.comparing(crowdingDistance::value).reversed() ;
+  }
+
   public CrowdingDistanceArchive(int maxSize) {
     this(maxSize, new DefaultDominanceComparator<>()) ;
   }
@@ -0,0 +1,121 @@
+package jmetal.core.util.archive.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import jmetal.core.qualityindicator.impl.hypervolume.incremental.IncrementalHypervolume;
+import jmetal.core.qualityindicator.impl.hypervolume.incremental.IncrementalHypervolumeFactory;
+import jmetal.core.solution.Solution;
+import jmetal.core.util.comparator.HypervolumeContributionComparator;
+import jmetal.core.util.comparator.dominanceComparator.DominanceComparator;
+import jmetal.core.util.errorchecking.Check;
+import jmetal.core.util.solutionattribute.impl.HypervolumeContributionAttribute;
+
+/**
+ * Bounded archive that removes the solution with the lowest hypervolume contribution when it is
+ * full, as {@link HypervolumeArchive}, but the hypervolume is maintained with an {@link
+ * IncrementalHypervolume} instead of recomputing all the contributions on every overflow. As a
+ * consequence, the reference point is fixed (given in the constructor) instead of being derived
+ * from the current contents of the archive; solutions not better than the reference point in all
+ * the objectives contribute zero and are removed first.
+ *
+ * <p>Unless a dominance comparator is given, the non-dominated solutions are kept in a {@link
+ * NonDominatedSolutionIndexedArchive}, which reports the members replaced by a new solution and
+ * removes the least contributor without scanning the archive.
+ *
+ * @param <S> Solution
+ */
+@SuppressWarnings("serial")
+public class IncrementalHypervolumeArchive<S extends Solution<?>> extends AbstractBoundedArchive<S> {
+  private final Comparator<S> comparator;
+  private final IncrementalHypervolume<S> hypervolume;
+
+  public IncrementalHypervolumeArchive(int maxSize, double[] referencePoint) {
+    this(maxSize, IncrementalHypervolumeFactory.create(referencePoint));
+  }
+
+  /**
+   * Constructor for any number of objectives: with more than three, the hypervolume is estimated
+   * by sampling the box between the lower bound and the reference point
+   */
+  public IncrementalHypervolumeArchive(int maxSize, double[] referencePoint,
+      double[] lowerBound) {
+    this(maxSize, IncrementalHypervolumeFactory.create(referencePoint, lowerBound));
+  }
+
+  public IncrementalHypervolumeArchive(int maxSize, IncrementalHypervolume<S> hypervolume) {
+    super(maxSize, new NonDominatedSolutionIndexedArchive<>());
+    Check.notNull(hypervolume);
+    this.comparator = new HypervolumeContributionComparator<>();
+    this.hypervolume = hypervolume;
+  }
+
+  public IncrementalHypervolumeArchive(int maxSize, IncrementalHypervolume<S> hypervolume,
+      DominanceComparator<S> dominanceComparator) {
+    super(maxSize, dominanceComparator);
+    Check.notNull(hypervolume);
+    this.comparator = new HypervolumeContributionComparator<>();
+    this.hypervolume = hypervolume;
+  }
+
+  @Override
+  public boolean add(S solution) {
+    List<S> dominatedSolutions = new ArrayList<>();
+    boolean success = add(solution, dominatedSolutions);
+    if (success) {
+      for (S dominatedSolution : dominatedSolutions) {
+        hypervolume.remove(dominatedSolution);
+      }
+      hypervolume.add(solution, solution.objectives());
+      prune();
+    }
+
+    return success;
+  }
+
+  /**
+   * Inserts a solution in the non-dominated archive, collecting the members it has replaced
+   */
+  @SuppressWarnings("unchecked")
+  private boolean add(S solution, List<S> dominatedSolutions) {
+    if (archive instanceof NonDominatedSolutionIndexedArchive) {
+      return ((NonDominatedSolutionIndexedArchive<S>) archive).add(solution, dominatedSolutions);
+    }
+
+    return ((NonDominatedSolutionListArchive<S>) archive).add(solution, dominatedSolutions);
+  }
+
+  @Override
+  public void prune() {
+    while (solutions().size() > maximumSize()) {
+      S worst = hypervolume.leastContributor();
+      hypervolume.remove(worst);
+      if (archive instanceof NonDominatedSolutionIndexedArchive) {
+        // The list of the indexed archive locates the solution by identity in O(log n)
+        solutions().remove(worst);
+      } else {
+        solutions().removeIf(member -> member == worst);
+      }
+    }
+  }
+
+  @Override
+  public Comparator<S> comparator() {
+    return comparator;
+  }
+
+  @Override
+  public void computeDensityEstimator() {
+    HypervolumeContributionAttribute<S> contribution = new HypervolumeContributionAttribute<>();
+    for (S solution : solutions()) {
+      contribution.setAttribute(solution, hypervolume.contribution(solution));
+    }
+  }
+
+  /**
+   * Hypervolume of the solutions in the archive with respect to the reference point
+   */
+  public double hypervolume() {
+    return hypervolume.value();
+  }
+}
@@ -4,11 +4,14 @@ import java.util.Comparator;
 import jmetal.core.solution.Solution;
 import jmetal.core.util.SolutionListUtils;
 import jmetal.core.util.densityestimator.DensityEstimator;
-import jmetal.core.util.densityestimator.impl.KnnDensityEstimator;
+import jmetal.core.util.densityestimator.impl.IncrementalKnnDensityEstimator;
 
 /**
  * Created by Antonio J. Nebro on 24/09/14.
  * Modified by Juanjo on 07/04/2015
+ *
+ * The KNN distances are kept by an {@link IncrementalKnnDensityEstimator}, so pruning the archive
+ * only updates the distances affected by the solutions inserted and removed since the last time.
  */
 @SuppressWarnings("serial")
 public class KNNDistanceArchive<S extends Solution<?>> extends AbstractBoundedArchive<S> {
@@ -17,7 +20,7 @@ public class KNNDistanceArchive<S extends Solution<?>> extends AbstractBoundedAr
 
   public KNNDistanceArchive(int maxSize, int k) {
     super(maxSize);
-    knnDensityEstimator = new KnnDensityEstimator<S>(k);
+    knnDensityEstimator = new IncrementalKnnDensityEstimator<S>(k);
     knnDistanceComparator = Comparator.comparing(knnDensityEstimator::value).reversed() ;
   }
 
@@ -0,0 +1,248 @@
+package jmetal.core.util.archive.impl;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+import jmetal.core.solution.Solution;
+import jmetal.core.util.archive.Archive;
+import jmetal.core.util.archive.impl.paretoindex.NDTreeIndex;
+import jmetal.core.util.archive.impl.paretoindex.ParetoIndex;
+import jmetal.core.util.archive.impl.paretoindex.SortedFrontIndex;
+
+/**
+ * Archive containing non-dominated solutions that keeps them in a {@link ParetoIndex}, so that the
+ * insertions do not have to compare the new solution against every member of the archive: a
+ * {@link SortedFrontIndex} is used with two objectives and a {@link NDTreeIndex} otherwise. The
+ * contents and the order of the solutions are the same as in a {@link
+ * NonDominatedSolutionListArchive} using a {@link
+ * jmetal.core.util.comparator.dominanceComparator.impl.DefaultDominanceComparator}, i.e., the
+ * dominance only takes into account the objectives (constrained problems should use the list
+ * archive with a {@link
+ * jmetal.core.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator}).
+ *
+ * <p>The list returned by {@link #solutions()} allows removing and reordering the solutions (as
+ * the bounded archives do when pruning), and the index is kept up to date; solutions can only be
+ * inserted through {@link #add(Solution)}. The objectives of a solution must not change while it
+ * is in the archive. The solutions are kept in a {@link RemovableSolutionList}, so removing the
+ * solutions dominated by a new one, or a solution removed from the list, does not shift the rest.
+ *
+ * @param <S> Solution
+ */
+@SuppressWarnings("serial")
+public class NonDominatedSolutionIndexedArchive<S extends Solution<?>> implements Archive<S> {
+  private final RemovableSolutionList<S> solutionList;
+  private final List<S> solutionListView;
+  private ParetoIndex<S> index;
+  private boolean indexIsUpToDate;
+
+  public NonDominatedSolutionIndexedArchive() {
+    solutionList = new RemovableSolutionList<>();
+    solutionListView = new SolutionListView();
+    index = null;
+    indexIsUpToDate = true;
+  }
+
+  /**
+   * Inserts a solution in the archive
+   *
+   * @param solution The solution to be inserted.
+   * @return true if the solution has been inserted, and false if it is dominated or if a solution
+   * with the same objective values exists
+   */
+  @Override
+  public boolean add(S solution) {
+    return add(solution, null);
+  }
+
+  /**
+   * Inserts a solution in the archive, as {@link #add(Solution)}, and appends the solutions
+   * removed from the archive because they are dominated by it to a list (if it is not null)
+   */
+  public boolean add(S solution, List<S> dominatedSolutions) {
+    ParetoIndex<S> paretoIndex = index(solution.objectives().length);
+    if (paretoIndex.isCovered(solution.objectives())) {
+      return false;
+    }
+
+    for (S dominatedSolution : paretoIndex.removeDominated(solution.objectives())) {
+      solutionList.removeSolution(dominatedSolution);
+      if (dominatedSolutions != null) {
+        dominatedSolutions.add(dominatedSolution);
+      }
+    }
+
+    paretoIndex.add(solution);
+    solutionList.add(solution);
+
+    return true;
+  }
+
+  /**
+   * Inserts a list of solutions. The result is the same as inserting them one by one, but the
+   * solutions of the list that are dominated by other solutions of the list are discarded before
+   * being compared against the archive.
+   */
+  public Archive<S> addAll(List<S> list) {
+    for (S solution : nonDominatedSubset(list)) {
+      add(solution);
+    }
+
+    return this;
+  }
+
+  public Archive<S> join(Archive<S> archive) {
+    return this.addAll(archive.solutions());
+  }
+
+  @Override
+  public List<S> solutions() {
+    return solutionListView;
+  }
+
+  @Override
+  public int size() {
+    return solutionList.size();
+  }
+
+  @Override
+  public S get(int index) {
+    return solutionList.get(index);
+  }
+
+  private ParetoIndex<S> index(int numberOfObjectives) {
+    if (index == null) {
+      index = numberOfObjectives == 2 ? new SortedFrontIndex<>() : new NDTreeIndex<>();
+    }
+    if (!indexIsUpToDate) {
+      index.clear();
+      solutionList.toList().forEach(index::add);
+      indexIsUpToDate = true;
+    }
+
+    return index;
+  }
+
+  /**
+   * Returns the solutions of the list that would remain after inserting all of them in an empty
+   * archive, in their original order. A solution can only be dominated by (or be equal to) the
+   * solutions preceding it in lexicographic order, so these are inserted in that order (keeping
+   * the first one of a group of equal solutions) in an index, and a solution is kept if it is not
+   * covered by the ones already inserted.
+   */
+  private List<S> nonDominatedSubset(List<S> list) {
+    if (list.size() < 2) {
+      return list;
+    }
+
+    List<Integer> order = new ArrayList<>(list.size());
+    for (int i = 0; i < list.size(); i++) {
+      order.add(i);
+    }
+    order.sort(Comparator.comparing((Integer i) -> list.get(i).objectives(),
+        NonDominatedSolutionIndexedArchive::compareLexicographically).thenComparingInt(i -> i));
+
+    ParetoIndex<S> batchIndex = list.get(0).objectives().length == 2
+        ? new SortedFrontIndex<>()
+        : new NDTreeIndex<>();
+    boolean[] isNonDominated = new boolean[list.size()];
+    for (int i : order) {
+      S solution = list.get(i);
+      if (!batchIndex.isCovered(solution.objectives())) {
+        batchIndex.add(solution);
+        isNonDominated[i] = true;
+      }
+    }
+
+    List<S> nonDominatedSolutions = new ArrayList<>(batchIndex.size());
+    for (int i = 0; i < list.size(); i++) {
+      if (isNonDominated[i]) {
+        nonDominatedSolutions.add(list.get(i));
+      }
+    }
+
+    return nonDominatedSolutions;
+  }
+
+  private static int compareLexicographically(double[] vector1, double[] vector2) {
+    for (int i = 0; i < vector1.length; i++) {
+      int result = Double.compare(vector1[i], vector2[i]);
+      if (result != 0) {
+        return result;
+      }
+    }
+
+    return 0;
+  }
+
+  /**
+   * List of the solutions of the archive that removes from the index the solutions removed from
+   * the list. Replacing solutions invalidates the index, which is rebuilt in the next insertion.
+   */
+  private class SolutionListView extends AbstractList<S> implements RandomAccess {
+    @Override
+    public S get(int index) {
+      return solutionList.get(index);
+    }
+
+    @Override
+    public int size() {
+      return solutionList.size();
+    }
+
+    @Override
+    public S set(int index, S solution) {
+      indexIsUpToDate = false;
+
+      return solutionList.set(index, solution);
+    }
+
+    @Override
+    public S remove(int position) {
+      S solution = solutionList.remove(position);
+      modCount++;
+      if (index != null && indexIsUpToDate) {
+        index.remove(solution);
+      }
+
+      return solution;
+    }
+
+    /**
+     * Solutions are located by identity. As the archive cannot contain two solutions with the same
+     * objectives, an equal solution can only be that one (unless solutions have been replaced)
+     */
+    @Override
+    public boolean remove(Object object) {
+      @SuppressWarnings("unchecked")
+      S solution = (S) object;
+      if (!solutionList.contains(solution)) {
+        return super.remove(object);
+      }
+
+      solutionList.removeSolution(solution);
+      modCount++;
+      if (index != null && indexIsUpToDate) {
+        index.remove(solution);
+      }
+
+      return true;
+    }
+
+    @Override
+    public void clear() {
+      solutionList.clear();
+      if (index != null) {
+        index.clear();
+      }
+      indexIsUpToDate = true;
+    }
+
+    @Override
+    public void sort(Comparator<? super S> comparator) {
+      solutionList.sort(comparator);
+      modCount++;
+    }
+  }
+}
@@ -48,20 +48,28 @@ public class NonDominatedSolutionListArchive<S extends Solution<?>> implements A
    */
   @Override
   public boolean add(S solution) {
+    return add(solution, null);
+  }
+
+  /**
+   * Inserts a solution in the list, as {@link #add(Solution)}, and appends the solutions removed
+   * from the list because they are dominated by it to another list (if it is not null)
+   */
+  public boolean add(S solution, List<S> dominatedSolutions) {
     boolean isSolutionInserted = false;
     if (solutionList.isEmpty()) {
       solutionList.add(solution);
       isSolutionInserted = true;
     } else {
       isSolutionInserted = insertSolutionIfNonDominatedAndIsNotInTheArchive(solution,
-          isSolutionInserted);
+          isSolutionInserted, dominatedSolutions);
     }
 
     return isSolutionInserted;
   }
 
   private boolean insertSolutionIfNonDominatedAndIsNotInTheArchive(S solution,
-      boolean solutionInserted) {
+      boolean solutionInserted, List<S> dominatedSolutions) {
     boolean isDominated = false;
     boolean isContained = false;
     Iterator<S> iterator = solutionList.iterator();
@@ -70,6 +78,9 @@ public class NonDominatedSolutionListArchive<S extends Solution<?>> implements A
       int flag = dominanceComparator.compare(solution, listIndividual);
       if (flag == -1) {
         iterator.remove();
+        if (dominatedSolutions != null) {
+          dominatedSolutions.add(listIndividual);
+        }
       } else if (flag == 1) {
         isDominated = true; // dominated by one in the list
       } else if (equalSolutions.compare(solution, listIndividual) == 0) {// solutions are equals
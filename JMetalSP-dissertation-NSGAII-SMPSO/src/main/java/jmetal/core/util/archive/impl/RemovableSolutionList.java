@@ -0,0 +1,176 @@
+package jmetal.core.util.archive.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sequence of solutions that removes any of them in O(log n) while keeping the order of the
+ * remaining ones. The solutions are stored in slots; a removed solution leaves an empty slot, and
+ * a Fenwick tree counting the occupied slots finds the slot of a position in O(log n) (in O(1) if
+ * there are no empty slots). The slots are compacted when they run out, so appending takes
+ * amortized O(1). Solutions are located by identity, so a solution can only appear once.
+ *
+ * @param <S> Solution
+ */
+@SuppressWarnings("serial")
+class RemovableSolutionList<S> implements Serializable {
+  private static final int MINIMUM_CAPACITY = 16;
+
+  private Object[] slots = new Object[MINIMUM_CAPACITY];
+  private int[] occupiedSlots = new int[MINIMUM_CAPACITY + 1];
+  private final Map<S, Integer> slotOf = new IdentityHashMap<>();
+  private int usedSlots = 0;
+  private int size = 0;
+
+  public int size() {
+    return size;
+  }
+
+  public boolean contains(S solution) {
+    return slotOf.containsKey(solution);
+  }
+
+  public S get(int position) {
+    return solution(slot(position));
+  }
+
+  public void add(S solution) {
+    if (usedSlots == slots.length) {
+      compact(Math.max(MINIMUM_CAPACITY, 2 * size + 1));
+    }
+
+    slots[usedSlots] = solution;
+    slotOf.put(solution, usedSlots);
+    updateOccupiedSlots(usedSlots, 1);
+    usedSlots++;
+    size++;
+  }
+
+  public S set(int position, S solution) {
+    int slot = slot(position);
+    S previousSolution = solution(slot);
+    slotOf.remove(previousSolution);
+    slots[slot] = solution;
+    slotOf.put(solution, slot);
+
+    return previousSolution;
+  }
+
+  public S remove(int position) {
+    int slot = slot(position);
+    S solution = solution(slot);
+    slotOf.remove(solution);
+    clear(slot);
+
+    return solution;
+  }
+
+  /**
+   * Removes a solution, located by identity
+   *
+   * @return false if the solution is not in the list
+   */
+  public boolean removeSolution(S solution) {
+    Integer slot = slotOf.remove(solution);
+    if (slot == null) {
+      return false;
+    }
+    clear(slot);
+
+    return true;
+  }
+
+  public void clear() {
+    slots = new Object[MINIMUM_CAPACITY];
+    occupiedSlots = new int[MINIMUM_CAPACITY + 1];
+    slotOf.clear();
+    usedSlots = 0;
+    size = 0;
+  }
+
+  public void sort(Comparator<? super S> comparator) {
+    List<S> solutions = toList();
+    solutions.sort(comparator);
+    clear();
+    solutions.forEach(this::add);
+  }
+
+  public List<S> toList() {
+    List<S> solutions = new ArrayList<>(size);
+    for (int slot = 0; slot < usedSlots; slot++) {
+      if (slots[slot] != null) {
+        solutions.add(solution(slot));
+      }
+    }
+
+    return solutions;
+  }
+
+  private void clear(int slot) {
+    slots[slot] = null;
+    updateOccupiedSlots(slot, -1);
+    size--;
+  }
+
+  /**
+   * Returns the slot of the solution at a position, i.e., the occupied slot preceded by
+   * {@code position} occupied slots
+   */
+  private int slot(int position) {
+    if (position < 0 || position >= size) {
+      throw new IndexOutOfBoundsException("Index: " + position + ", Size: " + size);
+    }
+    if (size == usedSlots) {
+      return position;
+    }
+
+    int slot = 0;
+    int remaining = position + 1;
+    for (int step = Integer.highestOneBit(slots.length); step > 0; step >>= 1) {
+      int next = slot + step;
+      if (next <= slots.length && occupiedSlots[next] < remaining) {
+        slot = next;
+        remaining -= occupiedSlots[next];
+      }
+    }
+
+    return slot;
+  }
+
+  private void updateOccupiedSlots(int slot, int delta) {
+    for (int i = slot + 1; i < occupiedSlots.length; i += i & -i) {
+      occupiedSlots[i] += delta;
+    }
+  }
+
+  /**
+   * Moves the solutions to the first slots of a new array and builds the Fenwick tree in O(n)
+   */
+  private void compact(int capacity) {
+    List<S> solutions = toList();
+    slots = new Object[capacity];
+    occupiedSlots = new int[capacity + 1];
+    slotOf.clear();
+    for (int slot = 0; slot < solutions.size(); slot++) {
+      slots[slot] = solutions.get(slot);
+      slotOf.put(solutions.get(slot), slot);
+      occupiedSlots[slot + 1] = 1;
+    }
+    for (int i = 1; i <= capacity; i++) {
+      int parent = i + (i & -i);
+      if (parent <= capacity) {
+        occupiedSlots[parent] += occupiedSlots[i];
+      }
+    }
+    usedSlots = solutions.size();
+  }
+
+  @SuppressWarnings("unchecked")
+  private S solution(int slot) {
+    return (S) slots[slot];
+  }
+}
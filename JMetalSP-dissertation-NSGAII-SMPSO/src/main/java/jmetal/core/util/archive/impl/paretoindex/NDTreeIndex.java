@@ -0,0 +1,344 @@
+package jmetal.core.util.archive.impl.paretoindex;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import jmetal.core.solution.Solution;
+import jmetal.core.util.errorchecking.Check;
+
+/**
+ * {@link ParetoIndex} for any number of objectives based on the ND-Tree of Jaszkiewicz and Lust
+ * (IEEE TEVC 22(5), 2018). The solutions are stored in the leaves of a tree, and every node keeps
+ * the ideal and nadir points (component-wise minimum and maximum) of the solutions below it, which
+ * allows discarding whole subtrees in the dominance queries:
+ *
+ * <ul>
+ *   <li>a subtree whose ideal point does not weakly dominate a vector cannot contain a solution
+ *       covering it, and if its nadir point weakly dominates the vector, all its solutions do
+ *   <li>a subtree whose nadir point is not weakly dominated by a vector cannot contain a solution
+ *       dominated by it, and if its ideal point is weakly dominated, all its solutions are
+ * </ul>
+ *
+ * <p>A new solution descends to the child whose box midpoint is the closest one, and leaves with
+ * more than {@link #DEFAULT_MAXIMUM_LEAF_SIZE} solutions are split in two halves along the
+ * objective with the largest range.
+ *
+ * @param <S> Solution
+ */
+@SuppressWarnings("serial")
+public class NDTreeIndex<S extends Solution<?>> implements ParetoIndex<S> {
+  public static final int DEFAULT_MAXIMUM_LEAF_SIZE = 20;
+
+  private final int maximumLeafSize;
+  private final Map<S, Entry<S>> entries = new IdentityHashMap<>();
+  private Node<S> root = null;
+
+  public NDTreeIndex() {
+    this(DEFAULT_MAXIMUM_LEAF_SIZE);
+  }
+
+  public NDTreeIndex(int maximumLeafSize) {
+    Check.that(maximumLeafSize > 1, "The maximum leaf size must be higher than one");
+    this.maximumLeafSize = maximumLeafSize;
+  }
+
+  @Override
+  public boolean isCovered(double[] objectives) {
+    return root != null && isCovered(root, objectives);
+  }
+
+  @Override
+  public List<S> removeDominated(double[] objectives) {
+    List<S> removedSolutions = new ArrayList<>();
+    if (root != null) {
+      removeDominated(root, objectives, removedSolutions);
+      if (root.isEmpty()) {
+        root = null;
+      }
+    }
+    for (S solution : removedSolutions) {
+      entries.remove(solution);
+    }
+
+    return removedSolutions;
+  }
+
+  @Override
+  public void add(S solution) {
+    Entry<S> entry = new Entry<>(solution, solution.objectives().clone());
+    entries.put(solution, entry);
+
+    if (root == null) {
+      root = new Node<>(null);
+    }
+
+    Node<S> node = root;
+    node.expand(entry.objectives);
+    while (!node.isLeaf()) {
+      node = closestChild(node, entry.objectives);
+      node.expand(entry.objectives);
+    }
+
+    node.entries.add(entry);
+    entry.leaf = node;
+    if (node.entries.size() > maximumLeafSize) {
+      split(node);
+    }
+  }
+
+  @Override
+  public boolean remove(S solution) {
+    Entry<S> entry = entries.remove(solution);
+    if (entry == null) {
+      return false;
+    }
+
+    Node<S> node = entry.leaf;
+    node.entries.remove(entry);
+    while (node != null) {
+      Node<S> parent = node.parent;
+      if (node.isEmpty()) {
+        if (parent == null) {
+          root = null;
+        } else {
+          parent.children.remove(node);
+        }
+      } else {
+        compact(node);
+        node.updateBounds();
+      }
+      node = parent;
+    }
+
+    return true;
+  }
+
+  @Override
+  public void clear() {
+    root = null;
+    entries.clear();
+  }
+
+  @Override
+  public int size() {
+    return entries.size();
+  }
+
+  private boolean isCovered(Node<S> node, double[] objectives) {
+    if (!weaklyDominates(node.ideal, objectives)) {
+      return false;
+    }
+    if (weaklyDominates(node.nadir, objectives)) {
+      return true;
+    }
+
+    if (node.isLeaf()) {
+      for (Entry<S> entry : node.entries) {
+        if (weaklyDominates(entry.objectives, objectives)) {
+          return true;
+        }
+      }
+    } else {
+      for (Node<S> child : node.children) {
+        if (isCovered(child, objectives)) {
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
+  private void removeDominated(Node<S> node, double[] objectives, List<S> removedSolutions) {
+    if (!weaklyDominates(objectives, node.nadir)) {
+      return;
+    }
+    if (weaklyDominates(objectives, node.ideal)) {
+      collect(node, removedSolutions);
+      node.entries = new ArrayList<>();
+      node.children = null;
+      return;
+    }
+
+    if (node.isLeaf()) {
+      Iterator<Entry<S>> iterator = node.entries.iterator();
+      while (iterator.hasNext()) {
+        Entry<S> entry = iterator.next();
+        if (weaklyDominates(objectives, entry.objectives)) {
+          iterator.remove();
+          removedSolutions.add(entry.solution);
+        }
+      }
+    } else {
+      Iterator<Node<S>> iterator = node.children.iterator();
+      while (iterator.hasNext()) {
+        Node<S> child = iterator.next();
+        removeDominated(child, objectives, removedSolutions);
+        if (child.isEmpty()) {
+          iterator.remove();
+        }
+      }
+      compact(node);
+    }
+
+    if (!node.isEmpty()) {
+      node.updateBounds();
+    }
+  }
+
+  private void collect(Node<S> node, List<S> solutions) {
+    if (node.isLeaf()) {
+      for (Entry<S> entry : node.entries) {
+        solutions.add(entry.solution);
+      }
+    } else {
+      for (Node<S> child : node.children) {
+        collect(child, solutions);
+      }
+    }
+  }
+
+  private Node<S> closestChild(Node<S> node, double[] objectives) {
+    Node<S> closest = null;
+    double closestDistance = Double.MAX_VALUE;
+    for (Node<S> child : node.children) {
+      double distance = 0.0;
+      for (int i = 0; i < objectives.length; i++) {
+        double difference = objectives[i] - (child.ideal[i] + child.nadir[i]) / 2.0;
+        distance += difference * difference;
+      }
+      if (distance < closestDistance) {
+        closestDistance = distance;
+        closest = child;
+      }
+    }
+
+    return closest;
+  }
+
+  private void split(Node<S> leaf) {
+    int objective = 0;
+    double largestRange = -1.0;
+    for (int i = 0; i < leaf.ideal.length; i++) {
+      double range = leaf.nadir[i] - leaf.ideal[i];
+      if (range > largestRange) {
+        largestRange = range;
+        objective = i;
+      }
+    }
+
+    int splitObjective = objective;
+    leaf.entries.sort(Comparator.comparingDouble(entry -> entry.objectives[splitObjective]));
+
+    int half = leaf.entries.size() / 2;
+    leaf.children = new ArrayList<>(2);
+    leaf.children.add(newLeaf(leaf, leaf.entries.subList(0, half)));
+    leaf.children.add(newLeaf(leaf, leaf.entries.subList(half, leaf.entries.size())));
+    leaf.entries = null;
+  }
+
+  private Node<S> newLeaf(Node<S> parent, List<Entry<S>> leafEntries) {
+    Node<S> leaf = new Node<>(parent);
+    for (Entry<S> entry : leafEntries) {
+      leaf.entries.add(entry);
+      leaf.expand(entry.objectives);
+      entry.leaf = leaf;
+    }
+
+    return leaf;
+  }
+
+  /**
+   * Replaces an internal node having only one child by that child
+   */
+  private void compact(Node<S> node) {
+    if (!node.isLeaf() && node.children.size() == 1) {
+      Node<S> child = node.children.get(0);
+      node.entries = child.entries;
+      node.children = child.children;
+      if (node.isLeaf()) {
+        for (Entry<S> entry : node.entries) {
+          entry.leaf = node;
+        }
+      } else {
+        for (Node<S> grandChild : node.children) {
+          grandChild.parent = node;
+        }
+      }
+    }
+  }
+
+  private static boolean weaklyDominates(double[] vector1, double[] vector2) {
+    for (int i = 0; i < vector1.length; i++) {
+      if (vector1[i] > vector2[i]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static class Entry<S> {
+    private final S solution;
+    private final double[] objectives;
+    private Node<S> leaf;
+
+    private Entry(S solution, double[] objectives) {
+      this.solution = solution;
+      this.objectives = objectives;
+    }
+  }
+
+  /**
+   * Node of the tree. Leaves have a list of entries and internal nodes a list of children
+   */
+  private static class Node<S> {
+    private Node<S> parent;
+    private List<Entry<S>> entries = new ArrayList<>();
+    private List<Node<S>> children = null;
+    private double[] ideal = null;
+    private double[] nadir = null;
+
+    private Node(Node<S> parent) {
+      this.parent = parent;
+    }
+
+    private boolean isLeaf() {
+      return children == null;
+    }
+
+    private boolean isEmpty() {
+      return isLeaf() ? entries.isEmpty() : children.isEmpty();
+    }
+
+    private void expand(double[] objectives) {
+      if (ideal == null) {
+        ideal = objectives.clone();
+        nadir = objectives.clone();
+      } else {
+        for (int i = 0; i < objectives.length; i++) {
+          ideal[i] = Math.min(ideal[i], objectives[i]);
+          nadir[i] = Math.max(nadir[i], objectives[i]);
+        }
+      }
+    }
+
+    private void updateBounds() {
+      ideal = null;
+      nadir = null;
+      if (isLeaf()) {
+        for (Entry<S> entry : entries) {
+          expand(entry.objectives);
+        }
+      } else {
+        for (Node<S> child : children) {
+          expand(child.ideal);
+          expand(child.nadir);
+        }
+      }
+    }
+  }
+}
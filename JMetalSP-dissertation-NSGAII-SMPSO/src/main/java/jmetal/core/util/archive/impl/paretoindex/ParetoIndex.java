@@ -0,0 +1,40 @@
+package jmetal.core.util.archive.impl.paretoindex;
+
+import java.io.Serializable;
+import java.util.List;
+import jmetal.core.solution.Solution;
+
+/**
+ * Index of a set of mutually non-dominated solutions that answers dominance queries without
+ * scanning the whole set. Dominance refers to the objective values (minimization), as in {@link
+ * jmetal.core.util.comparator.dominanceComparator.impl.DefaultDominanceComparator}. Solutions are
+ * compared by identity, and their objectives are copied when they are added.
+ *
+ * @param <S> Solution
+ */
+public interface ParetoIndex<S extends Solution<?>> extends Serializable {
+  /**
+   * Returns true if an indexed solution dominates the given objective vector or has the same
+   * objective values
+   */
+  boolean isCovered(double[] objectives);
+
+  /**
+   * Removes from the index the solutions dominated by the given objective vector, which is
+   * assumed not to be covered
+   *
+   * @return The removed solutions
+   */
+  List<S> removeDominated(double[] objectives);
+
+  /**
+   * Adds a solution, which is assumed not to be covered and not to dominate any indexed solution
+   */
+  void add(S solution);
+
+  boolean remove(S solution);
+
+  void clear();
+
+  int size();
+}
@@ -0,0 +1,104 @@
+package jmetal.core.util.archive.impl.paretoindex;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import jmetal.core.solution.Solution;
+import jmetal.core.util.errorchecking.Check;
+
+/**
+ * {@link ParetoIndex} for two objectives. A non-dominated set of two-objective vectors sorted by
+ * the first objective is sorted in decreasing order of the second one, so the only candidate to
+ * dominate a vector is its predecessor in the first objective, and the vectors it dominates are
+ * its successors while their second objective is not lower. All the operations are O(log n) (plus
+ * O(log n) for each removed solution).
+ *
+ * @param <S> Solution
+ */
+@SuppressWarnings("serial")
+public class SortedFrontIndex<S extends Solution<?>> implements ParetoIndex<S> {
+  private final TreeSet<Entry<S>> front;
+  private final Map<S, Entry<S>> entries = new IdentityHashMap<>();
+  private long insertions = 0;
+
+  public SortedFrontIndex() {
+    front = new TreeSet<>(
+        Comparator.comparingDouble((Entry<S> entry) -> entry.firstObjective)
+            .thenComparingLong(entry -> entry.order));
+  }
+
+  @Override
+  public boolean isCovered(double[] objectives) {
+    Entry<S> predecessor = front.floor(probe(objectives[0], Long.MAX_VALUE));
+
+    return predecessor != null && predecessor.secondObjective <= objectives[1];
+  }
+
+  @Override
+  public List<S> removeDominated(double[] objectives) {
+    List<S> removedSolutions = new ArrayList<>();
+
+    Entry<S> successor = front.ceiling(probe(objectives[0], Long.MIN_VALUE));
+    while (successor != null && successor.secondObjective >= objectives[1]) {
+      front.remove(successor);
+      entries.remove(successor.solution);
+      removedSolutions.add(successor.solution);
+      successor = front.ceiling(probe(objectives[0], Long.MIN_VALUE));
+    }
+
+    return removedSolutions;
+  }
+
+  @Override
+  public void add(S solution) {
+    Check.that(solution.objectives().length == 2,
+        "The solution has " + solution.objectives().length + " objectives instead of two");
+
+    Entry<S> entry = new Entry<>(solution, solution.objectives()[0], solution.objectives()[1],
+        insertions++);
+    entries.put(solution, entry);
+    front.add(entry);
+  }
+
+  @Override
+  public boolean remove(S solution) {
+    Entry<S> entry = entries.remove(solution);
+    if (entry == null) {
+      return false;
+    }
+
+    return front.remove(entry);
+  }
+
+  @Override
+  public void clear() {
+    front.clear();
+    entries.clear();
+  }
+
+  @Override
+  public int size() {
+    return entries.size();
+  }
+
+  private Entry<S> probe(double firstObjective, long order) {
+    return new Entry<>(null, firstObjective, 0.0, order);
+  }
+
+  private static class Entry<S> {
+    private final S solution;
+    private final double firstObjective;
+    private final double secondObjective;
+    private final long order;
+
+    private Entry(S solution, double firstObjective, double secondObjective, long order) {
+      this.solution = solution;
+      this.firstObjective = firstObjective;
+      this.secondObjective = secondObjective;
+      this.order = order;
+    }
+  }
+}
@@ -0,0 +1,243 @@
+package jmetal.core.util.columnarfront;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import jmetal.core.solution.Solution;
+import jmetal.core.util.errorchecking.Check;
+import jmetal.core.util.errorchecking.JMetalException;
+
+/**
+ * Front stored in a binary columnar file, which is written in a single operation and
+ * memory-mapped when it is read, so reading the fronts of thousands of runs does not require
+ * parsing text. The file contains a header (a magic number, the format version, the number of
+ * points, objectives and variables) followed by the objective values and the variable values,
+ * both stored by columns (i.e., all the values of the first objective, then all the values of the
+ * second one, and so on).
+ *
+ * <p>Variables are only stored when they are numbers; otherwise, the number of variables is 0. The
+ * fronts can be exported to CSV files with the same layout as those written by
+ * {@link jmetal.core.util.fileoutput.SolutionListOutput}.
+ */
+public class ColumnarFront {
+  public static final String FILE_EXTENSION = ".bin";
+
+  private static final int MAGIC_NUMBER = 0x4A4D4652;
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 5 * Integer.BYTES;
+
+  private final DoubleBuffer data;
+  private final int numberOfPoints;
+  private final int numberOfObjectives;
+  private final int numberOfVariables;
+
+  private ColumnarFront(
+      DoubleBuffer data, int numberOfPoints, int numberOfObjectives, int numberOfVariables) {
+    this.data = data;
+    this.numberOfPoints = numberOfPoints;
+    this.numberOfObjectives = numberOfObjectives;
+    this.numberOfVariables = numberOfVariables;
+  }
+
+  /** Maps a columnar front file into memory */
+  public static ColumnarFront read(String fileName) throws IOException {
+    Check.notNull(fileName);
+    try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+      Check.that(channel.size() >= HEADER_SIZE, "The file " + fileName + " is not a front file");
+      ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+      Check.that(buffer.getInt() == MAGIC_NUMBER, "The file " + fileName + " is not a front file");
+      int version = buffer.getInt();
+      Check.that(version == VERSION, "Version of the front file not supported: " + version);
+      int numberOfPoints = buffer.getInt();
+      int numberOfObjectives = buffer.getInt();
+      int numberOfVariables = buffer.getInt();
+      Check.that(
+          channel.size()
+              == HEADER_SIZE
+                  + (long) Double.BYTES * numberOfPoints * (numberOfObjectives + numberOfVariables),
+          "The front file " + fileName + " is truncated");
+
+      return new ColumnarFront(
+          buffer.asDoubleBuffer(), numberOfPoints, numberOfObjectives, numberOfVariables);
+    }
+  }
+
+  /** Writes the objectives and, if they are numbers, the variables of a list of solutions */
+  public static void write(String fileName, List<? extends Solution<?>> solutionList)
+      throws IOException {
+    Check.notNull(solutionList);
+
+    int numberOfObjectives = solutionList.isEmpty() ? 0 : solutionList.get(0).objectives().length;
+    int numberOfVariables = solutionList.isEmpty() ? 0 : solutionList.get(0).variables().size();
+    for (Solution<?> solution : solutionList) {
+      for (Object variable : solution.variables()) {
+        if (!(variable instanceof Number)) {
+          numberOfVariables = 0;
+          break;
+        }
+      }
+    }
+
+    double[][] objectives = new double[solutionList.size()][];
+    double[][] variables = new double[solutionList.size()][numberOfVariables];
+    for (int i = 0; i < solutionList.size(); i++) {
+      objectives[i] = solutionList.get(i).objectives();
+      for (int j = 0; j < numberOfVariables; j++) {
+        variables[i][j] = ((Number) solutionList.get(i).variables().get(j)).doubleValue();
+      }
+    }
+
+    write(fileName, objectives, variables);
+  }
+
+  /**
+   * Writes a front
+   *
+   * @param fileName Name of the file
+   * @param objectives Matrix of objective values; a row per point
+   * @param variables Matrix of variable values; a row per point. It can be null or have rows of
+   *     length 0 if there are no variables to store
+   */
+  public static void write(String fileName, double[][] objectives, double[][] variables)
+      throws IOException {
+    Check.notNull(fileName);
+    Check.notNull(objectives);
+
+    int numberOfPoints = objectives.length;
+    int numberOfObjectives = numberOfPoints == 0 ? 0 : objectives[0].length;
+    int numberOfVariables = variables == null || numberOfPoints == 0 ? 0 : variables[0].length;
+    Check.that(variables == null || variables.length == numberOfPoints,
+        "The number of rows of the objectives and the variables is different");
+
+    long size = HEADER_SIZE
+        + (long) Double.BYTES * numberOfPoints * (numberOfObjectives + numberOfVariables);
+    Check.that(size <= Integer.MAX_VALUE, "The front is too large: " + size + " bytes");
+
+    ByteBuffer buffer = ByteBuffer.allocate((int) size);
+    buffer
+        .putInt(MAGIC_NUMBER)
+        .putInt(VERSION)
+        .putInt(numberOfPoints)
+        .putInt(numberOfObjectives)
+        .putInt(numberOfVariables);
+    putColumns(buffer, objectives, numberOfObjectives);
+    if (numberOfVariables > 0) {
+      putColumns(buffer, variables, numberOfVariables);
+    }
+    buffer.flip();
+
+    try (FileChannel channel =
+        FileChannel.open(
+            Paths.get(fileName),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    }
+  }
+
+  private static void putColumns(ByteBuffer buffer, double[][] matrix, int numberOfColumns) {
+    for (int j = 0; j < numberOfColumns; j++) {
+      for (double[] row : matrix) {
+        if (row.length != numberOfColumns) {
+          throw new JMetalException("The rows of the front have different lengths");
+        }
+        buffer.putDouble(row[j]);
+      }
+    }
+  }
+
+  public int numberOfPoints() {
+    return numberOfPoints;
+  }
+
+  public int numberOfObjectives() {
+    return numberOfObjectives;
+  }
+
+  public int numberOfVariables() {
+    return numberOfVariables;
+  }
+
+  /** Value of an objective of a point, read directly from the mapped file */
+  public double objective(int point, int objective) {
+    return data.get(objective * numberOfPoints + point);
+  }
+
+  /** Value of a variable of a point, read directly from the mapped file */
+  public double variable(int point, int variable) {
+    return data.get((numberOfObjectives + variable) * numberOfPoints + point);
+  }
+
+  /** Returns the values of an objective for all the points */
+  public double[] objectiveColumn(int objective) {
+    double[] column = new double[numberOfPoints];
+    data.duplicate().position(objective * numberOfPoints).get(column);
+
+    return column;
+  }
+
+  /** Returns the objective values as a matrix with a row per point */
+  public double[][] objectives() {
+    return rows(0, numberOfObjectives);
+  }
+
+  /** Returns the variable values as a matrix with a row per point */
+  public double[][] variables() {
+    return rows(numberOfObjectives, numberOfVariables);
+  }
+
+  private double[][] rows(int firstColumn, int numberOfColumns) {
+    double[][] rows = new double[numberOfPoints][numberOfColumns];
+    double[] column = new double[numberOfPoints];
+    DoubleBuffer view = data.duplicate();
+    for (int j = 0; j < numberOfColumns; j++) {
+      view.position((firstColumn + j) * numberOfPoints);
+      view.get(column);
+      for (int i = 0; i < numberOfPoints; i++) {
+        rows[i][j] = column[i];
+      }
+    }
+
+    return rows;
+  }
+
+  /** Exports the objectives to a CSV file */
+  public void exportObjectivesToCSV(String fileName, String separator) throws IOException {
+    exportToCSV(fileName, separator, 0, numberOfObjectives);
+  }
+
+  /** Exports the variables to a CSV file */
+  public void exportVariablesToCSV(String fileName, String separator) throws IOException {
+    exportToCSV(fileName, separator, numberOfObjectives, numberOfVariables);
+  }
+
+  private void exportToCSV(String fileName, String separator, int firstColumn, int numberOfColumns)
+      throws IOException {
+    Path path = Paths.get(fileName);
+    try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+      StringBuilder line = new StringBuilder();
+      for (int i = 0; i < numberOfPoints; i++) {
+        line.setLength(0);
+        for (int j = 0; j < numberOfColumns; j++) {
+          if (j > 0) {
+            line.append(separator);
+          }
+          line.append(data.get((firstColumn + j) * numberOfPoints + i));
+        }
+        writer.write(line.toString());
+        writer.newLine();
+      }
+    }
+  }
+}
@@ -5,7 +5,7 @@ import java.util.Comparator;
 import jmetal.core.solution.Solution;
 import jmetal.core.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
 import jmetal.core.util.ranking.Ranking;
-import jmetal.core.util.ranking.impl.FastNonDominatedSortRanking;
+import jmetal.core.util.ranking.RankingFactory;
 
 /**
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
@@ -26,7 +26,7 @@ public class RankingAndCrowdingDistanceComparator<S extends Solution<?>>
   }
 
   public RankingAndCrowdingDistanceComparator() {
-    this(new FastNonDominatedSortRanking<>());
+    this(RankingFactory.create());
   }
   /**
    * Compares two solutions.
@@ -0,0 +1,82 @@
+package jmetal.core.util.densityestimator.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import jmetal.core.solution.Solution;
+import jmetal.core.util.densityestimator.DensityEstimator;
+import jmetal.core.util.densityestimator.impl.knnindex.KDTreeKnnIndex;
+import jmetal.core.util.errorchecking.Check;
+
+/**
+ * Density estimator based on the distance to the k-th nearest solution that keeps the solutions of
+ * the last computed list in a {@link KDTreeKnnIndex}, so a new call to {@link #compute(List)} only
+ * updates the distances affected by the solutions inserted in or removed from the list since the
+ * previous one. It is intended for lists changing little between calls, such as the contents of
+ * a bounded archive, and the objectives of the solutions must not change while they are in the
+ * list. The values are the same as those of a {@link KnnDensityEstimator} without normalization.
+ */
+@SuppressWarnings("serial")
+public class IncrementalKnnDensityEstimator<S extends Solution<?>> implements DensityEstimator<S> {
+  private final String attributeId = getClass().getName();
+  private final int k;
+  private final KDTreeKnnIndex<S> index;
+
+  public IncrementalKnnDensityEstimator(int k) {
+    this.k = k;
+    this.index = new KDTreeKnnIndex<>(k);
+  }
+
+  /**
+   * Assigns the KNN distance to all the solutions in a list
+   *
+   * @param solutionList
+   */
+  @Override
+  public void compute(List<S> solutionList) {
+    Check.that(solutionList.size() > 0, "The solution list size must be greater than zero");
+
+    Set<S> currentSolutions = Collections.newSetFromMap(new IdentityHashMap<>());
+    currentSolutions.addAll(solutionList);
+    List<S> removedSolutions = new ArrayList<>();
+    for (S solution : index.objects()) {
+      if (!currentSolutions.contains(solution)) {
+        removedSolutions.add(solution);
+      }
+    }
+    removedSolutions.forEach(index::remove);
+
+    for (S solution : solutionList) {
+      if (!index.contains(solution)) {
+        index.add(solution, solution.objectives());
+      }
+    }
+
+    if (solutionList.size() <= k) {
+      return;
+    }
+
+    for (S solution : solutionList) {
+      solution.attributes().put(attributeId, index.kthDistance(solution));
+    }
+  }
+
+  @Override
+  public Double value(S solution) {
+    Check.notNull(solution);
+
+    Double result = 0.0;
+    if (solution.attributes().get(attributeId) != null) {
+      result = (Double) solution.attributes().get(attributeId);
+    }
+    return result;
+  }
+
+  @Override
+  public Comparator<S> comparator() {
+    return Comparator.comparing(this::value);
+  }
+}
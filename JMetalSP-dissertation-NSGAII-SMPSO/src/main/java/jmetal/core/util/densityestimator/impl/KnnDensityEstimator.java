@@ -1,6 +1,6 @@
 package jmetal.core.util.densityestimator.impl;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import jmetal.core.solution.Solution;
@@ -70,14 +70,23 @@ public class KnnDensityEstimator<S extends Solution<?>> implements DensityEstima
       }
     }
 
-    /* Get the k-nearest distance of all the solutions */
+    /* Get the k-nearest distance of all the solutions, keeping the k + 1 smallest distances of
+     * every row (the first one is the distance of the solution to itself) */
+    double[] nearestDistances = new double[k + 1];
     for (int i = 0; i < solutionList.size(); i++) {
-      List<Double> distances = new ArrayList<>();
+      Arrays.fill(nearestDistances, Double.POSITIVE_INFINITY);
       for (int j = 0; j < solutionList.size(); j++) {
-        distances.add(distanceMatrix[i][j]);
+        double distance = distanceMatrix[i][j];
+        if (distance < nearestDistances[k]) {
+          int position = k;
+          while (position > 0 && nearestDistances[position - 1] > distance) {
+            nearestDistances[position] = nearestDistances[position - 1];
+            position--;
+          }
+          nearestDistances[position] = distance;
+        }
       }
-      distances.sort(Comparator.naturalOrder());
-      solutionList.get(i).attributes().put(attributeId, distances.get(k));
+      solutionList.get(i).attributes().put(attributeId, nearestDistances[k]);
     }
   }
 
@@ -0,0 +1,433 @@
+package jmetal.core.util.densityestimator.impl.knnindex;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import jmetal.core.util.distance.Distance;
+import jmetal.core.util.distance.impl.EuclideanDistanceBetweenVectors;
+import jmetal.core.util.errorchecking.Check;
+
+/**
+ * Index keeping the distance of every point it contains to its k-th nearest neighbour, which is
+ * updated when points are inserted or removed instead of being recomputed for all the points. The
+ * points are stored in a k-d tree whose nodes keep the bounding box of their subtree and the
+ * largest k-th distance of the points below them, so that:
+ *
+ * <ul>
+ *   <li>the nearest neighbours of a point are searched discarding the subtrees whose box is
+ *       farther than the current k-th candidate
+ *   <li>the points whose neighbours change when a point is inserted (those closer to it than to
+ *       their k-th neighbour) are searched discarding the subtrees whose box is farther than their
+ *       largest k-th distance
+ * </ul>
+ *
+ * <p>Every point also keeps the points having it as a neighbour, so removing a point only
+ * searches again the neighbours of those points. Removed points stay in the tree until they
+ * outnumber the points of the index, and unbalanced subtrees are rebuilt as in a scapegoat tree.
+ *
+ * <p>The distance is the Euclidean one, computed as in {@link EuclideanDistanceBetweenVectors},
+ * and the k-th distance of a point is infinite while the index contains k points or fewer.
+ *
+ * @param <S> Type of the objects associated to the points
+ */
+@SuppressWarnings("serial")
+public class KDTreeKnnIndex<S> implements Serializable {
+  private static final double BALANCE_FACTOR = 0.7;
+  private static final Distance<double[], double[]> DISTANCE =
+      new EuclideanDistanceBetweenVectors();
+
+  private final int k;
+  private final Map<S, Entry<S>> entries = new IdentityHashMap<>();
+  private Node<S> root = null;
+  private int numberOfNodes = 0;
+
+  public KDTreeKnnIndex(int k) {
+    Check.that(k > 0, "The number of neighbours must be positive: " + k);
+    this.k = k;
+  }
+
+  /** Inserts an object, updating the k-th distances of the points having it as a new neighbour */
+  public void add(S object, double[] point) {
+    Check.notNull(object);
+    Check.notNull(point);
+    Check.that(!entries.containsKey(object), "The object is already in the index");
+    Check.that(root == null || root.lower.length == point.length,
+        "The point has " + point.length + " dimensions instead of the ones of the index");
+
+    Entry<S> entry = new Entry<>(point.clone(), k);
+    setNeighbors(entry, nearestNeighbors(entry));
+
+    List<Entry<S>> affectedEntries = new ArrayList<>();
+    findReverseNeighbors(root, entry, affectedEntries);
+    for (Entry<S> affectedEntry : affectedEntries) {
+      Entry<S> droppedNeighbor =
+          affectedEntry.neighbors.insert(entry, DISTANCE.compute(affectedEntry.point, entry.point));
+      if (droppedNeighbor != null) {
+        removeByIdentity(droppedNeighbor.reverseNeighbors, affectedEntry);
+      }
+      entry.reverseNeighbors.add(affectedEntry);
+      updateMaximumKthDistance(affectedEntry.node);
+    }
+
+    entries.put(object, entry);
+    insert(entry);
+  }
+
+  /** Removes an object, searching again the neighbours of the points having it as a neighbour */
+  public void remove(S object) {
+    Entry<S> entry = entries.remove(object);
+    Check.that(entry != null, "The object is not in the index");
+
+    entry.removed = true;
+    for (Entry<S> neighbor : entry.neighbors.entries) {
+      removeByIdentity(neighbor.reverseNeighbors, entry);
+    }
+    updateMaximumKthDistance(entry.node);
+
+    for (Entry<S> affectedEntry : new ArrayList<>(entry.reverseNeighbors)) {
+      setNeighbors(affectedEntry, nearestNeighbors(affectedEntry));
+      updateMaximumKthDistance(affectedEntry.node);
+    }
+
+    if (numberOfNodes - entries.size() > entries.size()) {
+      rebuild(root);
+    }
+  }
+
+  public boolean contains(S object) {
+    return entries.containsKey(object);
+  }
+
+  /** Distance of the point of an object to its k-th nearest neighbour */
+  public double kthDistance(S object) {
+    Entry<S> entry = entries.get(object);
+    Check.that(entry != null, "The object is not in the index");
+
+    return entry.neighbors.kthDistance();
+  }
+
+  /** Objects in the index. The set must not be modified */
+  public Set<S> objects() {
+    return entries.keySet();
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public void clear() {
+    entries.clear();
+    root = null;
+    numberOfNodes = 0;
+  }
+
+  private NeighborList<S> nearestNeighbors(Entry<S> entry) {
+    NeighborList<S> candidates = new NeighborList<>(k);
+    findNearestNeighbors(root, entry, candidates);
+
+    return candidates;
+  }
+
+  private void findNearestNeighbors(Node<S> node, Entry<S> entry, NeighborList<S> candidates) {
+    if (node == null || distanceToBox(node, entry.point) >= candidates.kthDistance()) {
+      return;
+    }
+
+    if (!node.entry.removed && node.entry != entry) {
+      double distance = DISTANCE.compute(node.entry.point, entry.point);
+      if (distance < candidates.kthDistance()) {
+        candidates.insert(node.entry, distance);
+      }
+    }
+
+    if (entry.point[node.axis] < node.entry.point[node.axis]) {
+      findNearestNeighbors(node.left, entry, candidates);
+      findNearestNeighbors(node.right, entry, candidates);
+    } else {
+      findNearestNeighbors(node.right, entry, candidates);
+      findNearestNeighbors(node.left, entry, candidates);
+    }
+  }
+
+  private void findReverseNeighbors(Node<S> node, Entry<S> entry, List<Entry<S>> result) {
+    if (node == null || distanceToBox(node, entry.point) >= node.maximumKthDistance) {
+      return;
+    }
+
+    if (!node.entry.removed
+        && DISTANCE.compute(node.entry.point, entry.point) < node.entry.neighbors.kthDistance()) {
+      result.add(node.entry);
+    }
+    findReverseNeighbors(node.left, entry, result);
+    findReverseNeighbors(node.right, entry, result);
+  }
+
+  private void setNeighbors(Entry<S> entry, NeighborList<S> neighbors) {
+    for (Entry<S> neighbor : entry.neighbors.entries) {
+      removeByIdentity(neighbor.reverseNeighbors, entry);
+    }
+    entry.neighbors = neighbors;
+    for (Entry<S> neighbor : neighbors.entries) {
+      neighbor.reverseNeighbors.add(entry);
+    }
+  }
+
+  private static <S> void removeByIdentity(List<Entry<S>> list, Entry<S> entry) {
+    for (int i = 0; i < list.size(); i++) {
+      if (list.get(i) == entry) {
+        list.remove(i);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Lower bound of the distance from a point to the points of a subtree. It is computed as the
+   * Euclidean distance, so it is never greater than the distance to any point of the subtree
+   */
+  private static double distanceToBox(Node<?> node, double[] point) {
+    double distance = 0.0;
+    for (int i = 0; i < point.length; i++) {
+      double diff = 0.0;
+      if (point[i] < node.lower[i]) {
+        diff = node.lower[i] - point[i];
+      } else if (point[i] > node.upper[i]) {
+        diff = point[i] - node.upper[i];
+      }
+      distance += diff * diff;
+    }
+
+    return Math.sqrt(distance);
+  }
+
+  private void updateMaximumKthDistance(Node<S> node) {
+    while (node != null) {
+      double previousValue = node.maximumKthDistance;
+      node.updateMaximumKthDistance();
+      if (node.maximumKthDistance == previousValue) {
+        return;
+      }
+      node = node.parent;
+    }
+  }
+
+  private void insert(Entry<S> entry) {
+    Node<S> node = new Node<>(entry);
+    numberOfNodes++;
+    if (root == null) {
+      root = node;
+      return;
+    }
+
+    Node<S> parent = root;
+    int depth = 1;
+    while (true) {
+      parent.size++;
+      parent.expand(entry.point);
+      if (entry.point[parent.axis] < parent.entry.point[parent.axis]) {
+        if (parent.left == null) {
+          parent.left = node;
+          break;
+        }
+        parent = parent.left;
+      } else {
+        if (parent.right == null) {
+          parent.right = node;
+          break;
+        }
+        parent = parent.right;
+      }
+      depth++;
+    }
+    node.parent = parent;
+    node.axis = (parent.axis + 1) % entry.point.length;
+    updateMaximumKthDistance(parent);
+
+    if (depth > Math.log(numberOfNodes) / Math.log(1.0 / BALANCE_FACTOR)) {
+      Node<S> child = node;
+      Node<S> scapegoat = node.parent;
+      while (scapegoat != null && child.size <= BALANCE_FACTOR * scapegoat.size) {
+        child = scapegoat;
+        scapegoat = scapegoat.parent;
+      }
+      if (scapegoat != null) {
+        rebuild(scapegoat);
+      }
+    }
+  }
+
+  /** Rebuilds a balanced subtree with the points of a subtree that have not been removed */
+  private void rebuild(Node<S> node) {
+    List<Entry<S>> subtreeEntries = new ArrayList<>(node.size);
+    collectEntries(node, subtreeEntries);
+
+    Node<S> parent = node.parent;
+    Node<S> subtree = build(subtreeEntries, 0, subtreeEntries.size());
+    if (parent == null) {
+      root = subtree;
+    } else if (parent.left == node) {
+      parent.left = subtree;
+    } else {
+      parent.right = subtree;
+    }
+    if (subtree != null) {
+      subtree.parent = parent;
+    }
+
+    int numberOfRemovedNodes = node.size - subtreeEntries.size();
+    numberOfNodes -= numberOfRemovedNodes;
+    for (Node<S> ancestor = parent; ancestor != null; ancestor = ancestor.parent) {
+      ancestor.size -= numberOfRemovedNodes;
+    }
+  }
+
+  private static <S> void collectEntries(Node<S> node, List<Entry<S>> result) {
+    if (node != null) {
+      if (!node.entry.removed) {
+        result.add(node.entry);
+      }
+      collectEntries(node.left, result);
+      collectEntries(node.right, result);
+    }
+  }
+
+  /** Builds a subtree splitting the points by the median of the dimension with the widest range */
+  private static <S> Node<S> build(List<Entry<S>> list, int from, int to) {
+    if (from >= to) {
+      return null;
+    }
+
+    int dimensions = list.get(from).point.length;
+    int axis = 0;
+    double widestRange = -1.0;
+    for (int i = 0; i < dimensions; i++) {
+      double min = Double.POSITIVE_INFINITY;
+      double max = Double.NEGATIVE_INFINITY;
+      for (int j = from; j < to; j++) {
+        min = Math.min(min, list.get(j).point[i]);
+        max = Math.max(max, list.get(j).point[i]);
+      }
+      if (max - min > widestRange) {
+        widestRange = max - min;
+        axis = i;
+      }
+    }
+
+    int splitAxis = axis;
+    list.subList(from, to).sort(Comparator.comparingDouble(entry -> entry.point[splitAxis]));
+    int median = (from + to) / 2;
+
+    Node<S> node = new Node<>(list.get(median));
+    node.axis = axis;
+    node.left = build(list, from, median);
+    node.right = build(list, median + 1, to);
+    node.attach(node.left);
+    node.attach(node.right);
+    node.updateMaximumKthDistance();
+
+    return node;
+  }
+
+  /** Nearest neighbours of a point, sorted by distance */
+  private static class NeighborList<S> implements Serializable {
+    private final List<Entry<S>> entries;
+    private final double[] distances;
+
+    NeighborList(int k) {
+      entries = new ArrayList<>(k);
+      distances = new double[k];
+    }
+
+    double kthDistance() {
+      return entries.size() < distances.length
+          ? Double.POSITIVE_INFINITY
+          : distances[distances.length - 1];
+    }
+
+    /**
+     * Inserts a neighbour closer than the k-th one
+     *
+     * @return The neighbour no longer among the k nearest ones, or null if there was none
+     */
+    Entry<S> insert(Entry<S> entry, double distance) {
+      Entry<S> droppedEntry = null;
+      if (entries.size() == distances.length) {
+        droppedEntry = entries.remove(entries.size() - 1);
+      }
+
+      int position = entries.size();
+      while (position > 0 && distances[position - 1] > distance) {
+        position--;
+      }
+      System.arraycopy(distances, position, distances, position + 1, entries.size() - position);
+      distances[position] = distance;
+      entries.add(position, entry);
+
+      return droppedEntry;
+    }
+  }
+
+  private static class Entry<S> implements Serializable {
+    private final double[] point;
+    private NeighborList<S> neighbors;
+    private final List<Entry<S>> reverseNeighbors = new ArrayList<>();
+    private Node<S> node;
+    private boolean removed = false;
+
+    Entry(double[] point, int k) {
+      this.point = point;
+      this.neighbors = new NeighborList<>(k);
+    }
+  }
+
+  private static class Node<S> implements Serializable {
+    private final Entry<S> entry;
+    private final double[] lower;
+    private final double[] upper;
+    private int axis = 0;
+    private int size = 1;
+    private double maximumKthDistance;
+    private Node<S> parent;
+    private Node<S> left;
+    private Node<S> right;
+
+    Node(Entry<S> entry) {
+      this.entry = entry;
+      this.lower = entry.point.clone();
+      this.upper = entry.point.clone();
+      entry.node = this;
+      updateMaximumKthDistance();
+    }
+
+    void expand(double[] point) {
+      for (int i = 0; i < point.length; i++) {
+        lower[i] = Math.min(lower[i], point[i]);
+        upper[i] = Math.max(upper[i], point[i]);
+      }
+    }
+
+    void attach(Node<S> child) {
+      if (child != null) {
+        child.parent = this;
+        size += child.size;
+        expand(child.lower);
+        expand(child.upper);
+      }
+    }
+
+    void updateMaximumKthDistance() {
+      maximumKthDistance =
+          entry.removed ? Double.NEGATIVE_INFINITY : entry.neighbors.kthDistance();
+      if (left != null) {
+        maximumKthDistance = Math.max(maximumKthDistance, left.maximumKthDistance);
+      }
+      if (right != null) {
+        maximumKthDistance = Math.max(maximumKthDistance, right.maximumKthDistance);
+      }
+    }
+  }
+}
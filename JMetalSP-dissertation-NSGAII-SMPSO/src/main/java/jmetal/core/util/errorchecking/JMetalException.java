@@ -14,9 +14,11 @@ public class JMetalException extends RuntimeException implements Serializable {
     super(message);
   }
   public JMetalException(Exception e) {
+    super(e);
     JMetalLogger.logger.log(Level.SEVERE, "Error", e);
   }
   public JMetalException(String message, Exception e) {
+    super(message, e);
     JMetalLogger.logger.log(Level.SEVERE, message, e);
   }
 
@@ -0,0 +1,91 @@
+package jmetal.core.util.evaluationcache;
+
+import java.util.Arrays;
+import java.util.Objects;
+import jmetal.core.util.errorchecking.Check;
+
+/**
+ * Discretized hardware configuration of the GAP simulator. Many distinct double-valued solutions
+ * are mapped by {@link jmetal.core.problem.doubleproblem.impl.GapProblem} to the same
+ * configuration, so this is the key used to look up previously simulated results.
+ */
+public final class GapConfiguration {
+  public static final int NUMBER_OF_PARAMETERS = 6;
+
+  private final int nLines;
+  private final int nColumns;
+  private final int nLayers;
+  private final int cChunk;
+  private final int cSets;
+  private final int cLines;
+  private final String benchmark;
+
+  public GapConfiguration(int nLines, int nColumns, int nLayers, int cChunk, int cSets,
+      int cLines, String benchmark) {
+    Check.notNull(benchmark);
+    this.nLines = nLines;
+    this.nColumns = nColumns;
+    this.nLayers = nLayers;
+    this.cChunk = cChunk;
+    this.cSets = cSets;
+    this.cLines = cLines;
+    this.benchmark = benchmark;
+  }
+
+  public int nLines() {
+    return nLines;
+  }
+
+  public int nColumns() {
+    return nColumns;
+  }
+
+  public int nLayers() {
+    return nLayers;
+  }
+
+  public int cChunk() {
+    return cChunk;
+  }
+
+  public int cSets() {
+    return cSets;
+  }
+
+  public int cLines() {
+    return cLines;
+  }
+
+  public String benchmark() {
+    return benchmark;
+  }
+
+  /**
+   * Returns the parameters in the order n_lines, n_columns, n_layers, c_chunk, c_sets, c_lines
+   */
+  public int[] parameters() {
+    return new int[] {nLines, nColumns, nLayers, cChunk, cSets, cLines};
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    GapConfiguration that = (GapConfiguration) o;
+    return Arrays.equals(parameters(), that.parameters()) && benchmark.equals(that.benchmark);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(nLines, nColumns, nLayers, cChunk, cSets, cLines, benchmark);
+  }
+
+  @Override
+  public String toString() {
+    return benchmark + Arrays.toString(parameters());
+  }
+}
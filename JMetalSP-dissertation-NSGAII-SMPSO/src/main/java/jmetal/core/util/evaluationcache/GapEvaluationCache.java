@@ -0,0 +1,90 @@
+package jmetal.core.util.evaluationcache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import jmetal.core.util.errorchecking.Check;
+
+/**
+ * Two-tier cache of GAP simulator results. The first tier is an in-memory LRU map bounded to
+ * {@code capacity} entries; the optional second tier is a {@link MappedGapResultStore} that
+ * persists every result to disk so it can be reused by later runs or by concurrent processes.
+ * Instances are thread-safe and may be shared by several problem instances.
+ */
+public class GapEvaluationCache implements Closeable {
+  private final Map<GapConfiguration, GapResult> memory;
+  private final MappedGapResultStore store;
+  private long hits;
+  private long misses;
+
+  /**
+   * Creates a memory-only cache
+   */
+  public GapEvaluationCache(int capacity) {
+    this(capacity, (MappedGapResultStore) null);
+  }
+
+  /**
+   * Creates a cache backed by the given file, which is created if it does not exist
+   */
+  public GapEvaluationCache(int capacity, Path file) throws IOException {
+    this(capacity, new MappedGapResultStore(file));
+  }
+
+  public GapEvaluationCache(int capacity, MappedGapResultStore store) {
+    Check.that(capacity > 0, "The capacity must be positive: " + capacity);
+    this.store = store;
+    this.memory =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<GapConfiguration, GapResult> eldest) {
+            return size() > capacity;
+          }
+        };
+  }
+
+  /**
+   * Returns the cached result of a configuration, or null if it must be simulated
+   */
+  public synchronized GapResult get(GapConfiguration configuration) {
+    GapResult result = memory.get(configuration);
+    if (result == null && store != null) {
+      result = store.get(configuration);
+      if (result != null) {
+        memory.put(configuration, result);
+      }
+    }
+
+    if (result == null) {
+      misses++;
+    } else {
+      hits++;
+    }
+
+    return result;
+  }
+
+  public synchronized void put(GapConfiguration configuration, GapResult result) {
+    memory.put(configuration, result);
+    if (store != null) {
+      store.put(configuration, result);
+    }
+  }
+
+  public synchronized long hits() {
+    return hits;
+  }
+
+  public synchronized long misses() {
+    return misses;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (store != null) {
+      store.close();
+    }
+  }
+}
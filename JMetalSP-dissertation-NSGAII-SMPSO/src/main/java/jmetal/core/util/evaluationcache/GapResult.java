@@ -0,0 +1,46 @@
+package jmetal.core.util.evaluationcache;
+
+/**
+ * Objective values produced by a GAP simulator run: cycles per instruction and hardware
+ * complexity.
+ */
+public final class GapResult {
+  private final double cpi;
+  private final double hardwareComplexity;
+
+  public GapResult(double cpi, double hardwareComplexity) {
+    this.cpi = cpi;
+    this.hardwareComplexity = hardwareComplexity;
+  }
+
+  public double cpi() {
+    return cpi;
+  }
+
+  public double hardwareComplexity() {
+    return hardwareComplexity;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    GapResult that = (GapResult) o;
+    return Double.compare(cpi, that.cpi) == 0
+        && Double.compare(hardwareComplexity, that.hardwareComplexity) == 0;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Double.hashCode(cpi) + Double.hashCode(hardwareComplexity);
+  }
+
+  @Override
+  public String toString() {
+    return "CPI: " + cpi + " HC: " + hardwareComplexity;
+  }
+}
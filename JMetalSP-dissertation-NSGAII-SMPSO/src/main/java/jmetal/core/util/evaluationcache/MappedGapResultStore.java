@@ -0,0 +1,207 @@
+package jmetal.core.util.evaluationcache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import jmetal.core.util.errorchecking.JMetalException;
+
+/**
+ * Append-only file of simulator results that survives restarts and can be shared by several
+ * processes. The file starts with a header (magic number and version) followed by records of the
+ * form {@code [payload length][payload][CRC32 of payload]}, where the payload holds the benchmark
+ * name, the six discretized parameters and the two objective values.
+ *
+ * <p>New regions of the file are read through a {@link MappedByteBuffer}, so records appended by
+ * other processes are picked up lazily when a lookup misses. Appends are serialized across
+ * processes with an exclusive {@link FileLock}; a torn record left by a killed process is
+ * discarded by the next writer. A given file must be opened only once per JVM, because file locks
+ * are held on behalf of the whole virtual machine.
+ */
+public class MappedGapResultStore implements Closeable {
+  private static final long MAGIC = 0x4741504341434845L; // "GAPCACHE"
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = Long.BYTES + Integer.BYTES;
+
+  private final Path file;
+  private final FileChannel channel;
+  private final Map<GapConfiguration, GapResult> index;
+  private long scannedUpTo;
+
+  public MappedGapResultStore(Path file) throws IOException {
+    this.file = file;
+    this.index = new HashMap<>();
+    this.channel =
+        FileChannel.open(
+            file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+    FileLock lock = channel.lock();
+    try {
+      if (channel.size() < HEADER_SIZE) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putLong(MAGIC).putInt(VERSION).flip();
+        channel.truncate(0);
+        channel.write(header, 0);
+        channel.force(true);
+      } else {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(header, 0);
+        header.flip();
+        if (header.getLong() != MAGIC || header.getInt() != VERSION) {
+          channel.close();
+          throw new JMetalException("The file " + file + " is not a GAP evaluation cache");
+        }
+      }
+      scannedUpTo = HEADER_SIZE;
+      scan();
+    } finally {
+      release(lock);
+    }
+  }
+
+  /**
+   * Returns the stored result of a configuration, or null if it has not been simulated yet
+   */
+  public synchronized GapResult get(GapConfiguration configuration) {
+    GapResult result = index.get(configuration);
+    if (result == null) {
+      try {
+        scan();
+      } catch (IOException e) {
+        throw new JMetalException("Error reading the evaluation cache " + file, e);
+      }
+      result = index.get(configuration);
+    }
+
+    return result;
+  }
+
+  /**
+   * Appends a result to the file unless another writer has already stored the same configuration
+   */
+  public synchronized void put(GapConfiguration configuration, GapResult result) {
+    byte[] record = encode(configuration, result);
+
+    try {
+      FileLock lock = channel.lock();
+      try {
+        scan();
+        if (index.containsKey(configuration)) {
+          return;
+        }
+        if (channel.size() > scannedUpTo) {
+          // We hold the exclusive lock, so anything past the last valid record is a torn write
+          channel.truncate(scannedUpTo);
+        }
+        channel.write(ByteBuffer.wrap(record), scannedUpTo);
+        channel.force(false);
+        scannedUpTo += record.length;
+        index.put(configuration, result);
+      } finally {
+        release(lock);
+      }
+    } catch (IOException e) {
+      throw new JMetalException("Error writing the evaluation cache " + file, e);
+    }
+  }
+
+  /**
+   * Releases a lock unless closing the channel has already released it
+   */
+  private static void release(FileLock lock) throws IOException {
+    if (lock.isValid()) {
+      lock.release();
+    }
+  }
+
+  public synchronized int size() {
+    return index.size();
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    channel.close();
+  }
+
+  /**
+   * Indexes all the complete records found after the last scanned position
+   */
+  private void scan() throws IOException {
+    long size = channel.size();
+    if (size <= scannedUpTo) {
+      return;
+    }
+
+    MappedByteBuffer buffer =
+        channel.map(FileChannel.MapMode.READ_ONLY, scannedUpTo, size - scannedUpTo);
+    while (buffer.remaining() >= Integer.BYTES) {
+      int start = buffer.position();
+      int length = buffer.getInt();
+      if (length <= 0 || buffer.remaining() < length + Integer.BYTES) {
+        buffer.position(start);
+        break;
+      }
+
+      byte[] payload = new byte[length];
+      buffer.get(payload);
+      int checksum = buffer.getInt();
+      if (checksum != checksum(payload)) {
+        buffer.position(start);
+        break;
+      }
+
+      decode(ByteBuffer.wrap(payload));
+    }
+    scannedUpTo += buffer.position();
+  }
+
+  private void decode(ByteBuffer payload) {
+    byte[] name = new byte[payload.getShort()];
+    payload.get(name);
+    GapConfiguration configuration =
+        new GapConfiguration(
+            payload.getInt(),
+            payload.getInt(),
+            payload.getInt(),
+            payload.getInt(),
+            payload.getInt(),
+            payload.getInt(),
+            new String(name, StandardCharsets.UTF_8));
+    index.put(configuration, new GapResult(payload.getDouble(), payload.getDouble()));
+  }
+
+  private static byte[] encode(GapConfiguration configuration, GapResult result) {
+    byte[] name = configuration.benchmark().getBytes(StandardCharsets.UTF_8);
+    int payloadLength =
+        Short.BYTES
+            + name.length
+            + GapConfiguration.NUMBER_OF_PARAMETERS * Integer.BYTES
+            + 2 * Double.BYTES;
+
+    ByteBuffer payload = ByteBuffer.allocate(payloadLength);
+    payload.putShort((short) name.length).put(name);
+    for (int parameter : configuration.parameters()) {
+      payload.putInt(parameter);
+    }
+    payload.putDouble(result.cpi()).putDouble(result.hardwareComplexity());
+
+    ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + payloadLength + Integer.BYTES);
+    record.putInt(payloadLength).put(payload.array()).putInt(checksum(payload.array()));
+
+    return record.array();
+  }
+
+  private static int checksum(byte[] payload) {
+    CRC32 crc = new CRC32();
+    crc.update(payload);
+    return (int) crc.getValue();
+  }
+}
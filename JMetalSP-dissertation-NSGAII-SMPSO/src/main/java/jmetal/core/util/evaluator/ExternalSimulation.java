@@ -0,0 +1,43 @@
+package jmetal.core.util.evaluator;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Interface representing problems whose evaluation consists of launching an external simulator
+ * process. The simulation is split into three steps so that the process itself can be managed by
+ * an evaluator (e.g. {@link jmetal.core.util.evaluator.impl.ProcessPoolSolutionListEvaluator}):
+ * the input files are written to a private working directory, the returned command line is
+ * executed inside that directory, and the results are read back from it.
+ *
+ * @param <S> Solution
+ */
+public interface ExternalSimulation<S> extends Serializable {
+  /**
+   * Writes the input files of the simulation in the working directory and returns the command to
+   * launch the simulator
+   */
+  List<String> commandLine(S solution, Path workingDirectory) throws IOException;
+
+  /**
+   * Reads the output of a finished simulation and sets the objectives of the solution
+   */
+  void readResults(S solution, Path workingDirectory) throws IOException;
+
+  /**
+   * Called after every attempt to run a simulation, whether it succeeded or not, so that the
+   * resources taken by {@link #commandLine(Object, Path)} can be released
+   */
+  default void simulationFinished(S solution, Path workingDirectory) {
+  }
+
+  /**
+   * Evaluates the solution without running the simulator if that is possible (e.g., because the
+   * result has been cached). Returns true if the solution has been evaluated.
+   */
+  default boolean evaluateWithoutSimulation(S solution) {
+    return false;
+  }
+}
@@ -0,0 +1,28 @@
+package jmetal.core.util.evaluator;
+
+import java.io.Serializable;
+
+/**
+ * Interface representing problems where only some of the objectives are expensive to compute
+ * (e.g., they require a simulation) while the rest have a cheap closed form. It is used by
+ * {@link jmetal.core.util.evaluator.impl.SurrogateAssistedSolutionListEvaluator} to predict the
+ * expensive objectives with a surrogate model.
+ *
+ * @param <S> Solution
+ */
+public interface SurrogateAssistedProblem<S> extends Serializable {
+  /**
+   * Indices of the objectives that have to be computed by the real evaluation
+   */
+  int[] expensiveObjectives();
+
+  /**
+   * Sets the values of the objectives that are not expensive
+   */
+  void evaluateCheapObjectives(S solution);
+
+  /**
+   * Input of the surrogate model for a solution
+   */
+  double[] surrogateFeatures(S solution);
+}
@@ -0,0 +1,85 @@
+package jmetal.core.util.evaluator.impl;
+
+import java.util.List;
+import jmetal.core.problem.Problem;
+import jmetal.core.problem.doubleproblem.BatchDoubleProblem;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.util.errorchecking.Check;
+import jmetal.core.util.evaluator.SolutionListEvaluator;
+
+/**
+ * Evaluator of continuous problems that copies the solutions into the structure-of-arrays layout
+ * of {@link BatchDoubleProblem} and evaluates them in batches of (at most) {@code batchSize}
+ * solutions, which keeps the arrays of a batch in the cache. Problems not implementing that
+ * interface, or whose batch evaluation is not applicable (see {@link BatchDoubleProblem}), are
+ * evaluated solution by solution, as in {@link SequentialSolutionListEvaluator}.
+ */
+@SuppressWarnings("serial")
+public class BatchSolutionListEvaluator implements SolutionListEvaluator<DoubleSolution> {
+  public static final int DEFAULT_BATCH_SIZE = 256;
+
+  private final int batchSize;
+
+  public BatchSolutionListEvaluator() {
+    this(DEFAULT_BATCH_SIZE);
+  }
+
+  public BatchSolutionListEvaluator(int batchSize) {
+    Check.that(batchSize > 0, "The batch size must be positive: " + batchSize);
+    this.batchSize = batchSize;
+  }
+
+  @Override
+  public List<DoubleSolution> evaluate(
+      List<DoubleSolution> solutionList, Problem<DoubleSolution> problem) {
+    Check.notNull(solutionList);
+    Check.notNull(problem);
+
+    if (!isBatchEvaluationApplicable(problem)) {
+      solutionList.forEach(problem::evaluate);
+    } else {
+      for (int from = 0; from < solutionList.size(); from += batchSize) {
+        int to = Math.min(from + batchSize, solutionList.size());
+        evaluateBatch(solutionList.subList(from, to), (BatchDoubleProblem) problem);
+      }
+    }
+
+    return solutionList;
+  }
+
+  /**
+   * Returns true if a problem implements {@link BatchDoubleProblem} and its batch evaluation is
+   * equivalent to the evaluation of its solutions
+   */
+  public static boolean isBatchEvaluationApplicable(Problem<?> problem) {
+    return problem instanceof BatchDoubleProblem
+        && ((BatchDoubleProblem) problem).batchEvaluationIsEquivalent();
+  }
+
+  private void evaluateBatch(List<DoubleSolution> solutions, BatchDoubleProblem problem) {
+    int size = solutions.size();
+    double[][] x = new double[problem.numberOfVariables()][size];
+    double[][] f = new double[problem.numberOfObjectives()][size];
+
+    for (int p = 0; p < size; p++) {
+      List<Double> variables = solutions.get(p).variables();
+      for (int i = 0; i < x.length; i++) {
+        x[i][p] = variables.get(i);
+      }
+    }
+
+    problem.evaluate(x, f);
+
+    for (int p = 0; p < size; p++) {
+      double[] objectives = solutions.get(p).objectives();
+      for (int j = 0; j < f.length; j++) {
+        objectives[j] = f[j][p];
+      }
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    // This method is an intentionally-blank override.
+  }
+}
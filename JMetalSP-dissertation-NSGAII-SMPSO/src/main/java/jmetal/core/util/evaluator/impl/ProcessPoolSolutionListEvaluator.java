@@ -0,0 +1,210 @@
+package jmetal.core.util.evaluator.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import jmetal.core.problem.Problem;
+import jmetal.core.util.JMetalLogger;
+import jmetal.core.util.errorchecking.Check;
+import jmetal.core.util.errorchecking.JMetalException;
+import jmetal.core.util.evaluator.ExternalSimulation;
+import jmetal.core.util.evaluator.SolutionListEvaluator;
+
+/**
+ * Evaluator that runs up to {@code numberOfWorkers} external simulator processes at the same time.
+ * Each worker owns a scratch directory ({@code worker-0}, {@code worker-1}, ...) below the given
+ * root, so the configuration and result files of concurrent simulations never collide. A run that
+ * exceeds the timeout is killed together with its child processes; failed or killed runs are
+ * retried up to {@code maxRetries} times before a {@link JMetalException} is thrown.
+ *
+ * <p>The simulation is delegated to an {@link ExternalSimulation}; if none is given, the problem
+ * passed to {@link #evaluate} must implement that interface.
+ *
+ * @param <S> Solution
+ */
+@SuppressWarnings("serial")
+public class ProcessPoolSolutionListEvaluator<S> implements SolutionListEvaluator<S> {
+  private static final String LOG_FILE = "simulator.log";
+
+  private final ExternalSimulation<S> simulation;
+  private final int numberOfWorkers;
+  private final long timeout;
+  private final TimeUnit timeUnit;
+  private final int maxRetries;
+  private final BlockingQueue<Path> workingDirectories;
+  private final ExecutorService executor;
+
+  public ProcessPoolSolutionListEvaluator(int numberOfWorkers, Path scratchDirectory,
+      long timeout, TimeUnit timeUnit, int maxRetries) {
+    this(null, numberOfWorkers, scratchDirectory, timeout, timeUnit, maxRetries);
+  }
+
+  public ProcessPoolSolutionListEvaluator(ExternalSimulation<S> simulation, int numberOfWorkers,
+      Path scratchDirectory, long timeout, TimeUnit timeUnit, int maxRetries) {
+    Check.that(numberOfWorkers >= 0, "The number of workers is a negative value: " + numberOfWorkers);
+    Check.that(timeout > 0, "The timeout must be positive: " + timeout);
+    Check.that(maxRetries >= 0, "The number of retries is a negative value: " + maxRetries);
+    Check.notNull(scratchDirectory);
+    Check.notNull(timeUnit);
+
+    if (numberOfWorkers == 0) {
+      numberOfWorkers = Runtime.getRuntime().availableProcessors();
+    }
+
+    this.simulation = simulation;
+    this.numberOfWorkers = numberOfWorkers;
+    this.timeout = timeout;
+    this.timeUnit = timeUnit;
+    this.maxRetries = maxRetries;
+    this.workingDirectories = new ArrayBlockingQueue<>(numberOfWorkers);
+
+    try {
+      for (int i = 0; i < numberOfWorkers; i++) {
+        workingDirectories.add(Files.createDirectories(scratchDirectory.resolve("worker-" + i)));
+      }
+    } catch (IOException e) {
+      throw new JMetalException("Error creating the worker directories in " + scratchDirectory, e);
+    }
+
+    this.executor = Executors.newFixedThreadPool(numberOfWorkers);
+    JMetalLogger.logger.info("Number of simulator workers: " + numberOfWorkers);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
+    ExternalSimulation<S> currentSimulation = simulation;
+    if (currentSimulation == null) {
+      Check.that(problem instanceof ExternalSimulation,
+          "The problem " + problem.name() + " does not implement ExternalSimulation");
+      currentSimulation = (ExternalSimulation<S>) problem;
+    }
+
+    List<Future<S>> futures = new ArrayList<>(solutionList.size());
+    for (S solution : solutionList) {
+      ExternalSimulation<S> task = currentSimulation;
+      futures.add(executor.submit(() -> simulate(task, solution)));
+    }
+
+    try {
+      for (Future<S> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      futures.forEach(future -> future.cancel(true));
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while waiting for the simulator workers", e);
+    } catch (ExecutionException e) {
+      futures.forEach(future -> future.cancel(true));
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new JMetalException("Error evaluating a solution", (Exception) cause);
+    }
+
+    return solutionList;
+  }
+
+  public int numberOfWorkers() {
+    return numberOfWorkers;
+  }
+
+  @Override
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private S simulate(ExternalSimulation<S> simulation, S solution) throws InterruptedException {
+    if (simulation.evaluateWithoutSimulation(solution)) {
+      return solution;
+    }
+
+    Path workingDirectory = workingDirectories.take();
+    try {
+      String failure = "";
+      for (int attempt = 0; attempt <= maxRetries; attempt++) {
+        try {
+          clean(workingDirectory);
+          List<String> command = simulation.commandLine(solution, workingDirectory);
+          int exitCode = run(command, workingDirectory);
+          if (exitCode == 0) {
+            simulation.readResults(solution, workingDirectory);
+            return solution;
+          }
+          failure = "exit code " + exitCode;
+        } catch (IOException | UncheckedIOException e) {
+          failure = e.getMessage();
+        } finally {
+          simulation.simulationFinished(solution, workingDirectory);
+        }
+        JMetalLogger.logger.warning(
+            "Simulation failed in " + workingDirectory + " (attempt " + (attempt + 1) + " of "
+                + (maxRetries + 1) + "): " + failure);
+      }
+
+      throw new JMetalException(
+          "The simulation failed after " + (maxRetries + 1) + " attempts: " + failure);
+    } finally {
+      workingDirectories.add(workingDirectory);
+    }
+  }
+
+  /**
+   * Runs the command and returns its exit code. A process that does not finish within the
+   * timeout is killed together with its descendants and reported as an {@link IOException}.
+   */
+  private int run(List<String> command, Path workingDirectory)
+      throws IOException, InterruptedException {
+    File log = workingDirectory.resolve(LOG_FILE).toFile();
+    Process process =
+        new ProcessBuilder(command)
+            .directory(workingDirectory.toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(log)
+            .start();
+
+    try {
+      if (!process.waitFor(timeout, timeUnit)) {
+        throw new IOException("timeout of " + timeout + " " + timeUnit + " exceeded");
+      }
+      return process.exitValue();
+    } finally {
+      if (process.isAlive()) {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+      }
+    }
+  }
+
+  private static void clean(Path directory) throws IOException {
+    try (Stream<Path> paths = Files.walk(directory)) {
+      paths
+          .filter(path -> !path.equals(directory))
+          .sorted(Comparator.reverseOrder())
+          .forEach(
+              path -> {
+                try {
+                  Files.delete(path);
+                } catch (IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+              });
+    }
+  }
+}
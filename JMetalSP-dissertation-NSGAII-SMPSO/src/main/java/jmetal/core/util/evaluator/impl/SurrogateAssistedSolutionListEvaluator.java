@@ -0,0 +1,271 @@
+package jmetal.core.util.evaluator.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import jmetal.core.problem.Problem;
+import jmetal.core.solution.Solution;
+import jmetal.core.util.JMetalLogger;
+import jmetal.core.util.archive.impl.NonDominatedSolutionListArchive;
+import jmetal.core.util.errorchecking.Check;
+import jmetal.core.util.evaluator.SolutionListEvaluator;
+import jmetal.core.util.evaluator.SurrogateAssistedProblem;
+import jmetal.core.util.evaluator.surrogate.SurrogateModel;
+
+/**
+ * Decorator of a {@link SolutionListEvaluator} that pre-screens the solutions with surrogate models
+ * before sending them to the (expensive) real evaluation. The problem must implement
+ * {@link SurrogateAssistedProblem}: the cheap objectives are always computed exactly, and the
+ * expensive ones are predicted by a model per objective, trained online with the solutions really
+ * evaluated.
+ *
+ * <p>A solution is sent to the decorated evaluator if it is promising, i.e. if its optimistic
+ * prediction (prediction minus {@code beta} standard deviations) is not dominated by any solution
+ * evaluated so far, or if the uncertainty of a prediction is higher than a threshold. The other
+ * solutions keep the predicted objective values and are marked with the attribute
+ * {@link #PREDICTED_ATTRIBUTE}. Until {@code minimumTrainingSetSize} solutions have been
+ * evaluated, all of them are evaluated.
+ *
+ * <p>The models are trained again after each batch of real evaluations, and the cost of training
+ * a Gaussian process is cubic in the number of samples, so the training set is a sliding window
+ * with the last {@code maximumTrainingSetSize} solutions evaluated (by default,
+ * {@link #DEFAULT_MAXIMUM_TRAINING_SET_SIZE}). The older samples are discarded.
+ *
+ * @param <S> Solution
+ */
+@SuppressWarnings("serial")
+public class SurrogateAssistedSolutionListEvaluator<S extends Solution<?>> implements SolutionListEvaluator<S> {
+  public static final String PREDICTED_ATTRIBUTE = "SurrogatePredicted";
+  public static final int DEFAULT_MAXIMUM_TRAINING_SET_SIZE = 300;
+
+  private final SolutionListEvaluator<S> evaluator;
+  private final SurrogateModel[] models;
+  private final int minimumTrainingSetSize;
+  private final int maximumTrainingSetSize;
+  private final double beta;
+  private final double uncertaintyThreshold;
+
+  private final List<double[]> trainingFeatures;
+  private final List<List<Double>> trainingValues;
+  private final NonDominatedSolutionListArchive<S> evaluatedFront;
+  private boolean trained;
+  private long simulatorCalls;
+  private long savedSimulatorCalls;
+
+  /**
+   * @param evaluator Evaluator used for the real evaluations
+   * @param numberOfExpensiveObjectives Number of objectives predicted by the surrogate
+   * @param modelFactory Creates the model of each expensive objective
+   */
+  public SurrogateAssistedSolutionListEvaluator(
+      SolutionListEvaluator<S> evaluator,
+      int numberOfExpensiveObjectives,
+      Supplier<SurrogateModel> modelFactory) {
+    this(evaluator, numberOfExpensiveObjectives, modelFactory, 20, 1.0, Double.POSITIVE_INFINITY);
+  }
+
+  /**
+   * @param evaluator Evaluator used for the real evaluations
+   * @param numberOfExpensiveObjectives Number of objectives predicted by the surrogate
+   * @param modelFactory Creates the model of each expensive objective
+   * @param minimumTrainingSetSize Number of real evaluations before the surrogate is used
+   * @param beta Number of standard deviations subtracted from the prediction in the dominance test
+   * @param uncertaintyThreshold Standard deviation above which a solution is always evaluated
+   */
+  public SurrogateAssistedSolutionListEvaluator(
+      SolutionListEvaluator<S> evaluator,
+      int numberOfExpensiveObjectives,
+      Supplier<SurrogateModel> modelFactory,
+      int minimumTrainingSetSize,
+      double beta,
+      double uncertaintyThreshold) {
+    this(evaluator, numberOfExpensiveObjectives, modelFactory, minimumTrainingSetSize,
+        DEFAULT_MAXIMUM_TRAINING_SET_SIZE, beta, uncertaintyThreshold);
+  }
+
+  /**
+   * @param evaluator Evaluator used for the real evaluations
+   * @param numberOfExpensiveObjectives Number of objectives predicted by the surrogate
+   * @param modelFactory Creates the model of each expensive objective
+   * @param minimumTrainingSetSize Number of real evaluations before the surrogate is used
+   * @param maximumTrainingSetSize Number of the last real evaluations used to train the models
+   * @param beta Number of standard deviations subtracted from the prediction in the dominance test
+   * @param uncertaintyThreshold Standard deviation above which a solution is always evaluated
+   */
+  public SurrogateAssistedSolutionListEvaluator(
+      SolutionListEvaluator<S> evaluator,
+      int numberOfExpensiveObjectives,
+      Supplier<SurrogateModel> modelFactory,
+      int minimumTrainingSetSize,
+      int maximumTrainingSetSize,
+      double beta,
+      double uncertaintyThreshold) {
+    Check.notNull(evaluator);
+    Check.notNull(modelFactory);
+    Check.that(numberOfExpensiveObjectives > 0,
+        "The number of expensive objectives must be positive: " + numberOfExpensiveObjectives);
+    Check.that(minimumTrainingSetSize > 0,
+        "The minimum training set size must be positive: " + minimumTrainingSetSize);
+    Check.that(maximumTrainingSetSize >= minimumTrainingSetSize,
+        "The maximum training set size " + maximumTrainingSetSize
+            + " is lower than the minimum one " + minimumTrainingSetSize);
+    Check.that(beta >= 0, "Beta cannot be negative: " + beta);
+
+    this.evaluator = evaluator;
+    this.minimumTrainingSetSize = minimumTrainingSetSize;
+    this.maximumTrainingSetSize = maximumTrainingSetSize;
+    this.beta = beta;
+    this.uncertaintyThreshold = uncertaintyThreshold;
+
+    models = new SurrogateModel[numberOfExpensiveObjectives];
+    trainingValues = new ArrayList<>(numberOfExpensiveObjectives);
+    for (int i = 0; i < numberOfExpensiveObjectives; i++) {
+      models[i] = modelFactory.get();
+      trainingValues.add(new ArrayList<>());
+    }
+    trainingFeatures = new ArrayList<>();
+    evaluatedFront = new NonDominatedSolutionListArchive<>();
+    trained = false;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
+    Check.that(problem instanceof SurrogateAssistedProblem,
+        "The problem must implement " + SurrogateAssistedProblem.class.getSimpleName());
+    SurrogateAssistedProblem<S> surrogateProblem = (SurrogateAssistedProblem<S>) problem;
+    int[] expensiveObjectives = surrogateProblem.expensiveObjectives();
+    Check.that(expensiveObjectives.length == models.length,
+        "The problem has " + expensiveObjectives.length + " expensive objectives instead of " + models.length);
+
+    List<S> promisingSolutions = screen(solutionList, surrogateProblem, expensiveObjectives);
+
+    if (!promisingSolutions.isEmpty()) {
+      evaluator.evaluate(promisingSolutions, problem);
+      update(promisingSolutions, surrogateProblem, expensiveObjectives);
+    }
+
+    return solutionList;
+  }
+
+  private synchronized List<S> screen(List<S> solutionList, SurrogateAssistedProblem<S> problem,
+      int[] expensiveObjectives) {
+    if (!trained) {
+      simulatorCalls += solutionList.size();
+      return solutionList;
+    }
+
+    List<S> promisingSolutions = new ArrayList<>();
+    for (S solution : solutionList) {
+      problem.evaluateCheapObjectives(solution);
+
+      double[] features = problem.surrogateFeatures(solution);
+      double[] optimisticObjectives = solution.objectives().clone();
+      boolean uncertain = false;
+      for (int i = 0; i < models.length; i++) {
+        double[] prediction = models[i].predict(features);
+        solution.objectives()[expensiveObjectives[i]] = prediction[0];
+        optimisticObjectives[expensiveObjectives[i]] = prediction[0] - beta * prediction[1];
+        uncertain |= prediction[1] > uncertaintyThreshold;
+      }
+
+      if (uncertain || !isDominatedByEvaluatedFront(optimisticObjectives)) {
+        promisingSolutions.add(solution);
+      } else {
+        solution.attributes().put(PREDICTED_ATTRIBUTE, true);
+      }
+    }
+
+    simulatorCalls += promisingSolutions.size();
+    savedSimulatorCalls += solutionList.size() - promisingSolutions.size();
+
+    return promisingSolutions;
+  }
+
+  @SuppressWarnings("unchecked")
+  private synchronized void update(List<S> evaluatedSolutions, SurrogateAssistedProblem<S> problem,
+      int[] expensiveObjectives) {
+    for (S solution : evaluatedSolutions) {
+      solution.attributes().remove(PREDICTED_ATTRIBUTE);
+      if (!isFeasibleSample(solution)) {
+        continue;
+      }
+
+      trainingFeatures.add(problem.surrogateFeatures(solution));
+      for (int i = 0; i < models.length; i++) {
+        trainingValues.get(i).add(solution.objectives()[expensiveObjectives[i]]);
+      }
+      evaluatedFront.add((S) solution.copy());
+    }
+
+    int discardedSamples = trainingFeatures.size() - maximumTrainingSetSize;
+    if (discardedSamples > 0) {
+      trainingFeatures.subList(0, discardedSamples).clear();
+      for (List<Double> values : trainingValues) {
+        values.subList(0, discardedSamples).clear();
+      }
+    }
+
+    if (trainingFeatures.size() >= minimumTrainingSetSize) {
+      for (int i = 0; i < models.length; i++) {
+        models[i].train(trainingFeatures, trainingValues.get(i));
+      }
+      trained = true;
+    }
+  }
+
+  private boolean isFeasibleSample(S solution) {
+    for (double value : solution.objectives()) {
+      if (!Double.isFinite(value)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean isDominatedByEvaluatedFront(double[] objectives) {
+    for (S solution : evaluatedFront.solutions()) {
+      if (dominates(solution.objectives(), objectives)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean dominates(double[] first, double[] second) {
+    boolean strictlyBetter = false;
+    for (int i = 0; i < first.length; i++) {
+      if (first[i] > second[i]) {
+        return false;
+      } else if (first[i] < second[i]) {
+        strictlyBetter = true;
+      }
+    }
+    return strictlyBetter;
+  }
+
+  /**
+   * @return Number of solutions sent to the decorated evaluator
+   */
+  public synchronized long simulatorCalls() {
+    return simulatorCalls;
+  }
+
+  /**
+   * @return Number of solutions whose real evaluation has been avoided by the surrogate
+   */
+  public synchronized long savedSimulatorCalls() {
+    return savedSimulatorCalls;
+  }
+
+  public synchronized boolean isTrained() {
+    return trained;
+  }
+
+  @Override
+  public void shutdown() {
+    JMetalLogger.logger.info("Surrogate-assisted evaluation: " + simulatorCalls() + " simulator calls, "
+        + savedSimulatorCalls() + " saved");
+    evaluator.shutdown();
+  }
+}
@@ -0,0 +1,200 @@
+package jmetal.core.util.evaluator.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import jmetal.core.problem.Problem;
+import jmetal.core.util.JMetalLogger;
+import jmetal.core.util.errorchecking.Check;
+import jmetal.core.util.errorchecking.JMetalException;
+import jmetal.core.util.evaluator.SolutionListEvaluator;
+
+/**
+ * Evaluator that runs each evaluation in its own virtual thread, which is intended for problems
+ * whose evaluations spend most of the time blocked (waiting for external processes, files or
+ * network services): a blocked virtual thread does not occupy a carrier thread, so the number of
+ * concurrent evaluations is not limited by the number of cores. The problem must allow concurrent
+ * calls to {@link Problem#evaluate}.
+ *
+ * <ul>
+ *   <li>The number of evaluations running at the same time can be bounded with {@code
+ *       maximumConcurrency} (zero means no bound), e.g., to match the licenses of a simulator.
+ *   <li>An evaluation that lasts more than {@code timeout} is interrupted, and it fails with a
+ *       {@link JMetalException}; zero means no timeout.
+ *   <li>If an evaluation fails, the pending ones are cancelled and the exception is thrown by
+ *       {@link #evaluate}; {@link #shutdown()} cancels the running evaluations.
+ * </ul>
+ *
+ * <p>The solutions are evaluated in place, so the returned list keeps the order of the given one.
+ * Instead of virtual threads, a dedicated executor (e.g., a fixed thread pool) can be given in the
+ * constructor.
+ *
+ * @param <S> Solution
+ */
+@SuppressWarnings("serial")
+public class VirtualThreadSolutionListEvaluator<S> implements SolutionListEvaluator<S> {
+  private final ExecutorService executor;
+  private final ScheduledExecutorService watchdog;
+  private final int maximumConcurrency;
+  private final Semaphore permits;
+  private final long timeout;
+  private final TimeUnit timeUnit;
+
+  public VirtualThreadSolutionListEvaluator() {
+    this(0);
+  }
+
+  public VirtualThreadSolutionListEvaluator(int maximumConcurrency) {
+    this(maximumConcurrency, 0, TimeUnit.SECONDS);
+  }
+
+  public VirtualThreadSolutionListEvaluator(int maximumConcurrency, long timeout,
+      TimeUnit timeUnit) {
+    this(Executors.newVirtualThreadPerTaskExecutor(), maximumConcurrency, timeout, timeUnit);
+  }
+
+  public VirtualThreadSolutionListEvaluator(ExecutorService executor, int maximumConcurrency,
+      long timeout, TimeUnit timeUnit) {
+    Check.notNull(executor);
+    Check.notNull(timeUnit);
+    Check.that(maximumConcurrency >= 0,
+        "The maximum concurrency is a negative value: " + maximumConcurrency);
+    Check.that(timeout >= 0, "The timeout is a negative value: " + timeout);
+
+    this.executor = executor;
+    this.maximumConcurrency = maximumConcurrency;
+    this.permits = maximumConcurrency > 0 ? new Semaphore(maximumConcurrency, true) : null;
+    this.timeout = timeout;
+    this.timeUnit = timeUnit;
+    this.watchdog = timeout > 0 ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "evaluation-watchdog");
+      thread.setDaemon(true);
+      return thread;
+    }) : null;
+
+    JMetalLogger.logger.info("Maximum number of concurrent evaluations: "
+        + (maximumConcurrency > 0 ? maximumConcurrency : "unbounded"));
+  }
+
+  @Override
+  public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
+    Check.notNull(solutionList);
+    Check.notNull(problem);
+
+    List<Future<S>> futures = new ArrayList<>(solutionList.size());
+    for (S solution : solutionList) {
+      futures.add(executor.submit(() -> evaluate(solution, problem)));
+    }
+
+    try {
+      for (Future<S> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      futures.forEach(future -> future.cancel(true));
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while waiting for the evaluations", e);
+    } catch (ExecutionException e) {
+      futures.forEach(future -> future.cancel(true));
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new JMetalException("Error evaluating a solution", (Exception) cause);
+    }
+
+    return solutionList;
+  }
+
+  public int maximumConcurrency() {
+    return maximumConcurrency;
+  }
+
+  @Override
+  public void shutdown() {
+    executor.shutdownNow();
+    if (watchdog != null) {
+      watchdog.shutdownNow();
+    }
+  }
+
+  private S evaluate(S solution, Problem<S> problem) throws InterruptedException {
+    if (permits != null) {
+      permits.acquire();
+    }
+    try {
+      if (watchdog == null) {
+        problem.evaluate(solution);
+      } else {
+        evaluateWithTimeout(solution, problem);
+      }
+    } finally {
+      if (permits != null) {
+        permits.release();
+      }
+    }
+
+    return solution;
+  }
+
+  private void evaluateWithTimeout(S solution, Problem<S> problem) {
+    Interruption interruption = new Interruption(Thread.currentThread());
+    ScheduledFuture<?> scheduledInterruption =
+        watchdog.schedule(interruption::interrupt, timeout, timeUnit);
+
+    try {
+      problem.evaluate(solution);
+    } catch (RuntimeException e) {
+      if (!interruption.finish()) {
+        throw e;
+      }
+    } finally {
+      scheduledInterruption.cancel(false);
+    }
+
+    if (interruption.finish()) {
+      // Clears the interrupted status, which may have been set once the evaluation had finished
+      Thread.interrupted();
+      throw new JMetalException(
+          "The evaluation exceeded the timeout of " + timeout + " " + timeUnit);
+    }
+  }
+
+  /**
+   * Interruption of an evaluation thread that can only happen before the evaluation finishes
+   */
+  private static class Interruption {
+    private final Thread thread;
+    private boolean finished = false;
+    private boolean interrupted = false;
+
+    private Interruption(Thread thread) {
+      this.thread = thread;
+    }
+
+    private synchronized void interrupt() {
+      if (!finished) {
+        interrupted = true;
+        thread.interrupt();
+      }
+    }
+
+    /**
+     * Marks the evaluation as finished and returns true if it has been interrupted
+     */
+    private synchronized boolean finish() {
+      finished = true;
+
+      return interrupted;
+    }
+  }
+}
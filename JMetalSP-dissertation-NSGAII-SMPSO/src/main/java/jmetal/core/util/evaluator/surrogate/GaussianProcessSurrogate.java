@@ -0,0 +1,90 @@
+package jmetal.core.util.evaluator.surrogate;
+
+import java.util.ArrayList;
+import java.util.List;
+import jmetal.core.util.errorchecking.JMetalException;
+import weka.classifiers.functions.GaussianProcesses;
+import weka.classifiers.functions.supportVector.RBFKernel;
+import weka.core.Attribute;
+import weka.core.DenseInstance;
+import weka.core.Instance;
+import weka.core.Instances;
+
+/**
+ * {@link SurrogateModel} based on the Weka implementation of Gaussian processes with a RBF kernel.
+ * Besides the prediction, it provides its standard deviation, which can be used to decide whether a
+ * solution should be evaluated anyway.
+ */
+@SuppressWarnings("serial")
+public class GaussianProcessSurrogate implements SurrogateModel {
+  private final double noise;
+  private final double gamma;
+  private GaussianProcesses model;
+  private Instances dataset;
+
+  public GaussianProcessSurrogate() {
+    this(0.1, 0.5);
+  }
+
+  /**
+   * @param noise Level of Gaussian noise of the target values
+   * @param gamma Parameter of the RBF kernel
+   */
+  public GaussianProcessSurrogate(double noise, double gamma) {
+    this.noise = noise;
+    this.gamma = gamma;
+  }
+
+  @Override
+  public void train(List<double[]> features, List<Double> values) {
+    int numberOfFeatures = features.get(0).length;
+    ArrayList<Attribute> attributes = new ArrayList<>(numberOfFeatures + 1);
+    for (int i = 0; i < numberOfFeatures; i++) {
+      attributes.add(new Attribute("x" + i));
+    }
+    attributes.add(new Attribute("y"));
+
+    Instances trainingSet = new Instances("surrogate", attributes, features.size());
+    trainingSet.setClassIndex(numberOfFeatures);
+    for (int i = 0; i < features.size(); i++) {
+      double[] instanceValues = new double[numberOfFeatures + 1];
+      System.arraycopy(features.get(i), 0, instanceValues, 0, numberOfFeatures);
+      instanceValues[numberOfFeatures] = values.get(i);
+      trainingSet.add(new DenseInstance(1.0, instanceValues));
+    }
+
+    try {
+      RBFKernel kernel = new RBFKernel();
+      kernel.setGamma(gamma);
+
+      GaussianProcesses gaussianProcess = new GaussianProcesses();
+      gaussianProcess.setKernel(kernel);
+      gaussianProcess.setNoise(noise);
+      gaussianProcess.buildClassifier(trainingSet);
+
+      model = gaussianProcess;
+      dataset = new Instances(trainingSet, 0);
+    } catch (Exception e) {
+      throw new JMetalException("Error training the Gaussian process: " + e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public double[] predict(double[] features) {
+    if (model == null) {
+      throw new JMetalException("The surrogate model has not been trained");
+    }
+
+    double[] instanceValues = new double[features.length + 1];
+    System.arraycopy(features, 0, instanceValues, 0, features.length);
+    Instance instance = new DenseInstance(1.0, instanceValues);
+    instance.setDataset(dataset);
+    instance.setClassMissing();
+
+    try {
+      return new double[]{model.classifyInstance(instance), model.getStandardDeviation(instance)};
+    } catch (Exception e) {
+      throw new JMetalException("Error predicting with the Gaussian process: " + e.getMessage(), e);
+    }
+  }
+}
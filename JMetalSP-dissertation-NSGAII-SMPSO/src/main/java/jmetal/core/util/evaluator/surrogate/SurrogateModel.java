@@ -0,0 +1,19 @@
+package jmetal.core.util.evaluator.surrogate;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Regression model used to predict an expensive objective from the features of a solution.
+ */
+public interface SurrogateModel extends Serializable {
+  /**
+   * Trains the model from scratch with the samples of the training set
+   */
+  void train(List<double[]> features, List<Double> values);
+
+  /**
+   * @return An array with the predicted value and its standard deviation
+   */
+  double[] predict(double[] features);
+}
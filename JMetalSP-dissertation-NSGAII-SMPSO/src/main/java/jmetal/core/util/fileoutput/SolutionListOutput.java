@@ -58,13 +58,15 @@ public class SolutionListOutput {
     try {
       if (solutionList.size() > 0) {
         int numberOfVariables = solutionList.get(0).variables().size();
+        StringBuilder line = new StringBuilder();
         for (int i = 0; i < solutionList.size(); i++) {
+          line.setLength(0);
           for (int j = 0; j < numberOfVariables - 1; j++) {
-            bufferedWriter.write("" + solutionList.get(i).variables().get(j) + context.getSeparator());
+            line.append(solutionList.get(i).variables().get(j)).append(context.getSeparator());
           }
-          bufferedWriter.write(
-              "" + solutionList.get(i).variables().get(numberOfVariables - 1));
+          line.append(solutionList.get(i).variables().get(numberOfVariables - 1));
 
+          bufferedWriter.write(line.toString());
           bufferedWriter.newLine();
         }
       }
@@ -82,12 +84,15 @@ public class SolutionListOutput {
     try {
       if (solutionList.size() > 0) {
         int numberOfObjectives = solutionList.get(0).objectives().length;
+        StringBuilder line = new StringBuilder();
         for (int i = 0; i < solutionList.size(); i++) {
+          line.setLength(0);
           for (int j = 0; j < numberOfObjectives - 1; j++) {
-            bufferedWriter.write(solutionList.get(i).objectives()[j] + context.getSeparator());
+            line.append(solutionList.get(i).objectives()[j]).append(context.getSeparator());
           }
-          bufferedWriter.write("" + solutionList.get(i).objectives()[numberOfObjectives - 1]);
+          line.append(solutionList.get(i).objectives()[numberOfObjectives - 1]);
 
+          bufferedWriter.write(line.toString());
           bufferedWriter.newLine();
         }
       }
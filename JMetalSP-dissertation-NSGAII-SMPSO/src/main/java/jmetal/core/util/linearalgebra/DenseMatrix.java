@@ -0,0 +1,320 @@
+package jmetal.core.util.linearalgebra;
+
+import java.io.Serializable;
+import jmetal.core.util.errorchecking.Check;
+
+/**
+ * Dense matrix of doubles stored in a single array in row-major order, with the kernels used by
+ * the algorithms and problems doing linear algebra (products, row statistics, linear systems).
+ *
+ * <p>The kernels accumulate each value in the same order as the textbook loops (e.g., the element
+ * (i, j) of a product is the sum of the terms for k = 0, 1, ...), so they return the same results,
+ * bit for bit, as the {@code List<List<Double>>} and {@code double[][]} code they replace. The
+ * products are blocked to reuse the cache lines of both operands, and their inner loops run over
+ * contiguous elements, so that the JIT compiler can vectorize them.
+ */
+@SuppressWarnings("serial")
+public class DenseMatrix implements Serializable {
+  private static final int BLOCK_SIZE = 64;
+
+  private final int rows;
+  private final int columns;
+  private final double[] data;
+
+  /** Constructor of a matrix of zeros */
+  public DenseMatrix(int rows, int columns) {
+    this(rows, columns, new double[checkedSize(rows, columns)]);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param rows Number of rows
+   * @param columns Number of columns
+   * @param data Values of the matrix in row-major order. The array is not copied
+   */
+  public DenseMatrix(int rows, int columns, double[] data) {
+    Check.notNull(data);
+    Check.that(
+        data.length == checkedSize(rows, columns),
+        "The length of the data (" + data.length + ") is not " + rows + "x" + columns);
+    this.rows = rows;
+    this.columns = columns;
+    this.data = data;
+  }
+
+  /** Returns a matrix with a copy of the values of a rectangular array */
+  public static DenseMatrix of(double[][] values) {
+    Check.notNull(values);
+    int columns = values.length == 0 ? 0 : values[0].length;
+    DenseMatrix matrix = new DenseMatrix(values.length, columns);
+    for (int i = 0; i < values.length; i++) {
+      Check.that(
+          values[i].length == columns,
+          "The row " + i + " has " + values[i].length + " columns instead of " + columns);
+      System.arraycopy(values[i], 0, matrix.data, i * columns, columns);
+    }
+
+    return matrix;
+  }
+
+  /** Returns the identity matrix of size n */
+  public static DenseMatrix identity(int n) {
+    DenseMatrix matrix = new DenseMatrix(n, n);
+    for (int i = 0; i < n; i++) {
+      matrix.data[i * n + i] = 1.0;
+    }
+
+    return matrix;
+  }
+
+  public int rows() {
+    return rows;
+  }
+
+  public int columns() {
+    return columns;
+  }
+
+  /** Returns the backing array, in row-major order */
+  public double[] data() {
+    return data;
+  }
+
+  public double get(int row, int column) {
+    return data[row * columns + column];
+  }
+
+  public void set(int row, int column, double value) {
+    data[row * columns + column] = value;
+  }
+
+  public DenseMatrix copy() {
+    return new DenseMatrix(rows, columns, data.clone());
+  }
+
+  /** Copies the values of this matrix into a rectangular array */
+  public double[][] toArray() {
+    double[][] values = new double[rows][columns];
+    copyTo(values);
+
+    return values;
+  }
+
+  /** Copies the values of this matrix into a rectangular array having its size */
+  public void copyTo(double[][] values) {
+    for (int i = 0; i < rows; i++) {
+      System.arraycopy(data, i * columns, values[i], 0, columns);
+    }
+  }
+
+  /** Copies the values of a rectangular array having the size of this matrix into it */
+  public void copyFrom(double[][] values) {
+    for (int i = 0; i < rows; i++) {
+      System.arraycopy(values[i], 0, data, i * columns, columns);
+    }
+  }
+
+  /** Returns the product of this matrix by another one */
+  public DenseMatrix multiply(DenseMatrix other) {
+    Check.notNull(other);
+    checkSize(columns, other.rows, "multiply");
+
+    int n = other.columns;
+    double[] a = data;
+    double[] b = other.data;
+    double[] c = new double[checkedSize(rows, n)];
+    for (int kBlock = 0; kBlock < columns; kBlock += BLOCK_SIZE) {
+      int kEnd = Math.min(kBlock + BLOCK_SIZE, columns);
+      for (int jBlock = 0; jBlock < n; jBlock += BLOCK_SIZE) {
+        int jEnd = Math.min(jBlock + BLOCK_SIZE, n);
+        for (int i = 0; i < rows; i++) {
+          int rowOfC = i * n;
+          for (int k = kBlock; k < kEnd; k++) {
+            double aik = a[i * columns + k];
+            int rowOfB = k * n;
+            for (int j = jBlock; j < jEnd; j++) {
+              c[rowOfC + j] += aik * b[rowOfB + j];
+            }
+          }
+        }
+      }
+    }
+
+    return new DenseMatrix(rows, n, c);
+  }
+
+  /**
+   * Returns the product of this matrix by the transpose of another one, i.e., the matrix of the
+   * dot products of the rows of both matrices
+   */
+  public DenseMatrix multiplyTransposed(DenseMatrix other) {
+    Check.notNull(other);
+    checkSize(columns, other.columns, "multiply by the transpose of");
+
+    int m = other.rows;
+    double[] a = data;
+    double[] b = other.data;
+    double[] c = new double[checkedSize(rows, m)];
+    for (int iBlock = 0; iBlock < rows; iBlock += BLOCK_SIZE) {
+      int iEnd = Math.min(iBlock + BLOCK_SIZE, rows);
+      for (int jBlock = 0; jBlock < m; jBlock += BLOCK_SIZE) {
+        int jEnd = Math.min(jBlock + BLOCK_SIZE, m);
+        for (int i = iBlock; i < iEnd; i++) {
+          int rowOfA = i * columns;
+          for (int j = jBlock; j < jEnd; j++) {
+            int rowOfB = j * columns;
+            double sum = 0.0;
+            for (int k = 0; k < columns; k++) {
+              sum += a[rowOfA + k] * b[rowOfB + k];
+            }
+            c[i * m + j] = sum;
+          }
+        }
+      }
+    }
+
+    return new DenseMatrix(rows, m, c);
+  }
+
+  /** Returns the product of this matrix by a column vector */
+  public double[] multiply(double[] vector) {
+    Check.notNull(vector);
+    checkSize(columns, vector.length, "multiply");
+
+    double[] result = new double[rows];
+    for (int i = 0; i < rows; i++) {
+      int row = i * columns;
+      double sum = 0.0;
+      for (int j = 0; j < columns; j++) {
+        sum += data[row + j] * vector[j];
+      }
+      result[i] = sum;
+    }
+
+    return result;
+  }
+
+  /** Returns the mean of each row */
+  public double[] rowMeans() {
+    double[] means = new double[rows];
+    for (int i = 0; i < rows; i++) {
+      int row = i * columns;
+      double sum = 0;
+      for (int j = 0; j < columns; j++) {
+        sum += data[row + j];
+      }
+      means[i] = sum / columns;
+    }
+
+    return means;
+  }
+
+  /**
+   * Returns the sample standard deviation of each row
+   *
+   * @param means Mean of each row, as computed by {@link #rowMeans()}
+   */
+  public double[] rowStandardDeviations(double[] means) {
+    Check.notNull(means);
+    checkSize(rows, means.length, "use the means of");
+
+    double[] standardDeviations = new double[rows];
+    for (int i = 0; i < rows; i++) {
+      int row = i * columns;
+      double accum = 0;
+      for (int j = 0; j < columns; j++) {
+        double difference = data[row + j] - means[i];
+        accum += difference * difference;
+      }
+      standardDeviations[i] = Math.sqrt(accum / (columns - 1));
+    }
+
+    return standardDeviations;
+  }
+
+  /** Returns a matrix whose rows are those of this one minus the corresponding value */
+  public DenseMatrix subtractFromRows(double[] values) {
+    Check.notNull(values);
+    checkSize(rows, values.length, "subtract");
+
+    double[] result = new double[data.length];
+    for (int i = 0; i < rows; i++) {
+      int row = i * columns;
+      for (int j = 0; j < columns; j++) {
+        result[row + j] = data[row + j] - values[i];
+      }
+    }
+
+    return new DenseMatrix(rows, columns, result);
+  }
+
+  /** Returns a copy of a column of the matrix */
+  public double[] column(int index) {
+    Check.that(index >= 0 && index < columns, "Column index out of range: " + index);
+
+    double[] result = new double[rows];
+    for (int i = 0; i < rows; i++) {
+      result[i] = data[i * columns + index];
+    }
+
+    return result;
+  }
+
+  /**
+   * Solves the linear system A x = b, being A this matrix, by Gaussian elimination without
+   * pivoting, as done in the reference implementation of NSGA-III. The matrix is not modified.
+   *
+   * @param b Right-hand side of the system
+   * @return The solution x
+   */
+  public double[] solve(double[] b) {
+    Check.notNull(b);
+    Check.that(rows == columns, "The matrix is not square: " + rows + "x" + columns);
+    checkSize(rows, b.length, "solve with");
+
+    int n = rows;
+    int width = n + 1;
+    double[] augmented = new double[n * width];
+    for (int i = 0; i < n; i++) {
+      System.arraycopy(data, i * n, augmented, i * width, n);
+      augmented[i * width + n] = b[i];
+    }
+
+    // The entries below the diagonal are not read once their column has been eliminated, so they
+    // are not updated
+    for (int base = 0; base < n - 1; base++) {
+      int baseRow = base * width;
+      for (int target = base + 1; target < n; target++) {
+        int targetRow = target * width;
+        double ratio = augmented[targetRow + base] / augmented[baseRow + base];
+        for (int term = base + 1; term < width; term++) {
+          augmented[targetRow + term] -= augmented[baseRow + term] * ratio;
+        }
+      }
+    }
+
+    double[] x = new double[n];
+    for (int i = n - 1; i >= 0; i--) {
+      int row = i * width;
+      for (int known = i + 1; known < n; known++) {
+        augmented[row + n] -= augmented[row + known] * x[known];
+      }
+      x[i] = augmented[row + n] / augmented[row + i];
+    }
+
+    return x;
+  }
+
+  private static int checkedSize(int rows, int columns) {
+    Check.that(rows >= 0 && columns >= 0, "Negative size: " + rows + "x" + columns);
+
+    return Math.multiplyExact(rows, columns);
+  }
+
+  private void checkSize(int expected, int actual, String operation) {
+    Check.that(
+        expected == actual,
+        "Cannot " + operation + " a " + rows + "x" + columns + " matrix: wrong size " + actual);
+  }
+}
@@ -0,0 +1,324 @@
+package jmetal.core.util.linearalgebra;
+
+import jmetal.core.util.errorchecking.Check;
+
+/**
+ * Eigendecomposition of symmetric matrices stored in a {@link DenseMatrix}: Householder reduction
+ * to tridiagonal form followed by the QL algorithm with implicit shifts, taken from the JAMA
+ * package (which derives them from the Algol procedures tred2 and tql2 by Bowdler, Martin, Reinsch
+ * and Wilkinson, Handbook for Auto. Comp., Vol. ii - Linear Algebra, and the corresponding Fortran
+ * subroutines in EISPACK). The operations are those of JAMA, in the same order.
+ *
+ * <p>The inner loops of the algorithms run over the columns of the matrix of transformations, so
+ * the matrix is transposed while they work on it, to traverse contiguous elements.
+ */
+public class SymmetricEigendecomposition {
+
+  private SymmetricEigendecomposition() {
+  }
+
+  /**
+   * Computes the eigenvalues and eigenvectors of a symmetric matrix
+   *
+   * @param v Symmetric matrix, which is replaced by the orthonormal matrix having the eigenvectors
+   *     as columns
+   * @param eigenvalues Array where the eigenvalues are stored, in ascending order
+   */
+  public static void decompose(DenseMatrix v, double[] eigenvalues) {
+    double[] offDiagonal = new double[eigenvalues.length];
+    int n = checkSize(v, eigenvalues, offDiagonal);
+    tridiagonalizeTransposed(n, v.data(), eigenvalues, offDiagonal);
+    diagonalizeTransposed(n, eigenvalues, offDiagonal, v.data());
+    transpose(n, v.data());
+  }
+
+  /**
+   * Symmetric Householder reduction to tridiagonal form
+   *
+   * @param v Symmetric matrix, which is replaced by the accumulated transformations
+   * @param d Array where the diagonal of the tridiagonal matrix is stored
+   * @param e Array where the subdiagonal of the tridiagonal matrix is stored, from the position 1
+   */
+  public static void tridiagonalize(DenseMatrix v, double[] d, double[] e) {
+    int n = checkSize(v, d, e);
+    // As the matrix is symmetric, it is its own transpose
+    tridiagonalizeTransposed(n, v.data(), d, e);
+    transpose(n, v.data());
+  }
+
+  private static void tridiagonalizeTransposed(int n, double[] a, double[] d, double[] e) {
+    for (int k = 0; k < n; k++) {
+      d[k] = a[k * n + n - 1];
+    }
+
+    for (int i = n - 1; i > 0; i--) {
+      // Scale to avoid under/overflow
+      double scale = 0.0;
+      double h = 0.0;
+      for (int k = 0; k < i; k++) {
+        scale = scale + Math.abs(d[k]);
+      }
+      if (scale == 0.0) {
+        e[i] = d[i - 1];
+        for (int j = 0; j < i; j++) {
+          d[j] = a[j * n + i - 1];
+          a[j * n + i] = 0.0;
+          a[i * n + j] = 0.0;
+        }
+      } else {
+        h = householderIteration(n, i, scale, a, d, e);
+      }
+      d[i] = h;
+    }
+
+    accumulateTransformations(n, a, d);
+
+    e[0] = 0.0;
+  }
+
+  private static double householderIteration(
+      int n, int index, double scale, double[] a, double[] d, double[] e) {
+    double h = 0.0;
+
+    // Generate Householder vector
+    for (int k = 0; k < index; k++) {
+      d[k] /= scale;
+      h += d[k] * d[k];
+    }
+    double f = d[index - 1];
+    double g = Math.sqrt(h);
+    if (f > 0) {
+      g = -g;
+    }
+    e[index] = scale * g;
+    h = h - f * g;
+    d[index - 1] = f - g;
+    for (int j = 0; j < index; j++) {
+      e[j] = 0.0;
+    }
+
+    // Apply similarity transformation to remaining columns
+    for (int j = 0; j < index; j++) {
+      f = d[j];
+      a[index * n + j] = f;
+      int column = j * n;
+      g = e[j] + a[column + j] * f;
+      for (int k = j + 1; k <= index - 1; k++) {
+        g += a[column + k] * d[k];
+        e[k] += a[column + k] * f;
+      }
+      e[j] = g;
+    }
+    f = 0.0;
+    for (int j = 0; j < index; j++) {
+      e[j] /= h;
+      f += e[j] * d[j];
+    }
+    double hh = f / (h + h);
+    for (int j = 0; j < index; j++) {
+      e[j] -= hh * d[j];
+    }
+    for (int j = 0; j < index; j++) {
+      f = d[j];
+      g = e[j];
+      int column = j * n;
+      for (int k = j; k <= index - 1; k++) {
+        a[column + k] -= (f * e[k] + g * d[k]);
+      }
+      d[j] = a[column + index - 1];
+      a[column + index] = 0.0;
+    }
+
+    return h;
+  }
+
+  private static void accumulateTransformations(int n, double[] a, double[] d) {
+    for (int i = 0; i < n - 1; i++) {
+      a[i * n + n - 1] = a[i * n + i];
+      a[i * n + i] = 1.0;
+      int nextColumn = (i + 1) * n;
+      double h = d[i + 1];
+      if (h != 0.0) {
+        for (int k = 0; k <= i; k++) {
+          d[k] = a[nextColumn + k] / h;
+        }
+        for (int j = 0; j <= i; j++) {
+          int column = j * n;
+          double g = 0.0;
+          for (int k = 0; k <= i; k++) {
+            g += a[nextColumn + k] * a[column + k];
+          }
+          for (int k = 0; k <= i; k++) {
+            a[column + k] -= g * d[k];
+          }
+        }
+      }
+      for (int k = 0; k <= i; k++) {
+        a[nextColumn + k] = 0.0;
+      }
+    }
+    for (int j = 0; j < n; j++) {
+      d[j] = a[j * n + n - 1];
+      a[j * n + n - 1] = 0.0;
+    }
+    a[(n - 1) * n + n - 1] = 1.0;
+  }
+
+  /**
+   * Symmetric tridiagonal QL algorithm
+   *
+   * @param d Diagonal of the tridiagonal matrix, which is replaced by the eigenvalues in ascending
+   *     order
+   * @param e Subdiagonal of the tridiagonal matrix, from the position 1. It is overwritten
+   * @param v Transformations of {@link #tridiagonalize(DenseMatrix, double[], double[])}, which
+   *     are replaced by the eigenvectors (as columns)
+   */
+  public static void diagonalize(double[] d, double[] e, DenseMatrix v) {
+    int n = checkSize(v, d, e);
+    transpose(n, v.data());
+    diagonalizeTransposed(n, d, e, v.data());
+    transpose(n, v.data());
+  }
+
+  private static void diagonalizeTransposed(int n, double[] d, double[] e, double[] a) {
+    System.arraycopy(e, 1, e, 0, n - 1);
+    e[n - 1] = 0.0;
+
+    double f = 0.0;
+    double tst1 = 0.0;
+    double eps = Math.pow(2.0, -52.0);
+    for (int l = 0; l < n; l++) {
+      // Find small subdiagonal element
+      tst1 = Math.max(tst1, Math.abs(d[l]) + Math.abs(e[l]));
+      int m = l;
+      while (m < n) {
+        if (Math.abs(e[m]) <= eps * tst1) {
+          break;
+        }
+        m++;
+      }
+
+      // If m == l, d[l] is an eigenvalue, otherwise, iterate
+      if (m > l) {
+        do {
+          f += specificShift(l, n, d, e);
+          implicitQLTransformation(l, m, n, a, d, e);
+        } while (Math.abs(e[l]) > eps * tst1);
+      }
+      d[l] = d[l] + f;
+      e[l] = 0.0;
+    }
+
+    sortEigenvalues(n, d, a);
+  }
+
+  private static double specificShift(int index, int n, double[] d, double[] e) {
+    double g = d[index];
+    double p = (d[index + 1] - g) / (2.0 * e[index]);
+    double r = hypot(p, 1.0);
+    if (p < 0) {
+      r = -r;
+    }
+    d[index] = e[index] / (p + r);
+    d[index + 1] = e[index] * (p + r);
+
+    double h = g - d[index];
+    for (int i = index + 2; i < n; i++) {
+      d[i] -= h;
+    }
+    return h;
+  }
+
+  private static void implicitQLTransformation(
+      int l, int m, int n, double[] a, double[] d, double[] e) {
+    double dl1 = d[l + 1];
+    double p = d[m];
+    double c = 1.0;
+    double c2 = c;
+    double c3 = c;
+    double el1 = e[l + 1];
+    double s = 0.0;
+    double s2 = 0.0;
+    for (int i = m - 1; i >= l; i--) {
+      c3 = c2;
+      c2 = c;
+      s2 = s;
+      double g = c * e[i];
+      double h = c * p;
+      double r = hypot(p, e[i]);
+      e[i + 1] = s * r;
+      s = e[i] / r;
+      c = p / r;
+      p = c * d[i] - s * g;
+      d[i + 1] = h + s * (c * g + s * d[i]);
+
+      // Accumulate transformation
+      int column = i * n;
+      int nextColumn = column + n;
+      for (int k = 0; k < n; k++) {
+        h = a[nextColumn + k];
+        a[nextColumn + k] = s * a[column + k] + c * h;
+        a[column + k] = c * a[column + k] - s * h;
+      }
+    }
+    p = -s * s2 * c3 * el1 * e[l] / dl1;
+    e[l] = s * p;
+    d[l] = c * p;
+  }
+
+  private static void sortEigenvalues(int n, double[] d, double[] a) {
+    for (int i = 0; i < n - 1; i++) {
+      int k = i;
+      double p = d[i];
+      for (int j = i + 1; j < n; j++) {
+        if (d[j] < p) {
+          k = j;
+          p = d[j];
+        }
+      }
+      if (k != i) {
+        d[k] = d[i];
+        d[i] = p;
+        for (int j = 0; j < n; j++) {
+          p = a[i * n + j];
+          a[i * n + j] = a[k * n + j];
+          a[k * n + j] = p;
+        }
+      }
+    }
+  }
+
+  private static void transpose(int n, double[] a) {
+    for (int i = 0; i < n; i++) {
+      for (int j = i + 1; j < n; j++) {
+        double value = a[i * n + j];
+        a[i * n + j] = a[j * n + i];
+        a[j * n + i] = value;
+      }
+    }
+  }
+
+  /** sqrt(a^2 + b^2) without under/overflow */
+  private static double hypot(double a, double b) {
+    double r = 0;
+    if (Math.abs(a) > Math.abs(b)) {
+      r = b / a;
+      r = Math.abs(a) * Math.sqrt(1 + r * r);
+    } else if (b != 0) {
+      r = a / b;
+      r = Math.abs(b) * Math.sqrt(1 + r * r);
+    }
+    return r;
+  }
+
+  private static int checkSize(DenseMatrix v, double[] d, double[] e) {
+    Check.notNull(v);
+    Check.notNull(d);
+    Check.notNull(e);
+    int n = v.rows();
+    Check.that(n > 0 && v.columns() == n, "The matrix is not square or is empty");
+    Check.that(d.length >= n && e.length >= n, "The arrays are shorter than the matrix size");
+
+    return n;
+  }
+}
@@ -8,18 +8,19 @@ import jmetal.core.util.pseudorandom.impl.JavaRandomGenerator;
  */
 @SuppressWarnings("serial")
 public class JMetalRandom implements Serializable {
-  private static JMetalRandom instance ;
-  private PseudoRandomGenerator randomGenerator ;
+  private volatile PseudoRandomGenerator randomGenerator ;
 
   private JMetalRandom() {
     randomGenerator = new JavaRandomGenerator() ;
   }
 
+  /** The instance is created on the first call to getInstance(), and the class loading makes it thread-safe */
+  private static class InstanceHolder {
+    private static final JMetalRandom INSTANCE = new JMetalRandom() ;
+  }
+
   public static JMetalRandom getInstance() {
-    if (instance == null) {
-      instance = new JMetalRandom() ;
-    }
-    return instance ;
+    return InstanceHolder.INSTANCE ;
   }
 
   public void setRandomGenerator(PseudoRandomGenerator randomGenerator) {
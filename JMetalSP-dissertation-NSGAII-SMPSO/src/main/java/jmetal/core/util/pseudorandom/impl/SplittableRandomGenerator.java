@@ -0,0 +1,141 @@
+package jmetal.core.util.pseudorandom.impl;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import jmetal.core.util.errorchecking.Check;
+import jmetal.core.util.errorchecking.JMetalException;
+import jmetal.core.util.pseudorandom.PseudoRandomGenerator;
+
+/**
+ * Pseudo-random generator based on the generators of {@code java.util.random} ({@link
+ * #DEFAULT_ALGORITHM} by default) that can be split into independent streams: {@link #split()}
+ * seeds a new generator with a value drawn from this one, so all the streams split from a
+ * generator are determined by its seed. As the LXM generators derive both the additive parameter
+ * and the initial state from the seed, the streams are statistically independent.
+ *
+ * <p>This generator is not thread-safe: each thread must use its own stream, e.g. by installing
+ * them in a {@link ThreadLocalRandomGenerator} ({@link
+ * ThreadLocalRandomGenerator#ThreadLocalRandomGenerator(SplittableRandomGenerator)}), or with
+ * {@link ThreadLocalRandomGenerator#setCurrentGenerator(PseudoRandomGenerator)} when each thread
+ * (e.g. an island) must get the same stream in every execution.
+ *
+ * <p>All the numbers are obtained from {@code nextLong()}, and the generator is serialized as its
+ * seed and the count of values drawn, which are skipped when it is deserialized.
+ */
+@SuppressWarnings("serial")
+public class SplittableRandomGenerator implements PseudoRandomGenerator {
+  public static final String DEFAULT_ALGORITHM = "L64X128MixRandom";
+  private static final String NAME = "SplittableRandomGenerator";
+
+  private final String algorithm;
+  private long seed;
+  private long numberOfDrawnValues;
+  private transient RandomGenerator generator;
+
+  /** Constructor */
+  public SplittableRandomGenerator() {
+    this(System.currentTimeMillis());
+  }
+
+  /** Constructor */
+  public SplittableRandomGenerator(long seed) {
+    this(DEFAULT_ALGORITHM, seed);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param algorithm Name of a generator of {@code java.util.random}, e.g. "L64X256MixRandom"
+   * @param seed Seed
+   */
+  public SplittableRandomGenerator(String algorithm, long seed) {
+    Check.notNull(algorithm);
+    this.algorithm = algorithm;
+    setSeed(seed);
+  }
+
+  /** Returns a new generator, seeded with the next value of this one */
+  public SplittableRandomGenerator split() {
+    return new SplittableRandomGenerator(algorithm, nextLong());
+  }
+
+  /** Returns a list of generators obtained by splitting this one */
+  public List<PseudoRandomGenerator> split(int numberOfStreams) {
+    Check.that(numberOfStreams >= 0, "The number of streams is negative: " + numberOfStreams);
+    List<PseudoRandomGenerator> streams = new ArrayList<>(numberOfStreams);
+    for (int i = 0; i < numberOfStreams; i++) {
+      streams.add(split());
+    }
+
+    return streams;
+  }
+
+  @Override
+  public int nextInt(int lowerBound, int upperBound) {
+    long range = (long) upperBound - lowerBound + 1;
+    Check.that(range > 0, "The upper bound is lower than the lower bound");
+
+    long bits = nextLong() >>> 1;
+    long value = bits % range;
+    while (bits - value + (range - 1) < 0) {
+      bits = nextLong() >>> 1;
+      value = bits % range;
+    }
+
+    return (int) (lowerBound + value);
+  }
+
+  @Override
+  public double nextDouble(double lowerBound, double upperBound) {
+    return lowerBound + nextDouble() * (upperBound - lowerBound);
+  }
+
+  @Override
+  public double nextDouble() {
+    return (nextLong() >>> 11) * 0x1.0p-53;
+  }
+
+  @Override
+  public void setSeed(long seed) {
+    this.seed = seed;
+    this.numberOfDrawnValues = 0;
+    this.generator = createGenerator(algorithm, seed);
+  }
+
+  /** Seed of this generator or, for a split stream, the value drawn to create it */
+  @Override
+  public long getSeed() {
+    return seed;
+  }
+
+  @Override
+  public String getName() {
+    return NAME + "(" + algorithm + ")";
+  }
+
+  private long nextLong() {
+    numberOfDrawnValues++;
+
+    return generator.nextLong();
+  }
+
+  private static RandomGenerator createGenerator(String algorithm, long seed) {
+    try {
+      return RandomGeneratorFactory.of(algorithm).create(seed);
+    } catch (IllegalArgumentException exception) {
+      throw new JMetalException("Random generator not available: " + algorithm);
+    }
+  }
+
+  private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+    stream.defaultReadObject();
+    generator = createGenerator(algorithm, seed);
+    for (long i = 0; i < numberOfDrawnValues; i++) {
+      generator.nextLong();
+    }
+  }
+}
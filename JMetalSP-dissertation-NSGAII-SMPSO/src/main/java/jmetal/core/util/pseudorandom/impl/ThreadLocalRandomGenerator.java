@@ -0,0 +1,113 @@
+package jmetal.core.util.pseudorandom.impl;
+
+import java.util.function.Supplier;
+import jmetal.core.util.errorchecking.Check;
+import jmetal.core.util.pseudorandom.JMetalRandom;
+import jmetal.core.util.pseudorandom.PseudoRandomGenerator;
+
+/**
+ * Pseudo-random generator that keeps an independent generator per thread, created with a given
+ * factory. Setting the seed only affects the generator of the calling thread, so when this
+ * generator is installed in {@link jmetal.core.util.pseudorandom.JMetalRandom} several algorithms
+ * can run at the same time in different threads, each of them producing the same results as if it
+ * were run alone with the same seed.
+ */
+@SuppressWarnings("serial")
+public class ThreadLocalRandomGenerator implements PseudoRandomGenerator {
+  private static final String NAME = "ThreadLocalRandomGenerator";
+
+  private final transient ThreadLocal<PseudoRandomGenerator> generator;
+  private final String generatorName;
+
+  /** Constructor. Each thread uses a {@link JavaRandomGenerator} */
+  public ThreadLocalRandomGenerator() {
+    this(JavaRandomGenerator::new);
+  }
+
+  /**
+   * Constructor. The generator of each thread is split from the given one the first time the
+   * thread uses it, so all the threads get independent streams derived from its seed. The stream
+   * of a thread depends on the order in which the threads start using the generator, so threads
+   * needing the same stream in every execution must set it with {@link
+   * #setCurrentGenerator(PseudoRandomGenerator)}
+   */
+  public ThreadLocalRandomGenerator(SplittableRandomGenerator masterGenerator) {
+    this(splitting(masterGenerator));
+  }
+
+  /** Constructor */
+  public ThreadLocalRandomGenerator(Supplier<PseudoRandomGenerator> generatorFactory) {
+    Check.notNull(generatorFactory);
+    this.generator = ThreadLocal.withInitial(generatorFactory);
+    this.generatorName = generator.get().getName();
+  }
+
+  private static Supplier<PseudoRandomGenerator> splitting(SplittableRandomGenerator generator) {
+    Check.notNull(generator);
+
+    return () -> {
+      synchronized (generator) {
+        return generator.split();
+      }
+    };
+  }
+
+  /**
+   * Returns the generator of {@link JMetalRandom} if it is a {@link ThreadLocalRandomGenerator},
+   * installing a new one otherwise
+   */
+  public static ThreadLocalRandomGenerator installInJMetalRandom() {
+    JMetalRandom random = JMetalRandom.getInstance();
+    synchronized (random) {
+      if (!(random.getRandomGenerator() instanceof ThreadLocalRandomGenerator)) {
+        random.setRandomGenerator(new ThreadLocalRandomGenerator());
+      }
+
+      return (ThreadLocalRandomGenerator) random.getRandomGenerator();
+    }
+  }
+
+  /** Returns the generator of the calling thread */
+  public PseudoRandomGenerator currentGenerator() {
+    return generator.get();
+  }
+
+  /**
+   * Replaces the generator of the calling thread, e.g. with one restored from a checkpoint so that
+   * a resumed run continues the same sequence of numbers
+   */
+  public void setCurrentGenerator(PseudoRandomGenerator currentGenerator) {
+    Check.notNull(currentGenerator);
+    generator.set(currentGenerator);
+  }
+
+  @Override
+  public int nextInt(int lowerBound, int upperBound) {
+    return generator.get().nextInt(lowerBound, upperBound);
+  }
+
+  @Override
+  public double nextDouble(double lowerBound, double upperBound) {
+    return generator.get().nextDouble(lowerBound, upperBound);
+  }
+
+  @Override
+  public double nextDouble() {
+    return generator.get().nextDouble();
+  }
+
+  @Override
+  public void setSeed(long seed) {
+    generator.get().setSeed(seed);
+  }
+
+  @Override
+  public long getSeed() {
+    return generator.get().getSeed();
+  }
+
+  @Override
+  public String getName() {
+    return NAME + "(" + generatorName + ")";
+  }
+}
@@ -0,0 +1,30 @@
+package jmetal.core.util.ranking;
+
+import java.util.Comparator;
+import jmetal.core.solution.Solution;
+import jmetal.core.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+import jmetal.core.util.ranking.impl.AutomaticNonDominatedSortRanking;
+import jmetal.core.util.ranking.impl.FastNonDominatedSortRanking;
+
+/**
+ * Creates the {@link Ranking} objects used by the algorithms. With the default dominance relation,
+ * an {@link AutomaticNonDominatedSortRanking} is returned, which picks the most efficient
+ * non-dominated sorting algorithm for the number of solutions and objectives; other dominance
+ * comparators (e.g., constraint or preference based ones) require the comparator based {@link
+ * FastNonDominatedSortRanking}.
+ */
+public class RankingFactory {
+  private RankingFactory() {
+  }
+
+  public static <S extends Solution<?>> Ranking<S> create() {
+    return new AutomaticNonDominatedSortRanking<>();
+  }
+
+  public static <S extends Solution<?>> Ranking<S> create(Comparator<S> dominanceComparator) {
+    if (dominanceComparator == null || dominanceComparator.getClass() == DefaultDominanceComparator.class) {
+      return create();
+    }
+    return new FastNonDominatedSortRanking<>(dominanceComparator);
+  }
+}
@@ -0,0 +1,132 @@
+package jmetal.core.util.ranking.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import jmetal.core.solution.Solution;
+import jmetal.core.util.errorchecking.Check;
+import jmetal.core.util.ranking.Ranking;
+import ru.ifmo.nds.JensenFortinBuzdalov;
+import ru.ifmo.nds.NonDominatedSorting;
+
+/**
+ * Non-dominated sorting ranking that chooses the sorting algorithm each time it is computed,
+ * according to the number of solutions (N) and objectives (M):
+ *
+ * <ul>
+ *   <li>M = 1 or N &lt; {@link #SMALL_POPULATION_SIZE}: {@link FastNonDominatedSortRanking}, whose
+ *       O(MN<sup>2</sup>) cost is negligible for such sizes
+ *   <li>M &ge; {@link #MANY_OBJECTIVES} and N &le; {@link #MERGE_SORT_MAX_POPULATION_SIZE}: {@link
+ *       MergeNonDominatedSortRanking} (set intersection based merge non-dominated sort)
+ *   <li>Otherwise: the Jensen-Fortin-Buzdalov divide and conquer algorithm with an ENS hybrid from
+ *       the non-dominated sorting library, working on the {@code double[]} objective arrays
+ * </ul>
+ *
+ * <p>The result is the same as the one of {@link FastNonDominatedSortRanking} with the default
+ * dominance comparator (objectives only), and the rank is stored in the same attribute, so both
+ * classes can be used interchangeably (e.g., a {@link
+ * jmetal.core.util.comparator.RankingAndCrowdingDistanceComparator} reads the ranks computed by
+ * either of them). Instances should be created with {@link jmetal.core.util.ranking.RankingFactory}.
+ *
+ * @param <S> Solution
+ */
+public class AutomaticNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
+  public static final int SMALL_POPULATION_SIZE = 16;
+  public static final int MANY_OBJECTIVES = 7;
+  public static final int MERGE_SORT_MAX_POPULATION_SIZE = 10000;
+
+  private final String attributeId = FastNonDominatedSortRanking.class.getName();
+  private final List<List<S>> subFronts = new ArrayList<>();
+
+  private NonDominatedSorting sortingInstance = null;
+
+  @Override
+  public Ranking<S> compute(List<S> solutionList) {
+    subFronts.clear();
+    int numberOfSolutions = solutionList.size();
+    if (numberOfSolutions == 0) {
+      return this;
+    }
+
+    int numberOfObjectives = solutionList.get(0).objectives().length;
+    if (numberOfObjectives == 1 || numberOfSolutions < SMALL_POPULATION_SIZE) {
+      copySubFronts(new FastNonDominatedSortRanking<S>().compute(solutionList));
+    } else if (numberOfObjectives >= MANY_OBJECTIVES
+        && numberOfSolutions <= MERGE_SORT_MAX_POPULATION_SIZE) {
+      Ranking<S> ranking = new MergeNonDominatedSortRanking<S>().compute(solutionList);
+      copySubFronts(ranking);
+      for (int rank = 0; rank < subFronts.size(); rank++) {
+        for (S solution : subFronts.get(rank)) {
+          solution.attributes().put(attributeId, rank);
+        }
+      }
+    } else {
+      jensenFortinBuzdalovSort(solutionList, numberOfSolutions, numberOfObjectives);
+    }
+
+    return this;
+  }
+
+  private void copySubFronts(Ranking<S> ranking) {
+    for (int rank = 0; rank < ranking.getNumberOfSubFronts(); rank++) {
+      subFronts.add(ranking.getSubFront(rank));
+    }
+  }
+
+  private void jensenFortinBuzdalovSort(List<S> solutionList, int numberOfSolutions, int numberOfObjectives) {
+    if (sortingInstance == null
+        || sortingInstance.getMaximumPoints() < numberOfSolutions
+        || sortingInstance.getMaximumDimension() < numberOfObjectives) {
+      sortingInstance = JensenFortinBuzdalov
+          .getRedBlackTreeSweepHybridENSImplementation(1)
+          .getInstance(numberOfSolutions, numberOfObjectives);
+    }
+
+    double[][] points = new double[numberOfSolutions][];
+    for (int i = 0; i < numberOfSolutions; i++) {
+      points[i] = solutionList.get(i).objectives();
+      Check.that(points[i].length == numberOfObjectives, "Solutions have different numbers of objectives");
+    }
+
+    int[] ranks = new int[numberOfSolutions];
+    sortingInstance.sort(points, ranks, numberOfSolutions);
+
+    for (int i = 0; i < numberOfSolutions; i++) {
+      S solution = solutionList.get(i);
+      solution.attributes().put(attributeId, ranks[i]);
+      while (subFronts.size() <= ranks[i]) {
+        subFronts.add(new ArrayList<>());
+      }
+      subFronts.get(ranks[i]).add(solution);
+    }
+  }
+
+  @Override
+  public List<S> getSubFront(int rank) {
+    Check.that(
+        rank < subFronts.size(),
+        "Invalid rank: " + rank + ". Max rank = " + (subFronts.size() - 1));
+
+    return subFronts.get(rank);
+  }
+
+  @Override
+  public int getNumberOfSubFronts() {
+    return subFronts.size();
+  }
+
+  @Override
+  public Integer getRank(S solution) {
+    Check.notNull(solution);
+
+    Integer result = -1;
+    if (solution.attributes().get(attributeId) != null) {
+      result = (Integer) solution.attributes().get(attributeId);
+    }
+    return result;
+  }
+
+  @Override
+  public Object getAttributedId() {
+    return attributeId;
+  }
+}
@@ -154,4 +154,8 @@ public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranki
   public Object getAttributedId() {
     return attributeId;
   }
+
+  public Comparator<S> getDominanceComparator() {
+    return dominanceComparator;
+  }
 }
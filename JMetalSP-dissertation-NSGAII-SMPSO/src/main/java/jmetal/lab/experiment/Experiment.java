@@ -28,6 +28,8 @@ public class Experiment<S extends Solution<?>, Result extends List<S>> {
 
   private int numberOfCores;
 
+  private boolean csvOutput;
+
   /** Constructor */
   public Experiment(ExperimentBuilder<S, Result> builder) {
     this.experimentName = builder.getExperimentName();
@@ -40,6 +42,7 @@ public class Experiment<S extends Solution<?>, Result extends List<S>> {
     this.numberOfCores = builder.getNumberOfCores();
     this.referenceFrontDirectory = builder.getReferenceFrontDirectory();
     this.indicatorList = builder.getIndicatorList();
+    this.csvOutput = builder.getCSVOutput();
   }
 
   /* Getters */
@@ -75,6 +78,11 @@ public class Experiment<S extends Solution<?>, Result extends List<S>> {
     return numberOfCores;
   }
 
+  /** Returns true if the fronts are also written as CSV files */
+  public boolean getCSVOutput() {
+    return csvOutput;
+  }
+
   public String getReferenceFrontDirectory() {
     return referenceFrontDirectory;
   }
@@ -23,12 +23,14 @@ public class ExperimentBuilder<S extends Solution<?>, Result extends List<S>> {
   private int independentRuns;
   private List<QualityIndicator> indicatorList ;
   private int numberOfCores ;
+  private boolean csvOutput ;
 
   public ExperimentBuilder(String experimentName) {
     this.experimentName = experimentName ;
     this.independentRuns = 1 ;
     this.numberOfCores = 1 ;
     this.referenceFrontDirectory = null ;
+    this.csvOutput = true ;
   }
 
   public ExperimentBuilder<S, Result> setAlgorithmList(List<ExperimentAlgorithm<S, Result>> algorithmList) {
@@ -86,6 +88,16 @@ public class ExperimentBuilder<S extends Solution<?>, Result extends List<S>> {
     return this ;
   }
 
+  /**
+   * The fronts of the runs are always stored as columnar binary files; this option also exports them
+   * to CSV files (VAR and FUN files), which is the default behavior
+   */
+  public ExperimentBuilder<S, Result> setCSVOutput(boolean csvOutput) {
+    this.csvOutput = csvOutput;
+
+    return this ;
+  }
+
   public Experiment<S, Result> build() {
     return new Experiment<S, Result>(this);
   }
@@ -119,6 +131,10 @@ public class ExperimentBuilder<S extends Solution<?>, Result extends List<S>> {
     return independentRuns;
   }
 
+  public boolean getCSVOutput() {
+    return csvOutput;
+  }
+
   public int getNumberOfCores() {
     return numberOfCores;
   }
@@ -1,7 +1,5 @@
 package jmetal.lab.experiment.component.impl;
 
-import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
-
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -11,19 +9,26 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.IntStream;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import jmetal.lab.experiment.Experiment;
 import jmetal.lab.experiment.component.ExperimentComponent;
 import jmetal.lab.experiment.util.ExperimentAlgorithm;
 import jmetal.lab.experiment.util.ExperimentProblem;
+import jmetal.lab.experiment.util.FrontFiles;
 import jmetal.core.qualityindicator.QualityIndicator;
 import jmetal.core.solution.Solution;
 import jmetal.core.util.JMetalLogger;
 import jmetal.core.util.NormalizeUtils;
 import jmetal.core.util.VectorUtils;
+import jmetal.core.util.errorchecking.Check;
 import jmetal.core.util.errorchecking.JMetalException;
 
 /**
@@ -32,102 +37,158 @@ import jmetal.core.util.errorchecking.JMetalException;
  * the list of indicators in obtained from the {@link ExperimentComponent #getIndicatorsList()} method.
  * Then, for every combination algorithm + problem, the indicators are applied to all the FUN files and
  * the resulting values are store in a file called as {@link QualityIndicator #getName()}, which is located
- * in the same directory of the FUN files.
+ * in the same directory of the FUN files. The indicator values are computed in parallel, and each
+ * reference front is read and normalized only once.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class ComputeQualityIndicators<S extends Solution<?>, Result extends List<S>> implements ExperimentComponent {
   private final Experiment<S, Result> experiment;
+  private int numberOfThreads;
 
   public ComputeQualityIndicators(Experiment<S, Result> experiment) {
     this.experiment = experiment;
+    this.numberOfThreads = experiment.getNumberOfCores();
+  }
+
+  /**
+   * Number of threads used to compute the indicators (by default, the number of cores of the
+   * experiment). The results do not depend on it
+   */
+  public ComputeQualityIndicators<S, Result> setNumberOfThreads(int numberOfThreads) {
+    Check.that(numberOfThreads > 0, "The number of threads must be positive: " + numberOfThreads);
+    this.numberOfThreads = numberOfThreads;
+
+    return this;
   }
 
+  /** Reference front of a problem, read and normalized once */
+  private static class NormalizedReferenceFront {
+    private final double[][] normalizedFront;
+    private final double[] minValues;
+    private final double[] maxValues;
+
+    NormalizedReferenceFront(String referenceFrontName) throws IOException {
+      double[][] referenceFront = VectorUtils.readVectors(referenceFrontName, ",");
+      normalizedFront = NormalizeUtils.normalize(referenceFront);
+      minValues = NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront);
+      maxValues = NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront);
+    }
+  }
+
+  /**
+   * Computes the indicator values of all the (indicator, algorithm, problem, run) combinations in
+   * a pool of {@link #setNumberOfThreads(int)} threads. Each task uses its own copy of the
+   * indicator, and the values are written once all of them have been computed, so the indicator
+   * files are the same as if they were computed sequentially.
+   */
   @Override
   public void run() throws IOException {
     experiment.removeDuplicatedAlgorithms();
     resetIndicatorFiles();
 
-    for (QualityIndicator indicator : experiment.getIndicatorList()) {
-      JMetalLogger.logger.info("Computing indicator: " + indicator.name());
-
-      for (ExperimentAlgorithm<?, Result> algorithm : experiment.getAlgorithmList()) {
-        String algorithmDirectory;
-        algorithmDirectory = experiment.getExperimentBaseDirectory() + "/data/" + algorithm.getAlgorithmTag();
-        for (ExperimentProblem<?> problem : experiment.getProblemList()) {
-          String problemDirectory = algorithmDirectory + "/" + problem.getTag();
-
-          String referenceFrontDirectory = experiment.getReferenceFrontDirectory();
-
-          String referenceFrontName = referenceFrontDirectory + "/" + problem.getReferenceFront();
-
-          JMetalLogger.logger.info("RF: " + referenceFrontName);
-
-          double[][] referenceFront = VectorUtils.readVectors(referenceFrontName, ",");
-          double[][] normalizedReferenceFront = NormalizeUtils.normalize(referenceFront);
-
-          indicator.referenceFront(normalizedReferenceFront);
-
-
-          //Front referenceFront = new ArrayFront(referenceFrontName, ",");
-
-          //FrontNormalizer frontNormalizer = new FrontNormalizer(referenceFront);
-          //Front normalizedReferenceFront = frontNormalizer.normalize(referenceFront);
+    List<QualityIndicator> indicators = experiment.getIndicatorList();
+    List<ExperimentAlgorithm<S, Result>> algorithms = experiment.getAlgorithmList();
+    List<ExperimentProblem<S>> problems = experiment.getProblemList();
+    int runs = experiment.getIndependentRuns();
+
+    Map<String, NormalizedReferenceFront> referenceFronts = new HashMap<>();
+    QualityIndicator[][] indicatorsPerProblem =
+        new QualityIndicator[indicators.size()][problems.size()];
+    for (int p = 0; p < problems.size(); p++) {
+      String referenceFrontName =
+          experiment.getReferenceFrontDirectory() + "/" + problems.get(p).getReferenceFront();
+      JMetalLogger.logger.info("RF: " + referenceFrontName);
+      if (!referenceFronts.containsKey(referenceFrontName)) {
+        referenceFronts.put(referenceFrontName, new NormalizedReferenceFront(referenceFrontName));
+      }
+      NormalizedReferenceFront referenceFront = referenceFronts.get(referenceFrontName);
 
-          String qualityIndicatorFile = problemDirectory + "/" + indicator.name();
+      for (int i = 0; i < indicators.size(); i++) {
+        indicatorsPerProblem[i][p] = indicators.get(i).copy();
+        indicatorsPerProblem[i][p].referenceFront(referenceFront.normalizedFront);
+      }
+    }
 
-          //indicator.setReferenceParetoFront(normalizedReferenceFront);
-
-          double[] indicatorValues = new double[experiment.getIndependentRuns()];
-          IntStream.range(0, experiment.getIndependentRuns()).forEach(run -> {
-            String frontFileName = problemDirectory + "/" +
-                    experiment.getOutputParetoFrontFileName() + run + ".csv";
-            double[][] front = new double[0][];
-            try {
-              front = VectorUtils.readVectors(frontFileName,",");
-            } catch (IOException e) {
-              e.printStackTrace();
+    double[][][][] indicatorValues =
+        new double[indicators.size()][algorithms.size()][problems.size()][runs];
+    ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+    try {
+      List<Future<?>> tasks = new ArrayList<>();
+      for (int i = 0; i < indicators.size(); i++) {
+        for (int a = 0; a < algorithms.size(); a++) {
+          for (int p = 0; p < problems.size(); p++) {
+            String problemDirectory = experiment.getExperimentBaseDirectory() + "/data/"
+                + algorithms.get(a).getAlgorithmTag() + "/" + problems.get(p).getTag();
+            NormalizedReferenceFront referenceFront = referenceFronts.get(
+                experiment.getReferenceFrontDirectory() + "/" + problems.get(p).getReferenceFront());
+            for (int run = 0; run < runs; run++) {
+              String frontFileName =
+                  problemDirectory + "/" + experiment.getOutputParetoFrontFileName() + run;
+              QualityIndicator indicator = indicatorsPerProblem[i][p];
+              double[] values = indicatorValues[i][a][p];
+              int runId = run;
+              tasks.add(executor.submit(() -> {
+                values[runId] = computeIndicator(indicator.copy(), frontFileName, referenceFront);
+              }));
             }
-
-            double[][] normalizedFront =
-                    NormalizeUtils.normalize(
-                            front,
-                            NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront),
-                            NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront));
-            Double indicatorValue = indicator.compute(normalizedFront);
-            JMetalLogger.logger.info(indicator.name() + ": " + indicatorValue);
-            indicatorValues[run] = indicatorValue;
-          });
-
-          for (double indicatorValue : indicatorValues) {
-            writeQualityIndicatorValueToFile(indicatorValue, qualityIndicatorFile);
           }
+        }
+      }
 
-          /*
-          for (int run = 0; run < experiment.getIndependentRuns(); run++) {
-            String frontFileName = problemDirectory + "/" +
-                experiment.getOutputParetoFrontFileName() + run + ".csv";
-
-            Front front = new ArrayFront(frontFileName, ",");
-            Front normalizedFront = frontNormalizer.normalize(front);
-            List<PointSolution> normalizedPopulation = FrontUtils.convertFrontToSolutionList(normalizedFront);
-            Double indicatorValue = (Double) indicator.evaluate((List<S>) normalizedPopulation);
-            JMetalLogger.logger.info(indicator.getName() + ": " + indicatorValue);
+      for (Future<?> task : tasks) {
+        task.get();
+      }
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("The computation of the indicators has been interrupted");
+    } catch (ExecutionException exception) {
+      throw new JMetalException("Error computing the indicators: " + exception.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
 
-            writeQualityIndicatorValueToFile(indicatorValue, qualityIndicatorFile);
-          }
-           */
+    for (int i = 0; i < indicators.size(); i++) {
+      for (int a = 0; a < algorithms.size(); a++) {
+        for (int p = 0; p < problems.size(); p++) {
+          String qualityIndicatorFile = experiment.getExperimentBaseDirectory() + "/data/"
+              + algorithms.get(a).getAlgorithmTag() + "/" + problems.get(p).getTag() + "/"
+              + indicators.get(i).name();
+          writeQualityIndicatorValuesToFile(indicatorValues[i][a][p], qualityIndicatorFile);
         }
       }
     }
+
     findBestIndicatorFronts(experiment);
     writeSummaryFile(experiment);
   }
 
-  private void writeQualityIndicatorValueToFile(Double indicatorValue, String qualityIndicatorFile) {
+  private double computeIndicator(
+      QualityIndicator indicator, String frontFileName, NormalizedReferenceFront referenceFront) {
+    double[][] front = new double[0][];
+    try {
+      front = FrontFiles.readObjectives(frontFileName);
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
+
+    double[][] normalizedFront =
+        NormalizeUtils.normalize(front, referenceFront.minValues, referenceFront.maxValues);
+    double indicatorValue = indicator.compute(normalizedFront);
+    JMetalLogger.logger.info(indicator.name() + " (" + frontFileName + "): " + indicatorValue);
+
+    return indicatorValue;
+  }
+
+  private void writeQualityIndicatorValuesToFile(
+      double[] indicatorValues, String qualityIndicatorFile) {
+    StringBuilder content = new StringBuilder();
+    for (double indicatorValue : indicatorValues) {
+      content.append(indicatorValue).append("\n");
+    }
 
     try (FileWriter os = new FileWriter(qualityIndicatorFile, true)) {
-      os.write("" + indicatorValue + "\n");
+      os.write(content.toString());
     } catch (IOException ex) {
       throw new JMetalException("Error writing indicator file" + ex);
     }
@@ -167,32 +228,24 @@ public class ComputeQualityIndicators<S extends Solution<?>, Result extends List
           bestVarFileName = outputDirectory + "/BEST_" + indicator.name() + "_VAR.csv";
           medianFunFileName = outputDirectory + "/MEDIAN_" + indicator.name() + "_FUN.csv";
           medianVarFileName = outputDirectory + "/MEDIAN_" + indicator.name() + "_VAR.csv";
-          if (indicator.isTheLowerTheIndicatorValueTheBetter()) {
-            String bestFunFile = outputDirectory + "/" +
-                    experiment.getOutputParetoFrontFileName() + list.get(0).getRight() + ".csv";
-            String bestVarFile = outputDirectory + "/" +
-                    experiment.getOutputParetoSetFileName() + list.get(0).getRight() + ".csv";
-
-            Files.copy(Paths.get(bestFunFile), Paths.get(bestFunFileName), REPLACE_EXISTING);
-            Files.copy(Paths.get(bestVarFile), Paths.get(bestVarFileName), REPLACE_EXISTING);
-          } else {
-            String bestFunFile = outputDirectory + "/" +
-                    experiment.getOutputParetoFrontFileName() + list.get(list.size() - 1).getRight() + ".csv";
-            String bestVarFile = outputDirectory + "/" +
-                    experiment.getOutputParetoSetFileName() + list.get(list.size() - 1).getRight() + ".csv";
-
-            Files.copy(Paths.get(bestFunFile), Paths.get(bestFunFileName), REPLACE_EXISTING);
-            Files.copy(Paths.get(bestVarFile), Paths.get(bestVarFileName), REPLACE_EXISTING);
-          }
+          int bestIndex =
+              indicator.isTheLowerTheIndicatorValueTheBetter() ? 0 : list.size() - 1;
+          String bestFunFile = outputDirectory + "/" +
+                  experiment.getOutputParetoFrontFileName() + list.get(bestIndex).getRight();
+          String bestVarFile = outputDirectory + "/" +
+                  experiment.getOutputParetoSetFileName() + list.get(bestIndex).getRight();
+
+          FrontFiles.copyObjectivesToCSV(bestFunFile, bestFunFileName);
+          FrontFiles.copyVariablesToCSV(bestFunFile, bestVarFile, bestVarFileName);
 
           int medianIndex = list.size() / 2;
           String medianFunFile = outputDirectory + "/" +
-                  experiment.getOutputParetoFrontFileName() + list.get(medianIndex).getRight() + ".csv";
+                  experiment.getOutputParetoFrontFileName() + list.get(medianIndex).getRight();
           String medianVarFile = outputDirectory + "/" +
-                  experiment.getOutputParetoSetFileName() + list.get(medianIndex).getRight() + ".csv";
+                  experiment.getOutputParetoSetFileName() + list.get(medianIndex).getRight();
 
-          Files.copy(Paths.get(medianFunFile), Paths.get(medianFunFileName), REPLACE_EXISTING);
-          Files.copy(Paths.get(medianVarFile), Paths.get(medianVarFileName), REPLACE_EXISTING);
+          FrontFiles.copyObjectivesToCSV(medianFunFile, medianFunFileName);
+          FrontFiles.copyVariablesToCSV(medianFunFile, medianVarFile, medianVarFileName);
         }
       }
     }
@@ -1,65 +1,172 @@
 package jmetal.lab.experiment.component.impl;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import jmetal.lab.experiment.Experiment;
-import jmetal.lab.experiment.component.ExperimentComponent;
-import jmetal.lab.experiment.util.ExperimentAlgorithm;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import jmetal.core.algorithm.Algorithm;
+import jmetal.core.algorithm.Checkpointable;
 import jmetal.core.solution.Solution;
 import jmetal.core.util.JMetalLogger;
+import jmetal.core.util.errorchecking.Check;
 import jmetal.core.util.errorchecking.JMetalException;
+import jmetal.core.util.observable.Observable;
+import jmetal.core.util.observable.ObservableEntity;
+import jmetal.core.util.observer.Observer;
+import jmetal.core.util.pseudorandom.JMetalRandom;
+import jmetal.core.util.pseudorandom.PseudoRandomGenerator;
+import jmetal.core.util.pseudorandom.impl.ThreadLocalRandomGenerator;
+import jmetal.lab.experiment.Experiment;
+import jmetal.lab.experiment.component.ExperimentComponent;
+import jmetal.lab.experiment.util.ExperimentAlgorithm;
+import jmetal.lab.experiment.util.FrontFiles;
 
 /**
  * This class executes the algorithms the have been configured with a instance of class {@link
- * Experiment}. Java 8 parallel streams are used to run the algorithms in parallel.
+ * Experiment}. The runs are executed in a work-stealing pool with {@link
+ * Experiment#getNumberOfCores()} threads; a dispatcher submits a pending run each time another one
+ * finishes, as long as the number of runs of its problem being executed is below the limit of the
+ * problem (by default, there is no limit).
  *
- * <p>The result of the execution is a pair of files FUNrunId.tsv and VARrunID.tsv per
+ * <p>The result of the execution is a columnar front file FUNrunId.bin and, if
+ * {@link Experiment#getCSVOutput()} is set, a pair of files FUNrunId.csv and VARrunID.csv per
  * jmetal.experiment, which are stored in the directory {@link Experiment
- * #getExperimentBaseDirectory()}/algorithmName/problemName.
+ * #getExperimentBaseDirectory()}/data/algorithmName/problemName. A run is finished when its FUN file
+ * exists; the runs that fail are executed again up to {@link #setMaxRetries(int)} times in total,
+ * from their last checkpoint if they have one and from the beginning otherwise. A retry whose
+ * checkpoint exists but cannot be restored is given up, as the algorithm would continue from the
+ * state in which it failed.
+ *
+ * <p>Each run uses its own random generator (a {@link ThreadLocalRandomGenerator} is installed in
+ * {@link JMetalRandom} during the execution), whose seed is computed from a base seed and the tags
+ * and run id of the run, so the results do not depend on the number of cores. The algorithms that
+ * are {@link Checkpointable} and {@link ObservableEntity} save their state and the state of their
+ * random generator periodically in the directory
+ * {@link Experiment#getExperimentBaseDirectory()}/checkpoints/algorithmName/problemName; if a run
+ * is interrupted (the run fails or the process is killed), it is resumed from its last checkpoint
+ * the next time it is executed. The checkpoints store the seed of the run, so they are only
+ * restored if the base seed has not changed. The checkpoint of a run is removed when the run
+ * finishes.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class ExecuteAlgorithms<S extends Solution<?>, Result extends List<S>>
     implements ExperimentComponent {
+  private static final long DEFAULT_CHECKPOINT_INTERVAL = 60000;
+  private static final long DEFAULT_PROGRESS_REPORT_INTERVAL = 60000;
+  public static final long DEFAULT_SEED = 1234567890L;
+
   private Experiment<S, Result> experiment;
 
+  private int maxRetries = 5;
+  private long seed = DEFAULT_SEED;
+  private long checkpointInterval = DEFAULT_CHECKPOINT_INTERVAL;
+  private long progressReportInterval = DEFAULT_PROGRESS_REPORT_INTERVAL;
+  private int defaultMaximumConcurrentRunsPerProblem = Integer.MAX_VALUE;
+  private final Map<String, Integer> maximumConcurrentRunsPerProblem = new HashMap<>();
+
+  private ThreadLocalRandomGenerator randomGenerator;
+  private final AtomicInteger resumedRuns = new AtomicInteger();
+  private final Set<ExperimentAlgorithm<?, ?>> givenUpRuns = ConcurrentHashMap.newKeySet();
+
   /** Constructor */
   public ExecuteAlgorithms(Experiment<S, Result> configuration) {
     this.experiment = configuration;
   }
 
+  /** Number of times a run is executed before giving it up (default value: 5) */
+  public ExecuteAlgorithms<S, Result> setMaxRetries(int maxRetries) {
+    Check.that(maxRetries > 0, "The number of retries must be positive: " + maxRetries);
+    this.maxRetries = maxRetries;
+
+    return this;
+  }
+
+  /** Base seed used to compute the seed of each run (default value: {@link #DEFAULT_SEED}) */
+  public ExecuteAlgorithms<S, Result> setSeed(long seed) {
+    this.seed = seed;
+
+    return this;
+  }
+
+  /**
+   * Minimum time in milliseconds between two checkpoints of a run (default value: 60 s). A value
+   * of 0 saves a checkpoint each time the algorithm notifies its observers, and a negative value
+   * disables the checkpoints
+   */
+  public ExecuteAlgorithms<S, Result> setCheckpointInterval(long checkpointInterval) {
+    this.checkpointInterval = checkpointInterval;
+
+    return this;
+  }
+
+  /** Time in milliseconds between two progress reports (default value: 60 s) */
+  public ExecuteAlgorithms<S, Result> setProgressReportInterval(long progressReportInterval) {
+    Check.that(progressReportInterval > 0,
+        "The progress report interval must be positive: " + progressReportInterval);
+    this.progressReportInterval = progressReportInterval;
+
+    return this;
+  }
+
+  /** Maximum number of runs of a same problem that are executed at the same time */
+  public ExecuteAlgorithms<S, Result> setMaximumConcurrentRunsPerProblem(int maximumRuns) {
+    Check.that(maximumRuns > 0, "The maximum number of runs must be positive: " + maximumRuns);
+    this.defaultMaximumConcurrentRunsPerProblem = maximumRuns;
+
+    return this;
+  }
+
+  /**
+   * Maximum number of runs of a given problem that are executed at the same time, e.g. to avoid
+   * running out of memory with problems that are expensive in terms of memory
+   */
+  public ExecuteAlgorithms<S, Result> setMaximumConcurrentRunsPerProblem(
+      String problemTag, int maximumRuns) {
+    Check.notNull(problemTag);
+    Check.that(maximumRuns > 0, "The maximum number of runs must be positive: " + maximumRuns);
+    this.maximumConcurrentRunsPerProblem.put(problemTag, maximumRuns);
+
+    return this;
+  }
+
   @Override
   public void run() {
     JMetalLogger.logger.info("ExecuteAlgorithms: Preparing output directory");
     prepareOutputDirectory();
 
-    System.setProperty(
-        "java.util.concurrent.ForkJoinPool.common.parallelism",
-        "" + this.experiment.getNumberOfCores());
-
-    int retryCounter = 0 ;
-    int maxRetries = 5 ;
-    boolean computationNotFinished = true ;
+    List<ExperimentAlgorithm<?, ?>> unfinishedAlgorithmList = checkTaskStatus();
+    JMetalLogger.logger.info(
+        "ExecuteAlgorithms: there are " + unfinishedAlgorithmList.size() + " runs pending");
 
-    while (computationNotFinished && (retryCounter < maxRetries)) {
-      List<ExperimentAlgorithm<?, ?>> unfinishedAlgorithmList = checkTaskStatus() ;
-      if (unfinishedAlgorithmList.size() == 0) {
-        computationNotFinished = false ;
-      } else {
-        JMetalLogger.logger.info(
-            "ExecuteAlgorithms: there are " + unfinishedAlgorithmList.size() + " runs pending");
-        unfinishedAlgorithmList
-            .parallelStream()
-            .forEach(algorithm -> algorithm.runAlgorithm(experiment));
-        retryCounter++;
-      }
-    }
+    int failedRuns = execute(unfinishedAlgorithmList);
 
-    if (computationNotFinished) {
-      JMetalLogger.logger.severe("There are unfinished tasks after " + maxRetries + " tries");
+    if (failedRuns > 0) {
+      JMetalLogger.logger.severe(
+          "There are " + failedRuns + " unfinished tasks (each run is tried up to " + maxRetries
+              + " times, and a retry is given up if its checkpoint cannot be restored)");
     } else {
-      JMetalLogger.logger.info("Algorithm runs finished. Number of tries: " + retryCounter);
+      JMetalLogger.logger.info("Algorithm runs finished");
     }
   }
 
@@ -67,26 +174,290 @@ public class ExecuteAlgorithms<S extends Solution<?>, Result extends List<S>>
     List<ExperimentAlgorithm<?, ?>> unfinishedAlgorithmList = new LinkedList<>();
 
     for (ExperimentAlgorithm<?, ?> algorithm : experiment.getAlgorithmList()) {
-      String resultFileName =
-          experiment.getExperimentBaseDirectory()
-              + "/data/"
-              + algorithm.getAlgorithmTag()
-              + "/"
-              + algorithm.getProblemTag()
-              + "/" + experiment.getOutputParetoFrontFileName()
-              + algorithm.getRunId()
-              + ".csv";
-      File file = new File(resultFileName);
-      if (!file.exists()) {
+      String resultFileName = resultFileName(algorithm);
+      if (!FrontFiles.exists(resultFileName)) {
         unfinishedAlgorithmList.add(algorithm);
-        System.out.println(resultFileName + ". Status: " + file.exists());
+        System.out.println(resultFileName + ". Status: false");
       }
     }
     return unfinishedAlgorithmList;
   }
 
   public void runMissingExecutions(List<ExperimentAlgorithm<?, ?>> experimentAlgorithms) {
-    experimentAlgorithms.parallelStream().forEach(algorithm -> algorithm.runAlgorithm(experiment));
+    execute(experimentAlgorithms);
+  }
+
+  /** Executes the runs and returns the number of them that have not finished */
+  private int execute(List<ExperimentAlgorithm<?, ?>> experimentAlgorithms) {
+    if (experimentAlgorithms.isEmpty()) {
+      return 0;
+    }
+
+    PseudoRandomGenerator previousGenerator = JMetalRandom.getInstance().getRandomGenerator();
+    randomGenerator = new ThreadLocalRandomGenerator();
+    JMetalRandom.getInstance().setRandomGenerator(randomGenerator);
+    resumedRuns.set(0);
+    givenUpRuns.clear();
+
+    ExecutorService executor = Executors.newWorkStealingPool(experiment.getNumberOfCores());
+    CompletionService<ExperimentAlgorithm<?, ?>> completionService =
+        new ExecutorCompletionService<>(executor);
+
+    LinkedList<ExperimentAlgorithm<?, ?>> pendingRuns = new LinkedList<>(experimentAlgorithms);
+    Map<String, Integer> runningRunsPerProblem = new HashMap<>();
+    Map<ExperimentAlgorithm<?, ?>, Integer> attempts = new HashMap<>();
+    int totalRuns = experimentAlgorithms.size();
+    int runningRuns = 0;
+    int finishedRuns = 0;
+    int failedRuns = 0;
+    long initTime = System.currentTimeMillis();
+    long lastReportTime = initTime;
+
+    try {
+      while (!pendingRuns.isEmpty() || runningRuns > 0) {
+        Iterator<ExperimentAlgorithm<?, ?>> iterator = pendingRuns.iterator();
+        while (runningRuns < experiment.getNumberOfCores() && iterator.hasNext()) {
+          ExperimentAlgorithm<?, ?> run = iterator.next();
+          String problemTag = run.getProblemTag();
+          int runningRunsOfProblem = runningRunsPerProblem.getOrDefault(problemTag, 0);
+          if (runningRunsOfProblem < maximumConcurrentRuns(problemTag)) {
+            iterator.remove();
+            runningRunsPerProblem.put(problemTag, runningRunsOfProblem + 1);
+            boolean isRetry = attempts.merge(run, 1, Integer::sum) > 1;
+            completionService.submit(() -> executeRun(run, isRetry), run);
+            runningRuns++;
+          }
+        }
+
+        Future<ExperimentAlgorithm<?, ?>> future =
+            completionService.poll(progressReportInterval, TimeUnit.MILLISECONDS);
+        if (future != null) {
+          ExperimentAlgorithm<?, ?> run = future.get();
+          runningRuns--;
+          runningRunsPerProblem.merge(run.getProblemTag(), -1, Integer::sum);
+
+          if (FrontFiles.exists(resultFileName(run))) {
+            finishedRuns++;
+          } else if (givenUpRuns.contains(run)) {
+            JMetalLogger.logger.severe(
+                "ExecuteAlgorithms: " + run.getAlgorithmTag() + ", " + run.getProblemTag()
+                    + ", run " + run.getRunId() + " is given up, as its checkpoint cannot be"
+                    + " restored");
+            failedRuns++;
+          } else if (attempts.get(run) < maxRetries) {
+            JMetalLogger.logger.warning(
+                "ExecuteAlgorithms: retrying " + run.getAlgorithmTag() + ", "
+                    + run.getProblemTag() + ", run " + run.getRunId());
+            pendingRuns.addFirst(run);
+          } else {
+            failedRuns++;
+          }
+        }
+
+        if (System.currentTimeMillis() - lastReportTime >= progressReportInterval) {
+          reportProgress(totalRuns, finishedRuns, failedRuns, runningRuns, initTime);
+          lastReportTime = System.currentTimeMillis();
+        }
+      }
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("The execution of the algorithms has been interrupted");
+    } catch (ExecutionException exception) {
+      throw new JMetalException("Error executing the algorithms: " + exception.getCause());
+    } finally {
+      executor.shutdownNow();
+      JMetalLogger.logger.info("ExecuteAlgorithms: number of runs resumed: " + resumedRuns.get());
+      JMetalRandom.getInstance().setRandomGenerator(previousGenerator);
+    }
+
+    return failedRuns;
+  }
+
+  private int maximumConcurrentRuns(String problemTag) {
+    return maximumConcurrentRunsPerProblem.getOrDefault(
+        problemTag, defaultMaximumConcurrentRunsPerProblem);
+  }
+
+  private void reportProgress(
+      int totalRuns, int finishedRuns, int failedRuns, int runningRuns, long initTime) {
+    long elapsedTime = System.currentTimeMillis() - initTime;
+    String estimatedTime = "unknown";
+    if (finishedRuns > 0) {
+      long remainingTime =
+          elapsedTime * (totalRuns - finishedRuns - failedRuns) / finishedRuns;
+      estimatedTime = remainingTime / 1000 + " s";
+    }
+
+    JMetalLogger.logger.info(
+        "ExecuteAlgorithms: "
+            + finishedRuns + "/" + totalRuns + " runs finished, "
+            + failedRuns + " failed, "
+            + runningRuns + " running, "
+            + resumedRuns.get() + " resumed. Elapsed time: "
+            + elapsedTime / 1000 + " s. Estimated remaining time: " + estimatedTime);
+  }
+
+  private boolean isCheckpointable(Algorithm<?> algorithm) {
+    return checkpointInterval >= 0
+        && algorithm instanceof Checkpointable
+        && algorithm instanceof ObservableEntity;
+  }
+
+  /**
+   * Executes a run in the calling thread, resuming it from its checkpoint if there is one. If a
+   * retry of a failed run has a checkpoint that cannot be restored, the checkpoint is removed and
+   * the run is given up
+   */
+  private void executeRun(ExperimentAlgorithm<?, ?> run, boolean isRetry) {
+    randomGenerator.setSeed(seedOf(run));
+
+    Algorithm<?> algorithm = run.getAlgorithm();
+    Path checkpointFile = checkpointFile(run);
+    Observer<Map<String, Object>> checkpointObserver = null;
+
+    if (isCheckpointable(algorithm)) {
+      if (Files.exists(checkpointFile) && restoreCheckpoint(run, checkpointFile)) {
+        resumedRuns.incrementAndGet();
+      } else if (isRetry && Files.exists(checkpointFile)) {
+        deleteCheckpoint(checkpointFile);
+        givenUpRuns.add(run);
+        return;
+      }
+      checkpointObserver =
+          new CheckpointObserver((Checkpointable) algorithm, checkpointFile, seedOf(run));
+      observableEntity(algorithm).observable().register(checkpointObserver);
+    }
+
+    try {
+      run.runAlgorithm(experiment);
+    } catch (Throwable throwable) {
+      // e.g. an OutOfMemoryError; the run is retried from its checkpoint, or from the beginning
+      // if it has none
+      JMetalLogger.logger.severe("Execution failed: " + throwable);
+    } finally {
+      if (checkpointObserver != null) {
+        observableEntity(algorithm).observable().unregister(checkpointObserver);
+      }
+    }
+
+    if (FrontFiles.exists(resultFileName(run))) {
+      deleteCheckpoint(checkpointFile);
+    }
+  }
+
+  private static void deleteCheckpoint(Path checkpointFile) {
+    try {
+      Files.deleteIfExists(checkpointFile);
+    } catch (IOException exception) {
+      JMetalLogger.logger.warning("The checkpoint " + checkpointFile + " cannot be removed");
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ObservableEntity<Map<String, Object>> observableEntity(Algorithm<?> algorithm) {
+    return (ObservableEntity<Map<String, Object>>) algorithm;
+  }
+
+  @SuppressWarnings("unchecked")
+  private boolean restoreCheckpoint(ExperimentAlgorithm<?, ?> run, Path checkpointFile) {
+    boolean restored = false;
+    try (ObjectInputStream inputStream =
+        new ObjectInputStream(Files.newInputStream(checkpointFile))) {
+      Map<String, Object> checkpoint = (Map<String, Object>) inputStream.readObject();
+      if (Long.valueOf(seedOf(run)).equals(checkpoint.get("SEED"))) {
+        ((Checkpointable) run.getAlgorithm())
+            .restore((Map<String, Object>) checkpoint.get("STATE"));
+        randomGenerator.setCurrentGenerator(
+            (PseudoRandomGenerator) checkpoint.get("RANDOM_GENERATOR"));
+        restored = true;
+        JMetalLogger.logger.info(
+            "ExecuteAlgorithms: resuming " + run.getAlgorithmTag() + ", " + run.getProblemTag()
+                + ", run " + run.getRunId() + " from " + checkpointFile);
+      } else {
+        JMetalLogger.logger.warning(
+            "The checkpoint " + checkpointFile + " has been saved with another seed. It is not"
+                + " restored");
+      }
+    } catch (IOException | ClassNotFoundException | ClassCastException exception) {
+      JMetalLogger.logger.warning(
+          "The checkpoint " + checkpointFile + " cannot be read (" + exception
+              + "). It is not restored");
+    }
+
+    return restored;
+  }
+
+  /**
+   * Observer saving the state of an algorithm and the random generator of the thread running it.
+   * It is notified in that thread, so the saved state is consistent
+   */
+  private class CheckpointObserver implements Observer<Map<String, Object>> {
+    private final Checkpointable algorithm;
+    private final Path checkpointFile;
+    private final long seed;
+    private long lastCheckpointTime;
+
+    CheckpointObserver(Checkpointable algorithm, Path checkpointFile, long seed) {
+      this.algorithm = algorithm;
+      this.checkpointFile = checkpointFile;
+      this.seed = seed;
+      this.lastCheckpointTime = System.currentTimeMillis();
+    }
+
+    @Override
+    public void update(Observable<Map<String, Object>> observable, Map<String, Object> data) {
+      if (System.currentTimeMillis() - lastCheckpointTime >= checkpointInterval) {
+        Map<String, Object> checkpoint = new HashMap<>();
+        checkpoint.put("STATE", algorithm.state());
+        checkpoint.put("RANDOM_GENERATOR", randomGenerator.currentGenerator());
+        checkpoint.put("SEED", seed);
+
+        Path temporaryFile = Paths.get(checkpointFile + ".tmp");
+        try {
+          Files.createDirectories(checkpointFile.getParent());
+          try (ObjectOutputStream outputStream =
+              new ObjectOutputStream(Files.newOutputStream(temporaryFile))) {
+            outputStream.writeObject(checkpoint);
+          }
+          try {
+            Files.move(temporaryFile, checkpointFile, StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+          } catch (AtomicMoveNotSupportedException exception) {
+            Files.move(temporaryFile, checkpointFile, StandardCopyOption.REPLACE_EXISTING);
+          }
+        } catch (IOException exception) {
+          JMetalLogger.logger.warning(
+              "The checkpoint " + checkpointFile + " cannot be written: " + exception);
+        }
+        lastCheckpointTime = System.currentTimeMillis();
+      }
+    }
+  }
+
+  private long seedOf(ExperimentAlgorithm<?, ?> run) {
+    long hash = 31L * run.getAlgorithmTag().hashCode() + run.getProblemTag().hashCode();
+    hash = 31L * hash + run.getRunId();
+
+    return seed ^ (hash * 0x9E3779B97F4A7C15L);
+  }
+
+  private String resultFileName(ExperimentAlgorithm<?, ?> algorithm) {
+    return experiment.getExperimentBaseDirectory()
+        + "/data/"
+        + algorithm.getAlgorithmTag()
+        + "/"
+        + algorithm.getProblemTag()
+        + "/" + experiment.getOutputParetoFrontFileName()
+        + algorithm.getRunId();
+  }
+
+  private Path checkpointFile(ExperimentAlgorithm<?, ?> algorithm) {
+    return Paths.get(
+        experiment.getExperimentBaseDirectory(),
+        "checkpoints",
+        algorithm.getAlgorithmTag(),
+        algorithm.getProblemTag(),
+        "CHECKPOINT" + algorithm.getRunId() + ".ser");
   }
 
   private void prepareOutputDirectory() {
@@ -9,13 +9,11 @@ import jmetal.lab.experiment.Experiment;
 import jmetal.lab.experiment.component.ExperimentComponent;
 import jmetal.lab.experiment.util.ExperimentAlgorithm;
 import jmetal.lab.experiment.util.ExperimentProblem;
+import jmetal.lab.experiment.util.FrontFiles;
 import jmetal.core.solution.pointsolution.PointSolution;
 import jmetal.core.util.JMetalLogger;
 import jmetal.core.util.archive.impl.NonDominatedSolutionListArchive;
 import jmetal.core.util.fileoutput.SolutionListOutput;
-import jmetal.core.util.legacy.front.Front;
-import jmetal.core.util.legacy.front.impl.ArrayFront;
-import jmetal.core.util.legacy.front.util.FrontUtils;
 import jmetal.core.util.solutionattribute.impl.GenericSolutionAttribute;
 
 /**
@@ -58,12 +56,12 @@ public class GenerateReferenceParetoFront implements ExperimentComponent {
 
         for (int i = 0; i < experiment.getIndependentRuns(); i++) {
           String frontFileName = problemDirectory + "/" + experiment.getOutputParetoFrontFileName() +
-              i + ".csv";
-          Front front = new ArrayFront(frontFileName, ",") ;
-          List<PointSolution> solutionList = FrontUtils.convertFrontToSolutionList(front) ;
+              i;
+          double[][] front = FrontFiles.readObjectives(frontFileName) ;
           GenericSolutionAttribute<PointSolution, String> solutionAttribute = new GenericSolutionAttribute<PointSolution, String>()  ;
 
-          for (PointSolution solution : solutionList) {
+          for (double[] point : front) {
+            PointSolution solution = new PointSolution(point) ;
             solutionAttribute.setAttribute(solution, algorithm.getAlgorithmTag());
             nonDominatedSolutionArchive.add(solution) ;
           }
@@ -1,7 +1,5 @@
 package jmetal.lab.experiment.component.impl;
 
-import static jmetal.core.util.VectorUtils.readVectors;
-
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -12,6 +10,7 @@ import jmetal.lab.experiment.Experiment;
 import jmetal.lab.experiment.component.ExperimentComponent;
 import jmetal.lab.experiment.util.ExperimentAlgorithm;
 import jmetal.lab.experiment.util.ExperimentProblem;
+import jmetal.lab.experiment.util.FrontFiles;
 import jmetal.core.problem.integerproblem.IntegerProblem;
 import jmetal.core.solution.AbstractSolution;
 import jmetal.core.solution.Solution;
@@ -155,17 +154,15 @@ public class GenerateReferenceParetoSetAndFrontFromIntegerSolutions implements E
               problemDirectory
                       + "/"
                       + experiment.getOutputParetoFrontFileName()
-                      + algorithm.getRunId()
-                      + ".csv";
+                      + algorithm.getRunId();
       String paretoSetFileName =
               problemDirectory
                       + "/"
                       + experiment.getOutputParetoSetFileName()
-                      + algorithm.getRunId()
-                      + ".csv";
+                      + algorithm.getRunId();
 
-      double[][] frontWithObjectiveValues = readVectors(frontFileName, ",");
-      double[][] frontWithVariableValues = readVectors(paretoSetFileName, ",");
+      double[][] frontWithObjectiveValues = FrontFiles.readObjectives(frontFileName);
+      double[][] frontWithVariableValues = FrontFiles.readVariables(frontFileName, paretoSetFileName);
       List<DummyIntegerSolution> solutionList =
               createSolutionListFrontFiles(
                       algorithm.getAlgorithmTag(), frontWithVariableValues, frontWithObjectiveValues);
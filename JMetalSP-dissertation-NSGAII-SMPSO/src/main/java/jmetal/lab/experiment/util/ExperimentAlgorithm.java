@@ -1,11 +1,18 @@
 package jmetal.lab.experiment.util;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
 import jmetal.core.algorithm.Algorithm;
 import jmetal.lab.experiment.Experiment;
 import jmetal.core.solution.Solution;
 import jmetal.core.util.JMetalLogger;
+import jmetal.core.util.columnarfront.ColumnarFront;
 import jmetal.core.util.fileoutput.SolutionListOutput;
 import jmetal.core.util.fileoutput.impl.DefaultFileOutputContext;
 
@@ -49,9 +56,9 @@ public class ExperimentAlgorithm<S extends Solution<?>, Result extends List<S>>
     }
 
     String funFile =
-        outputDirectoryName + "/" + experimentData.getOutputParetoFrontFileName() + runId + ".csv";
+        outputDirectoryName + "/" + experimentData.getOutputParetoFrontFileName() + runId;
     String varFile =
-        outputDirectoryName + "/" + experimentData.getOutputParetoSetFileName() + runId + ".csv";
+        outputDirectoryName + "/" + experimentData.getOutputParetoSetFileName() + runId;
     String message = " Running algorithm: "
         + algorithmTag
         + ", problem: "
@@ -66,15 +73,36 @@ public class ExperimentAlgorithm<S extends Solution<?>, Result extends List<S>>
       algorithm.run();
       Result population = algorithm.result();
 
-      new SolutionListOutput(population)
-          .setVarFileOutputContext(new DefaultFileOutputContext(varFile, ","))
-          .setFunFileOutputContext(new DefaultFileOutputContext(funFile, ","))
-          .print();
+      if (experimentData.getCSVOutput()) {
+        new SolutionListOutput(population)
+            .setVarFileOutputContext(new DefaultFileOutputContext(varFile + ".csv.tmp", ","))
+            .setFunFileOutputContext(new DefaultFileOutputContext(funFile + ".csv.tmp", ","))
+            .print();
+
+        moveAtomically(varFile + ".csv.tmp", varFile + ".csv");
+        moveAtomically(funFile + ".csv.tmp", funFile + ".csv");
+      }
+
+      // The columnar front is written last: its existence means that the run has finished
+      String columnarFrontFile = funFile + ColumnarFront.FILE_EXTENSION;
+      ColumnarFront.write(columnarFrontFile + ".tmp", population);
+      moveAtomically(columnarFrontFile + ".tmp", columnarFrontFile);
     } catch (Exception exception) {
       JMetalLogger.logger.warning("Execution failed: " + funFile + " has not been created.");
     }
   }
 
+  private static void moveAtomically(String source, String target) throws IOException {
+    Path sourcePath = Paths.get(source);
+    Path targetPath = Paths.get(target);
+    try {
+      Files.move(sourcePath, targetPath, StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException exception) {
+      Files.move(sourcePath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
   public Algorithm<Result> getAlgorithm() {
     return algorithm;
   }
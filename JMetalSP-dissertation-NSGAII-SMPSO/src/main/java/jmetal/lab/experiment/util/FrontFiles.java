@@ -0,0 +1,77 @@
+package jmetal.lab.experiment.util;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import jmetal.core.util.VectorUtils;
+import jmetal.core.util.columnarfront.ColumnarFront;
+import jmetal.core.util.errorchecking.JMetalException;
+
+/**
+ * Methods to read the fronts produced by the runs of an experiment. The names of the files are
+ * given without extension (e.g. "data/NSGAII/ZDT1/FUN0"): the {@link ColumnarFront} file (".bin")
+ * is read if it exists, and the CSV file (".csv") otherwise. The variables of a columnar front are
+ * stored in the same file as the objectives, while the CSV variables are in the VAR file.
+ */
+public class FrontFiles {
+  private static final String CSV_EXTENSION = ".csv";
+
+  private FrontFiles() {
+  }
+
+  /** Returns true if the front exists in any of the formats */
+  public static boolean exists(String frontFileName) {
+    return Files.exists(Paths.get(frontFileName + ColumnarFront.FILE_EXTENSION))
+        || Files.exists(Paths.get(frontFileName + CSV_EXTENSION));
+  }
+
+  /** Reads the objective values of a front */
+  public static double[][] readObjectives(String frontFileName) throws IOException {
+    if (Files.exists(Paths.get(frontFileName + ColumnarFront.FILE_EXTENSION))) {
+      return ColumnarFront.read(frontFileName + ColumnarFront.FILE_EXTENSION).objectives();
+    }
+
+    return VectorUtils.readVectors(frontFileName + CSV_EXTENSION, ",");
+  }
+
+  /** Reads the variable values of a front */
+  public static double[][] readVariables(String frontFileName, String setFileName)
+      throws IOException {
+    if (Files.exists(Paths.get(frontFileName + ColumnarFront.FILE_EXTENSION))) {
+      ColumnarFront front = ColumnarFront.read(frontFileName + ColumnarFront.FILE_EXTENSION);
+      if (front.numberOfVariables() > 0 || front.numberOfPoints() == 0) {
+        return front.variables();
+      }
+    }
+
+    return VectorUtils.readVectors(setFileName + CSV_EXTENSION, ",");
+  }
+
+  /** Copies the objectives of a front to a CSV file, exporting them if there is no CSV file */
+  public static void copyObjectivesToCSV(String frontFileName, String targetFileName)
+      throws IOException {
+    if (Files.exists(Paths.get(frontFileName + CSV_EXTENSION))) {
+      Files.copy(Paths.get(frontFileName + CSV_EXTENSION), Paths.get(targetFileName),
+          REPLACE_EXISTING);
+    } else {
+      ColumnarFront.read(frontFileName + ColumnarFront.FILE_EXTENSION)
+          .exportObjectivesToCSV(targetFileName, ",");
+    }
+  }
+
+  /** Copies the variables of a front to a CSV file, exporting them if there is no CSV file */
+  public static void copyVariablesToCSV(
+      String frontFileName, String setFileName, String targetFileName) throws IOException {
+    if (Files.exists(Paths.get(setFileName + CSV_EXTENSION))) {
+      Files.copy(Paths.get(setFileName + CSV_EXTENSION), Paths.get(targetFileName),
+          REPLACE_EXISTING);
+    } else if (Files.exists(Paths.get(frontFileName + ColumnarFront.FILE_EXTENSION))) {
+      ColumnarFront.read(frontFileName + ColumnarFront.FILE_EXTENSION)
+          .exportVariablesToCSV(targetFileName, ",");
+    } else {
+      throw new JMetalException("The variables of " + frontFileName + " do not exist");
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package jmetal.lab.tests.experiment.component.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import jmetal.component.algorithm.multiobjective.NSGAIIBuilder;
+import jmetal.component.catalogue.common.termination.impl.TerminationByEvaluations;
+import jmetal.core.operator.crossover.impl.SBXCrossover;
+import jmetal.core.operator.mutation.impl.PolynomialMutation;
+import jmetal.core.qualityindicator.QualityIndicator;
+import jmetal.core.qualityindicator.impl.Epsilon;
+import jmetal.core.qualityindicator.impl.GeneralizedSpread;
+import jmetal.core.qualityindicator.impl.InvertedGenerationalDistancePlus;
+import jmetal.core.qualityindicator.impl.NormalizedHypervolume;
+import jmetal.core.qualityindicator.impl.Spread;
+import jmetal.core.qualityindicator.impl.hypervolume.impl.WFGHypervolume;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.util.NormalizeUtils;
+import jmetal.core.util.VectorUtils;
+import jmetal.lab.experiment.Experiment;
+import jmetal.lab.experiment.ExperimentBuilder;
+import jmetal.lab.experiment.component.impl.ComputeQualityIndicators;
+import jmetal.lab.experiment.component.impl.ExecuteAlgorithms;
+import jmetal.lab.experiment.component.impl.GenerateReferenceParetoFront;
+import jmetal.lab.experiment.util.ExperimentAlgorithm;
+import jmetal.lab.experiment.util.ExperimentProblem;
+import jmetal.lab.experiment.util.FrontFiles;
+import jmetal.problem.multiobjective.dtlz.DTLZ2;
+import jmetal.problem.multiobjective.zdt.ZDT1;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ComputeQualityIndicatorsTest {
+  private static final int RUNS = 3;
+
+  private Path baseDirectory;
+  private Experiment<DoubleSolution, List<DoubleSolution>> experiment;
+
+  @BeforeEach
+  void setup() throws IOException {
+    baseDirectory = Files.createTempDirectory("ComputeQualityIndicatorsTest");
+
+    List<ExperimentProblem<DoubleSolution>> problems =
+        List.of(
+            new ExperimentProblem<DoubleSolution>(new ZDT1()).setReferenceFront("ZDT1.csv"),
+            new ExperimentProblem<DoubleSolution>(new DTLZ2()).setReferenceFront("DTLZ2.csv"));
+    List<ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>>> algorithms = new ArrayList<>();
+    for (ExperimentProblem<DoubleSolution> problem : problems) {
+      for (String tag : List.of("NSGAIIa", "NSGAIIb")) {
+        for (int run = 0; run < RUNS; run++) {
+          var algorithm =
+              new NSGAIIBuilder<>(
+                      problem.getProblem(),
+                      20,
+                      20,
+                      new SBXCrossover(0.9, 20.0),
+                      new PolynomialMutation(0.1, 20.0))
+                  .setTermination(new TerminationByEvaluations(tag.equals("NSGAIIa") ? 500 : 1000))
+                  .build();
+          algorithms.add(new ExperimentAlgorithm<>(algorithm, tag, problem, run));
+        }
+      }
+    }
+
+    List<QualityIndicator> indicators =
+        List.of(
+            new Epsilon(),
+            new InvertedGenerationalDistancePlus(),
+            new NormalizedHypervolume(),
+            new Spread(),
+            new GeneralizedSpread(),
+            new WFGHypervolume(new double[][] {{1.0, 1.0}}));
+
+    experiment =
+        new ExperimentBuilder<DoubleSolution, List<DoubleSolution>>("study")
+            .setAlgorithmList(algorithms)
+            .setProblemList(problems)
+            .setExperimentBaseDirectory(baseDirectory.toString())
+            .setReferenceFrontDirectory(baseDirectory.resolve("study/referenceFronts").toString())
+            .setOutputParetoFrontFileName("FUN")
+            .setOutputParetoSetFileName("VAR")
+            .setIndicatorList(indicators)
+            .setIndependentRuns(RUNS)
+            .setNumberOfCores(2)
+            .build();
+
+    new ExecuteAlgorithms<>(experiment).setSeed(1).run();
+    new GenerateReferenceParetoFront(experiment).run();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    try (Stream<Path> paths = Files.walk(baseDirectory)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  private String readIndicatorFiles() throws IOException {
+    StringBuilder content = new StringBuilder();
+    for (String algorithm : List.of("NSGAIIa", "NSGAIIb")) {
+      for (String problem : List.of("ZDT1", "DTLZ2")) {
+        for (QualityIndicator indicator : experiment.getIndicatorList()) {
+          content.append(Files.readString(
+              baseDirectory.resolve("study/data/" + algorithm + "/" + problem + "/" + indicator.name())));
+        }
+      }
+    }
+    content.append(Files.readString(baseDirectory.resolve("study/QualityIndicatorSummary.csv")));
+
+    return content.toString();
+  }
+
+  @Test
+  void shouldTheIndicatorFilesNotDependOnTheNumberOfThreads() throws IOException {
+    new ComputeQualityIndicators<>(experiment).setNumberOfThreads(1).run();
+    String sequentialResult = readIndicatorFiles();
+
+    new ComputeQualityIndicators<>(experiment).setNumberOfThreads(4).run();
+    String parallelResult = readIndicatorFiles();
+
+    assertEquals(sequentialResult, parallelResult);
+  }
+
+  @Test
+  void shouldTheIndicatorValuesBeComputedWithTheNormalizedReferenceFrontOfTheProblem()
+      throws IOException {
+    new ComputeQualityIndicators<>(experiment).setNumberOfThreads(4).run();
+
+    double[][] referenceFront =
+        VectorUtils.readVectors(baseDirectory.resolve("study/referenceFronts/DTLZ2.csv").toString(), ",");
+    Epsilon epsilon = new Epsilon(NormalizeUtils.normalize(referenceFront));
+    double[][] front =
+        FrontFiles.readObjectives(baseDirectory.resolve("study/data/NSGAIIb/DTLZ2/FUN2").toString());
+    double expectedValue =
+        epsilon.compute(
+            NormalizeUtils.normalize(
+                front,
+                NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront),
+                NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront)));
+
+    List<String> values =
+        Files.readAllLines(baseDirectory.resolve("study/data/NSGAIIb/DTLZ2/EP"));
+    assertEquals(RUNS, values.size());
+    assertEquals(expectedValue, Double.parseDouble(values.get(2)), 0.0);
+  }
+}
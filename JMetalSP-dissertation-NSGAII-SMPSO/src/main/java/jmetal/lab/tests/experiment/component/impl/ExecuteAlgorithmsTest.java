@@ -0,0 +1,240 @@
+package jmetal.lab.tests.experiment.component.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import jmetal.component.algorithm.multiobjective.NSGAIIBuilder;
+import jmetal.component.catalogue.common.termination.impl.TerminationByEvaluations;
+import jmetal.core.operator.crossover.impl.SBXCrossover;
+import jmetal.core.operator.mutation.impl.PolynomialMutation;
+import jmetal.core.problem.Problem;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.lab.experiment.Experiment;
+import jmetal.lab.experiment.ExperimentBuilder;
+import jmetal.lab.experiment.component.impl.ExecuteAlgorithms;
+import jmetal.lab.experiment.util.ExperimentAlgorithm;
+import jmetal.lab.experiment.util.ExperimentProblem;
+import jmetal.lab.experiment.util.FrontFiles;
+import jmetal.problem.multiobjective.zdt.ZDT1;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ExecuteAlgorithmsTest {
+  private Path baseDirectory;
+
+  /** ZDT1 problem failing once when a number of evaluations is reached */
+  @SuppressWarnings("serial")
+  private static class FailingZDT1 extends ZDT1 {
+    private final AtomicInteger evaluations = new AtomicInteger();
+    private final int failingEvaluation;
+    private final Runnable failureAction;
+
+    FailingZDT1(int failingEvaluation) {
+      this(failingEvaluation, () -> {});
+    }
+
+    FailingZDT1(int failingEvaluation, Runnable failureAction) {
+      this.failingEvaluation = failingEvaluation;
+      this.failureAction = failureAction;
+    }
+
+    @Override
+    public DoubleSolution evaluate(DoubleSolution solution) {
+      if (evaluations.incrementAndGet() == failingEvaluation) {
+        failureAction.run();
+        throw new RuntimeException("Simulated failure");
+      }
+      return super.evaluate(solution);
+    }
+  }
+
+  @BeforeEach
+  void setup() throws IOException {
+    baseDirectory = Files.createTempDirectory("ExecuteAlgorithmsTest");
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    try (Stream<Path> paths = Files.walk(baseDirectory)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  private Experiment<DoubleSolution, List<DoubleSolution>> experiment(
+      String name, Problem<DoubleSolution> problem, int independentRuns) {
+    ExperimentProblem<DoubleSolution> experimentProblem = new ExperimentProblem<>(problem, "ZDT1");
+
+    List<ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>>> algorithms = new ArrayList<>();
+    for (int run = 0; run < independentRuns; run++) {
+      var algorithm =
+          new NSGAIIBuilder<>(
+                  problem,
+                  20,
+                  20,
+                  new SBXCrossover(0.9, 20.0),
+                  new PolynomialMutation(1.0 / problem.numberOfVariables(), 20.0))
+              .setTermination(new TerminationByEvaluations(2000))
+              .build();
+      algorithms.add(new ExperimentAlgorithm<>(algorithm, "NSGAII", experimentProblem, run));
+    }
+
+    return new ExperimentBuilder<DoubleSolution, List<DoubleSolution>>(name)
+        .setAlgorithmList(algorithms)
+        .setProblemList(List.of(experimentProblem))
+        .setExperimentBaseDirectory(baseDirectory.toString())
+        .setOutputParetoFrontFileName("FUN")
+        .setOutputParetoSetFileName("VAR")
+        .setIndependentRuns(independentRuns)
+        .setNumberOfCores(2)
+        .build();
+  }
+
+  private String front(String name, int run) throws IOException {
+    return Files.readString(baseDirectory.resolve(name + "/data/NSGAII/ZDT1/FUN" + run + ".csv"));
+  }
+
+  @Test
+  void shouldRunTheExperimentCreateTheResultFilesAndRemoveTheCheckpoints() {
+    new ExecuteAlgorithms<>(experiment("experiment", new ZDT1(), 3))
+        .setSeed(1)
+        .setCheckpointInterval(0)
+        .setMaximumConcurrentRunsPerProblem(1)
+        .run();
+
+    Path dataDirectory = baseDirectory.resolve("experiment/data/NSGAII/ZDT1");
+    for (int run = 0; run < 3; run++) {
+      assertTrue(Files.exists(dataDirectory.resolve("FUN" + run + ".csv")));
+      assertTrue(Files.exists(dataDirectory.resolve("VAR" + run + ".csv")));
+      assertTrue(Files.exists(dataDirectory.resolve("FUN" + run + ".bin")));
+      assertFalse(Files.exists(dataDirectory.resolve("FUN" + run + ".csv.tmp")));
+      assertFalse(Files.exists(
+          baseDirectory.resolve("experiment/checkpoints/NSGAII/ZDT1/CHECKPOINT" + run + ".ser")));
+    }
+  }
+
+  @Test
+  void shouldTheResultsNotDependOnTheNumberOfConcurrentRuns() throws IOException {
+    new ExecuteAlgorithms<>(experiment("sequential", new ZDT1(), 2))
+        .setSeed(1)
+        .setMaximumConcurrentRunsPerProblem(1)
+        .run();
+    new ExecuteAlgorithms<>(experiment("parallel", new ZDT1(), 2))
+        .setSeed(1)
+        .run();
+
+    assertEquals(front("sequential", 0), front("parallel", 0));
+    assertEquals(front("sequential", 1), front("parallel", 1));
+  }
+
+  @Test
+  void shouldOnlyTheColumnarFrontsBeWrittenIfTheCSVOutputIsDisabled() throws IOException {
+    Experiment<DoubleSolution, List<DoubleSolution>> experiment =
+        experiment("columnar", new ZDT1(), 1);
+    Experiment<DoubleSolution, List<DoubleSolution>> csvExperiment =
+        experiment("csv", new ZDT1(), 1);
+    new ExecuteAlgorithms<>(
+            new ExperimentBuilder<DoubleSolution, List<DoubleSolution>>("columnar")
+                .setAlgorithmList(experiment.getAlgorithmList())
+                .setProblemList(experiment.getProblemList())
+                .setExperimentBaseDirectory(baseDirectory.toString())
+                .setOutputParetoFrontFileName("FUN")
+                .setOutputParetoSetFileName("VAR")
+                .setCSVOutput(false)
+                .build())
+        .setSeed(1)
+        .run();
+    new ExecuteAlgorithms<>(csvExperiment).setSeed(1).run();
+
+    Path dataDirectory = baseDirectory.resolve("columnar/data/NSGAII/ZDT1");
+    assertFalse(Files.exists(dataDirectory.resolve("FUN0.csv")));
+    assertFalse(Files.exists(dataDirectory.resolve("VAR0.csv")));
+    assertArrayEquals(
+        FrontFiles.readObjectives(baseDirectory.resolve("csv/data/NSGAII/ZDT1/FUN0").toString()),
+        FrontFiles.readObjectives(dataDirectory.resolve("FUN0").toString()));
+  }
+
+  @Test
+  void shouldAFailedRunBeResumedFromItsCheckpointAndProduceTheSameResult() throws IOException {
+    new ExecuteAlgorithms<>(experiment("uninterrupted", new ZDT1(), 1))
+        .setSeed(1)
+        .run();
+    FailingZDT1 problem = new FailingZDT1(1010);
+    new ExecuteAlgorithms<>(experiment("interrupted", problem, 1))
+        .setSeed(1)
+        .setCheckpointInterval(0)
+        .run();
+
+    assertEquals(front("uninterrupted", 0), front("interrupted", 0));
+    // The second attempt starts from the checkpoint saved after 1000 evaluations
+    assertEquals(2010, problem.evaluations.get());
+  }
+
+  @Test
+  void shouldAFailedRunWithoutCheckpointBeRetriedFromTheBeginning() throws IOException {
+    new ExecuteAlgorithms<>(experiment("uninterrupted", new ZDT1(), 1))
+        .setSeed(1)
+        .run();
+    FailingZDT1 problem = new FailingZDT1(1010);
+    new ExecuteAlgorithms<>(experiment("withoutCheckpoints", problem, 1))
+        .setSeed(1)
+        .setCheckpointInterval(-1)
+        .run();
+
+    assertEquals(front("uninterrupted", 0), front("withoutCheckpoints", 0));
+    assertEquals(3010, problem.evaluations.get());
+  }
+
+  @Test
+  void shouldARetryWhoseCheckpointCannotBeRestoredBeGivenUp() {
+    Path checkpointFile =
+        baseDirectory.resolve("corrupted/checkpoints/NSGAII/ZDT1/CHECKPOINT0.ser");
+    FailingZDT1 problem =
+        new FailingZDT1(
+            1010,
+            () -> {
+              try {
+                Files.writeString(checkpointFile, "corrupted");
+              } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+              }
+            });
+    new ExecuteAlgorithms<>(experiment("corrupted", problem, 1))
+        .setSeed(1)
+        .setCheckpointInterval(0)
+        .run();
+
+    assertFalse(Files.exists(baseDirectory.resolve("corrupted/data/NSGAII/ZDT1/FUN0.csv")));
+    assertFalse(Files.exists(checkpointFile));
+    assertEquals(1010, problem.evaluations.get());
+  }
+
+  @Test
+  void shouldACheckpointSavedWithAnotherSeedNotBeRestored() throws IOException {
+    new ExecuteAlgorithms<>(experiment("uninterrupted", new ZDT1(), 1))
+        .setSeed(2)
+        .run();
+    // The failed run leaves a checkpoint saved after 1000 evaluations with the seed 1
+    new ExecuteAlgorithms<>(experiment("interrupted", new FailingZDT1(1010), 1))
+        .setSeed(1)
+        .setCheckpointInterval(0)
+        .setMaxRetries(1)
+        .run();
+    new ExecuteAlgorithms<>(experiment("interrupted", new ZDT1(), 1))
+        .setSeed(2)
+        .run();
+
+    assertEquals(front("uninterrupted", 0), front("interrupted", 0));
+  }
+}
@@ -9,6 +9,7 @@ public class Worker<T extends ParallelTask<?>> extends Thread {
   private BlockingQueue<T> pendingTaskQueue;
 
   protected Function<T, T> computeFunction;
+  private volatile boolean finished = false;
 
   public Worker(
       Function<T, T> computeFunction,
@@ -21,13 +22,13 @@ public class Worker<T extends ParallelTask<?>> extends Thread {
 
   @Override
   public void run() {
-    while (true) {
-      T taskToCompute = null;
+    while (!finished) {
+      T taskToCompute;
 
       try {
         taskToCompute = pendingTaskQueue.take();
       } catch (InterruptedException e) {
-        e.printStackTrace();
+        continue;
       }
 
       T computedTask = computeFunction.apply(taskToCompute);
@@ -36,6 +37,15 @@ public class Worker<T extends ParallelTask<?>> extends Thread {
     }
   }
 
+  /**
+   * Makes the worker stop taking tasks. The worker is interrupted, so a task being computed may
+   * be aborted
+   */
+  public void finish() {
+    finished = true;
+    interrupt();
+  }
+
   public BlockingQueue<T> getCompletedTaskQueue() {
     return completedTaskQueue;
   }
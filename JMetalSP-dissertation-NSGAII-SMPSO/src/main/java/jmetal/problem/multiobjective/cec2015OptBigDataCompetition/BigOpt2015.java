@@ -13,13 +13,18 @@ import java.util.stream.IntStream;
 import jmetal.core.problem.doubleproblem.impl.AbstractDoubleProblem;
 import jmetal.core.solution.doublesolution.DoubleSolution;
 import jmetal.core.util.errorchecking.JMetalException;
+import jmetal.core.util.linearalgebra.DenseMatrix;
 
 /** Created by ajnebro on 14/1/15. */
 @SuppressWarnings("serial")
 public class BigOpt2015 extends AbstractDoubleProblem {
-  private List<List<Double>> mixed;
-  private List<List<Double>> matrixA;
-  private List<List<Double>> icaComponent;
+  private DenseMatrix mixed;
+  private DenseMatrix matrixA;
+  private DenseMatrix icaComponent;
+
+  // Rows of the mixed matrix minus their first element, and their standard deviations
+  private DenseMatrix shiftedMixed;
+  private double[] mixedStandardDeviations;
 
   double f1max = -1000000;
   double f2max = -1000000;
@@ -53,31 +58,25 @@ public class BigOpt2015 extends AbstractDoubleProblem {
   /** Evaluate() method */
   @Override
   public DoubleSolution evaluate(DoubleSolution solution) {
-    List<List<Double>> s1;
-    List<Double> s1Temp;
-
-    s1 = new ArrayList<>();
-
-    for (int i = 0; i < dTypeG; i++) {
-      s1Temp = new ArrayList<>();
-      for (int j = 0; j < icaComponent.get(0).size(); j++) {
-        s1Temp.add(solution.variables().get(i * (icaComponent.get(0).size()) + j));
-      }
-      s1.add(s1Temp);
+    int numberOfColumns = icaComponent.columns();
+    double[] s1Values = new double[dTypeG * numberOfColumns];
+    for (int i = 0; i < s1Values.length; i++) {
+      s1Values[i] = solution.variables().get(i);
     }
+    DenseMatrix s1 = new DenseMatrix(dTypeG, numberOfColumns, s1Values);
 
-    List<List<Double>> x1 = multiplyWithOutAMP(matrixA, s1);
-    List<List<Double>> cor1 = correlation(x1, mixed);
+    DenseMatrix x1 = matrixA.multiply(s1);
+    DenseMatrix cor1 = correlation(x1);
 
     double sum = 0.0;
-    for (int i = 0; i < icaComponent.size(); i++) {
-      for (int j = 0; j < icaComponent.get(i).size(); j++) {
-        sum += Math.pow(icaComponent.get(i).get(j) - s1.get(i).get(j), 2);
+    for (int i = 0; i < icaComponent.rows(); i++) {
+      for (int j = 0; j < numberOfColumns; j++) {
+        sum += Math.pow(icaComponent.get(i, j) - s1.get(i, j), 2);
       }
     }
 
     double obj1 = diagonal1(cor1) + diagonal2(cor1);
-    double obj2 = sum / (icaComponent.size() * icaComponent.get(0).size());
+    double obj2 = sum / (icaComponent.rows() * numberOfColumns);
 
     if (obj1 > f1max) {
       f1max = obj1;
@@ -103,7 +102,7 @@ public class BigOpt2015 extends AbstractDoubleProblem {
   }
 
   private void loadData(String problemId, String fName, int dType, int dLength) {
-    List<List<Double>> list;
+    List<double[]> list;
     String fileName = "/cec2015Comp/" + problemId + fName;
 
     InputStream inputStream = createInputStream(fileName);
@@ -118,12 +117,11 @@ public class BigOpt2015 extends AbstractDoubleProblem {
 
       while (aux != null) {
         StringTokenizer tokenizer = new StringTokenizer(aux);
-        List<Double> doubleList = new ArrayList<>();
-        while (tokenizer.hasMoreTokens()) {
-          double value = parseDouble(tokenizer.nextToken());
-          doubleList.add(value);
+        double[] row = new double[tokenizer.countTokens()];
+        for (int i = 0; i < row.length; i++) {
+          row[i] = parseDouble(tokenizer.nextToken());
         }
-        list.add(doubleList);
+        list.add(row);
         aux = br.readLine();
       }
       br.close();
@@ -133,12 +131,15 @@ public class BigOpt2015 extends AbstractDoubleProblem {
       throw new JMetalException("Format number exception when reading file", e);
     }
 
+    DenseMatrix matrix = DenseMatrix.of(list.toArray(new double[0][]));
     if (fName.equals("X.txt")) {
-      mixed = list;
+      mixed = matrix;
+      shiftedMixed = mixed.subtractFromRows(mixed.column(0));
+      mixedStandardDeviations = mixed.rowStandardDeviations(mixed.rowMeans());
     } else if (fName.equals("S.txt")) {
-      icaComponent = list;
+      icaComponent = matrix;
     } else if (fName.equals("A.txt")) {
-      matrixA = list;
+      matrixA = matrix;
     } else {
       throw new JMetalException("Wrong name: " + fName);
     }
@@ -173,115 +174,49 @@ public class BigOpt2015 extends AbstractDoubleProblem {
     return inputStream;
   }
 
-  List<Double> newMeanStandardDeviation(List<Double> list) {
-    List<Double> result = new ArrayList<>();
-
-    double sum = 0;
-    for (double value : list) {
-      sum += value;
-    }
-
-    double mean = sum / list.size();
-
-    double accum = 0;
-    for (double value : list) {
-      accum += (value - mean) * (value - mean);
-    }
-
-    double stdev = Math.sqrt(accum / (list.size() - 1));
-    result.add(mean);
-    result.add(stdev);
-
-    return result;
-  }
-
-  double vectorCorrelation(List<Double> list1, List<Double> list2) {
-    List<Double> a1 = newMeanStandardDeviation(list1);
-    List<Double> b1 = newMeanStandardDeviation(list2);
-
-    double c1 = 0;
-    double temp1, temp2;
-
-    double a = a1.get(1) * b1.get(1);
-    if (Math.abs(a) > 0.00001) {
-      for (int i = 0; i < list1.size(); i++) {
-        temp1 = ((list1.get(i) - list1.get(0)));
-        temp2 = ((list2.get(i) - list2.get(0)));
-
-        c1 += temp1 * temp2;
-      }
-      c1 /= (list1.size() * a);
-      return c1;
-    } else return 0;
-  }
-
-  List<List<Double>> correlation(List<List<Double>> list1, List<List<Double>> list2) {
-    List<List<Double>> m;
-    List<Double> temp;
-
-    m = new ArrayList<>();
-
-    for (List<Double> i : list1) {
-      temp = new ArrayList<>();
-      for (List<Double> j : list2) {
-        temp.add(vectorCorrelation(i, j));
+  /**
+   * Returns the matrix of the correlations between the rows of a matrix and those of the mixed
+   * matrix, as defined in the competition: the products of the deviations are taken with respect
+   * to the first element of each row instead of its mean
+   */
+  DenseMatrix correlation(DenseMatrix matrix) {
+    double[] standardDeviations = matrix.rowStandardDeviations(matrix.rowMeans());
+    DenseMatrix m = matrix.subtractFromRows(matrix.column(0)).multiplyTransposed(shiftedMixed);
+
+    int length = matrix.columns();
+    for (int i = 0; i < m.rows(); i++) {
+      for (int j = 0; j < m.columns(); j++) {
+        double a = standardDeviations[i] * mixedStandardDeviations[j];
+        if (Math.abs(a) > 0.00001) {
+          m.set(i, j, m.get(i, j) / (length * a));
+        } else {
+          m.set(i, j, 0);
+        }
       }
-
-      m.add(temp);
     }
 
     return m;
   }
 
-  double diagonal1(List<List<Double>> list) {
+  double diagonal1(DenseMatrix matrix) {
     double sum = 0;
 
-    for (int i = 0; i < list.size(); i++) {
-      for (int j = 0; j < list.size(); j++) {
-        if (i == j) {
-          sum += Math.pow(1 - list.get(i).get(j), 2);
-        }
-      }
+    for (int i = 0; i < matrix.rows(); i++) {
+      sum += Math.pow(1 - matrix.get(i, i), 2);
     }
-    return sum / list.size();
+    return sum / matrix.rows();
   }
 
-  double diagonal2(List<List<Double>> list) {
+  double diagonal2(DenseMatrix matrix) {
     double sum = 0;
 
-    for (int i = 0; i < list.size(); i++) {
-      for (int j = 0; j < list.size(); j++) {
-        if (i == j) {
-
-        } else {
-          sum += Math.pow(list.get(i).get(j), 2);
-        }
-      }
-    }
-    return sum / list.size() / (list.size() - 1);
-  }
-
-  List<List<Double>> multiplyWithOutAMP(List<List<Double>> list1, List<List<Double>> list2) {
-    List<List<Double>> c;
-    List<Double> cTemp;
-
-    c = new ArrayList<>();
-    for (int row = 0; row < list1.size(); row++) {
-      cTemp = new ArrayList<>();
-      for (int col = 0; col < list2.get(0).size(); col++) {
-        cTemp.add(0.0);
-      }
-      c.add(cTemp);
-    }
-
-    for (int row = 0; row < list1.size(); row++) {
-      for (int col = 0; col < list2.get(row).size(); col++) {
-        for (int inner = 0; inner < list1.get(0).size(); inner++) {
-          double val = c.get(row).get(col);
-          c.get(row).set(col, val + list1.get(row).get(inner) * list2.get(inner).get(col));
+    for (int i = 0; i < matrix.rows(); i++) {
+      for (int j = 0; j < matrix.rows(); j++) {
+        if (i != j) {
+          sum += Math.pow(matrix.get(i, j), 2);
         }
       }
     }
-    return c;
+    return sum / matrix.rows() / (matrix.rows() - 1);
   }
 }
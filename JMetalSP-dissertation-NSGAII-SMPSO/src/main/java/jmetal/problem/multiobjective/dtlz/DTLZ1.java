@@ -3,6 +3,7 @@ package jmetal.problem.multiobjective.dtlz;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.IntStream;
+import jmetal.core.problem.doubleproblem.BatchDoubleProblem;
 import jmetal.core.problem.doubleproblem.impl.AbstractDoubleProblem;
 import jmetal.core.solution.doublesolution.DoubleSolution;
 import jmetal.core.util.errorchecking.JMetalException;
@@ -11,7 +12,7 @@ import jmetal.core.util.errorchecking.JMetalException;
  * Class representing problem DTLZ1
  */
 @SuppressWarnings("serial")
-public class DTLZ1 extends AbstractDoubleProblem {
+public class DTLZ1 extends AbstractDoubleProblem implements BatchDoubleProblem {
 
   /**
    * Creates a default DTLZ1 problem (7 variables and 3 objectives)
@@ -82,5 +83,45 @@ public class DTLZ1 extends AbstractDoubleProblem {
 
     return solution;
   }
-}
 
+  /** Evaluates a batch of points (see {@link BatchDoubleProblem}) */
+  @Override
+  public void evaluate(double[][] x, double[][] f) {
+    int numberOfVariables = numberOfVariables();
+    int numberOfObjectives = numberOfObjectives();
+    int size = x[0].length;
+    int k = numberOfVariables - numberOfObjectives + 1;
+
+    double[] g = new double[size];
+    for (int i = numberOfVariables - k; i < numberOfVariables; i++) {
+      double[] xi = x[i];
+      for (int p = 0; p < size; p++) {
+        g[p] += (xi[p] - 0.5) * (xi[p] - 0.5) - Math.cos(20.0 * Math.PI * (xi[p] - 0.5));
+      }
+    }
+
+    for (int i = 0; i < numberOfObjectives; i++) {
+      double[] fi = f[i];
+      for (int p = 0; p < size; p++) {
+        fi[p] = (1.0 + 100 * (k + g[p])) * 0.5;
+      }
+      for (int j = 0; j < numberOfObjectives - (i + 1); j++) {
+        double[] xj = x[j];
+        for (int p = 0; p < size; p++) {
+          fi[p] *= xj[p];
+        }
+      }
+      if (i != 0) {
+        double[] xAux = x[numberOfObjectives - (i + 1)];
+        for (int p = 0; p < size; p++) {
+          fi[p] *= 1 - xAux[p];
+        }
+      }
+    }
+  }
+
+  @Override
+  public boolean batchEvaluationIsEquivalent() {
+    return getClass() == DTLZ1.class;
+  }
+}
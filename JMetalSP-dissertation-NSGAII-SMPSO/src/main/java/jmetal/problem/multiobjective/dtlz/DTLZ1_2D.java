@@ -11,5 +11,9 @@ public class DTLZ1_2D extends DTLZ1 {
   public DTLZ1_2D() {
     super(7, 2);
   }
-}
 
+  @Override
+  public boolean batchEvaluationIsEquivalent() {
+    return getClass() == DTLZ1_2D.class;
+  }
+}
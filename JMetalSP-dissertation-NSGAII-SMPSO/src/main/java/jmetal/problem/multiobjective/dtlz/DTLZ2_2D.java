@@ -11,4 +11,9 @@ public class DTLZ2_2D extends DTLZ2 {
   public DTLZ2_2D() {
     super(12, 2);
   }
+
+  @Override
+  public boolean batchEvaluationIsEquivalent() {
+    return getClass() == DTLZ2_2D.class;
+  }
 }
@@ -3,6 +3,7 @@ package jmetal.problem.multiobjective.dtlz;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.IntStream;
+import jmetal.core.problem.doubleproblem.BatchDoubleProblem;
 import jmetal.core.problem.doubleproblem.impl.AbstractDoubleProblem;
 import jmetal.core.solution.doublesolution.DoubleSolution;
 import jmetal.core.util.errorchecking.JMetalException;
@@ -11,7 +12,7 @@ import jmetal.core.util.errorchecking.JMetalException;
  * Class representing problem DTLZ3
  */
 @SuppressWarnings("serial")
-public class DTLZ3 extends AbstractDoubleProblem {
+public class DTLZ3 extends AbstractDoubleProblem implements BatchDoubleProblem {
   /**
    * Creates a default DTLZ3 problem (12 variables and 3 objectives)
    */
@@ -77,4 +78,45 @@ public class DTLZ3 extends AbstractDoubleProblem {
 
     return solution ;
   }
+
+  /** Evaluates a batch of points (see {@link BatchDoubleProblem}) */
+  @Override
+  public void evaluate(double[][] x, double[][] f) {
+    int numberOfVariables = numberOfVariables();
+    int numberOfObjectives = numberOfObjectives();
+    int size = x[0].length;
+    int k = numberOfVariables - numberOfObjectives + 1;
+
+    double[] g = new double[size];
+    for (int i = numberOfVariables - k; i < numberOfVariables; i++) {
+      double[] xi = x[i];
+      for (int p = 0; p < size; p++) {
+        g[p] += (xi[p] - 0.5) * (xi[p] - 0.5) - Math.cos(20.0 * Math.PI * (xi[p] - 0.5));
+      }
+    }
+
+    for (int i = 0; i < numberOfObjectives; i++) {
+      double[] fi = f[i];
+      for (int p = 0; p < size; p++) {
+        fi[p] = 1.0 + 100.0 * (k + g[p]);
+      }
+      for (int j = 0; j < numberOfObjectives - (i + 1); j++) {
+        double[] xj = x[j];
+        for (int p = 0; p < size; p++) {
+          fi[p] *= Math.cos(xj[p] * 0.5 * Math.PI);
+        }
+      }
+      if (i != 0) {
+        double[] xAux = x[numberOfObjectives - (i + 1)];
+        for (int p = 0; p < size; p++) {
+          fi[p] *= Math.sin(xAux[p] * 0.5 * Math.PI);
+        }
+      }
+    }
+  }
+
+  @Override
+  public boolean batchEvaluationIsEquivalent() {
+    return getClass() == DTLZ3.class;
+  }
 }
@@ -11,4 +11,9 @@ public class DTLZ3_2D extends DTLZ3 {
   public DTLZ3_2D() {
     super(12, 2);
   }
+
+  @Override
+  public boolean batchEvaluationIsEquivalent() {
+    return getClass() == DTLZ3_2D.class;
+  }
 }
@@ -34,4 +34,23 @@ public class DTLZ4Minus extends DTLZ4 {
     }
     return solution ;
   }
+
+  /**
+   * Evaluates a batch of points (see {@link
+   * jmetal.core.problem.doubleproblem.BatchDoubleProblem})
+   */
+  @Override
+  public void evaluate(double[][] x, double[][] f) {
+    super.evaluate(x, f);
+    for (double[] objective : f) {
+      for (int p = 0; p < objective.length; p++) {
+        objective[p] = -1.0 * objective[p];
+      }
+    }
+  }
+
+  @Override
+  public boolean batchEvaluationIsEquivalent() {
+    return getClass() == DTLZ4Minus.class;
+  }
 }
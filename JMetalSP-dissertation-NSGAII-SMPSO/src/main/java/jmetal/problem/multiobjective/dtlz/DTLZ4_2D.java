@@ -11,4 +11,9 @@ public class DTLZ4_2D extends DTLZ4 {
   public DTLZ4_2D() {
     super(12, 2);
   }
+
+  @Override
+  public boolean batchEvaluationIsEquivalent() {
+    return getClass() == DTLZ4_2D.class;
+  }
 }
@@ -3,13 +3,14 @@ package jmetal.problem.multiobjective.dtlz;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.IntStream;
+import jmetal.core.problem.doubleproblem.BatchDoubleProblem;
 import jmetal.core.problem.doubleproblem.impl.AbstractDoubleProblem;
 import jmetal.core.solution.doublesolution.DoubleSolution;
 import jmetal.core.util.errorchecking.JMetalException;
 
 /** Class representing problem DTLZ5 */
 @SuppressWarnings("serial")
-public class DTLZ5 extends AbstractDoubleProblem {
+public class DTLZ5 extends AbstractDoubleProblem implements BatchDoubleProblem {
   /** Creates a default DTLZ5 problem (12 variables and 3 objectives) */
   public DTLZ5() {
     this(12, 3);
@@ -81,4 +82,54 @@ public class DTLZ5 extends AbstractDoubleProblem {
 
     return solution;
   }
+
+  /** Evaluates a batch of points (see {@link BatchDoubleProblem}) */
+  @Override
+  public void evaluate(double[][] x, double[][] f) {
+    int numberOfVariables = numberOfVariables();
+    int numberOfObjectives = numberOfObjectives();
+    int size = x[0].length;
+    int k = numberOfVariables - numberOfObjectives + 1;
+
+    double[] g = new double[size];
+    for (int i = numberOfVariables - k; i < numberOfVariables; i++) {
+      double[] xi = x[i];
+      for (int p = 0; p < size; p++) {
+        g[p] += (xi[p] - 0.5) * (xi[p] - 0.5);
+      }
+    }
+
+    double[][] theta = new double[numberOfObjectives - 1][size];
+    for (int p = 0; p < size; p++) {
+      double t = Math.PI / (4.0 * (1.0 + g[p]));
+      theta[0][p] = x[0][p] * Math.PI / 2.0;
+      for (int i = 1; i < (numberOfObjectives - 1); i++) {
+        theta[i][p] = t * (1.0 + 2.0 * g[p] * x[i][p]);
+      }
+    }
+
+    for (int i = 0; i < numberOfObjectives; i++) {
+      double[] fi = f[i];
+      for (int p = 0; p < size; p++) {
+        fi[p] = 1.0 + g[p];
+      }
+      for (int j = 0; j < numberOfObjectives - (i + 1); j++) {
+        double[] thetaJ = theta[j];
+        for (int p = 0; p < size; p++) {
+          fi[p] *= Math.cos(thetaJ[p]);
+        }
+      }
+      if (i != 0) {
+        double[] thetaAux = theta[numberOfObjectives - (i + 1)];
+        for (int p = 0; p < size; p++) {
+          fi[p] *= Math.sin(thetaAux[p]);
+        }
+      }
+    }
+  }
+
+  @Override
+  public boolean batchEvaluationIsEquivalent() {
+    return getClass() == DTLZ5.class;
+  }
 }
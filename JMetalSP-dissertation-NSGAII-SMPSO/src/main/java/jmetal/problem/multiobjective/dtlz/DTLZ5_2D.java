@@ -11,4 +11,9 @@ public class DTLZ5_2D extends DTLZ5 {
   public DTLZ5_2D() {
     super(12, 2);
   }
+
+  @Override
+  public boolean batchEvaluationIsEquivalent() {
+    return getClass() == DTLZ5_2D.class;
+  }
 }
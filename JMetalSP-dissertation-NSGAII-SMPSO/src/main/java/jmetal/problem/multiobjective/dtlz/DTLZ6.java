@@ -3,6 +3,7 @@ package jmetal.problem.multiobjective.dtlz;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.IntStream;
+import jmetal.core.problem.doubleproblem.BatchDoubleProblem;
 import jmetal.core.problem.doubleproblem.impl.AbstractDoubleProblem;
 import jmetal.core.solution.doublesolution.DoubleSolution;
 import jmetal.core.util.errorchecking.JMetalException;
@@ -11,7 +12,7 @@ import jmetal.core.util.errorchecking.JMetalException;
  * Class representing problem DTLZ6
  */
 @SuppressWarnings("serial")
-public class DTLZ6 extends AbstractDoubleProblem {
+public class DTLZ6 extends AbstractDoubleProblem implements BatchDoubleProblem {
   /**
    * Creates a default DTLZ6 problem (12 variables and 3 objectives)
    */
@@ -84,4 +85,54 @@ public class DTLZ6 extends AbstractDoubleProblem {
 
     return solution ;
   }
+
+  /** Evaluates a batch of points (see {@link BatchDoubleProblem}) */
+  @Override
+  public void evaluate(double[][] x, double[][] f) {
+    int numberOfVariables = numberOfVariables();
+    int numberOfObjectives = numberOfObjectives();
+    int size = x[0].length;
+    int k = numberOfVariables - numberOfObjectives + 1;
+
+    double[] g = new double[size];
+    for (int i = numberOfVariables - k; i < numberOfVariables; i++) {
+      double[] xi = x[i];
+      for (int p = 0; p < size; p++) {
+        g[p] += Math.pow(xi[p], 0.1);
+      }
+    }
+
+    double[][] theta = new double[numberOfObjectives - 1][size];
+    for (int p = 0; p < size; p++) {
+      double t = Math.PI / (4.0 * (1.0 + g[p]));
+      theta[0][p] = x[0][p] * Math.PI / 2;
+      for (int i = 1; i < (numberOfObjectives - 1); i++) {
+        theta[i][p] = t * (1.0 + 2.0 * g[p] * x[i][p]);
+      }
+    }
+
+    for (int i = 0; i < numberOfObjectives; i++) {
+      double[] fi = f[i];
+      for (int p = 0; p < size; p++) {
+        fi[p] = 1.0 + g[p];
+      }
+      for (int j = 0; j < numberOfObjectives - (i + 1); j++) {
+        double[] thetaJ = theta[j];
+        for (int p = 0; p < size; p++) {
+          fi[p] *= Math.cos(thetaJ[p]);
+        }
+      }
+      if (i != 0) {
+        double[] thetaAux = theta[numberOfObjectives - (i + 1)];
+        for (int p = 0; p < size; p++) {
+          fi[p] *= Math.sin(thetaAux[p]);
+        }
+      }
+    }
+  }
+
+  @Override
+  public boolean batchEvaluationIsEquivalent() {
+    return getClass() == DTLZ6.class;
+  }
 }
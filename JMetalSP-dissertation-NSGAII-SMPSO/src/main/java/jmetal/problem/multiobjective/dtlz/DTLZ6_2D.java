@@ -11,4 +11,9 @@ public class DTLZ6_2D extends DTLZ6 {
   public DTLZ6_2D() {
     super(12, 2);
   }
+
+  @Override
+  public boolean batchEvaluationIsEquivalent() {
+    return getClass() == DTLZ6_2D.class;
+  }
 }
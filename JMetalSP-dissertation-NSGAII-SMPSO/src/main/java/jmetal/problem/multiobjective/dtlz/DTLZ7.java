@@ -3,13 +3,14 @@ package jmetal.problem.multiobjective.dtlz;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.IntStream;
+import jmetal.core.problem.doubleproblem.BatchDoubleProblem;
 import jmetal.core.problem.doubleproblem.impl.AbstractDoubleProblem;
 import jmetal.core.solution.doublesolution.DoubleSolution;
 import jmetal.core.util.errorchecking.JMetalException;
 
 /** Class representing problem DTLZ7 */
 @SuppressWarnings("serial")
-public class DTLZ7 extends AbstractDoubleProblem {
+public class DTLZ7 extends AbstractDoubleProblem implements BatchDoubleProblem {
   /** Creates a default DTLZ7 problem (22 variables and 3 objectives) */
   public DTLZ7() {
     this(22, 3);
@@ -72,4 +73,42 @@ public class DTLZ7 extends AbstractDoubleProblem {
 
     return solution;
   }
+
+  /** Evaluates a batch of points (see {@link BatchDoubleProblem}) */
+  @Override
+  public void evaluate(double[][] x, double[][] f) {
+    int numberOfVariables = numberOfVariables();
+    int numberOfObjectives = numberOfObjectives();
+    int size = x[0].length;
+    int k = numberOfVariables - numberOfObjectives + 1;
+
+    double[] g = new double[size];
+    for (int i = numberOfVariables - k; i < numberOfVariables; i++) {
+      double[] xi = x[i];
+      for (int p = 0; p < size; p++) {
+        g[p] += xi[p];
+      }
+    }
+
+    for (int p = 0; p < size; p++) {
+      g[p] = 1 + (9.0 * g[p]) / k;
+    }
+
+    double[] h = new double[size];
+    for (int j = 0; j < numberOfObjectives - 1; j++) {
+      double[] xj = x[j];
+      System.arraycopy(xj, 0, f[j], 0, size);
+      for (int p = 0; p < size; p++) {
+        h[p] += (xj[p] / (1.0 + g[p])) * (1 + Math.sin(3.0 * Math.PI * xj[p]));
+      }
+    }
+    for (int p = 0; p < size; p++) {
+      f[numberOfObjectives - 1][p] = (1 + g[p]) * (numberOfObjectives - h[p]);
+    }
+  }
+
+  @Override
+  public boolean batchEvaluationIsEquivalent() {
+    return getClass() == DTLZ7.class;
+  }
 }
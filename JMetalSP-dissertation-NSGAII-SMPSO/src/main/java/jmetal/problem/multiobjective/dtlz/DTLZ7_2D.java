@@ -11,4 +11,9 @@ public class DTLZ7_2D extends DTLZ7 {
   public DTLZ7_2D() {
     super(22, 2);
   }
+
+  @Override
+  public boolean batchEvaluationIsEquivalent() {
+    return getClass() == DTLZ7_2D.class;
+  }
 }
@@ -0,0 +1,131 @@
+package jmetal.problem.multiobjective.ebes;
+
+import jmetal.core.util.errorchecking.Check;
+
+/**
+ * Solver of symmetric banded systems K x = b based on the square root free Cholesky (LDL')
+ * factorization. The matrix is given in the upper band storage used by {@link Ebes}: row i is
+ * stored in positions [i * bandWidth, (i + 1) * bandWidth) and the position i * bandWidth + j
+ * holds the coefficient K(i, i + j).
+ *
+ * <p>The factorization is done in place and follows the skyline of each row: the trailing zeros
+ * of a row are not processed, and neither are the null coefficients inside the band, so the cost
+ * depends on the actual profile of the stiffness matrix and not only on its band width. The
+ * factor can be reused to solve several right hand sides. Rows whose pivot is penalized (at least
+ * {@link #PENALTY_THRESHOLD}) or null are not eliminated, and null pivots produce the value
+ * {@link #NULL_PIVOT_SOLUTION} in the solution, as in the original elimination of Ebes.
+ *
+ * <p>Instances keep their working arrays and are not thread-safe; each thread must use its own
+ * solver.
+ */
+public class BandedCholeskySolver {
+  public static final double PENALTY_THRESHOLD = 1.0E+25;
+  public static final double NULL_PIVOT = 1.0E-35;
+  public static final double NULL_PIVOT_SOLUTION = 1.0E-35;
+
+  private final int order;
+  private final int bandWidth;
+  private final int[] skyline;
+  private double[] band;
+
+  public BandedCholeskySolver(int order, int bandWidth) {
+    Check.that(order > 0, "The order must be positive: " + order);
+    Check.that(bandWidth > 0, "The band width must be positive: " + bandWidth);
+    this.order = order;
+    this.bandWidth = bandWidth;
+    this.skyline = new int[order];
+  }
+
+  public int order() {
+    return order;
+  }
+
+  public int bandWidth() {
+    return bandWidth;
+  }
+
+  /**
+   * Factorizes in place the matrix stored in the band array. After this call the array holds the
+   * factor, which is used by the next calls to {@link #solve(double[])}
+   *
+   * @param band Matrix in upper band storage, with at least order * bandWidth positions
+   */
+  public void factorize(double[] band) {
+    Check.notNull(band);
+    Check.that(
+        band.length >= order * bandWidth,
+        "The band array has " + band.length + " positions instead of " + order * bandWidth);
+
+    for (int i = 0; i < order; i++) {
+      int row = i * bandWidth;
+      int length = Math.min(bandWidth, order - i);
+      while (length > 1 && band[row + length - 1] == 0.0) {
+        length--;
+      }
+      skyline[i] = length;
+
+      double pivot = band[row];
+      if (pivot >= PENALTY_THRESHOLD || pivot == 0.0) {
+        continue;
+      }
+      for (int j = 1; j < length; j++) {
+        double coefficient = band[row + j];
+        if (coefficient == 0.0) {
+          continue;
+        }
+        double multiplier = coefficient / pivot;
+        int target = (i + j) * bandWidth - j;
+        for (int r = j; r < length; r++) {
+          band[target + r] -= multiplier * band[row + r];
+        }
+      }
+    }
+
+    this.band = band;
+  }
+
+  /**
+   * Solves the system with the last factorized matrix. The right hand side is overwritten with
+   * the solution
+   *
+   * @param rightHandSide Vector b, with order positions
+   */
+  public void solve(double[] rightHandSide) {
+    Check.that(band != null, "The matrix has not been factorized");
+    Check.notNull(rightHandSide);
+    Check.that(
+        rightHandSide.length >= order,
+        "The right hand side has " + rightHandSide.length + " positions instead of " + order);
+
+    // forward substitution: L y = b
+    for (int i = 0; i < order; i++) {
+      int row = i * bandWidth;
+      double pivot = band[row];
+      if (pivot >= PENALTY_THRESHOLD || pivot == 0.0) {
+        continue;
+      }
+      double value = rightHandSide[i];
+      for (int j = 1; j < skyline[i]; j++) {
+        double coefficient = band[row + j];
+        if (coefficient != 0.0) {
+          rightHandSide[i + j] -= (coefficient / pivot) * value;
+        }
+      }
+    }
+
+    // backward substitution: D L' x = y
+    for (int i = order - 1; i >= 0; i--) {
+      int row = i * bandWidth;
+      double sum = 0.0;
+      for (int j = 1; j < skyline[i]; j++) {
+        sum += rightHandSide[i + j] * band[row + j];
+      }
+      double pivot = band[row];
+      if (Math.abs(pivot) <= NULL_PIVOT) {
+        rightHandSide[i] = NULL_PIVOT_SOLUTION;
+      } else {
+        rightHandSide[i] = (rightHandSide[i] - sum) / pivot;
+      }
+    }
+  }
+}
@@ -212,6 +212,8 @@ public class Ebes extends AbstractDoubleProblem {
 
   /** Stores the Groups */
   protected double[][] Groups_;
+  // copy of the groups as read from the file, from which the workspaces of other threads start
+  private double[][] loadedGroups_;
 
   public double getGroups(int i) {
     return Groups_[i][MAX_COLUMN];
@@ -531,6 +533,21 @@ public class Ebes extends AbstractDoubleProblem {
   double[][] KijSOG = new double[numberOfLibertyDegree_][numberOfLibertyDegree_];
   double[][] KjiSOG = new double[numberOfLibertyDegree_][numberOfLibertyDegree_];
   double[][] KjjSOG = new double[numberOfLibertyDegree_][numberOfLibertyDegree_];
+  // products of the rotation and stiffness matrices of a bar
+  double[][] RpRij_ = new double[numberOfLibertyDegree_][numberOfLibertyDegree_];
+  double[][] RpRji_ = new double[numberOfLibertyDegree_][numberOfLibertyDegree_];
+  double[][] KRp_ = new double[numberOfLibertyDegree_][numberOfLibertyDegree_];
+  double[][] RpTKRp_ = new double[numberOfLibertyDegree_][numberOfLibertyDegree_];
+
+  // ---- workspaces -----//
+  // The state of the calculus is kept in the fields of the object, so each thread evaluates the
+  // solutions on its own workspace: the first thread uses this object and the rest of threads
+  // use a copy, which is reused in all their evaluations
+  private transient volatile Thread workspaceOwner_;
+  private transient volatile ThreadLocal<Ebes> workspaces_;
+  // solver of the stiffness system and vector of loads of a hypothesis
+  private transient BandedCholeskySolver stiffnessSolver_;
+  private transient double[] loadVector_;
 
   // matrix indexes of groups elements
   int INDEX_ = 0; // index for the asociation with elements group
@@ -671,6 +688,93 @@ public class Ebes extends AbstractDoubleProblem {
     EBEsInitialize(ebesFileName);
   }
 
+  /**
+   * Constructor of the workspace of a thread. The data of the structure are shared with the
+   * original problem except the groups of elements, whose mechanical properties are computed from
+   * the variables of each solution; they are copied from the groups read from the file, as the
+   * original problem may be evaluating a solution at the same time
+   *
+   * @param ebes The problem to copy
+   */
+  protected Ebes(Ebes ebes) {
+    name(ebes.name());
+    numberOfObjectives(ebes.numberOfObjectives());
+    numberOfConstraints(ebes.numberOfConstraints());
+    bounds = ebes.bounds;
+    arrayBackedSolutions(ebes.arrayBackedSolutions());
+
+    overallConstraintViolationDegree = ebes.overallConstraintViolationDegree;
+    OF_ = ebes.OF_;
+    selectedOF = ebes.selectedOF;
+
+    numberOfNodes = ebes.numberOfNodes;
+    numberOfLibertyDegree_ = ebes.numberOfLibertyDegree_;
+    numberOfNodesRestricts_ = ebes.numberOfNodesRestricts_;
+    numberOfGroupElements_ = ebes.numberOfGroupElements_;
+    numberOfElements_ = ebes.numberOfElements_;
+    lLoadsOwnWeight = ebes.lLoadsOwnWeight;
+    lSecondOrderGeometric = ebes.lSecondOrderGeometric;
+    lBuckling = ebes.lBuckling;
+    elementsBetweenDiffGreat_ = ebes.elementsBetweenDiffGreat_;
+    numberOfWeigthsNodes_ = ebes.numberOfWeigthsNodes_;
+    numberOfWeigthsElements_ = ebes.numberOfWeigthsElements_;
+    matrixWidthBand_ = ebes.matrixWidthBand_;
+    numberOfWeigthHypothesis_ = ebes.numberOfWeigthHypothesis_;
+    numberOfConstraintsGeometric_ = ebes.numberOfConstraintsGeometric_;
+    numberOfConstraintsNodes_ = ebes.numberOfConstraintsNodes_;
+    numberOfGroupsToCheckGeometry_ = ebes.numberOfGroupsToCheckGeometry_;
+    strainAdmissibleCut_ = ebes.strainAdmissibleCut_;
+    GravitationalAxis_ = ebes.GravitationalAxis_;
+    g_ = ebes.g_;
+
+    Node_ = ebes.Node_;
+    NodeRestrict_ = ebes.NodeRestrict_;
+    Element_ = ebes.Element_;
+    WeightNode_ = ebes.WeightNode_;
+    OverloadInElement_ = ebes.OverloadInElement_;
+    nodeCheck_ = ebes.nodeCheck_;
+    geometryCheck_ = ebes.geometryCheck_;
+    loadedGroups_ = ebes.loadedGroups_;
+    Groups_ = copyOfGroups(loadedGroups_);
+
+    workspaceOwner_ = Thread.currentThread();
+  }
+
+  /**
+   * Returns the object on which the calling thread evaluates the solutions
+   */
+  private Ebes workspace() {
+    Thread thread = Thread.currentThread();
+    if (workspaceOwner_ == thread) {
+      return this;
+    }
+    if (workspaces_ == null) {
+      synchronized (this) {
+        if (workspaceOwner_ == null) {
+          workspaceOwner_ = thread;
+          return this;
+        }
+        if (workspaces_ == null) {
+          workspaces_ = ThreadLocal.withInitial(() -> new Ebes(this));
+        }
+      }
+    }
+
+    return workspaces_.get();
+  }
+
+  /**
+   * Returns the number of evaluations done by this object, including the ones done by the
+   * workspaces of other threads
+   */
+  public synchronized int getNumberOfEvaluations() {
+    return numberOfEval_;
+  }
+
+  private synchronized void countEvaluation() {
+    numberOfEval_++;
+  }
+
   public void EBEsInitialize(String file) throws FileNotFoundException {
     // CALCULAR dd Y CA (CANTIDADES DE NUDOS COARTADOS) AL CARGAR EL ARCHIVO
     // CON ESTO EVITO RECALCULARLOS CADA VEZ QUE SE BUSCA UNA SOLUCIÃƒÂ³N
@@ -880,20 +984,44 @@ public class Ebes extends AbstractDoubleProblem {
       }
     }
     matrixWidthBand_ = (elementsBetweenDiffGreat_ + 1) * numberOfLibertyDegree_;
+
+    // the evaluations of this object overwrite Groups_, so the copies for other threads are taken
+    // from the data of the file
+    loadedGroups_ = copyOfGroups(Groups_);
   } // end InitializeEBEs
 
+  private static double[][] copyOfGroups(double[][] groups) {
+    double[][] copy = new double[groups.length][];
+    for (int gr = 0; gr < groups.length; gr++) {
+      copy[gr] = groups[gr].clone();
+    }
+
+    return copy;
+  }
+
   // @Override
   // public DoubleSolution createSolution() {
   //  return new DefaultDoubleSolution(this) ;
   // }
 
   /**
-   * Evaluates a solution
+   * Evaluates a solution. The method can be invoked by several threads at the same time, as each
+   * of them computes the structure on its own workspace
    *
    * @param solution The solution to evaluate
    */
   @Override
   public DoubleSolution evaluate(DoubleSolution solution) {
+    Ebes workspace = workspace();
+    workspace.evaluateStructure(solution);
+    if (workspace != this) {
+      countEvaluation();
+    }
+
+    return solution;
+  } // evaluate
+
+  private void evaluateStructure(DoubleSolution solution) {
     int hi = 0;
     double[] fx = new double[solution.objectives().length]; // functions
 
@@ -947,7 +1075,7 @@ public class Ebes extends AbstractDoubleProblem {
       }
     }
 
-    numberOfEval_++;
+    countEvaluation();
 
     // if((numberOfEval_ % 1000) == 0) System.out.println(numberOfEval_);
 
@@ -978,8 +1106,7 @@ public class Ebes extends AbstractDoubleProblem {
     // END NOT USED ------------------------------------------------------------------------------
 
     this.evaluateConstraints(solution);
-    return solution;
-  } // evaluate
+  } // evaluateStructure
 
   /**
    * Evaluates the constraint overhead of a solution
@@ -1478,54 +1605,60 @@ public class Ebes extends AbstractDoubleProblem {
 
   public void EBEsCalculus() throws JMetalException {
     //  Module de calc
+    // los vectores y matrices de la evaluacion anterior se reutilizan, puestos a cero
 
     // Effort in boundary element
-    Efforti_ = new double[numberOfLibertyDegree_][numberOfElements_][numberOfWeigthHypothesis_];
-    Effortj_ = new double[numberOfLibertyDegree_][numberOfElements_][numberOfWeigthHypothesis_];
+    Efforti_ =
+        EBEsReuse(Efforti_, numberOfLibertyDegree_, numberOfElements_, numberOfWeigthHypothesis_);
+    Effortj_ =
+        EBEsReuse(Effortj_, numberOfLibertyDegree_, numberOfElements_, numberOfWeigthHypothesis_);
 
     // corrimientos y rotaciones de los nudos por hipÃƒÂ³tesis de cargas
     DisplacementNodes_ =
-        new double[numberOfLibertyDegree_ * numberOfNodes][numberOfWeigthHypothesis_];
+        EBEsReuse(
+            DisplacementNodes_, numberOfLibertyDegree_ * numberOfNodes, numberOfWeigthHypothesis_);
 
-    // Strain in extrem i por hipÃƒÂ³tesis de cargas
-    Straini_ = new double[3][numberOfElements_][numberOfWeigthHypothesis_];
-    // Strain in extrem j  por hipÃƒÂ³tesis de cargas
-    Strainj_ = new double[3][numberOfElements_][numberOfWeigthHypothesis_];
+    // Strain in extrem i y j por hipÃƒÂ³tesis de cargas
+    // se calculan con EBEsStrainNode al final del calculo
     // Strain minimun por hipÃƒÂ³tesis de cargas
     // StrainMin_ = new double[2][numberOfElements_][numberOfWeigthHypothesis_];
+    double[][] strainMin = OldStrainMin_;
     OldStrainMin_ = StrainMin_;
-    StrainMin_ = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    StrainMin_ = EBEsReuse(strainMin, numberOfGroupElements_, numberOfWeigthHypothesis_);
     // Strain maximus  por hipÃƒÂ³tesis de cargas
     // StrainMax_ = new double[2][numberOfElements_][numberOfWeigthHypothesis_];
+    double[][] strainMax = OldStrainMax_;
     OldStrainMax_ = StrainMax_;
-    StrainMax_ = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    StrainMax_ = EBEsReuse(strainMax, numberOfGroupElements_, numberOfWeigthHypothesis_);
     // stress tangencial mamimun
-    StrainCutMax_ = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    StrainCutMax_ = EBEsReuse(StrainCutMax_, numberOfGroupElements_, numberOfWeigthHypothesis_);
     // Negative Strain residual  por hipÃƒÂ³tesis de cargas
-    StrainResidualMin_ = new double[numberOfWeigthHypothesis_];
+    StrainResidualMin_ = EBEsReuse(StrainResidualMin_, numberOfWeigthHypothesis_);
     // Positive Strain residual  por hipÃƒÂ³tesis de cargas
-    StrainResidualMax_ = new double[numberOfWeigthHypothesis_];
+    StrainResidualMax_ = EBEsReuse(StrainResidualMax_, numberOfWeigthHypothesis_);
     // Cut Strain residual  por hipÃƒÂ³tesis de cargas
-    StrainResidualCut_ = new double[numberOfWeigthHypothesis_];
+    StrainResidualCut_ = EBEsReuse(StrainResidualCut_, numberOfWeigthHypothesis_);
 
     MatrixStiffness_ =
-        new double
-            [numberOfLibertyDegree_
+        EBEsReuse(
+            MatrixStiffness_,
+            numberOfLibertyDegree_
                 * numberOfLibertyDegree_
                 * numberOfNodes
-                * (elementsBetweenDiffGreat_ + 1)];
+                * (elementsBetweenDiffGreat_ + 1));
 
     // load inself witch element
-    WeightElement_ = new double[numberOfElements_][8];
+    WeightElement_ = EBEsReuse(WeightElement_, numberOfElements_, 8);
 
     // variables load in extrem of beams
-    cbi = new double[numberOfLibertyDegree_][numberOfElements_][numberOfWeigthHypothesis_];
-    cbj = new double[numberOfLibertyDegree_][numberOfElements_][numberOfWeigthHypothesis_];
+    cbi = EBEsReuse(cbi, numberOfLibertyDegree_, numberOfElements_, numberOfWeigthHypothesis_);
+    cbj = EBEsReuse(cbj, numberOfLibertyDegree_, numberOfElements_, numberOfWeigthHypothesis_);
 
     // total equivalent load nodes in all structure witch load on elements and load nodes
-    PQ = new double[numberOfLibertyDegree_ * numberOfNodes][numberOfWeigthHypothesis_];
+    PQ = EBEsReuse(PQ, numberOfLibertyDegree_ * numberOfNodes, numberOfWeigthHypothesis_);
 
-    Reaction_ = new double[numberOfLibertyDegree_ * numberOfNodes][numberOfWeigthHypothesis_];
+    Reaction_ =
+        EBEsReuse(Reaction_, numberOfLibertyDegree_ * numberOfNodes, numberOfWeigthHypothesis_);
 
     EBEsWeightNodes();
 
@@ -1603,10 +1736,43 @@ public class Ebes extends AbstractDoubleProblem {
 
   } // end EBEsCalculus
 
+  // devuelve el vector (o matriz) puesto a cero si sus dimensiones no cambian, o uno nuevo
+  private static double[] EBEsReuse(double[] v, int n) {
+    if (v == null || v.length != n) {
+      return new double[n];
+    }
+    Arrays.fill(v, 0.0);
+    return v;
+  }
+
+  private static double[][] EBEsReuse(double[][] m, int n1, int n2) {
+    if (m == null || m.length != n1 || (n1 > 0 && m[0].length != n2)) {
+      return new double[n1][n2];
+    }
+    for (double[] row : m) {
+      Arrays.fill(row, 0.0);
+    }
+    return m;
+  }
+
+  private static double[][][] EBEsReuse(double[][][] m, int n1, int n2, int n3) {
+    if (m == null
+        || m.length != n1
+        || (n1 > 0 && (m[0].length != n2 || (n2 > 0 && m[0][0].length != n3)))) {
+      return new double[n1][n2][n3];
+    }
+    for (double[][] matrix : m) {
+      for (double[] row : matrix) {
+        Arrays.fill(row, 0.0);
+      }
+    }
+    return m;
+  }
+
   public void EBEsAssignAxialForces(int hi) {
 
-    AxialForcei_ = new double[numberOfElements_];
-    AxialForcej_ = new double[numberOfElements_];
+    AxialForcei_ = EBEsReuse(AxialForcei_, numberOfElements_);
+    AxialForcej_ = EBEsReuse(AxialForcej_, numberOfElements_);
 
     for (int el = 0; el < numberOfElements_; el++) {
       AxialForcei_[el] = Efforti_[aX_][el][hi];
@@ -2363,78 +2529,27 @@ public class Ebes extends AbstractDoubleProblem {
     // PROGRAMACIÃƒâ€œNN TOMO III
     // RamÃƒÂ³n Arguellez Ãƒï¿½lvarez
 
-    int i, j;
-    int s1 = 1;
-    int s2, l5, l6, ln, r;
-    double det = 1.0;
-    double ff = 0.0, t;
-
+    // resuelto mediante la factorizacion de Cholesky (LDL') en banda, siguiendo el perfil
+    // de cada fila de la matriz de rigidez
     int n2 = numberOfLibertyDegree_ * numberOfNodes;
 
-    for (i = 1; i < n2; i++) {
-      if (MatrixStiffness_[s1 - 1] >= 1.0E+25) {
-        s1 = s1 + matrixWidthBand_;
-        continue; // Salto1:
-      }
-      ln = i + 1;
-      l5 = s1 + 1;
-      for (j = 2; j < matrixWidthBand_ + 1; j++) {
-        if (ln - n2 > 0) {
-          break; // Salto2:
-        }
-        if (MatrixStiffness_[s1 - 1] == 0) {
-          ln = ln + 1;
-          l5 = l5 + 1;
-          continue; // Salto3;
-        }
-        t = MatrixStiffness_[l5 - 1] / MatrixStiffness_[s1 - 1];
-        l6 = (ln - 1) * matrixWidthBand_ + 1;
-        s2 = s1 + j - 1;
-        for (r = j; r < matrixWidthBand_ + 1; r++) {
-          MatrixStiffness_[l6 - 1] = MatrixStiffness_[l6 - 1] - t * MatrixStiffness_[s2 - 1];
-          l6 = l6 + 1;
-          s2 = s2 + 1;
-        } // next r
-        DisplacementNodes_[ln - 1][hi] =
-            DisplacementNodes_[ln - 1][hi] - t * DisplacementNodes_[i - 1][hi];
-        ln = ln + 1;
-        l5 = l5 + 1;
-        // Salto3:
-      } // next j
-      // Salto2:
-      s1 = s1 + matrixWidthBand_;
-      // Salto1:
-    } // next i
+    if (stiffnessSolver_ == null
+        || stiffnessSolver_.order() != n2
+        || stiffnessSolver_.bandWidth() != matrixWidthBand_) {
+      stiffnessSolver_ = new BandedCholeskySolver(n2, matrixWidthBand_);
+      loadVector_ = new double[n2];
+    }
 
-    // ResoluciÃƒÂ³n del sistema
-    i = n2 + 1;
-    for (int s3 = 1; s3 < n2 + 1; s3++) {
-      i = i - 1;
-      ff = 0.0;
-
-      ln = i + 1;
-      l5 = s1 + 1;
-      for (j = 2; j < matrixWidthBand_ + 1; j++) {
-        if (ln - n2 > 0) {
-          break; // Salto4:
-        }
-        ff = ff + DisplacementNodes_[ln - 1][hi] * MatrixStiffness_[l5 - 1];
-        ln = ln + 1;
-        l5 = l5 + 1;
-      } // Next j
-      // Salto4:
-      if (Math.abs(MatrixStiffness_[s1 - 1]) <= 1.0E-35) {
-        DisplacementNodes_[i - 1][hi] = 1.0E-35;
-      } else {
-        DisplacementNodes_[i - 1][hi] =
-            (DisplacementNodes_[i - 1][hi] - ff) / MatrixStiffness_[s1 - 1];
-      }
+    for (int i = 0; i < n2; i++) {
+      loadVector_[i] = DisplacementNodes_[i][hi];
+    }
 
-      if (MatrixStiffness_[s1 - 1] < 9.899999E+15) {
-        det = det * MatrixStiffness_[s1 - 1] / 100000.0;
-      }
-      s1 = s1 - matrixWidthBand_;
-    } // Next s3
+    stiffnessSolver_.factorize(MatrixStiffness_);
+    stiffnessSolver_.solve(loadVector_);
+
+    for (int i = 0; i < n2; i++) {
+      DisplacementNodes_[i][hi] = loadVector_[i];
+    }
   } // end EcuationSolution
 
   public void EBEsMat3DL_iRig_jRig(int e) throws JMetalException {
@@ -3444,38 +3559,35 @@ public class Ebes extends AbstractDoubleProblem {
 
   public void EBEsMat3DGij() throws JMetalException {
     // CONSTRUYE LA MATRIZ DE RIGIDEZ DE UNA BARRA EN COORDENADAS GLOBALES
+    // los productos se guardan en matrices de trabajo del objeto
 
-    double[][] r = new double[numberOfLibertyDegree_][numberOfLibertyDegree_];
-    double[][] s = new double[numberOfLibertyDegree_][numberOfLibertyDegree_];
-    double[][] t = new double[numberOfLibertyDegree_][numberOfLibertyDegree_];
+    // Rpij * Rij y Rpji * Rji son comunes a los cuatro extremos
+    EBEsMatrizMultiplicar(Rpij, Rij, RpRij_);
+    EBEsMatrizMultiplicar(Rpji, Rji, RpRji_);
 
     // para el extremo ii
     // KGii = RTij * RpTij * KjjSOGSOGSOG * Rpij * Rij
-    r = EBEsMatrizMultiplicar(Rpij, Rij);
-    s = EBEsMatrizMultiplicar(Kii, r);
-    t = EBEsMatrizMultiplicar(RpTij, s);
-    KGii = EBEsMatrizMultiplicar(RTij, t);
+    EBEsMatrizMultiplicar(Kii, RpRij_, KRp_);
+    EBEsMatrizMultiplicar(RpTij, KRp_, RpTKRp_);
+    EBEsMatrizMultiplicar(RTij, RpTKRp_, KGii);
 
     // para el extremo ij
     // KGij = RTij * RpTij * Kij * Rpji * Rji
-    r = EBEsMatrizMultiplicar(Rpji, Rji);
-    s = EBEsMatrizMultiplicar(Kij, r);
-    t = EBEsMatrizMultiplicar(RpTij, s);
-    KGij = EBEsMatrizMultiplicar(RTij, t);
+    EBEsMatrizMultiplicar(Kij, RpRji_, KRp_);
+    EBEsMatrizMultiplicar(RpTij, KRp_, RpTKRp_);
+    EBEsMatrizMultiplicar(RTij, RpTKRp_, KGij);
 
     // para el extremo ji
     // KGji = RTji * RpTji * Kji * Rpij * Rij
-    r = EBEsMatrizMultiplicar(Rpij, Rij);
-    s = EBEsMatrizMultiplicar(Kji, r);
-    t = EBEsMatrizMultiplicar(RpTji, s);
-    KGji = EBEsMatrizMultiplicar(RTji, t);
+    EBEsMatrizMultiplicar(Kji, RpRij_, KRp_);
+    EBEsMatrizMultiplicar(RpTji, KRp_, RpTKRp_);
+    EBEsMatrizMultiplicar(RTji, RpTKRp_, KGji);
 
     // para el extremo jj
     // KGjj = RTji * RpTji * Kjj* Rpji * Rji
-    r = EBEsMatrizMultiplicar(Rpji, Rji);
-    s = EBEsMatrizMultiplicar(Kjj, r);
-    t = EBEsMatrizMultiplicar(RpTji, s);
-    KGjj = EBEsMatrizMultiplicar(RTji, t);
+    EBEsMatrizMultiplicar(Kjj, RpRji_, KRp_);
+    EBEsMatrizMultiplicar(RpTji, KRp_, RpTKRp_);
+    EBEsMatrizMultiplicar(RTji, RpTKRp_, KGjj);
   } // end module
 
   public void EBEsMat3DG(int e) throws JMetalException {
@@ -3644,6 +3756,21 @@ public class Ebes extends AbstractDoubleProblem {
     return r;
   } // end module
 
+  // producto s * t guardado en r, que no puede ser ninguna de las matrices multiplicadas
+  public void EBEsMatrizMultiplicar(double[][] s, double[][] t, double[][] r)
+      throws JMetalException {
+
+    for (int f = 0; f < s.length; f++) { // cantidad de elementos de la 1ra dimension
+      for (int c = 0; c < s[f].length; c++) { // cantidad de elementos de la 2ra dimension
+        double sum = 0;
+        for (int q = 0; q < s[f].length; q++) { // cantidad de elementos de la 2ra dimension
+          sum = sum + s[f][q] * t[q][c];
+        } // Next q
+        r[f][c] = sum;
+      } // Next c
+    } // Next f
+  } // end module
+
   public double[][] EBEsMatrixAdd(double[][] s, double[][] t) throws JMetalException {
 
     double[][] r = new double[s.length][t[0].length];
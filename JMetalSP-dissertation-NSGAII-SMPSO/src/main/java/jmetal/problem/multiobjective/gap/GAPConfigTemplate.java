@@ -0,0 +1,157 @@
+package jmetal.problem.multiobjective.gap;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Simulator configuration file (config.xml) read once with StAX and precompiled into a template:
+ * the text of the file split around the {@code value} attributes of the {@code <parameter>}
+ * elements of the design space. Writing a configuration only concatenates the text fragments and
+ * the new values; no XML is parsed or built.
+ */
+public final class GAPConfigTemplate {
+
+    /**
+     * Names of the parameters, in the order of the variables of {@link GAPProblem}
+     */
+    public static final List<String> PARAMETERS = Collections.unmodifiableList(
+            Arrays.asList("n_lines", "n_columns", "n_layers", "c_chunk", "c_sets", "c_lines"));
+
+    private static final QName NAME = new QName("name");
+    private static final String PLACEHOLDER = "@GAP-PARAMETER-";
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile(PLACEHOLDER + "(\\d+)");
+
+    static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+    private static final XMLEventFactory EVENT_FACTORY = XMLEventFactory.newInstance();
+
+    private final Path templateFile;
+    // text of the file around the parameter values: fragments[i] goes before the value of parameters[i]
+    private final String[] fragments;
+    private final int[] parameters;
+
+    private GAPConfigTemplate(Path templateFile, String[] fragments, int[] parameters) {
+        this.templateFile = templateFile;
+        this.fragments = fragments;
+        this.parameters = parameters;
+    }
+
+    public static GAPConfigTemplate read(Path templateFile) throws IOException {
+        StringWriter text = new StringWriter();
+        try (InputStream input = Files.newInputStream(templateFile)) {
+            XMLEventReader reader = INPUT_FACTORY.createXMLEventReader(input);
+            XMLEventWriter writer = OUTPUT_FACTORY.createXMLEventWriter(text);
+            try {
+                while (reader.hasNext()) {
+                    XMLEvent event = reader.nextEvent();
+                    int parameter = parameterIndex(event);
+                    writer.add(parameter >= 0 ? withValue(event.asStartElement(), PLACEHOLDER + parameter) : event);
+                }
+                writer.flush();
+            } finally {
+                writer.close();
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Error reading " + templateFile, e);
+        }
+
+        List<String> fragments = new ArrayList<>();
+        List<Integer> parameters = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER_PATTERN.matcher(text.toString());
+        int position = 0;
+        while (matcher.find()) {
+            fragments.add(text.toString().substring(position, matcher.start()));
+            parameters.add(Integer.parseInt(matcher.group(1)));
+            position = matcher.end();
+        }
+        fragments.add(text.toString().substring(position));
+
+        return new GAPConfigTemplate(templateFile, fragments.toArray(new String[0]),
+                parameters.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    public Path templateFile() {
+        return templateFile;
+    }
+
+    /**
+     * Writes the configuration file with the given parameter values
+     *
+     * @param values Values of the parameters, in the order of {@link #PARAMETERS}
+     */
+    public void write(Path outputFile, int... values) throws IOException {
+        Files.write(outputFile, toString(values).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param values Values of the parameters, in the order of {@link #PARAMETERS}
+     * @return The content of the configuration file
+     */
+    public String toString(int... values) {
+        if (values.length != PARAMETERS.size()) {
+            throw new IllegalArgumentException("Expected " + PARAMETERS.size() + " values: " + values.length);
+        }
+
+        StringBuilder content = new StringBuilder(fragments[0].length() * 2);
+        for (int i = 0; i < parameters.length; i++) {
+            content.append(fragments[i]).append(values[parameters[i]]);
+        }
+        content.append(fragments[parameters.length]);
+
+        return content.toString();
+    }
+
+    private static int parameterIndex(XMLEvent event) {
+        if (event.isStartElement() && "parameter".equals(event.asStartElement().getName().getLocalPart())) {
+            Attribute name = event.asStartElement().getAttributeByName(NAME);
+            if (name != null) {
+                return PARAMETERS.indexOf(name.getValue());
+            }
+        }
+        return -1;
+    }
+
+    private static StartElement withValue(StartElement element, String value) {
+        List<Attribute> attributes = new ArrayList<>();
+        Iterator<Attribute> iterator = element.getAttributes();
+        while (iterator.hasNext()) {
+            Attribute attribute = iterator.next();
+            if ("value".equals(attribute.getName().getLocalPart())) {
+                attributes.add(EVENT_FACTORY.createAttribute(attribute.getName(), value));
+            } else {
+                attributes.add(attribute);
+            }
+        }
+
+        return EVENT_FACTORY.createStartElement(element.getName(), attributes.iterator(), element.getNamespaces());
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
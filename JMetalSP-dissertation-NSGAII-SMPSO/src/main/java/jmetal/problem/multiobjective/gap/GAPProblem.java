@@ -2,41 +2,33 @@ package jmetal.problem.multiobjective.gap;
 import jmetal.core.problem.doubleproblem.impl.AbstractDoubleProblem;
 import jmetal.core.solution.doublesolution.DoubleSolution;
 import jmetal.core.util.errorchecking.JMetalException;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.SAXException;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
+import jmetal.core.util.evaluator.ExternalSimulation;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.IntStream;
 
-public class GAPProblem extends AbstractDoubleProblem {
+public class GAPProblem extends AbstractDoubleProblem implements ExternalSimulation<DoubleSolution> {
 
     private final String outputFile = "C:\\Users\\Ana\\Desktop\\FACULTATE\\Dissertation\\output.xml";
     private static final String configFile = "C:\\Users\\Ana\\Desktop\\FACULTATE\\Dissertation\\configs\\designSpace\\config.xml";
+    private static final String simulatorDirectory = "C:\\Users\\Ana\\Desktop\\FACULTATE\\Dissertation\\simulator";
+    private static final String workerConfigFile = "config.xml";
+    private static final String workerOutputFile = "output.xml";
 
-    DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+    private volatile GAPConfigTemplate configTemplate;
+    private boolean verbose = false;
     private int counter = 1;
 
-    public GAPProblem() throws ParserConfigurationException, IOException, org.xml.sax.SAXException {
+    public GAPProblem() {
         this(6, 2);
     }
 
-    public GAPProblem(Integer numberOfVariables, Integer numberOfObjectives) throws JMetalException, ParserConfigurationException, IOException, org.xml.sax.SAXException {
+    public GAPProblem(Integer numberOfVariables, Integer numberOfObjectives) throws JMetalException {
         numberOfObjectives(numberOfObjectives);
         name("GAP");
 
@@ -56,31 +48,46 @@ public class GAPProblem extends AbstractDoubleProblem {
         variableBounds(lowerLimit, upperLimit);
     }
 
+    /**
+     * Prints the parameters and the results of every evaluation (disabled by default)
+     */
+    public void verbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+
+    public boolean verbose() {
+        return verbose;
+    }
+
     @Override
     public DoubleSolution evaluate(DoubleSolution solution) {
         double[] result;
-        System.out.println();
-        System.out.println();
-        System.out.println("Iteration = " + counter);
+        int[] parameters = getParameters(solution);
+        if (verbose) {
+            System.out.println();
+            System.out.println();
+            System.out.println("Iteration = " + counter);
+        }
         counter++;
-        int nLines = (int) Math.round(solution.variables().get(0));
-        int nColumns = (int) Math.round(solution.variables().get(1));
-        int nLayers = (int) Math.round(solution.variables().get(2));
-        int cChunk = (int) Math.round(solution.variables().get(3));
-        int cSets = (int) Math.round(solution.variables().get(4));
-        int cLines = (int) Math.round(solution.variables().get(5));
 
         try {
-            changeParameters(dbf, configFile, configFile, nLines, nColumns, nLayers, cChunk, cSets, cLines);
-            displayXmlParameters(dbf, configFile);
-            System.out.println();
-            System.out.println("Running GAPSimulator");
+            configTemplate().write(Paths.get(configFile), parameters);
+            if (verbose) {
+                displayXmlParameters(configFile, parameters);
+                System.out.println();
+                System.out.println("Running GAPSimulator");
+            }
             callSimulator(configFile, outputFile);
-            result = parseOutputXml(dbf, outputFile);
-            displayOutputXml(dbf, outputFile);
-        } catch (ParserConfigurationException | IOException | SAXException | TransformerException e) {
+            result = GAPResultReader.read(Paths.get(outputFile));
+            if (verbose) {
+                displayOutputXml(outputFile, result);
+            }
+        } catch (IOException e) {
             throw new RuntimeException(e);
         }
+        if (result == null) {
+            throw new JMetalException("No result found in " + outputFile);
+        }
 
         solution.objectives()[0] = 0 - result[0];
         solution.objectives()[1] = result[1];
@@ -88,107 +95,77 @@ public class GAPProblem extends AbstractDoubleProblem {
         return solution;
     }
 
-    private static double[] parseOutputXml(DocumentBuilderFactory dbf, String fileName) throws ParserConfigurationException, IOException, org.xml.sax.SAXException {
-        DocumentBuilder db = dbf.newDocumentBuilder();
-        Document doc = db.parse(new File(fileName));
-        doc.getDocumentElement().normalize();
-
-        NodeList list = doc.getElementsByTagName("result");
-        for (int temp = 0; temp < list.getLength(); temp++) {
-            Node node = list.item(temp);
-            if (node.getNodeType() == Node.ELEMENT_NODE) {
-                Element element = (Element) node;
-                String ipc = element.getElementsByTagName("ipc").item(0).getTextContent();
-                String energy = element.getElementsByTagName("energy").item(0).getTextContent();
-                double[] returnValue = new double[]{Double.parseDouble(ipc), Double.parseDouble(energy)};
-                return returnValue;
-            }
+    /**
+     * Writes a private copy of the configuration file in the working directory, so that several
+     * simulations can run concurrently (see {@link jmetal.core.util.evaluator.impl.ProcessPoolSolutionListEvaluator})
+     */
+    @Override
+    public List<String> commandLine(DoubleSolution solution, Path workingDirectory) throws IOException {
+        Path config = workingDirectory.resolve(workerConfigFile);
+        Path output = workingDirectory.resolve(workerOutputFile);
+        configTemplate().write(config, getParameters(solution));
+
+        return Arrays.asList("cmd.exe", "/c" + simulatorDirectory + "\\SimALU " + config + " " + output);
+    }
+
+    @Override
+    public void readResults(DoubleSolution solution, Path workingDirectory) throws IOException {
+        double[] result = GAPResultReader.read(workingDirectory.resolve(workerOutputFile));
+        if (result == null) {
+            throw new IOException("No result found in " + workingDirectory.resolve(workerOutputFile));
         }
-        return null;
+
+        solution.objectives()[0] = 0 - result[0];
+        solution.objectives()[1] = result[1];
     }
 
-    private static void changeParameters(DocumentBuilderFactory dbf, String fileName, String modifiedFile, int nLines, int nColumns, int nLayers, int cChunk, int cSets, int cLines) throws ParserConfigurationException, IOException, org.xml.sax.SAXException, TransformerException {
-        try {
-            DocumentBuilder db = dbf.newDocumentBuilder();
-            Document doc = db.parse(new File(fileName));
-            doc.getDocumentElement().normalize();
-
-            NodeList list = doc.getElementsByTagName("parameter");
-            for (int temp = 0; temp < list.getLength(); temp++) {
-                Node node = list.item(temp);
-                if (node.getNodeType() == Node.ELEMENT_NODE) {
-                    Element element = (Element) node;
-                    String name = element.getAttribute("name");
-                    if (name.equals("n_lines")) {
-                        element.setAttribute("value", String.valueOf(nLines));
-                    } else if (name.equals("n_columns")) {
-                        element.setAttribute("value", String.valueOf(nColumns));
-                    } else if (name.equals("n_layers")) {
-                        element.setAttribute("value", String.valueOf(nLayers));
-                    } else if (name.equals("c_chunk")) {
-                        element.setAttribute("value", String.valueOf(cChunk));
-                    } else if (name.equals("c_sets")) {
-                        element.setAttribute("value", String.valueOf(cSets));
-                    } else if (name.equals("c_lines")) {
-                        element.setAttribute("value", String.valueOf(cLines));
-                    }
+    /**
+     * The configuration file is parsed only the first time; afterwards it is used as a template
+     */
+    private GAPConfigTemplate configTemplate() throws IOException {
+        GAPConfigTemplate template = configTemplate;
+        if (template == null) {
+            synchronized (this) {
+                template = configTemplate;
+                if (template == null) {
+                    template = GAPConfigTemplate.read(Paths.get(configFile));
+                    configTemplate = template;
                 }
             }
-
-            try (FileOutputStream output = new FileOutputStream(modifiedFile)) {
-                writeXml(doc, output);
-            }
-        } catch (ParserConfigurationException | IOException | SAXException | TransformerException e) {
-            e.printStackTrace();
         }
+        return template;
     }
 
-    private void displayXmlParameters(DocumentBuilderFactory dbf, String fileName) throws ParserConfigurationException, IOException, org.xml.sax.SAXException {
-        DocumentBuilder db = dbf.newDocumentBuilder();
-        Document doc = db.parse(new File(fileName));
-        doc.getDocumentElement().normalize();
+    private static int[] getParameters(DoubleSolution solution) {
+        int[] parameters = new int[GAPConfigTemplate.PARAMETERS.size()];
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = (int) Math.round(solution.variables().get(i));
+        }
+        return parameters;
+    }
 
+    private void displayXmlParameters(String fileName, int[] parameters) {
         System.out.println();
         System.out.println("File: " + fileName);
 
-        NodeList list = doc.getElementsByTagName("parameter");
-        for (int temp = 0; temp < list.getLength(); temp++) {
-            Node node = list.item(temp);
-            if (node.getNodeType() == Node.ELEMENT_NODE) {
-                Element element = (Element) node;
-                String name = element.getAttribute("name");
-                String value = element.getAttribute("value");
-
-                System.out.println("---- Simulator Parameters ----");
-                System.out.println(name + ": " + value);
-            }
+        for (int i = 0; i < parameters.length; i++) {
+            System.out.println("---- Simulator Parameters ----");
+            System.out.println(GAPConfigTemplate.PARAMETERS.get(i) + ": " + parameters[i]);
         }
     }
 
-    private void displayOutputXml(DocumentBuilderFactory dbf, String fileName) throws ParserConfigurationException, IOException, org.xml.sax.SAXException {
-        DocumentBuilder db = dbf.newDocumentBuilder();
-        Document doc = db.parse(new File(fileName));
-        doc.getDocumentElement().normalize();
-
+    private void displayOutputXml(String fileName, double[] result) {
         System.out.println();
         System.out.println("File: " + fileName);
 
-        NodeList list = doc.getElementsByTagName("result");
-        for (int temp = 0; temp < list.getLength(); temp++) {
-            Node node = list.item(temp);
-            if (node.getNodeType() == Node.ELEMENT_NODE) {
-                Element element = (Element) node;
-                String ipc = element.getElementsByTagName("ipc").item(0).getTextContent();
-                String energy = element.getElementsByTagName("energy").item(0).getTextContent();
-
-                System.out.println("---- Results ----");
-                System.out.println("IPC: " + ipc);
-                System.out.println("Energy: " + energy);
-            }
+        if (result != null) {
+            System.out.println("---- Results ----");
+            System.out.println("IPC: " + result[0]);
+            System.out.println("Energy: " + result[1]);
         }
     }
 
-    private static void callSimulator(String configPath, String resultPath) {
+    private void callSimulator(String configPath, String resultPath) {
         ProcessBuilder builder = new ProcessBuilder();
         builder.command("cmd.exe", "/c" + "SimALU " + configPath.trim() + " " + resultPath.trim());
         builder.directory(new File("C:\\Users\\Ana\\Desktop\\FACULTATE\\Dissertation\\simulator"));
@@ -201,17 +178,12 @@ public class GAPProblem extends AbstractDoubleProblem {
         }
         try {
             int exitCode = process.waitFor();
-            System.out.println("Simulator exit code: " + exitCode);
+            if (verbose) {
+                System.out.println("Simulator exit code: " + exitCode);
+            }
             process.destroy();
         } catch (InterruptedException e) {
             e.printStackTrace();
         }
     }
-
-    private static void writeXml(Document doc, FileOutputStream output) throws TransformerException {
-        TransformerFactory transformerFactory = TransformerFactory.newInstance();
-        Transformer transformer = transformerFactory.newTransformer();
-        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-        transformer.transform(new DOMSource(doc), new StreamResult(output));
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,56 @@
+package jmetal.problem.multiobjective.gap;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads the results of the simulator (output.xml) with a StAX stream reader.
+ */
+public final class GAPResultReader {
+
+    private GAPResultReader() {
+    }
+
+    /**
+     * @return The IPC and the energy of the first {@code <result>} element, or null if there is none
+     */
+    public static double[] read(Path outputFile) throws IOException {
+        try (InputStream input = Files.newInputStream(outputFile)) {
+            XMLStreamReader reader = GAPConfigTemplate.INPUT_FACTORY.createXMLStreamReader(input);
+            try {
+                boolean inResult = false;
+                String ipc = null;
+                String energy = null;
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        String name = reader.getLocalName();
+                        if ("result".equals(name)) {
+                            inResult = true;
+                        } else if (inResult && "ipc".equals(name)) {
+                            ipc = reader.getElementText();
+                        } else if (inResult && "energy".equals(name)) {
+                            energy = reader.getElementText();
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT && "result".equals(reader.getLocalName())) {
+                        break;
+                    }
+                }
+
+                if (ipc == null || energy == null) {
+                    return null;
+                }
+                return new double[]{Double.parseDouble(ipc.trim()), Double.parseDouble(energy.trim())};
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | NumberFormatException e) {
+            throw new IOException("Error reading " + outputFile, e);
+        }
+    }
+}
@@ -2,11 +2,12 @@ package jmetal.problem.multiobjective.zdt;
 
 import java.util.ArrayList;
 import java.util.List;
+import jmetal.core.problem.doubleproblem.BatchDoubleProblem;
 import jmetal.core.problem.doubleproblem.impl.AbstractDoubleProblem;
 import jmetal.core.solution.doublesolution.DoubleSolution;
 
 /** Class representing problem ZDT1 */
-public class ZDT1 extends AbstractDoubleProblem {
+public class ZDT1 extends AbstractDoubleProblem implements BatchDoubleProblem {
 
   /** Constructor. Creates default instance of problem ZDT1 (30 decision variables) */
   public ZDT1() {
@@ -48,6 +49,20 @@ public class ZDT1 extends AbstractDoubleProblem {
     return solution ;
   }
 
+  /**
+   * Evaluates a batch of points (see {@link BatchDoubleProblem}) with the functions G and H of the
+   * problem. The subclasses redefining the function G must also redefine its batch version, {@link
+   * #evalG(double[][])}.
+   */
+  @Override
+  public void evaluate(double[][] x, double[][] f) {
+    double[] g = this.evalG(x);
+    for (int p = 0; p < g.length; p++) {
+      f[0][p] = x[0][p];
+      f[1][p] = this.evalH(x[0][p], g[p]) * g[p];
+    }
+  }
+
   /**
    * Returns the value of the ZDT1 function G.
    *
@@ -63,6 +78,27 @@ public class ZDT1 extends AbstractDoubleProblem {
     return constant * g + 1.0;
   }
 
+  /**
+   * Returns the values of the ZDT1 function G of a batch of points.
+   *
+   * @param x Variables of the points, as described in {@link BatchDoubleProblem}
+   */
+  protected double[] evalG(double[][] x) {
+    double[] g = new double[x[0].length];
+    for (int i = 1; i < x.length; i++) {
+      double[] xi = x[i];
+      for (int p = 0; p < g.length; p++) {
+        g[p] += xi[p];
+      }
+    }
+    double constant = 9.0 / (x.length - 1);
+    for (int p = 0; p < g.length; p++) {
+      g[p] = constant * g[p] + 1.0;
+    }
+
+    return g;
+  }
+
   /**
    * Returns the value of the ZDT1 function H.
    *
@@ -74,4 +110,9 @@ public class ZDT1 extends AbstractDoubleProblem {
     h = 1.0 - Math.sqrt(f / g);
     return h;
   }
+
+  @Override
+  public boolean batchEvaluationIsEquivalent() {
+    return getClass() == ZDT1.class;
+  }
 }
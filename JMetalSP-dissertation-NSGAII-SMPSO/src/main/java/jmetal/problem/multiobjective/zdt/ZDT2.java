@@ -30,4 +30,9 @@ public class ZDT2 extends ZDT1 {
   public double evalH(double f, double g) {
     return 1.0 - Math.pow(f / g, 2.0);
   }
+
+  @Override
+  public boolean batchEvaluationIsEquivalent() {
+    return getClass() == ZDT2.class;
+  }
 }
@@ -34,4 +34,9 @@ public class ZDT3 extends ZDT1 {
       - (f / g) * Math.sin(10.0 * Math.PI * f);
     return h;
   }
+
+  @Override
+  public boolean batchEvaluationIsEquivalent() {
+    return getClass() == ZDT3.class;
+  }
 }
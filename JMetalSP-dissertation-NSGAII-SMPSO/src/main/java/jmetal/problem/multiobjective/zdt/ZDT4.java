@@ -55,6 +55,29 @@ public class ZDT4 extends ZDT1 {
     return g + constant;
   }
 
+  /**
+   * Returns the values of the ZDT4 function G of a batch of points.
+   *
+   * @param x Variables of the points, as described in {@link
+   *     jmetal.core.problem.doubleproblem.BatchDoubleProblem}
+   */
+  @Override
+  protected double[] evalG(double[][] x) {
+    double[] g = new double[x[0].length];
+    for (int i = 1; i < x.length; i++) {
+      double[] xi = x[i];
+      for (int p = 0; p < g.length; p++) {
+        g[p] += Math.pow(xi[p], 2.0) + -10.0 * Math.cos(4.0 * Math.PI * xi[p]);
+      }
+    }
+    double constant = 1.0 + 10.0 * (x.length - 1);
+    for (int p = 0; p < g.length; p++) {
+      g[p] = g[p] + constant;
+    }
+
+    return g;
+  }
+
   /**
    * Returns the value of the ZDT4 function H.
    *
@@ -65,5 +88,9 @@ public class ZDT4 extends ZDT1 {
   public double evalH(double f, double g) {
     return 1.0 - Math.sqrt(f / g);
   }
-}
 
+  @Override
+  public boolean batchEvaluationIsEquivalent() {
+    return getClass() == ZDT4.class;
+  }
+}
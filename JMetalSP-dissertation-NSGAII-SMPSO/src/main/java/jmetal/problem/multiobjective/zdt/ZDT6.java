@@ -42,6 +42,20 @@ public class ZDT6 extends ZDT1 {
     return solution ;
   }
 
+  /**
+   * Evaluates a batch of points (see {@link
+   * jmetal.core.problem.doubleproblem.BatchDoubleProblem})
+   */
+  @Override
+  public void evaluate(double[][] x, double[][] f) {
+    double[] g = this.evalG(x);
+    for (int p = 0; p < g.length; p++) {
+      double x1 = x[0][p];
+      f[0][p] = 1 - Math.exp(-4 * x1) * Math.pow(Math.sin(6 * Math.PI * x1), 6);
+      f[1][p] = this.evalH(f[0][p], g[p]) * g[p];
+    }
+  }
+
   /**
    * Returns the value of the ZDT6 function G.
    *
@@ -60,6 +74,27 @@ public class ZDT6 extends ZDT1 {
     return g;
   }
 
+  /**
+   * Returns the values of the ZDT6 function G of a batch of points.
+   *
+   * @param x Variables of the points, as described in {@link
+   *     jmetal.core.problem.doubleproblem.BatchDoubleProblem}
+   */
+  @Override
+  protected double[] evalG(double[][] x) {
+    double[] g = new double[x[0].length];
+    for (int i = 1; i < x.length; i++) {
+      double[] xi = x[i];
+      for (int p = 0; p < g.length; p++) {
+        g[p] += xi[p];
+      }
+    }
+    for (int p = 0; p < g.length; p++) {
+      g[p] = 1.0 + 9.0 * Math.pow(g[p] / (x.length - 1), 0.25);
+    }
+    return g;
+  }
+
   /**
    * Returns the value of the ZDT6 function H.
    *
@@ -70,4 +105,9 @@ public class ZDT6 extends ZDT1 {
   protected double evalH(double f, double g) {
     return 1.0 - Math.pow((f / g), 2.0);
   }
+
+  @Override
+  public boolean batchEvaluationIsEquivalent() {
+    return getClass() == ZDT6.class;
+  }
 }
@@ -0,0 +1,133 @@
+package jmetal.problem.tests.multiobjective.ebes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import jmetal.core.util.errorchecking.exception.InvalidConditionException;
+import jmetal.problem.multiobjective.ebes.BandedCholeskySolver;
+import org.junit.jupiter.api.Test;
+
+class BandedCholeskySolverTest {
+
+  @Test
+  void shouldConstructorRaiseAnExceptionIfTheOrderIsNotPositive() {
+    assertThrows(InvalidConditionException.class, () -> new BandedCholeskySolver(0, 2));
+  }
+
+  @Test
+  void shouldSolveRaiseAnExceptionIfTheMatrixHasNotBeenFactorized() {
+    assertThrows(
+        InvalidConditionException.class, () -> new BandedCholeskySolver(3, 2).solve(new double[3]));
+  }
+
+  @Test
+  void shouldSolveATridiagonalSystem() {
+    // K = [[4, 1, 0], [1, 4, 1], [0, 1, 4]]
+    double[] band = {4, 1, 4, 1, 4, 0};
+    double[] x = {5, 6, 5};
+
+    BandedCholeskySolver solver = new BandedCholeskySolver(3, 2);
+    solver.factorize(band);
+    solver.solve(x);
+
+    assertArrayEquals(new double[] {1, 1, 1}, x, 1e-12);
+  }
+
+  @Test
+  void shouldSolveARandomBandedSystemWithSeveralRightHandSides() {
+    int order = 60;
+    int bandWidth = 7;
+    Random random = new Random(1);
+    double[][] matrix = randomBandedMatrix(order, bandWidth, random);
+    double[] band = toBandStorage(matrix, bandWidth);
+
+    BandedCholeskySolver solver = new BandedCholeskySolver(order, bandWidth);
+    solver.factorize(band);
+
+    for (int k = 0; k < 3; k++) {
+      double[] expected = new double[order];
+      for (int i = 0; i < order; i++) {
+        expected[i] = random.nextDouble() - 0.5;
+      }
+      double[] x = multiply(matrix, expected);
+      solver.solve(x);
+
+      assertArrayEquals(expected, x, 1e-9);
+    }
+  }
+
+  @Test
+  void shouldAPenalizedRowFixTheValueOfTheUnknownToZero() {
+    int order = 20;
+    int bandWidth = 4;
+    double[][] matrix = randomBandedMatrix(order, bandWidth, new Random(2));
+    matrix[5][5] = 1.0E+35;
+    double[] band = toBandStorage(matrix, bandWidth);
+    double[] x = new double[order];
+    for (int i = 0; i < order; i++) {
+      x[i] = 1.0;
+    }
+
+    BandedCholeskySolver solver = new BandedCholeskySolver(order, bandWidth);
+    solver.factorize(band);
+    solver.solve(x);
+
+    assertEquals(0.0, x[5], 1e-30);
+  }
+
+  @Test
+  void shouldANullPivotProduceTheDefaultValue() {
+    // K = [[2, 0], [0, 0]]
+    double[] band = {2, 0, 0, 0};
+    double[] x = {4, 0};
+
+    BandedCholeskySolver solver = new BandedCholeskySolver(2, 2);
+    solver.factorize(band);
+    solver.solve(x);
+
+    assertEquals(2.0, x[0], 1e-12);
+    assertEquals(BandedCholeskySolver.NULL_PIVOT_SOLUTION, x[1]);
+  }
+
+  /** Symmetric and diagonally dominant matrix with some null coefficients inside the band */
+  private double[][] randomBandedMatrix(int order, int bandWidth, Random random) {
+    double[][] matrix = new double[order][order];
+    for (int i = 0; i < order; i++) {
+      for (int j = i + 1; j < Math.min(order, i + bandWidth); j++) {
+        double value = random.nextDouble() < 0.3 ? 0.0 : random.nextDouble() - 0.5;
+        matrix[i][j] = value;
+        matrix[j][i] = value;
+      }
+    }
+    for (int i = 0; i < order; i++) {
+      matrix[i][i] = 2.0 * bandWidth + random.nextDouble();
+    }
+
+    return matrix;
+  }
+
+  private double[] toBandStorage(double[][] matrix, int bandWidth) {
+    int order = matrix.length;
+    double[] band = new double[order * bandWidth];
+    for (int i = 0; i < order; i++) {
+      for (int j = 0; j < bandWidth && i + j < order; j++) {
+        band[i * bandWidth + j] = matrix[i][i + j];
+      }
+    }
+
+    return band;
+  }
+
+  private double[] multiply(double[][] matrix, double[] vector) {
+    double[] result = new double[vector.length];
+    for (int i = 0; i < matrix.length; i++) {
+      for (int j = 0; j < vector.length; j++) {
+        result[i] += matrix[i][j] * vector[j];
+      }
+    }
+
+    return result;
+  }
+}
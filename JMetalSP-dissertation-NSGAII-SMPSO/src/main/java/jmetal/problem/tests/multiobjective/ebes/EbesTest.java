@@ -0,0 +1,51 @@
+package jmetal.problem.tests.multiobjective.ebes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import jmetal.core.solution.doublesolution.DoubleSolution;
+import jmetal.core.util.evaluator.impl.MultiThreadedSolutionListEvaluator;
+import jmetal.core.util.evaluator.impl.SequentialSolutionListEvaluator;
+import jmetal.problem.multiobjective.ebes.Ebes;
+import org.junit.jupiter.api.Test;
+
+class EbesTest {
+  private static final String DATA_FILE =
+      "src/main/java/jmetal/problem/resources/ebes/Mobile_Bridge_25N_35B_8G_16OrdZXY.ebe";
+
+  private static Ebes createProblem() throws FileNotFoundException {
+    return new Ebes(DATA_FILE, new String[] {"W", "D"});
+  }
+
+  @Test
+  void shouldTheMultiThreadedEvaluationGiveTheSameResultsAsTheSequentialOne()
+      throws FileNotFoundException {
+    Ebes sequentialProblem = createProblem();
+    Ebes multiThreadedProblem = createProblem();
+
+    List<DoubleSolution> solutions = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      solutions.add(sequentialProblem.createSolution());
+    }
+    List<DoubleSolution> copies = new ArrayList<>();
+    solutions.forEach(solution -> copies.add((DoubleSolution) solution.copy()));
+
+    new SequentialSolutionListEvaluator<DoubleSolution>().evaluate(solutions, sequentialProblem);
+    // Evaluated twice, so that the threads reuse their workspaces after other solutions
+    new MultiThreadedSolutionListEvaluator<DoubleSolution>(4)
+        .evaluate(copies, multiThreadedProblem);
+    new MultiThreadedSolutionListEvaluator<DoubleSolution>(4)
+        .evaluate(copies, multiThreadedProblem);
+
+    for (int i = 0; i < solutions.size(); i++) {
+      assertArrayEquals(solutions.get(i).objectives(), copies.get(i).objectives());
+      assertArrayEquals(solutions.get(i).constraints(), copies.get(i).constraints());
+    }
+    new SequentialSolutionListEvaluator<DoubleSolution>().evaluate(solutions, sequentialProblem);
+    assertEquals(
+        sequentialProblem.getNumberOfEvaluations(), multiThreadedProblem.getNumberOfEvaluations());
+  }
+}
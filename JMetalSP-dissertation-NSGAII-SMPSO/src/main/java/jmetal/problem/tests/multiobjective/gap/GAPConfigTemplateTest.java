@@ -0,0 +1,100 @@
+package jmetal.problem.tests.multiobjective.gap;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import jmetal.problem.multiobjective.gap.GAPConfigTemplate;
+import jmetal.problem.multiobjective.gap.GAPResultReader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class GAPConfigTemplateTest {
+  private static final String CONFIG =
+      "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+          + "<parameters>\n"
+          + "    <parameter name=\"n_lines\" value=\"8\"/>\n"
+          + "    <parameter name=\"n_columns\" value=\"16\"/>\n"
+          + "    <parameter name=\"n_layers\" value=\"32\"/>\n"
+          + "    <parameter name=\"c_chunk\" value=\"8\"/> <!-- default: 8 (1/32) -->\n"
+          + "    <parameter name=\"c_sets\" value=\"1\"/>\n"
+          + "    <parameter name=\"c_lines\" value=\"1\"/>\n"
+          + "    <parameter name=\"other\" value=\"7\"/>\n"
+          + "</parameters>";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private Path write(String name, String content) throws IOException {
+    Path file = folder.getRoot().toPath().resolve(name);
+    Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+
+  @Test
+  public void shouldWriteReplaceTheValuesOfTheDesignSpaceParameters() throws IOException {
+    GAPConfigTemplate template = GAPConfigTemplate.read(write("config.xml", CONFIG));
+    Path output = folder.getRoot().toPath().resolve("worker.xml");
+
+    template.write(output, 4, 5, 6, 7, 8, 9);
+
+    String content = new String(Files.readAllBytes(output), StandardCharsets.UTF_8);
+    assertTrue(content.contains("name=\"n_lines\" value=\"4\""));
+    assertTrue(content.contains("name=\"n_columns\" value=\"5\""));
+    assertTrue(content.contains("name=\"n_layers\" value=\"6\""));
+    assertTrue(content.contains("name=\"c_chunk\" value=\"7\""));
+    assertTrue(content.contains("name=\"c_sets\" value=\"8\""));
+    assertTrue(content.contains("name=\"c_lines\" value=\"9\""));
+    assertTrue(content.contains("name=\"other\" value=\"7\""));
+    assertTrue(content.contains("<!-- default: 8 (1/32) -->"));
+  }
+
+  @Test
+  public void shouldTheTemplateBeReusableAfterTheFileIsOverwritten() throws IOException {
+    Path config = write("config.xml", CONFIG);
+    GAPConfigTemplate template = GAPConfigTemplate.read(config);
+
+    template.write(config, 1, 1, 1, 1, 1, 1);
+    template.write(config, 2, 3, 4, 5, 6, 7);
+
+    String content = new String(Files.readAllBytes(config), StandardCharsets.UTF_8);
+    assertTrue(content.contains("name=\"n_lines\" value=\"2\""));
+    assertTrue(content.contains("name=\"c_lines\" value=\"7\""));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldWriteFailIfTheNumberOfValuesIsWrong() throws IOException {
+    GAPConfigTemplate.read(write("config.xml", CONFIG)).write(folder.getRoot().toPath().resolve("worker.xml"), 1, 2);
+  }
+
+  @Test
+  public void shouldReadTheFirstResult() throws IOException {
+    Path output = write("output.xml",
+        "<results><result><ipc> 1.25 </ipc><energy>30.5</energy></result>"
+            + "<result><ipc>2</ipc><energy>1</energy></result></results>");
+
+    assertArrayEquals(new double[]{1.25, 30.5}, GAPResultReader.read(output), 1e-10);
+  }
+
+  @Test
+  public void shouldReadReturnNullIfThereIsNoResult() throws IOException {
+    assertNull(GAPResultReader.read(write("output.xml", "<results></results>")));
+  }
+
+  @Test(expected = IOException.class)
+  public void shouldReadFailWithAMalformedFile() throws IOException {
+    GAPResultReader.read(write("output.xml", "<results><result><ipc>1"));
+  }
+
+  @Test
+  public void shouldParametersFollowTheOrderOfTheVariables() {
+    assertEquals("n_lines", GAPConfigTemplate.PARAMETERS.get(0));
+    assertEquals("c_lines", GAPConfigTemplate.PARAMETERS.get(5));
+  }
+}